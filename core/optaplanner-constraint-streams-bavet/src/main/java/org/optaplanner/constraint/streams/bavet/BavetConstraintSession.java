@@ -11,21 +11,24 @@ import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public final class BavetConstraintSession<Score_ extends Score<Score_>> {
 
     private final AbstractScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
     private final AbstractNode[] nodes; // Indexed by nodeIndex
+    private final int feasibleLevelsNodeCount; // The first nodes, which the feasible levels depend on
 
     private final Map<Class<?>, List<ForEachUniNode<Object>>> effectiveClassToNodeListMap;
 
     public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
-            AbstractNode[] nodes) {
+            AbstractNode[] nodes, int feasibleLevelsNodeCount) {
         this.scoreInliner = scoreInliner;
         this.declaredClassToNodeMap = declaredClassToNodeMap;
         this.nodes = nodes;
+        this.feasibleLevelsNodeCount = feasibleLevelsNodeCount;
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
     }
 
@@ -72,6 +75,30 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         return scoreInliner.extractScore(initScore);
     }
 
+    /**
+     * Only calculates the nodes of the constraints that impact the feasible levels.
+     * The other nodes keep their changes until the next {@link #calculateScore(int)}.
+     * Use {@link #compareFeasibleLevels(ScoreDefinition, int, Score)} to check the result without creating a score.
+     */
+    public void calculateFeasibleLevels() {
+        for (int i = 0; i < feasibleLevelsNodeCount; i++) {
+            nodes[i].calculateScore();
+        }
+    }
+
+    public int compareFeasibleLevels(ScoreDefinition<Score_> scoreDefinition, int initScore, Score_ otherScore) {
+        return scoreInliner.compareFeasibleLevels(scoreDefinition, initScore, otherScore);
+    }
+
+    /**
+     * @param initScore {@code <= 0}
+     * @return never null, only partially calculated if {@link #calculateFeasibleLevels()} was called
+     *         after the last {@link #calculateScore(int)}
+     */
+    public Score_ extractScore(int initScore) {
+        return scoreInliner.extractScore(initScore);
+    }
+
     AbstractScoreInliner<Score_> getScoreInliner() {
         return scoreInliner;
     }
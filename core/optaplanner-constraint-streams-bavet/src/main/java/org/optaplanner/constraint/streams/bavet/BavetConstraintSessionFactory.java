@@ -3,6 +3,8 @@ package org.optaplanner.constraint.streams.bavet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -42,6 +44,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+        Set<BavetAbstractConstraintStream<Solution_>> feasibleLevelsConstraintStreamSet = new HashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
@@ -52,6 +55,9 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
                 constraint.collectActiveConstraintStreams(constraintStreamSet);
                 constraintWeightMap.put(constraint, constraintWeight);
+                if (scoreDefinition.compareFeasibleLevels(constraintWeight, zeroScore) != 0) {
+                    constraint.collectActiveConstraintStreams(feasibleLevelsConstraintStreamSet);
+                }
             }
         }
         NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap, scoreInliner);
@@ -59,10 +65,30 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         // so every node only has final variables (some of which have downstream node method references).
         List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
         Collections.reverse(reversedConstraintStreamList);
+        Set<AbstractNode> feasibleLevelsNodeSet = Collections.newSetFromMap(new IdentityHashMap<>());
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
+            int nodeCount = buildHelper.getNodeCount();
             constraintStream.buildNode(buildHelper);
+            if (feasibleLevelsConstraintStreamSet.contains(constraintStream)) {
+                feasibleLevelsNodeSet.addAll(buildHelper.getNodeListAddedSince(nodeCount));
+            }
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
+        // Put the nodes of the constraints that impact the feasible levels first,
+        // so those levels are known before the other nodes are calculated.
+        // The order remains topological, because every parent of such a node is such a node too.
+        List<AbstractNode> orderedNodeList = new ArrayList<>(nodeList.size());
+        for (AbstractNode node : nodeList) {
+            if (feasibleLevelsNodeSet.contains(node)) {
+                orderedNodeList.add(node);
+            }
+        }
+        int feasibleLevelsNodeCount = orderedNodeList.size();
+        for (AbstractNode node : nodeList) {
+            if (!feasibleLevelsNodeSet.contains(node)) {
+                orderedNodeList.add(node);
+            }
+        }
         Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
         for (AbstractNode node : nodeList) {
             if (node instanceof ForEachUniNode) {
@@ -74,7 +100,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 }
             }
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap,
+                orderedNodeList.toArray(new AbstractNode[0]), feasibleLevelsNodeCount);
     }
 
 }
@@ -55,6 +55,20 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return score;
     }
 
+    @Override
+    public Score_ calculateScoreOrAbort(Score_ abortThreshold) {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        session.calculateFeasibleLevels();
+        if (session.compareFeasibleLevels(getScoreDefinition(), workingInitScore, abortThreshold) < 0) {
+            // Only the feasible levels of this score are correct, so the working solution doesn't get it
+            countAbortedCalculation();
+            return session.extractScore(workingInitScore);
+        }
+        Score_ score = session.calculateScore(workingInitScore);
+        setCalculatedScore(score);
+        return score;
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -138,6 +152,13 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         super.afterElementMoved(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex);
     }
 
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        session.update(entity);
+        super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
     // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
 
     @Override
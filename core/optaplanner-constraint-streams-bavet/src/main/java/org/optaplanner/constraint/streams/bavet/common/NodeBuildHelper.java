@@ -117,6 +117,21 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return (lastIndex == null) ? 0 : lastIndex + 1;
     }
 
+    /**
+     * @return the number of nodes added so far
+     */
+    public int getNodeCount() {
+        return reversedNodeList.size();
+    }
+
+    /**
+     * @param nodeCount a previous result of {@link #getNodeCount()}
+     * @return never null, the nodes added after that call
+     */
+    public List<AbstractNode> getNodeListAddedSince(int nodeCount) {
+        return new ArrayList<>(reversedNodeList.subList(nodeCount, reversedNodeList.size()));
+    }
+
     public List<AbstractNode> destroyAndGetNodeList() {
         List<AbstractNode> nodeList = this.reversedNodeList;
         Collections.reverse(nodeList);
@@ -61,7 +61,8 @@ public final class ForEachUniNode<A> extends AbstractNode {
             if (tuple.state == BavetTupleState.DYING || tuple.state == BavetTupleState.ABORTING) {
                 throw new IllegalStateException("The fact (" + a + ") was already retracted, so it cannot retract.");
             }
-            tuple.state = BavetTupleState.ABORTING;
+            // Kill it before it propagates, or kill the original propagation
+            tuple.state = (tuple.state == BavetTupleState.CREATING) ? BavetTupleState.ABORTING : BavetTupleState.DYING;
         } else {
             tuple.state = BavetTupleState.DYING;
             dirtyTupleQueue.add(tuple);
@@ -0,0 +1,73 @@
+package org.optaplanner.constraint.streams.bavet;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+
+class BavetScoreCalculationAbortTest {
+
+    @Test
+    void calculateScoreOrAbort() {
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(5, 7);
+        TestdataValue value0 = solution.getValueList().get(0);
+        TestdataValue value1 = solution.getValueList().get(1);
+        TestdataEntity entity1 = solution.getEntityList().get(1);
+        TestdataEntity entity2 = solution.getEntityList().get(2);
+        InnerScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector =
+                new BavetConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore>(
+                        TestdataHardSoftScoreSolution.buildSolutionDescriptor(), new TestConstraintProvider())
+                                .buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(HardSoftScore.of(-2, -2));
+        HardSoftScore abortThreshold = HardSoftScore.of(-2, -100);
+
+        // The hard level drops below the threshold, so the soft constraint isn't calculated
+        changeValue(scoreDirector, entity1, value0);
+        assertThat(scoreDirector.calculateScoreOrAbort(abortThreshold).getHardScore()).isEqualTo(-3);
+        // The partially calculated score doesn't become the score of the working solution
+        assertThat(scoreDirector.getSolutionDescriptor().getScore(solution)).isEqualTo(HardSoftScore.of(-2, -2));
+        changeValue(scoreDirector, entity1, value1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(HardSoftScore.of(-2, -2));
+
+        // The hard level isn't lower than the threshold, so the score is fully calculated
+        changeValue(scoreDirector, entity2, value1);
+        assertThat(scoreDirector.calculateScoreOrAbort(abortThreshold)).isEqualTo(HardSoftScore.of(-2, -3));
+        changeValue(scoreDirector, entity2, value0);
+        assertThat(scoreDirector.calculateScoreOrAbort(HardSoftScore.of(-3, -100))).isEqualTo(HardSoftScore.of(-3, -2));
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector,
+            TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    public static class TestConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .filter(entity -> entity.getValue().getCode().equals("Generated Value 0"))
+                            .penalize("Hard constraint", HardSoftScore.ONE_HARD),
+                    // The join gives the soft constraint its own node
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .join(TestdataValue.class, equal(TestdataEntity::getValue, identity()))
+                            .filter((entity, value) -> value.getCode().equals("Generated Value 1"))
+                            .penalize("Soft constraint", HardSoftScore.ONE_SOFT)
+            };
+        }
+    }
+
+}
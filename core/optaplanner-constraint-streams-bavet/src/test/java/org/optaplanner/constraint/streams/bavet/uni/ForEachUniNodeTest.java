@@ -0,0 +1,51 @@
+package org.optaplanner.constraint.streams.bavet.uni;
+
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.optaplanner.constraint.streams.bavet.common.TupleLifecycle;
+
+@ExtendWith(MockitoExtension.class)
+class ForEachUniNodeTest {
+
+    @Mock
+    private TupleLifecycle<UniTuple<String>> downstream;
+
+    @Test
+    void insertAndRetractBeforeCalculation() {
+        ForEachUniNode<String> node = new ForEachUniNode<>(String.class, downstream, 1);
+
+        // The tuple never made it downstream, so it is not retracted downstream either.
+        node.insert("A");
+        node.retract("A");
+        node.calculateScore();
+        verifyNoInteractions(downstream);
+    }
+
+    @Test
+    void updateAndRetractBeforeCalculation() {
+        ForEachUniNode<String> node = new ForEachUniNode<>(String.class, downstream, 1);
+        node.insert("A");
+        node.calculateScore();
+        verify(downstream).insert(argThat(t -> Objects.equals(t.getFactA(), "A")));
+        verifyNoMoreInteractions(downstream);
+        reset(downstream);
+
+        // The tuple made it downstream before it was updated, so it must be retracted downstream.
+        node.update("A");
+        node.retract("A");
+        node.calculateScore();
+        verify(downstream).retract(argThat(t -> Objects.equals(t.getFactA(), "A")));
+        verifyNoMoreInteractions(downstream);
+    }
+
+}
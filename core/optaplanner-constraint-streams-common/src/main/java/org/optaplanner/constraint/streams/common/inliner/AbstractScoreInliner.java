@@ -106,6 +106,20 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     public abstract Score_ extractScore(int initScore);
 
+    /**
+     * Compares the score that {@link #extractScore(int)} would return to another score,
+     * on their {@link ScoreDefinition#compareFeasibleLevels(Score, Score) feasible levels} only.
+     * Inliners of primitive score types override this to avoid creating a score.
+     *
+     * @param scoreDefinition never null
+     * @param initScore {@code <= 0}
+     * @param otherScore never null
+     * @return negative, zero or positive, in the same order as {@link Score#compareTo(Object)}
+     */
+    public int compareFeasibleLevels(ScoreDefinition<Score_> scoreDefinition, int initScore, Score_ otherScore) {
+        return scoreDefinition.compareFeasibleLevels(extractScore(initScore), otherScore);
+    }
+
     /**
      * Create a new instance of {@link WeightedScoreImpacter} for a particular constraint.
      * 
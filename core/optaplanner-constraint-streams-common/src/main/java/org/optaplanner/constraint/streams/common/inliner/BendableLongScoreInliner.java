@@ -4,6 +4,7 @@ import java.util.Arrays;
 
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public final class BendableLongScoreInliner extends AbstractScoreInliner<BendableLongScore> {
 
@@ -106,6 +107,20 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                 Arrays.copyOf(softScores, softScores.length));
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<BendableLongScore> scoreDefinition, int initScore, BendableLongScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        for (int i = 0; i < hardScores.length; i++) {
+            int comparison = Long.compare(hardScores[i], otherScore.getHardScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return BendableLongScore.class.getSimpleName() + " inliner";
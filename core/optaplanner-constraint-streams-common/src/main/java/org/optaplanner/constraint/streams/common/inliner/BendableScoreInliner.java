@@ -4,6 +4,7 @@ import java.util.Arrays;
 
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
 
@@ -107,6 +108,20 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                 Arrays.copyOf(softScores, softScores.length));
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<BendableScore> scoreDefinition, int initScore, BendableScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        for (int i = 0; i < hardScores.length; i++) {
+            int comparison = Integer.compare(hardScores[i], otherScore.getHardScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return BendableScore.class.getSimpleName() + " inliner";
@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.common.inliner;
 
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMediumSoftLongScore> {
 
@@ -96,6 +97,14 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
         return HardMediumSoftLongScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<HardMediumSoftLongScore> scoreDefinition, int initScore, HardMediumSoftLongScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        return Long.compare(hardScore, otherScore.getHardScore());
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftLongScore.class.getSimpleName() + " inliner";
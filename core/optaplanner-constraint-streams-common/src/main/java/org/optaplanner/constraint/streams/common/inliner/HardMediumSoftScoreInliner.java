@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.common.inliner;
 
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSoftScore> {
 
@@ -96,6 +97,14 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         return HardMediumSoftScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<HardMediumSoftScore> scoreDefinition, int initScore, HardMediumSoftScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        return Integer.compare(hardScore, otherScore.getHardScore());
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftScore.class.getSimpleName() + " inliner";
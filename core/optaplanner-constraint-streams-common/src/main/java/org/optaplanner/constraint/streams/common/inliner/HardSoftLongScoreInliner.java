@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.common.inliner;
 
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongScore> {
 
@@ -75,6 +76,14 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
         return HardSoftLongScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<HardSoftLongScore> scoreDefinition, int initScore, HardSoftLongScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        return Long.compare(hardScore, otherScore.getHardScore());
+    }
+
     @Override
     public String toString() {
         return HardSoftLongScore.class.getSimpleName() + " inliner";
@@ -2,6 +2,7 @@ package org.optaplanner.constraint.streams.common.inliner;
 
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
@@ -75,6 +76,14 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         return HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public int compareFeasibleLevels(ScoreDefinition<HardSoftScore> scoreDefinition, int initScore, HardSoftScore otherScore) {
+        if (initScore != otherScore.getInitScore()) {
+            return Integer.compare(initScore, otherScore.getInitScore());
+        }
+        return Integer.compare(hardScore, otherScore.getHardScore());
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -7,6 +7,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataBendableScoreSolution;
 
 class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendableScoreSolution, BendableScore> {
@@ -116,6 +117,20 @@ class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendable
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        BendableScoreInliner scoreInliner = new BendableScoreInliner(constraintMatchEnabled, 1, 2);
+        ScoreDefinition<BendableScore> scoreDefinition = buildSolutionDescriptor().getScoreDefinition();
+
+        BendableScore constraintWeight = buildScore(10, 100, 1_000);
+        WeightedScoreImpacter impacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        impacter.impactScore(1, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, buildScore(10, 0, 0))).isZero();
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, buildScore(9, 1_000, 0))).isPositive();
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, buildScore(11, 0, 0))).isNegative();
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableScoreSolution.buildSolutionDescriptor();
@@ -7,6 +7,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
 
 class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoftScoreSolution, HardSoftScore> {
@@ -95,6 +96,22 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(constraintMatchEnabled);
+        ScoreDefinition<HardSoftScore> scoreDefinition = buildSolutionDescriptor().getScoreDefinition();
+
+        HardSoftScore constraintWeight = HardSoftScore.of(10, 100);
+        WeightedScoreImpacter impacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        impacter.impactScore(1, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, HardSoftScore.of(10, 1_000))).isZero();
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, HardSoftScore.of(9, 1_000))).isPositive();
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, 0, HardSoftScore.of(11, 0))).isNegative();
+        assertThat(scoreInliner.compareFeasibleLevels(scoreDefinition, -1, HardSoftScore.of(0, 0))).isNegative();
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
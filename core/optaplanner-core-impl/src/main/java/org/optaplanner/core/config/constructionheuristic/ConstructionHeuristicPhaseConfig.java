@@ -35,7 +35,9 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "regretK",
+        "moveEvaluationCacheSize"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -79,6 +81,9 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    protected Integer regretK = null;
+    protected Integer moveEvaluationCacheSize = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -131,6 +136,38 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * Only for {@link ConstructionHeuristicType#REGRET_INSERTION}.
+     *
+     * @return null or at least 2, the regret is the score difference between the best and the k-th best value.
+     *         Defaults to 2.
+     */
+    public Integer getRegretK() {
+        return regretK;
+    }
+
+    public void setRegretK(Integer regretK) {
+        this.regretK = regretK;
+    }
+
+    /**
+     * Only for single-threaded solving with a pooled entity placer,
+     * such as {@link ConstructionHeuristicType#CHEAPEST_INSERTION}.
+     * The score difference of an evaluated move is reused in later steps,
+     * until a step changes one of its planning entities or planning values.
+     * To evaluate only the moves of which the last step changed an entity or value,
+     * it must be at least the number of moves per step.
+     *
+     * @return null or at least 1, the maximum number of cached moves. Defaults to no cache.
+     */
+    public Integer getMoveEvaluationCacheSize() {
+        return moveEvaluationCacheSize;
+    }
+
+    public void setMoveEvaluationCacheSize(Integer moveEvaluationCacheSize) {
+        this.moveEvaluationCacheSize = moveEvaluationCacheSize;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -166,6 +203,16 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withRegretK(Integer regretK) {
+        this.regretK = regretK;
+        return this;
+    }
+
+    public ConstructionHeuristicPhaseConfig withMoveEvaluationCacheSize(Integer moveEvaluationCacheSize) {
+        this.moveEvaluationCacheSize = moveEvaluationCacheSize;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -180,6 +227,9 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        regretK = ConfigUtils.inheritOverwritableProperty(regretK, inheritedConfig.getRegretK());
+        moveEvaluationCacheSize = ConfigUtils.inheritOverwritableProperty(moveEvaluationCacheSize,
+                inheritedConfig.getMoveEvaluationCacheSize());
         return this;
     }
 
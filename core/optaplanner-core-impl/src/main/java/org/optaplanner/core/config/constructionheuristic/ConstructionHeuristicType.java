@@ -47,6 +47,13 @@ public enum ConstructionHeuristicType {
      * A specific form of {@link #ALLOCATE_FROM_POOL}.
      */
     CHEAPEST_INSERTION,
+    /**
+     * Put all entity-value combinations in a pool.
+     * Assign the entity with the largest regret to its best value.
+     * The regret is the score difference between the best and the k-th best value of an entity.
+     * Repeat until all entities are assigned.
+     */
+    REGRET_INSERTION,
     /**
      * Put all entity-value combinations in a pool.
      * Assign the best entity to best value.
@@ -67,6 +74,7 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_ENTITY_FROM_QUEUE:
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
             case ALLOCATE_FROM_POOL:
                 return EntitySorterManner.DECREASING_DIFFICULTY_IF_AVAILABLE;
             default:
@@ -88,6 +96,7 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_ENTITY_FROM_QUEUE:
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
             case ALLOCATE_FROM_POOL:
                 return ValueSorterManner.INCREASING_STRENGTH_IF_AVAILABLE;
             default:
@@ -24,7 +24,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
 
 @XmlType(propOrder = {
         "entitySelectorConfig",
-        "moveSelectorConfigList"
+        "moveSelectorConfigList",
+        "speculativePlacementCount"
 })
 public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPlacerConfig> {
 
@@ -51,6 +52,8 @@ public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPla
     })
     protected List<MoveSelectorConfig> moveSelectorConfigList = null;
 
+    protected Integer speculativePlacementCount = null;
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -67,11 +70,28 @@ public class QueuedEntityPlacerConfig extends EntityPlacerConfig<QueuedEntityPla
         this.moveSelectorConfigList = moveSelectorConfigList;
     }
 
+    /**
+     * Requires a {@code moveThreadCount}.
+     *
+     * @return null or at least 1, the number of upcoming placements that are evaluated in parallel
+     *         on the working solution before the first of them is done.
+     *         Defaults to 1, which only evaluates the moves of a single placement in parallel.
+     */
+    public Integer getSpeculativePlacementCount() {
+        return speculativePlacementCount;
+    }
+
+    public void setSpeculativePlacementCount(Integer speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+    }
+
     @Override
     public QueuedEntityPlacerConfig inherit(QueuedEntityPlacerConfig inheritedConfig) {
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
+        speculativePlacementCount = ConfigUtils.inheritOverwritableProperty(speculativePlacementCount,
+                inheritedConfig.getSpeculativePlacementCount());
         return this;
     }
 
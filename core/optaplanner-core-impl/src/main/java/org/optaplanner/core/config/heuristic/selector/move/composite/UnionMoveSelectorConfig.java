@@ -23,7 +23,8 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelection"
 })
 public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelectorConfig> {
 
@@ -51,6 +52,8 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
 
+    private Boolean adaptiveSelection = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -97,6 +100,21 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * If true, the probability of each child move selector is learned during solving,
+     * based on how often its moves improve the step score per millisecond spent on it.
+     * Requires random selection.
+     *
+     * @return sometimes null
+     */
+    public Boolean getAdaptiveSelection() {
+        return adaptiveSelection;
+    }
+
+    public void setAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -117,6 +135,11 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         return this;
     }
 
+    public UnionMoveSelectorConfig withAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -135,6 +158,8 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveSelection = ConfigUtils.inheritOverwritableProperty(adaptiveSelection,
+                inheritedConfig.getAdaptiveSelection());
         return this;
     }
 
@@ -19,15 +19,20 @@ import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubCh
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import org.optaplanner.core.config.localsearch.decider.forager.FinalistPodiumType;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 
 @XmlType(propOrder = {
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "stepPipeliningEnabled",
+        "moveEvaluationCacheSize",
+        "moveEvaluationAbortEnabled"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -62,6 +67,10 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    protected Boolean stepPipeliningEnabled = null;
+    protected Integer moveEvaluationCacheSize = null;
+    protected Boolean moveEvaluationAbortEnabled = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -98,6 +107,56 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * Only for multi-threaded solving with a never ending move selector.
+     * The moves that are selected but not foraged in a step are evaluated for the next step,
+     * while the solver thread is still applying the step.
+     * At most the move buffer size ({@code moveThreadCount * moveThreadBufferSize}) of moves is pipelined per step.
+     *
+     * @return null or true to keep the move threads busy while a step is applied. Defaults to false.
+     */
+    public Boolean getStepPipeliningEnabled() {
+        return stepPipeliningEnabled;
+    }
+
+    public void setStepPipeliningEnabled(Boolean stepPipeliningEnabled) {
+        this.stepPipeliningEnabled = stepPipeliningEnabled;
+    }
+
+    /**
+     * Only for single-threaded solving.
+     * The score difference of an evaluated move is reused in later steps,
+     * until a step changes one of its planning entities or planning values.
+     * Only moves that implement {@link Object#equals(Object)} and {@link Object#hashCode()} are found in the cache.
+     *
+     * @return null or at least 1, the maximum number of cached moves. Defaults to no cache.
+     */
+    public Integer getMoveEvaluationCacheSize() {
+        return moveEvaluationCacheSize;
+    }
+
+    public void setMoveEvaluationCacheSize(Integer moveEvaluationCacheSize) {
+        this.moveEvaluationCacheSize = moveEvaluationCacheSize;
+    }
+
+    /**
+     * Only for single-threaded solving without a move evaluation cache,
+     * with the {@link FinalistPodiumType#HIGHEST_SCORE} podium and a score director that supports it,
+     * such as the Bavet constraint streams.
+     * The score calculation of a move stops as soon as its hard levels show that the move won't be accepted,
+     * so its soft levels are never calculated.
+     * Ignored in the asserting {@link EnvironmentMode}s, which need the full score of every move.
+     *
+     * @return null or true to abort the score calculation of such moves early. Defaults to false.
+     */
+    public Boolean getMoveEvaluationAbortEnabled() {
+        return moveEvaluationAbortEnabled;
+    }
+
+    public void setMoveEvaluationAbortEnabled(Boolean moveEvaluationAbortEnabled) {
+        this.moveEvaluationAbortEnabled = moveEvaluationAbortEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -122,6 +181,21 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withStepPipeliningEnabled(Boolean stepPipeliningEnabled) {
+        this.stepPipeliningEnabled = stepPipeliningEnabled;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withMoveEvaluationCacheSize(Integer moveEvaluationCacheSize) {
+        this.moveEvaluationCacheSize = moveEvaluationCacheSize;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withMoveEvaluationAbortEnabled(Boolean moveEvaluationAbortEnabled) {
+        this.moveEvaluationAbortEnabled = moveEvaluationAbortEnabled;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -131,6 +205,12 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        stepPipeliningEnabled = ConfigUtils.inheritOverwritableProperty(stepPipeliningEnabled,
+                inheritedConfig.getStepPipeliningEnabled());
+        moveEvaluationCacheSize = ConfigUtils.inheritOverwritableProperty(moveEvaluationCacheSize,
+                inheritedConfig.getMoveEvaluationCacheSize());
+        moveEvaluationAbortEnabled = ConfigUtils.inheritOverwritableProperty(moveEvaluationAbortEnabled,
+                inheritedConfig.getMoveEvaluationAbortEnabled());
         return this;
     }
 
@@ -29,7 +29,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "greatDelugeWaterLevelIncrementScore",
         "greatDelugeWaterLevelIncrementRatio",
         "stepCountingHillClimbingSize",
-        "stepCountingHillClimbingType"
+        "stepCountingHillClimbingType",
+        "selfTuning"
 })
 public class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchAcceptorConfig> {
 
@@ -59,6 +60,8 @@ public class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchAccepto
     protected Integer stepCountingHillClimbingSize = null;
     protected StepCountingHillClimbingType stepCountingHillClimbingType = null;
 
+    protected Boolean selfTuning = null;
+
     public List<AcceptorType> getAcceptorTypeList() {
         return acceptorTypeList;
     }
@@ -211,6 +214,21 @@ public class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchAccepto
         this.stepCountingHillClimbingType = stepCountingHillClimbingType;
     }
 
+    /**
+     * If true, the entity tabu size, the late acceptance size and the simulated annealing temperature
+     * are adjusted during solving, based on the observed acceptance ratio and stagnation.
+     * Their configured values are only the starting values.
+     *
+     * @return sometimes null
+     */
+    public Boolean getSelfTuning() {
+        return selfTuning;
+    }
+
+    public void setSelfTuning(Boolean selfTuning) {
+        this.selfTuning = selfTuning;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -301,6 +319,11 @@ public class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchAccepto
         return this;
     }
 
+    public LocalSearchAcceptorConfig withSelfTuning(Boolean selfTuning) {
+        this.selfTuning = selfTuning;
+        return this;
+    }
+
     @Override
     public LocalSearchAcceptorConfig inherit(LocalSearchAcceptorConfig inheritedConfig) {
         if (acceptorTypeList == null) {
@@ -346,6 +369,7 @@ public class LocalSearchAcceptorConfig extends AbstractConfig<LocalSearchAccepto
                 inheritedConfig.getStepCountingHillClimbingSize());
         stepCountingHillClimbingType = ConfigUtils.inheritOverwritableProperty(stepCountingHillClimbingType,
                 inheritedConfig.getStepCountingHillClimbingType());
+        selfTuning = ConfigUtils.inheritOverwritableProperty(selfTuning, inheritedConfig.getSelfTuning());
         return this;
     }
 
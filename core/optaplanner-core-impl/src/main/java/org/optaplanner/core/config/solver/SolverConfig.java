@@ -39,6 +39,7 @@ import org.optaplanner.core.config.phase.NoChangePhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.checkpoint.CheckpointConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.config.solver.random.RandomType;
@@ -64,9 +65,11 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
         "moveThreadBufferSize",
         "threadFactoryClass",
         "monitoringConfig",
+        "checkpointConfig",
         "solutionClass",
         "entityClassList",
         "domainAccessType",
+        "parallelSolutionCloningThreshold",
         "scoreDirectorFactoryConfig",
         "terminationConfig",
         "phaseConfigList",
@@ -228,6 +231,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     @XmlElement(name = "entityClass")
     protected List<Class<?>> entityClassList = null;
     protected DomainAccessType domainAccessType = null;
+    protected Integer parallelSolutionCloningThreshold = null;
     @XmlTransient
     protected Map<String, MemberAccessor> gizmoMemberAccessorMap = null;
     @XmlTransient
@@ -253,6 +257,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     @XmlElement(name = "monitoring")
     protected MonitoringConfig monitoringConfig = null;
 
+    @XmlElement(name = "checkpoint")
+    protected CheckpointConfig checkpointConfig = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -378,6 +385,18 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.domainAccessType = domainAccessType;
     }
 
+    /**
+     * @return sometimes null, the minimum number of entities for which a planning clone
+     *         is made in parallel chunks, null to always clone sequentially
+     */
+    public Integer getParallelSolutionCloningThreshold() {
+        return parallelSolutionCloningThreshold;
+    }
+
+    public void setParallelSolutionCloningThreshold(Integer parallelSolutionCloningThreshold) {
+        this.parallelSolutionCloningThreshold = parallelSolutionCloningThreshold;
+    }
+
     public Map<String, MemberAccessor> getGizmoMemberAccessorMap() {
         return gizmoMemberAccessorMap;
     }
@@ -426,6 +445,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.monitoringConfig = monitoringConfig;
     }
 
+    public CheckpointConfig getCheckpointConfig() {
+        return checkpointConfig;
+    }
+
+    public void setCheckpointConfig(CheckpointConfig checkpointConfig) {
+        this.checkpointConfig = checkpointConfig;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -490,6 +517,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withParallelSolutionCloningThreshold(Integer parallelSolutionCloningThreshold) {
+        this.parallelSolutionCloningThreshold = parallelSolutionCloningThreshold;
+        return this;
+    }
+
     public SolverConfig withGizmoMemberAccessorMap(Map<String, MemberAccessor> memberAccessorMap) {
         this.gizmoMemberAccessorMap = memberAccessorMap;
         return this;
@@ -575,6 +607,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withCheckpointConfig(CheckpointConfig checkpointConfig) {
+        this.checkpointConfig = checkpointConfig;
+        return this;
+    }
+
     // ************************************************************************
     // Smart getters
     // ************************************************************************
@@ -630,6 +667,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
         domainAccessType = ConfigUtils.inheritOverwritableProperty(domainAccessType, inheritedConfig.getDomainAccessType());
+        parallelSolutionCloningThreshold = ConfigUtils.inheritOverwritableProperty(parallelSolutionCloningThreshold,
+                inheritedConfig.getParallelSolutionCloningThreshold());
         gizmoMemberAccessorMap = ConfigUtils.inheritMergeableMapProperty(
                 gizmoMemberAccessorMap, inheritedConfig.getGizmoMemberAccessorMap());
         gizmoSolutionClonerMap = ConfigUtils.inheritMergeableMapProperty(
@@ -640,6 +679,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         terminationConfig = ConfigUtils.inheritConfig(terminationConfig, inheritedConfig.getTerminationConfig());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(phaseConfigList, inheritedConfig.getPhaseConfigList());
         monitoringConfig = ConfigUtils.inheritConfig(monitoringConfig, inheritedConfig.getMonitoringConfig());
+        checkpointConfig = ConfigUtils.inheritConfig(checkpointConfig, inheritedConfig.getCheckpointConfig());
         return this;
     }
 
@@ -665,5 +705,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         if (phaseConfigList != null) {
             phaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
         }
+        if (checkpointConfig != null) {
+            checkpointConfig.visitReferencedClasses(classVisitor);
+        }
     }
 }
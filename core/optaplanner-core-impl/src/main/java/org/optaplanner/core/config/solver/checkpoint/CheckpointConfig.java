@@ -0,0 +1,116 @@
+package org.optaplanner.core.config.solver.checkpoint;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointRepository;
+
+@XmlType(propOrder = {
+        "checkpointRepositoryClass",
+        "checkpointRepositoryCustomProperties",
+        "interval",
+})
+public class CheckpointConfig extends AbstractConfig<CheckpointConfig> {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1L);
+
+    protected Class<? extends SolverCheckpointRepository> checkpointRepositoryClass = null;
+    @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
+    protected Map<String, String> checkpointRepositoryCustomProperties = null;
+
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration interval = null;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    public Class<? extends SolverCheckpointRepository> getCheckpointRepositoryClass() {
+        return checkpointRepositoryClass;
+    }
+
+    public void setCheckpointRepositoryClass(Class<? extends SolverCheckpointRepository> checkpointRepositoryClass) {
+        this.checkpointRepositoryClass = checkpointRepositoryClass;
+    }
+
+    public Map<String, String> getCheckpointRepositoryCustomProperties() {
+        return checkpointRepositoryCustomProperties;
+    }
+
+    public void setCheckpointRepositoryCustomProperties(Map<String, String> checkpointRepositoryCustomProperties) {
+        this.checkpointRepositoryCustomProperties = checkpointRepositoryCustomProperties;
+    }
+
+    /**
+     * @return sometimes null, the minimum time between 2 checkpoints taken during a phase.
+     *         A checkpoint is also taken at the end of every phase.
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public CheckpointConfig withCheckpointRepositoryClass(
+            Class<? extends SolverCheckpointRepository> checkpointRepositoryClass) {
+        this.checkpointRepositoryClass = checkpointRepositoryClass;
+        return this;
+    }
+
+    public CheckpointConfig withCheckpointRepositoryCustomProperties(
+            Map<String, String> checkpointRepositoryCustomProperties) {
+        this.checkpointRepositoryCustomProperties = checkpointRepositoryCustomProperties;
+        return this;
+    }
+
+    public CheckpointConfig withInterval(Duration interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    // ************************************************************************
+    // Smart getters
+    // ************************************************************************
+
+    public Duration determineInterval() {
+        if (interval != null && (interval.isNegative() || interval.isZero())) {
+            throw new IllegalArgumentException("The checkpoint interval (" + interval + ") must be positive.");
+        }
+        return interval == null ? DEFAULT_INTERVAL : interval;
+    }
+
+    @Override
+    public CheckpointConfig inherit(CheckpointConfig inheritedConfig) {
+        checkpointRepositoryClass = ConfigUtils.inheritOverwritableProperty(checkpointRepositoryClass,
+                inheritedConfig.getCheckpointRepositoryClass());
+        checkpointRepositoryCustomProperties = ConfigUtils.inheritMergeableMapProperty(
+                checkpointRepositoryCustomProperties, inheritedConfig.getCheckpointRepositoryCustomProperties());
+        interval = ConfigUtils.inheritOverwritableProperty(interval, inheritedConfig.getInterval());
+        return this;
+    }
+
+    @Override
+    public CheckpointConfig copyConfig() {
+        return new CheckpointConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        classVisitor.accept(checkpointRepositoryClass);
+    }
+
+}
@@ -0,0 +1,8 @@
+@javax.xml.bind.annotation.XmlSchema(
+        namespace = SolverConfig.XML_NAMESPACE,
+        elementFormDefault = XmlNsForm.QUALIFIED)
+package org.optaplanner.core.config.solver.checkpoint;
+
+import javax.xml.bind.annotation.XmlNsForm;
+
+import org.optaplanner.core.config.solver.SolverConfig;
@@ -10,6 +10,7 @@ import javax.xml.bind.annotation.XmlEnum;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.statistic.AllocationRateStatistic;
 import org.optaplanner.core.impl.statistic.BestScoreStatistic;
 import org.optaplanner.core.impl.statistic.BestSolutionMutationCountStatistic;
 import org.optaplanner.core.impl.statistic.MemoryUseStatistic;
@@ -36,7 +37,10 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("optaplanner.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("optaplanner.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    MOVE_EVALUATION_SPEED("optaplanner.solver.move.evaluation", false),
+    ALLOCATION_RATE("optaplanner.solver.allocation", new AllocationRateStatistic<>(), false),
+    MOVE_SELECTOR_PROBABILITY("optaplanner.solver.move.selector.probability", false);
 
     String meterId;
     @SuppressWarnings("rawtypes")
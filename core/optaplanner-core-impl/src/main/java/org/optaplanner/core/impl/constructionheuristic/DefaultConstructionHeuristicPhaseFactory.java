@@ -23,16 +23,21 @@ import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.constructionheuristic.decider.CachingConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.RegretInsertionConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
@@ -77,7 +82,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 solverConfigPolicy.getLogIndentation(),
                 phaseTermination,
                 entityPlacer,
-                buildDecider(phaseConfigPolicy, phaseTermination));
+                buildDecider(phaseConfigPolicy, phaseTermination, constructionHeuristicType_, entityPlacer));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -172,15 +177,27 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
     }
 
     private ConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
-            Termination<Solution_> termination) {
+            Termination<Solution_> termination, ConstructionHeuristicType constructionHeuristicType,
+            EntityPlacer<Solution_> entityPlacer) {
         ConstructionHeuristicForagerConfig foragerConfig_ =
                 Objects.requireNonNullElseGet(phaseConfig.getForagerConfig(), ConstructionHeuristicForagerConfig::new);
         ConstructionHeuristicForager<Solution_> forager =
                 ConstructionHeuristicForagerFactory.<Solution_> create(foragerConfig_).buildForager(configPolicy);
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
+        if (phaseConfig.getRegretK() != null && constructionHeuristicType != ConstructionHeuristicType.REGRET_INSERTION) {
+            throw new IllegalArgumentException("The regretK (" + phaseConfig.getRegretK()
+                    + ") is only supported with the constructionHeuristicType (" + ConstructionHeuristicType.REGRET_INSERTION
+                    + "), not with the constructionHeuristicType (" + constructionHeuristicType + ").");
+        }
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
-        if (moveThreadCount == null) {
+        Integer moveEvaluationCacheSize = phaseConfig.getMoveEvaluationCacheSize();
+        if (moveEvaluationCacheSize != null) {
+            decider = buildCachingDecider(configPolicy, termination, forager, constructionHeuristicType, entityPlacer,
+                    moveEvaluationCacheSize);
+        } else if (constructionHeuristicType == ConstructionHeuristicType.REGRET_INSERTION) {
+            decider = buildRegretInsertionDecider(configPolicy, termination, forager);
+        } else if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -213,6 +230,55 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return decider;
     }
 
+    private CachingConstructionHeuristicDecider<Solution_> buildCachingDecider(HeuristicConfigPolicy<Solution_> configPolicy,
+            Termination<Solution_> termination, ConstructionHeuristicForager<Solution_> forager,
+            ConstructionHeuristicType constructionHeuristicType, EntityPlacer<Solution_> entityPlacer,
+            int moveEvaluationCacheSize) {
+        validateMoveEvaluationCacheSize(configPolicy, moveEvaluationCacheSize);
+        if (!(entityPlacer instanceof PooledEntityPlacer)) {
+            throw new IllegalArgumentException("The moveEvaluationCacheSize (" + moveEvaluationCacheSize
+                    + ") requires a " + PooledEntityPlacer.class.getSimpleName() + ", not the entityPlacer ("
+                    + entityPlacer + "), because only that placer selects the same moves in every step.\n"
+                    + "Maybe use the constructionHeuristicType (" + ConstructionHeuristicType.CHEAPEST_INSERTION
+                    + ") or (" + ConstructionHeuristicType.ALLOCATE_FROM_POOL + ").");
+        }
+        if (constructionHeuristicType == ConstructionHeuristicType.REGRET_INSERTION) {
+            throw new IllegalArgumentException("The moveEvaluationCacheSize (" + moveEvaluationCacheSize
+                    + ") is not supported with the constructionHeuristicType (" + constructionHeuristicType
+                    + "), which already evaluates only the moves affected by the last step.");
+        }
+        return new CachingConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
+                moveEvaluationCacheSize);
+    }
+
+    private RegretInsertionConstructionHeuristicDecider<Solution_> buildRegretInsertionDecider(
+            HeuristicConfigPolicy<Solution_> configPolicy, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager) {
+        if (configPolicy.getMoveThreadCount() != null) {
+            throw new IllegalArgumentException("The constructionHeuristicType (" + ConstructionHeuristicType.REGRET_INSERTION
+                    + ") does not support multi-threaded solving yet."
+                    + " Remove the moveThreadCount (" + configPolicy.getMoveThreadCount() + ") from the solver config.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isChained()) {
+                    throw new IllegalArgumentException("The constructionHeuristicType ("
+                            + ConstructionHeuristicType.REGRET_INSERTION
+                            + ") does not support the chained variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                            + ") yet, because a step changes the insertions of other entities.");
+                }
+            }
+        }
+        int regretK = Objects.requireNonNullElse(phaseConfig.getRegretK(), 2);
+        if (regretK < 2) {
+            throw new IllegalArgumentException("The regretK (" + regretK + ") must be at least 2.");
+        }
+        return new RegretInsertionConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
+                regretK);
+    }
+
     private EntityPlacerConfig buildUnfoldedEntityPlacerConfig(HeuristicConfigPolicy<Solution_> phaseConfigPolicy,
             ConstructionHeuristicType constructionHeuristicType) {
         switch (constructionHeuristicType) {
@@ -233,6 +299,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 }
                 return new QueuedValuePlacerConfig();
             case CHEAPEST_INSERTION:
+            case REGRET_INSERTION:
             case ALLOCATE_FROM_POOL:
                 if (!ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
                     return PooledEntityPlacerFactory.unfoldNew(phaseConfigPolicy, checkSingleMoveSelectorConfig());
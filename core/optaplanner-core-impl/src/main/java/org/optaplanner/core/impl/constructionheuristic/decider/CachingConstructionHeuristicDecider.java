@@ -0,0 +1,127 @@
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.MoveEvaluationCache;
+import org.optaplanner.core.impl.heuristic.move.MoveEvaluationCache.CachedMove;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Caches the score difference of every move with the step score in a {@link MoveEvaluationCache},
+ * for a {@link PooledEntityPlacer}, which selects mostly the same moves every step.
+ * Only the moves of which a planning entity or planning value changed are evaluated again.
+ * The picked move is verified by {@link MoveEvaluationCache#pickVerifiedMove}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class CachingConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final MoveEvaluationCache<Solution_> moveEvaluationCache;
+
+    public CachingConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, int moveEvaluationCacheSize) {
+        super(logIndentation, termination, forager);
+        moveEvaluationCache = new MoveEvaluationCache<>(logIndentation, moveEvaluationCacheSize);
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveEvaluationCache.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveEvaluationCache.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveEvaluationCache.phaseStarted(phaseScope.getScoreDirector());
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveEvaluationCache.phaseEnded();
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        moveEvaluationCache.invalidateChangedMoves();
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        List<ConstructionHeuristicMoveScope<Solution_>> selectedMoveScopeList = new ArrayList<>();
+        List<CachedMove<Solution_>> selectedCachedMoveList = new ArrayList<>();
+        int moveIndex = 0;
+        for (Move<Solution_> move : placement) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex,
+                    move);
+            moveIndex++;
+            CachedMove<Solution_> cachedMove = moveEvaluationCache.get(move);
+            if (cachedMove == null) {
+                doMove(moveScope);
+                cachedMove = moveEvaluationCache.put(move, moveScope.getScore().subtract(lastStepScore),
+                        stepScope.getStepIndex());
+            } else {
+                moveScope.setScore(cachedMove.getScoreDifference().add(lastStepScore));
+                forager.addMove(moveScope);
+            }
+            selectedMoveScopeList.add(moveScope);
+            selectedCachedMoveList.add(cachedMove);
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        moveEvaluationCache.pickVerifiedMove(stepScope, selectedMoveScopeList, selectedCachedMoveList,
+                new MoveEvaluationCache.CachedMoveForager<>() {
+                    @Override
+                    public ConstructionHeuristicMoveScope<Solution_> pickMove() {
+                        return forager.pickMove(stepScope);
+                    }
+
+                    @Override
+                    public void restart() {
+                        forager.stepStarted(stepScope);
+                    }
+
+                    @Override
+                    public ConstructionHeuristicMoveScope<Solution_> forage(int moveIndex, Move<Solution_> move,
+                            Score score) {
+                        ConstructionHeuristicMoveScope<Solution_> moveScope =
+                                new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
+                        moveScope.setScore(score);
+                        forager.addMove(moveScope);
+                        return moveScope;
+                    }
+
+                    @Override
+                    public boolean isQuitEarly() {
+                        return forager.isQuitEarly();
+                    }
+                });
+        pickMove(stepScope);
+        // Ignore the notifications of the evaluated moves, which have been undone
+        moveEvaluationCache.ignoreChanges();
+    }
+
+}
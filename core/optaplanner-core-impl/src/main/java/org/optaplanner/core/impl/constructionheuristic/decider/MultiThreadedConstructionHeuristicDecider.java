@@ -1,8 +1,10 @@
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
@@ -15,6 +17,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.SpeculativePlacement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
@@ -32,6 +35,15 @@ import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
 /**
+ * For a {@link SpeculativePlacement}, the move threads evaluate the moves of its entire batch
+ * on the working solution before the first step of that batch.
+ * Those scores are then used in order: a move is re-evaluated on the solver thread
+ * if it shares a planning entity or planning value with an earlier step of the same batch,
+ * otherwise its score is extrapolated with the score change of those earlier steps.
+ * The picked move is always re-evaluated if its score was extrapolated, so every step score is exact.
+ * If that changes its score, the moves are foraged again with the corrected score,
+ * so a move that falls below another move is not picked.
+ *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public class MultiThreadedConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
@@ -50,6 +62,14 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
+    // Speculative placements: the scores of the current batch, evaluated on the working solution before its first step
+    protected List<SpeculativePlacement<Solution_>> speculativeBatch;
+    protected int[] speculativeMoveIndexOffsets;
+    protected Score[] speculativeScores;
+    protected Score speculativeBaseScore;
+    protected Set<Object> speculativeStepEntitySet;
+    protected Set<Object> speculativeStepValueSet;
+
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
             ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
             int selectedMoveBufferSize) {
@@ -92,6 +112,8 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
+        speculativeStepEntitySet = new HashSet<>();
+        speculativeStepValueSet = new HashSet<>();
     }
 
     @Override
@@ -113,6 +135,12 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         operationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        speculativeBatch = null;
+        speculativeMoveIndexOffsets = null;
+        speculativeScores = null;
+        speculativeBaseScore = null;
+        speculativeStepEntitySet = null;
+        speculativeStepValueSet = null;
     }
 
     @Override
@@ -134,6 +162,10 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
     @Override
     public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        if (placement instanceof SpeculativePlacement) {
+            decideNextSpeculativeStep(stepScope, (SpeculativePlacement<Solution_>) placement);
+            return;
+        }
         int stepIndex = stepScope.getStepIndex();
         resultQueue.startNextStep(stepIndex);
         int selectingMoveIndex = 0;
@@ -160,8 +192,13 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
         operationQueue.clear();
         pickMove(stepScope);
+        applyStepOnMoveThreads(stepScope);
+    }
+
+    private void applyStepOnMoveThreads(ConstructionHeuristicStepScope<Solution_> stepScope) {
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
+            int stepIndex = stepScope.getStepIndex();
             InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
             if (scoreDirector.requiresFlushing() && stepIndex % 100 == 99) {
                 // Calculate score to process changes; otherwise they become a memory leak.
@@ -177,6 +214,182 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         }
     }
 
+    protected void decideNextSpeculativeStep(ConstructionHeuristicStepScope<Solution_> stepScope,
+            SpeculativePlacement<Solution_> placement) {
+        int batchIndex = placement.getBatchIndex();
+        if (batchIndex == 0) {
+            evaluateSpeculativeBatch(stepScope, placement.getBatch());
+        } else if (placement.getBatch() != speculativeBatch) {
+            throw new IllegalStateException("Impossible situation: the placement (" + placement
+                    + ") is not the start of a batch, but its batch has not been evaluated.");
+        }
+        List<Move<Solution_>> moveList = placement.getMoveList();
+        int moveIndexOffset = speculativeMoveIndexOffsets[batchIndex];
+        Score[] moveScores = new Score[moveList.size()];
+        boolean[] extrapolated = new boolean[moveList.size()];
+        int foragedMoveCount = 0;
+        for (int moveIndex = 0; moveIndex < moveList.size(); moveIndex++) {
+            Move<Solution_> move = moveList.get(moveIndex);
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex,
+                    move);
+            Score speculativeScore = speculativeScores[moveIndexOffset + moveIndex];
+            if (speculativeScore == null || isSpeculationInvalidated(move)) {
+                // Not evaluated due to termination or affected by an earlier step of this batch
+                doMove(moveScope);
+            } else {
+                if (batchIndex == 0) {
+                    moveScope.setScore(speculativeScore);
+                } else {
+                    moveScope.setScore(extrapolateSpeculativeScore(speculativeScore,
+                            stepScope.getPhaseScope().getLastCompletedStepScope().getScore()));
+                    extrapolated[moveIndex] = true;
+                }
+                logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                        logIndentation, moveIndex, moveScope.getScore(), move);
+                forager.addMove(moveScope);
+            }
+            moveScores[moveIndex] = moveScope.getScore();
+            foragedMoveCount++;
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        ConstructionHeuristicMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
+        while (pickedMoveScope != null && extrapolated[pickedMoveScope.getMoveIndex()]) {
+            // An interaction with an earlier step that isn't detected must not corrupt the step score
+            int pickedMoveIndex = pickedMoveScope.getMoveIndex();
+            Score<?> score = stepScope.getScoreDirector().doAndProcessMove(pickedMoveScope.getMove(),
+                    assertMoveScoreFromScratch);
+            extrapolated[pickedMoveIndex] = false;
+            if (score.equals(pickedMoveScope.getScore())) {
+                break;
+            }
+            logger.trace("{}        Picked move index ({}), extrapolated score ({}), score ({}).",
+                    logIndentation, pickedMoveIndex, pickedMoveScope.getScore(), score);
+            // The picked move can fall below another move, so forage again, every move is re-evaluated at most once
+            moveScores[pickedMoveIndex] = score;
+            pickedMoveScope = reforageSpeculativeMoves(stepScope, moveList, moveScores, foragedMoveCount);
+        }
+        if (pickedMoveScope != null) {
+            Move<Solution_> step = pickedMoveScope.getMove();
+            stepScope.setStep(step);
+            if (logger.isDebugEnabled()) {
+                stepScope.setStepString(step.toString());
+            }
+            stepScope.setScore(pickedMoveScope.getScore());
+            for (Object entity : step.getPlanningEntities()) {
+                speculativeStepEntitySet.add(entity);
+            }
+            for (Object value : step.getPlanningValues()) {
+                if (value != null) {
+                    speculativeStepValueSet.add(value);
+                }
+            }
+        }
+        applyStepOnMoveThreads(stepScope);
+    }
+
+    private ConstructionHeuristicMoveScope<Solution_> reforageSpeculativeMoves(
+            ConstructionHeuristicStepScope<Solution_> stepScope, List<Move<Solution_>> moveList, Score[] moveScores,
+            int foragedMoveCount) {
+        forager.stepStarted(stepScope);
+        for (int moveIndex = 0; moveIndex < foragedMoveCount; moveIndex++) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex,
+                    moveList.get(moveIndex));
+            moveScope.setScore(moveScores[moveIndex]);
+            forager.addMove(moveScope);
+            if (forager.isQuitEarly()) {
+                break;
+            }
+        }
+        return forager.pickMove(stepScope);
+    }
+
+    private void evaluateSpeculativeBatch(ConstructionHeuristicStepScope<Solution_> stepScope,
+            List<SpeculativePlacement<Solution_>> batch) {
+        int stepIndex = stepScope.getStepIndex();
+        resultQueue.startNextStep(stepIndex);
+        speculativeBatch = batch;
+        speculativeMoveIndexOffsets = new int[batch.size()];
+        int moveCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            speculativeMoveIndexOffsets[i] = moveCount;
+            moveCount += batch.get(i).getMoveList().size();
+        }
+        speculativeScores = new Score[moveCount];
+        speculativeBaseScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        speculativeStepEntitySet.clear();
+        speculativeStepValueSet.clear();
+        Iterator<Move<Solution_>> moveIterator = batch.stream()
+                .flatMap(placement -> placement.getMoveList().stream())
+                .iterator();
+        int selectingMoveIndex = 0;
+        int foragingMoveIndex = 0;
+        do {
+            boolean moveIteratorEmpty = !moveIterator.hasNext();
+            // First fill the buffer so move evaluation can run freely in parallel
+            if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                if (takeSpeculativeResult(stepScope, stepIndex)) {
+                    break;
+                }
+                foragingMoveIndex++;
+            }
+            if (!moveIteratorEmpty) {
+                Move<Solution_> selectingMove = moveIterator.next();
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                selectingMoveIndex++;
+            }
+        } while (foragingMoveIndex < selectingMoveIndex);
+        // Do not evaluate the remaining selected moves for this batch that haven't started evaluation yet
+        operationQueue.clear();
+    }
+
+    private boolean takeSpeculativeResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (stepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        if (!result.isMoveDoable()) {
+            throw new IllegalStateException("Impossible situation: Construction Heuristics move is not doable.");
+        }
+        speculativeScores[result.getMoveIndex()] = result.getScore();
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        return termination.isPhaseTerminated(stepScope.getPhaseScope());
+    }
+
+    private boolean isSpeculationInvalidated(Move<Solution_> move) {
+        if (speculativeStepEntitySet.isEmpty()) {
+            return false;
+        }
+        for (Object entity : move.getPlanningEntities()) {
+            if (speculativeStepEntitySet.contains(entity)) {
+                return true;
+            }
+        }
+        for (Object value : move.getPlanningValues()) {
+            if (value != null && speculativeStepValueSet.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Score extrapolateSpeculativeScore(Score speculativeScore, Score lastStepScore) {
+        // The earlier steps of this batch changed the score from the base score to the last step score
+        return speculativeScore.subtract(speculativeBaseScore).add(lastStepScore);
+    }
+
     private boolean forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
         try {
@@ -0,0 +1,317 @@
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Implements {@link ConstructionHeuristicType#REGRET_INSERTION}.
+ * Per step, it picks the entity with the largest regret, which is the score difference
+ * between its best and its k-th best move, and does its best move.
+ * An entity with fewer than k moves has the largest regret.
+ * <p>
+ * The moves of the first placement are evaluated once and their score differences with the step score are kept.
+ * After every step, only the moves that share a planning value with that step are evaluated again.
+ * The entities are kept in a priority queue by regret, in which only the affected entities are updated.
+ * Because a constraint can also connect entities that don't share a planning value,
+ * the picked move is evaluated again if its score difference is from an earlier step.
+ * If that changes its score difference, its entity goes back in the priority queue.
+ * <p>
+ * Once the priority queue runs empty while the placer still has a placement,
+ * for example because an entity still has an uninitialized variable, its moves are evaluated from scratch.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class RegretInsertionConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final int regretK;
+
+    protected Map<List<Object>, EntityInsertions<Solution_>> entityInsertionsMap;
+    protected Map<Object, List<EntityInsertions<Solution_>>> valueToEntityInsertionsMap;
+    protected PriorityQueue<RegretEntry<Solution_>> regretQueue;
+    protected Move<Solution_> lastPickedMove;
+    protected long evaluatedMoveCount;
+
+    public RegretInsertionConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, int regretK) {
+        super(logIndentation, termination, forager);
+        this.regretK = regretK;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        entityInsertionsMap = new HashMap<>();
+        valueToEntityInsertionsMap = new HashMap<>();
+        regretQueue = new PriorityQueue<>(RegretEntry.COMPARATOR);
+        lastPickedMove = null;
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        entityInsertionsMap = null;
+        valueToEntityInsertionsMap = null;
+        regretQueue = null;
+        lastPickedMove = null;
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        evaluatedMoveCount = 0L;
+        if (lastPickedMove != null) {
+            reevaluateAffectedEntities(stepScope);
+        }
+        EntityInsertions<Solution_> pickedEntityInsertions = pollRegretQueue(stepScope);
+        if (pickedEntityInsertions == null && !termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+            evaluatePlacement(stepScope, placement);
+            pickedEntityInsertions = pollRegretQueue(stepScope);
+        }
+        stepScope.setSelectedMoveCount(evaluatedMoveCount);
+        if (pickedEntityInsertions == null) {
+            return;
+        }
+        pickedEntityInsertions.placed = true;
+        Insertion<Solution_> bestInsertion = pickedEntityInsertions.bestInsertion;
+        Move<Solution_> step = bestInsertion.move;
+        stepScope.setStep(step);
+        if (logger.isDebugEnabled()) {
+            stepScope.setStepString(step.toString());
+        }
+        stepScope.setScore(bestInsertion.delta.add(getLastStepScore(stepScope)));
+        lastPickedMove = step;
+    }
+
+    private void evaluatePlacement(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        entityInsertionsMap.clear();
+        valueToEntityInsertionsMap.clear();
+        regretQueue.clear();
+        List<EntityInsertions<Solution_>> entityInsertionsList = new ArrayList<>();
+        for (Move<Solution_> move : placement) {
+            List<Object> entityKey = new ArrayList<>(move.getPlanningEntities());
+            EntityInsertions<Solution_> entityInsertions = entityInsertionsMap.computeIfAbsent(entityKey, key -> {
+                EntityInsertions<Solution_> newEntityInsertions = new EntityInsertions<>(entityInsertionsMap.size());
+                entityInsertionsList.add(newEntityInsertions);
+                return newEntityInsertions;
+            });
+            for (Object value : move.getPlanningValues()) {
+                if (value != null) {
+                    List<EntityInsertions<Solution_>> valueEntityInsertionsList =
+                            valueToEntityInsertionsMap.computeIfAbsent(value, key -> new ArrayList<>());
+                    if (valueEntityInsertionsList.isEmpty()
+                            || valueEntityInsertionsList.get(valueEntityInsertionsList.size() - 1) != entityInsertions) {
+                        valueEntityInsertionsList.add(entityInsertions);
+                    }
+                }
+            }
+            entityInsertions.insertionList.add(new Insertion<>(move, evaluateDelta(stepScope, move),
+                    stepScope.getStepIndex()));
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        for (EntityInsertions<Solution_> entityInsertions : entityInsertionsList) {
+            refreshRegret(entityInsertions);
+        }
+    }
+
+    private void reevaluateAffectedEntities(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        Set<Object> stepValueSet = new HashSet<>();
+        for (Object value : lastPickedMove.getPlanningValues()) {
+            if (value != null) {
+                stepValueSet.add(value);
+            }
+        }
+        lastPickedMove = null;
+        Set<EntityInsertions<Solution_>> affectedEntityInsertionsSet = new HashSet<>();
+        for (Object value : stepValueSet) {
+            List<EntityInsertions<Solution_>> valueEntityInsertionsList = valueToEntityInsertionsMap.get(value);
+            if (valueEntityInsertionsList != null) {
+                affectedEntityInsertionsSet.addAll(valueEntityInsertionsList);
+            }
+        }
+        // Visit them in creation order for reproducibility
+        List<EntityInsertions<Solution_>> affectedEntityInsertionsList = new ArrayList<>(affectedEntityInsertionsSet);
+        affectedEntityInsertionsList.sort(Comparator.comparingInt(entityInsertions -> entityInsertions.ordinal));
+        for (EntityInsertions<Solution_> entityInsertions : affectedEntityInsertionsList) {
+            if (entityInsertions.placed) {
+                continue;
+            }
+            for (Insertion<Solution_> insertion : entityInsertions.insertionList) {
+                for (Object value : insertion.move.getPlanningValues()) {
+                    if (value != null && stepValueSet.contains(value)) {
+                        insertion.delta = evaluateDelta(stepScope, insertion.move);
+                        insertion.deltaStepIndex = stepScope.getStepIndex();
+                        break;
+                    }
+                }
+            }
+            refreshRegret(entityInsertions);
+        }
+    }
+
+    private EntityInsertions<Solution_> pollRegretQueue(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        while (!regretQueue.isEmpty()) {
+            RegretEntry<Solution_> entry = regretQueue.poll();
+            EntityInsertions<Solution_> entityInsertions = entry.entityInsertions;
+            if (entityInsertions.placed || entry.version != entityInsertions.version) {
+                // Stale entry
+                continue;
+            }
+            Insertion<Solution_> bestInsertion = entityInsertions.bestInsertion;
+            int stepIndex = stepScope.getStepIndex();
+            if (bestInsertion.deltaStepIndex != stepIndex) {
+                // Verify the score difference, which might be stale due to a constraint between entities
+                Score delta = evaluateDelta(stepScope, bestInsertion.move);
+                bestInsertion.deltaStepIndex = stepIndex;
+                if (!delta.equals(bestInsertion.delta)) {
+                    bestInsertion.delta = delta;
+                    refreshRegret(entityInsertions);
+                    continue;
+                }
+            }
+            return entityInsertions;
+        }
+        return null;
+    }
+
+    private void refreshRegret(EntityInsertions<Solution_> entityInsertions) {
+        Score[] topDeltas = new Score[regretK];
+        int topDeltaCount = 0;
+        Insertion<Solution_> bestInsertion = null;
+        for (Insertion<Solution_> insertion : entityInsertions.insertionList) {
+            Score delta = insertion.delta;
+            if (topDeltaCount == regretK && delta.compareTo(topDeltas[regretK - 1]) <= 0) {
+                continue;
+            }
+            // Insertion sort in descending order, the first of equal deltas stays first
+            int insertIndex = Math.min(topDeltaCount, regretK - 1);
+            while (insertIndex > 0 && delta.compareTo(topDeltas[insertIndex - 1]) > 0) {
+                topDeltas[insertIndex] = topDeltas[insertIndex - 1];
+                insertIndex--;
+            }
+            topDeltas[insertIndex] = delta;
+            if (insertIndex == 0) {
+                bestInsertion = insertion;
+            }
+            if (topDeltaCount < regretK) {
+                topDeltaCount++;
+            }
+        }
+        entityInsertions.version++;
+        if (topDeltaCount == 0) {
+            return;
+        }
+        entityInsertions.bestInsertion = bestInsertion;
+        // Null if there are fewer than k moves
+        entityInsertions.regret = topDeltaCount < regretK ? null : topDeltas[0].subtract(topDeltas[regretK - 1]);
+        regretQueue.add(new RegretEntry<>(entityInsertions));
+    }
+
+    private <Score_ extends Score<Score_>> Score_ evaluateDelta(ConstructionHeuristicStepScope<Solution_> stepScope,
+            Move<Solution_> move) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        Score_ lastStepScore = (Score_) getLastStepScore(stepScope);
+        Score_ score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+        }
+        evaluatedMoveCount++;
+        logger.trace("{}        Move ({}), score ({}).", logIndentation, move, score);
+        return score.subtract(lastStepScore);
+    }
+
+    private Score getLastStepScore(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
+    protected static class EntityInsertions<Solution_> {
+
+        protected final int ordinal;
+        protected final List<Insertion<Solution_>> insertionList = new ArrayList<>();
+
+        protected boolean placed = false;
+        protected int version = 0;
+        protected Insertion<Solution_> bestInsertion = null;
+        protected Score regret = null;
+
+        protected EntityInsertions(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+    }
+
+    protected static class RegretEntry<Solution_> {
+
+        protected static final Comparator<RegretEntry<?>> COMPARATOR = (a, b) -> {
+            // An entity with fewer than k moves comes first
+            if (a.regret == null || b.regret == null) {
+                if (a.regret != null) {
+                    return 1;
+                } else if (b.regret != null) {
+                    return -1;
+                }
+            } else {
+                int regretComparison = b.regret.compareTo(a.regret);
+                if (regretComparison != 0) {
+                    return regretComparison;
+                }
+            }
+            int bestDeltaComparison = b.bestDelta.compareTo(a.bestDelta);
+            if (bestDeltaComparison != 0) {
+                return bestDeltaComparison;
+            }
+            return Integer.compare(a.entityInsertions.ordinal, b.entityInsertions.ordinal);
+        };
+
+        protected final EntityInsertions<Solution_> entityInsertions;
+        protected final int version;
+        protected final Score regret;
+        protected final Score bestDelta;
+
+        protected RegretEntry(EntityInsertions<Solution_> entityInsertions) {
+            this.entityInsertions = entityInsertions;
+            this.version = entityInsertions.version;
+            this.regret = entityInsertions.regret;
+            this.bestDelta = entityInsertions.bestInsertion.delta;
+        }
+
+    }
+
+    protected static class Insertion<Solution_> {
+
+        protected final Move<Solution_> move;
+        // The score difference with the step score at the time of its evaluation
+        protected Score delta;
+        protected int deltaStepIndex;
+
+        protected Insertion(Move<Solution_> move, Score delta, int deltaStepIndex) {
+            this.move = move;
+            this.delta = delta;
+            this.deltaStepIndex = deltaStepIndex;
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.constructionheuristic.placer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -13,10 +14,27 @@ public class QueuedEntityPlacer<Solution_> extends AbstractEntityPlacer<Solution
 
     protected final EntitySelector<Solution_> entitySelector;
     protected final List<MoveSelector<Solution_>> moveSelectorList;
+    protected final int speculativePlacementCount;
+    protected final int speculativeMoveCountLimit;
 
     public QueuedEntityPlacer(EntitySelector<Solution_> entitySelector, List<MoveSelector<Solution_>> moveSelectorList) {
+        this(entitySelector, moveSelectorList, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param moveSelectorList never null
+     * @param speculativePlacementCount at least 1, if higher, the placements are {@link SpeculativePlacement}s
+     * @param speculativeMoveCountLimit at least 1, the maximum number of moves of a batch of speculative placements.
+     *        A placement with more moves than what remains of that limit is not speculative,
+     *        so its moves are not held in memory.
+     */
+    public QueuedEntityPlacer(EntitySelector<Solution_> entitySelector, List<MoveSelector<Solution_>> moveSelectorList,
+            int speculativePlacementCount, int speculativeMoveCountLimit) {
         this.entitySelector = entitySelector;
         this.moveSelectorList = moveSelectorList;
+        this.speculativePlacementCount = speculativePlacementCount;
+        this.speculativeMoveCountLimit = speculativeMoveCountLimit;
         phaseLifecycleSupport.addEventListener(entitySelector);
         for (MoveSelector<Solution_> moveSelector : moveSelectorList) {
             phaseLifecycleSupport.addEventListener(moveSelector);
@@ -32,14 +50,74 @@ public class QueuedEntityPlacer<Solution_> extends AbstractEntityPlacer<Solution
 
         private final Iterator<Object> entityIterator;
         private Iterator<MoveSelector<Solution_>> moveSelectorIterator;
+        private List<SpeculativePlacement<Solution_>> speculativeBatch;
+        private int speculativeBatchIndex;
+        private Placement<Solution_> placementAfterSpeculativeBatch;
 
         private QueuedEntityPlacingIterator(Iterator<Object> entityIterator) {
             this.entityIterator = entityIterator;
             moveSelectorIterator = Collections.emptyIterator();
+            speculativeBatch = Collections.emptyList();
+            speculativeBatchIndex = 0;
+            placementAfterSpeculativeBatch = null;
         }
 
         @Override
         protected Placement<Solution_> createUpcomingSelection() {
+            if (speculativePlacementCount <= 1) {
+                Iterator<Move<Solution_>> moveIterator = createUpcomingMoveIterator();
+                if (moveIterator == null) {
+                    return noUpcomingSelection();
+                }
+                return new Placement<>(moveIterator);
+            }
+            if (speculativeBatchIndex < speculativeBatch.size()) {
+                SpeculativePlacement<Solution_> placement = speculativeBatch.get(speculativeBatchIndex);
+                speculativeBatchIndex++;
+                return placement;
+            }
+            if (placementAfterSpeculativeBatch != null) {
+                Placement<Solution_> placement = placementAfterSpeculativeBatch;
+                placementAfterSpeculativeBatch = null;
+                return placement;
+            }
+            // Only select the next batch once the steps of the previous batch are done
+            List<SpeculativePlacement<Solution_>> batch = new ArrayList<>(speculativePlacementCount);
+            int batchMoveCount = 0;
+            for (int batchIndex = 0; batchIndex < speculativePlacementCount
+                    && batchMoveCount < speculativeMoveCountLimit; batchIndex++) {
+                Iterator<Move<Solution_>> moveIterator = createUpcomingMoveIterator();
+                if (moveIterator == null) {
+                    break;
+                }
+                // Exhaust the move iterator before the entity iterator moves on to the next entity
+                List<Move<Solution_>> moveList = new ArrayList<>();
+                while (moveIterator.hasNext() && batchMoveCount < speculativeMoveCountLimit) {
+                    moveList.add(moveIterator.next());
+                    batchMoveCount++;
+                }
+                if (moveIterator.hasNext()) {
+                    // Too many moves to hold in memory, so the moves of this placement are selected as they are evaluated
+                    placementAfterSpeculativeBatch = new Placement<>(new ConcatenatingMoveIterator<>(
+                            moveList.iterator(), moveIterator));
+                    break;
+                }
+                batch.add(new SpeculativePlacement<>(moveList, batch, batchIndex));
+            }
+            if (batch.isEmpty()) {
+                if (placementAfterSpeculativeBatch == null) {
+                    return noUpcomingSelection();
+                }
+                Placement<Solution_> placement = placementAfterSpeculativeBatch;
+                placementAfterSpeculativeBatch = null;
+                return placement;
+            }
+            speculativeBatch = batch;
+            speculativeBatchIndex = 1;
+            return batch.get(0);
+        }
+
+        private Iterator<Move<Solution_>> createUpcomingMoveIterator() {
             Iterator<Move<Solution_>> moveIterator = null;
             // Skip empty placements to avoid no-operation steps
             while (moveIterator == null || !moveIterator.hasNext()) {
@@ -47,7 +125,7 @@ public class QueuedEntityPlacer<Solution_> extends AbstractEntityPlacer<Solution
                 // (because the entity changes)
                 while (!moveSelectorIterator.hasNext()) {
                     if (!entityIterator.hasNext()) {
-                        return noUpcomingSelection();
+                        return null;
                     }
                     entityIterator.next();
                     moveSelectorIterator = moveSelectorList.iterator();
@@ -55,7 +133,30 @@ public class QueuedEntityPlacer<Solution_> extends AbstractEntityPlacer<Solution
                 MoveSelector<Solution_> moveSelector = moveSelectorIterator.next();
                 moveIterator = moveSelector.iterator();
             }
-            return new Placement<>(moveIterator);
+            return moveIterator;
+        }
+
+    }
+
+    private static final class ConcatenatingMoveIterator<Solution_> implements Iterator<Move<Solution_>> {
+
+        private final Iterator<Move<Solution_>> firstMoveIterator;
+        private final Iterator<Move<Solution_>> secondMoveIterator;
+
+        private ConcatenatingMoveIterator(Iterator<Move<Solution_>> firstMoveIterator,
+                Iterator<Move<Solution_>> secondMoveIterator) {
+            this.firstMoveIterator = firstMoveIterator;
+            this.secondMoveIterator = secondMoveIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return firstMoveIterator.hasNext() || secondMoveIterator.hasNext();
+        }
+
+        @Override
+        public Move<Solution_> next() {
+            return firstMoveIterator.hasNext() ? firstMoveIterator.next() : secondMoveIterator.next();
         }
 
     }
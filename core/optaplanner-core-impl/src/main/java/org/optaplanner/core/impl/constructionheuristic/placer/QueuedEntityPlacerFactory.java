@@ -3,6 +3,7 @@ package org.optaplanner.core.impl.constructionheuristic.placer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -93,7 +94,44 @@ public class QueuedEntityPlacerFactory<Solution_>
                     .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL);
             moveSelectorList.add(moveSelector);
         }
-        return new QueuedEntityPlacer<>(entitySelector, moveSelectorList);
+        int speculativePlacementCount = buildSpeculativePlacementCount(configPolicy, entitySelector);
+        int speculativeMoveCountLimit = Integer.MAX_VALUE;
+        if (speculativePlacementCount > 1) {
+            // Speculating on more moves than the move threads buffer doesn't keep them any busier
+            // Defaults to the moveThreadBufferSize of the multi-threaded deciders
+            int moveThreadBufferSize = Objects.requireNonNullElse(configPolicy.getMoveThreadBufferSize(), 10);
+            speculativeMoveCountLimit = configPolicy.getMoveThreadCount() * moveThreadBufferSize;
+        }
+        return new QueuedEntityPlacer<>(entitySelector, moveSelectorList, speculativePlacementCount,
+                speculativeMoveCountLimit);
+    }
+
+    private int buildSpeculativePlacementCount(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntitySelector<Solution_> entitySelector) {
+        int speculativePlacementCount = Objects.requireNonNullElse(config.getSpeculativePlacementCount(), 1);
+        if (speculativePlacementCount < 1) {
+            throw new IllegalArgumentException("The queuedEntityPlacer (" + config
+                    + ") has a speculativePlacementCount (" + speculativePlacementCount + ") which is less than 1.");
+        }
+        if (speculativePlacementCount > 1) {
+            if (configPolicy.getMoveThreadCount() == null) {
+                throw new IllegalArgumentException("The queuedEntityPlacer (" + config
+                        + ") has a speculativePlacementCount (" + speculativePlacementCount
+                        + ") but no moveThreadCount.\n"
+                        + "Maybe configure a moveThreadCount on the solver or remove the speculativePlacementCount.");
+            }
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entitySelector.getEntityDescriptor()
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isChained() || variableDescriptor.isListVariable()) {
+                    // The speculative moves would not include the uninitialized entities of the same batch as values
+                    throw new IllegalArgumentException("The queuedEntityPlacer (" + config
+                            + ") has a speculativePlacementCount (" + speculativePlacementCount
+                            + ") but the planning variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                            + ") is a chained or list variable, which is not supported.");
+                }
+            }
+        }
+        return speculativePlacementCount;
     }
 
     public EntitySelectorConfig buildEntitySelectorConfig(HeuristicConfigPolicy<Solution_> configPolicy) {
@@ -0,0 +1,50 @@
+package org.optaplanner.core.impl.constructionheuristic.placer;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * A {@link Placement} of which the moves are selected before the steps of the preceding placements in its batch,
+ * so a multi-threaded decider can evaluate the moves of the entire batch in parallel.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SpeculativePlacement<Solution_> extends Placement<Solution_> {
+
+    private final List<Move<Solution_>> moveList;
+    private final List<SpeculativePlacement<Solution_>> batch;
+    private final int batchIndex;
+
+    /**
+     * @param moveList never null, never empty
+     * @param batch never null, contains this placement at the batchIndex
+     * @param batchIndex {@code 0 <= batchIndex < batch.size()}
+     */
+    public SpeculativePlacement(List<Move<Solution_>> moveList, List<SpeculativePlacement<Solution_>> batch,
+            int batchIndex) {
+        super(moveList.iterator());
+        this.moveList = moveList;
+        this.batch = batch;
+        this.batchIndex = batchIndex;
+    }
+
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
+    }
+
+    public List<SpeculativePlacement<Solution_>> getBatch() {
+        return batch;
+    }
+
+    public int getBatchIndex() {
+        return batchIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "SpeculativePlacement (" + batchIndex + " of " + batch.size() + ", " + moveList.size() + " moves)";
+    }
+
+}
@@ -188,6 +188,10 @@ public class ScoreDescriptor {
         }
     }
 
+    public MemberAccessor getScoreMemberAccessor() {
+        return scoreMemberAccessor;
+    }
+
     public ScoreDefinition<?> getScoreDefinition() {
         return scoreDefinition;
     }
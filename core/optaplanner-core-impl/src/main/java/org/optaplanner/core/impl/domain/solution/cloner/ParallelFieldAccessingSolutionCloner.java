@@ -0,0 +1,254 @@
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
+
+/**
+ * A {@link FieldAccessingSolutionCloner} that clones the entities of a large solution in parallel chunks
+ * on its own clone threads.
+ * <p>
+ * The first pass constructs an empty clone for every entity.
+ * The second pass copies the fields of every entity, resolving references to other entities
+ * through the clones of the first pass.
+ * Anything that cannot be resolved in the second pass (such as a non-entity {@code @DeepPlanningClone} instance,
+ * which might be shared by multiple entities) is deferred to the sequential process of the superclass.
+ * <p>
+ * Solutions with fewer entities than the {@link #getParallelCloningThreshold() parallel cloning threshold}
+ * are cloned sequentially, because the overhead of forking outweighs the gain.
+ * The clone threads are created by the solver's {@link ThreadFactory} for every parallel clone
+ * and stopped afterwards, so they don't compete with the move threads or with user code in between.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ParallelFieldAccessingSolutionCloner<Solution_> extends FieldAccessingSolutionCloner<Solution_> {
+
+    protected final int parallelCloningThreshold;
+    protected final int cloneThreadCount;
+    protected final ThreadFactory threadFactory;
+
+    public ParallelFieldAccessingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor,
+            int parallelCloningThreshold) {
+        this(solutionDescriptor, parallelCloningThreshold, Runtime.getRuntime().availableProcessors(),
+                new DefaultSolverThreadFactory("CloneThread"));
+    }
+
+    public ParallelFieldAccessingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor,
+            int parallelCloningThreshold, int cloneThreadCount, ThreadFactory threadFactory) {
+        super(solutionDescriptor);
+        if (parallelCloningThreshold < 0) {
+            throw new IllegalArgumentException("The parallelCloningThreshold (" + parallelCloningThreshold
+                    + ") cannot be negative.");
+        }
+        if (cloneThreadCount < 1) {
+            throw new IllegalArgumentException("The cloneThreadCount (" + cloneThreadCount
+                    + ") cannot be negative or zero.");
+        }
+        this.parallelCloningThreshold = parallelCloningThreshold;
+        this.cloneThreadCount = cloneThreadCount;
+        this.threadFactory = threadFactory;
+    }
+
+    public int getParallelCloningThreshold() {
+        return parallelCloningThreshold;
+    }
+
+    public int getCloneThreadCount() {
+        return cloneThreadCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public Solution_ cloneSolution(Solution_ originalSolution) {
+        List<Object> originalEntityList = new ArrayList<>(solutionDescriptor.getEntityCount(originalSolution));
+        solutionDescriptor.visitAllEntities(originalSolution, originalEntityList::add);
+        if (originalEntityList.size() < parallelCloningThreshold) {
+            return super.cloneSolution(originalSolution);
+        }
+        return new ParallelFieldAccessingSolutionClonerRun(originalEntityList).cloneSolution(originalSolution);
+    }
+
+    protected class ParallelFieldAccessingSolutionClonerRun extends FieldAccessingSolutionClonerRun {
+
+        protected final List<Object> originalEntityList;
+        protected ExecutorService executor;
+
+        public ParallelFieldAccessingSolutionClonerRun(List<Object> originalEntityList) {
+            this.originalEntityList = originalEntityList;
+        }
+
+        @Override
+        protected Solution_ cloneSolution(Solution_ originalSolution) {
+            executor = Executors.newFixedThreadPool(cloneThreadCount, threadFactory);
+            try {
+                return cloneSolutionInParallel(originalSolution);
+            } finally {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+
+        protected Solution_ cloneSolutionInParallel(Solution_ originalSolution) {
+            int entityCount = originalEntityList.size();
+            unprocessedQueue = new ArrayDeque<>(entityCount + 1);
+            originalToCloneMap = new IdentityHashMap<>(entityCount + 1);
+            // First pass: construct the empty entity clones in parallel
+            Object[] cloneEntities = new Object[entityCount];
+            invokeInChunks(entityCount, (fromIndex, toIndex) -> {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    cloneEntities[i] = constructClone(originalEntityList.get(i).getClass());
+                }
+                return null;
+            });
+            for (int i = 0; i < entityCount; i++) {
+                if (originalToCloneMap.putIfAbsent(originalEntityList.get(i), cloneEntities[i]) != null) {
+                    // The same entity is referenced by multiple entity properties: only fill in its first clone
+                    cloneEntities[i] = null;
+                }
+            }
+            // Second pass: fill in the entity clones in parallel, the originalToCloneMap is read-only meanwhile
+            List<List<Unprocessed>> deferredListList = invokeInChunks(entityCount, (fromIndex, toIndex) -> {
+                List<Unprocessed> deferredList = new ArrayList<>();
+                for (int i = fromIndex; i < toIndex; i++) {
+                    Object cloneEntity = cloneEntities[i];
+                    if (cloneEntity != null) {
+                        Object originalEntity = originalEntityList.get(i);
+                        Class<Object> instanceClass = (Class<Object>) originalEntity.getClass();
+                        copyFieldsInParallel(instanceClass, instanceClass, originalEntity, cloneEntity, deferredList);
+                    }
+                }
+                return deferredList;
+            });
+            // Sequential pass: the solution itself and everything that could not be resolved in parallel
+            Solution_ cloneSolution = clone(originalSolution);
+            for (List<Unprocessed> deferredList : deferredListList) {
+                unprocessedQueue.addAll(deferredList);
+            }
+            processQueue();
+            validateCloneSolution(originalSolution, cloneSolution);
+            return cloneSolution;
+        }
+
+        protected <C> void copyFieldsInParallel(Class<C> clazz, Class<? extends C> instanceClass, C original, C clone,
+                List<Unprocessed> deferredList) {
+            for (Field field : retrieveCachedFields(clazz)) {
+                Object originalValue = getFieldValue(original, field);
+                if (isDeepCloneField(field, instanceClass, originalValue)) {
+                    Object cloneValue = resolveCloneInParallel(field.getType(), originalValue);
+                    if (cloneValue != null) {
+                        setFieldValue(clone, field, cloneValue);
+                    } else {
+                        deferredList.add(new Unprocessed(clone, field, originalValue));
+                    }
+                } else {
+                    // Shallow copy
+                    setFieldValue(clone, field, originalValue);
+                }
+            }
+            Class<? super C> superclass = clazz.getSuperclass();
+            if (superclass != null) {
+                copyFieldsInParallel(superclass, instanceClass, original, clone, deferredList);
+            }
+        }
+
+        /**
+         * Must not change the {@link #originalToCloneMap}, because it is called from multiple threads.
+         *
+         * @param expectedType never null
+         * @param originalValue never null
+         * @return null if the clone cannot be resolved without creating a shared clone
+         */
+        protected Object resolveCloneInParallel(Class<?> expectedType, Object originalValue) {
+            if (originalValue instanceof Collection) {
+                return cloneCollectionInParallel(expectedType, (Collection<?>) originalValue);
+            } else if (originalValue instanceof Map || originalValue.getClass().isArray()) {
+                return null;
+            }
+            return originalToCloneMap.get(originalValue);
+        }
+
+        protected <E> Collection<E> cloneCollectionInParallel(Class<?> expectedType, Collection<E> originalCollection) {
+            Collection<E> cloneCollection = constructCloneCollection(originalCollection);
+            if (!expectedType.isInstance(cloneCollection)) {
+                // Let the sequential pass fail fast
+                return null;
+            }
+            for (E originalElement : originalCollection) {
+                if (originalElement == null || originalElement instanceof Collection || originalElement instanceof Map
+                        || originalElement.getClass().isArray()) {
+                    return null;
+                }
+                E cloneElement;
+                if (deepCloningUtils.retrieveDeepCloneDecisionForActualValueClass(originalElement.getClass())) {
+                    cloneElement = (E) originalToCloneMap.get(originalElement);
+                    if (cloneElement == null) {
+                        return null;
+                    }
+                } else {
+                    cloneElement = originalElement;
+                }
+                cloneCollection.add(cloneElement);
+            }
+            return cloneCollection;
+        }
+
+        protected <R> List<R> invokeInChunks(int size, ChunkTask<R> chunkTask) {
+            int chunkCount = Math.max(1, Math.min(size, cloneThreadCount * 4));
+            List<Callable<R>> callableList = new ArrayList<>(chunkCount);
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+                int fromIndex = (int) ((long) size * chunkIndex / chunkCount);
+                int toIndex = (int) ((long) size * (chunkIndex + 1) / chunkCount);
+                callableList.add(() -> chunkTask.run(fromIndex, toIndex));
+            }
+            List<R> resultList = new ArrayList<>(chunkCount);
+            List<Future<R>> futureList;
+            try {
+                futureList = executor.invokeAll(callableList);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The planning clone was interrupted.", e);
+            }
+            for (Future<R> future : futureList) {
+                try {
+                    resultList.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("The planning clone was interrupted.", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new IllegalStateException("The planning clone failed.", cause);
+                }
+            }
+            return resultList;
+        }
+
+    }
+
+    @FunctionalInterface
+    protected interface ChunkTask<R> {
+
+        R run(int fromIndex, int toIndex);
+
+    }
+
+}
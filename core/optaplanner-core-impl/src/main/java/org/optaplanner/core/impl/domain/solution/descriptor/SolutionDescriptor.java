@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,6 +57,7 @@ import org.optaplanner.core.impl.domain.lookup.LookUpStrategyResolver;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.score.descriptor.ScoreDescriptor;
 import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.ParallelFieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.cloner.gizmo.GizmoSolutionClonerFactory;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -628,6 +630,10 @@ public class SolutionDescriptor<Solution_> {
         return scoreDescriptor.getScoreDefinition();
     }
 
+    public MemberAccessor getScoreMemberAccessor() {
+        return scoreDescriptor.getScoreMemberAccessor();
+    }
+
     public Map<String, MemberAccessor> getProblemFactMemberAccessorMap() {
         return problemFactMemberAccessorMap;
     }
@@ -680,6 +686,25 @@ public class SolutionDescriptor<Solution_> {
         this.assertModelForCloning = assertModelForCloning;
     }
 
+    /**
+     * Replaces the default {@link FieldAccessingSolutionCloner} by a {@link ParallelFieldAccessingSolutionCloner}.
+     * A custom {@link SolutionCloner} or a generated Gizmo {@link SolutionCloner} is not replaced.
+     *
+     * @param parallelCloningThreshold {@code >= 0}, the minimum number of entities to clone in parallel
+     * @param cloneThreadCount {@code >= 1}, the number of threads of a parallel clone
+     * @param threadFactory never null, creates the threads of every parallel clone
+     * @return true if the {@link SolutionCloner} was replaced
+     */
+    public boolean enableParallelSolutionCloning(int parallelCloningThreshold, int cloneThreadCount,
+            ThreadFactory threadFactory) {
+        if (solutionCloner.getClass() != FieldAccessingSolutionCloner.class) {
+            return false;
+        }
+        solutionCloner = new ParallelFieldAccessingSolutionCloner<>(this, parallelCloningThreshold, cloneThreadCount,
+                threadFactory);
+        return true;
+    }
+
     // ************************************************************************
     // Model methods
     // ************************************************************************
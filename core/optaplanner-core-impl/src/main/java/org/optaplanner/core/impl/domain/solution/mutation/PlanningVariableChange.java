@@ -0,0 +1,70 @@
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+
+/**
+ * A genuine planning variable of a single planning entity that has a different value in the new solution
+ * than in the old solution.
+ * Immutable.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see PlanningVariableDiffer
+ */
+public final class PlanningVariableChange<Solution_> {
+
+    private final Object entity;
+    private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+    private final Object oldValue;
+    private final Object newValue;
+
+    public PlanningVariableChange(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
+            Object oldValue, Object newValue) {
+        this.entity = entity;
+        this.variableDescriptor = variableDescriptor;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * @return never null, the planning entity instance of the new solution
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return never null
+     */
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getVariableName() {
+        return variableDescriptor.getVariableName();
+    }
+
+    /**
+     * @return sometimes null, the value in the old solution,
+     *         null if the variable was uninitialized or if the entity did not exist in the old solution
+     */
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * @return sometimes null, the value in the new solution
+     */
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return entity + "." + getVariableName() + " (" + oldValue + " -> " + newValue + ")";
+    }
+
+}
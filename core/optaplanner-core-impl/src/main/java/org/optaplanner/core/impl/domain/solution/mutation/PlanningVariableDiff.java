@@ -0,0 +1,82 @@
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+
+/**
+ * The genuine planning variables that differ between an old solution and a new solution,
+ * for example between the problem loaded from a database and the best solution.
+ * A persistence layer writes only these changes back, instead of every planning entity.
+ * Immutable.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see PlanningVariableDiffer
+ */
+public final class PlanningVariableDiff<Solution_> {
+
+    private final List<PlanningVariableChange<Solution_>> changeList;
+
+    public PlanningVariableDiff(List<PlanningVariableChange<Solution_>> changeList) {
+        this.changeList = Collections.unmodifiableList(changeList);
+    }
+
+    /**
+     * @return never null, in the order of the entities in the new solution
+     */
+    public List<PlanningVariableChange<Solution_>> getChangeList() {
+        return changeList;
+    }
+
+    public boolean isEmpty() {
+        return changeList.isEmpty();
+    }
+
+    /**
+     * @return {@code >= 0}
+     */
+    public int getChangeCount() {
+        return changeList.size();
+    }
+
+    /**
+     * @return never null, every planning entity of the new solution with at least one changed variable, without duplicates
+     */
+    public List<Object> getChangedEntityList() {
+        Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>(changeList.size()));
+        List<Object> entityList = new ArrayList<>(changeList.size());
+        for (PlanningVariableChange<Solution_> change : changeList) {
+            if (entitySet.add(change.getEntity())) {
+                entityList.add(change.getEntity());
+            }
+        }
+        return entityList;
+    }
+
+    /**
+     * Groups the changes per variable, so each group can be flushed as a single batch.
+     *
+     * @return never null, the changes per variable, in the order in which each variable first changed
+     */
+    public Map<GenuineVariableDescriptor<Solution_>, List<PlanningVariableChange<Solution_>>> getChangeListByVariable() {
+        Map<GenuineVariableDescriptor<Solution_>, List<PlanningVariableChange<Solution_>>> changeListMap =
+                new LinkedHashMap<>();
+        for (PlanningVariableChange<Solution_> change : changeList) {
+            changeListMap.computeIfAbsent(change.getVariableDescriptor(), k -> new ArrayList<>()).add(change);
+        }
+        return changeListMap;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanningVariableDiff(" + changeList.size() + " changes)";
+    }
+
+}
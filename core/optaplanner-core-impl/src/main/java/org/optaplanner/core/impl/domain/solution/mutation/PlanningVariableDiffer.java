@@ -0,0 +1,148 @@
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+
+/**
+ * Calculates which genuine planning variables differ between an old and a new solution,
+ * typically the problem as it was loaded and the best solution, which is a planning clone of it.
+ * <p>
+ * The entities of both solutions are matched by their {@link PlanningId}.
+ * For an entity class without a {@link PlanningId}, they are matched by their position in the entity collection,
+ * just like {@link MutationCounter} does.
+ * Values are compared by identity, except values with a {@link PlanningId}
+ * (such as the planning clones of the entities in a chained variable), which are compared by that id.
+ * A list variable is compared element by element.
+ * An entity that only exists in the new solution has all its non-null variables reported as changed.
+ * An entity that only exists in the old solution is ignored.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class PlanningVariableDiffer<Solution_> {
+
+    protected final SolutionDescriptor<Solution_> solutionDescriptor;
+
+    public PlanningVariableDiffer(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    /**
+     * @param oldSolution never null, for example the solution as it was loaded from the database
+     * @param newSolution never null, for example the best solution
+     * @return never null
+     */
+    public PlanningVariableDiff<Solution_> diff(Solution_ oldSolution, Solution_ newSolution) {
+        // Not shared between calls, so the differ remains thread-safe
+        Map<Class<?>, MemberAccessor> planningIdAccessorMap = new HashMap<>();
+        List<PlanningVariableChange<Solution_>> changeList = new ArrayList<>();
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            List<Object> oldEntities = entityDescriptor.extractEntities(oldSolution);
+            List<Object> newEntities = entityDescriptor.extractEntities(newSolution);
+            Map<Object, Object> oldEntityMap = null;
+            if (findPlanningIdAccessor(planningIdAccessorMap, entityDescriptor.getEntityClass()) != null) {
+                oldEntityMap = new HashMap<>(oldEntities.size());
+                for (Object oldEntity : oldEntities) {
+                    oldEntityMap.put(extractPlanningId(planningIdAccessorMap, oldEntity), oldEntity);
+                }
+            }
+            for (int i = 0; i < newEntities.size(); i++) {
+                Object newEntity = newEntities.get(i);
+                Object oldEntity;
+                if (oldEntityMap != null) {
+                    oldEntity = oldEntityMap.get(extractPlanningId(planningIdAccessorMap, newEntity));
+                } else {
+                    oldEntity = i < oldEntities.size() ? oldEntities.get(i) : null;
+                }
+                for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                        .getGenuineVariableDescriptorList()) {
+                    Object oldValue = oldEntity == null ? null : variableDescriptor.getValue(oldEntity);
+                    Object newValue = variableDescriptor.getValue(newEntity);
+                    boolean equal = variableDescriptor.isListVariable()
+                            ? areListValuesEqual(planningIdAccessorMap, (List<?>) oldValue, (List<?>) newValue)
+                            : areValuesEqual(planningIdAccessorMap, oldValue, newValue);
+                    if (!equal) {
+                        changeList.add(new PlanningVariableChange<>(newEntity, variableDescriptor, oldValue, newValue));
+                    }
+                }
+            }
+        }
+        return new PlanningVariableDiff<>(changeList);
+    }
+
+    private boolean areListValuesEqual(Map<Class<?>, MemberAccessor> planningIdAccessorMap,
+            List<?> oldValueList, List<?> newValueList) {
+        if (oldValueList == newValueList) {
+            return true;
+        }
+        int oldSize = oldValueList == null ? 0 : oldValueList.size();
+        int newSize = newValueList == null ? 0 : newValueList.size();
+        if (oldSize != newSize) {
+            return false;
+        }
+        for (int i = 0; i < newSize; i++) {
+            if (!areValuesEqual(planningIdAccessorMap, oldValueList.get(i), newValueList.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean areValuesEqual(Map<Class<?>, MemberAccessor> planningIdAccessorMap, Object oldValue, Object newValue) {
+        if (oldValue == newValue) {
+            return true;
+        }
+        if (oldValue == null || newValue == null || oldValue.getClass() != newValue.getClass()) {
+            return false;
+        }
+        if (findPlanningIdAccessor(planningIdAccessorMap, newValue.getClass()) == null) {
+            return false;
+        }
+        return Objects.equals(extractPlanningId(planningIdAccessorMap, oldValue),
+                extractPlanningId(planningIdAccessorMap, newValue));
+    }
+
+    private Object extractPlanningId(Map<Class<?>, MemberAccessor> planningIdAccessorMap, Object object) {
+        MemberAccessor planningIdAccessor = findPlanningIdAccessor(planningIdAccessorMap, object.getClass());
+        if (planningIdAccessor == null) {
+            throw new IllegalArgumentException("The class (" + object.getClass()
+                    + ") of the object (" + object + ") does not have a @" + PlanningId.class.getSimpleName()
+                    + " annotation, although its superclass does.\n"
+                    + "Maybe add the @" + PlanningId.class.getSimpleName() + " annotation to that class too.");
+        }
+        Object planningId = planningIdAccessor.executeGetter(object);
+        if (planningId == null) {
+            throw new IllegalArgumentException("The planningId (" + planningId
+                    + ") of the member (" + planningIdAccessor + ") of the class (" + object.getClass()
+                    + ") on object (" + object + ") must not be null.\n"
+                    + "Maybe initialize the planningId of the original object before solving.");
+        }
+        return planningId;
+    }
+
+    private MemberAccessor findPlanningIdAccessor(Map<Class<?>, MemberAccessor> planningIdAccessorMap, Class<?> clazz) {
+        if (planningIdAccessorMap.containsKey(clazz)) {
+            return planningIdAccessorMap.get(clazz);
+        }
+        MemberAccessor planningIdAccessor = ConfigUtils.findPlanningIdMemberAccessor(clazz,
+                solutionDescriptor.getMemberAccessorFactory(), solutionDescriptor.getDomainAccessType());
+        planningIdAccessorMap.put(clazz, planningIdAccessor);
+        return planningIdAccessor;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanningVariableDiffer(" + solutionDescriptor + ")";
+    }
+
+}
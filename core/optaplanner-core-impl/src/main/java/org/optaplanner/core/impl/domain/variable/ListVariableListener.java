@@ -20,4 +20,68 @@ public interface ListVariableListener<Solution_, Entity_> extends AbstractVariab
     void afterElementMoved(ScoreDirector<Solution_> scoreDirector,
             Entity_ sourceEntity, int sourceIndex,
             Entity_ destinationEntity, int destinationIndex);
+
+    /**
+     * The list variable of the {@code entity} is about to change between {@code fromIndex} (inclusive)
+     * and {@code toIndex} (exclusive).
+     * The elements in that range are about to be replaced, removed or reordered,
+     * and new elements might be inserted in it.
+     * <p>
+     * If the same entity's list variable changes multiple times before the variable listeners are triggered,
+     * this method is only called before the first change, with the range of that first change.
+     * <p>
+     * The built-in list moves call this method instead of the per element methods.
+     * Unless overridden, it calls {@link #beforeElementAdded(ScoreDirector, Object, int)} for an empty range
+     * (an insertion at {@code fromIndex})
+     * and {@link #beforeElementRemoved(ScoreDirector, Object, int)} for every index of a nonempty range,
+     * from the highest index to the lowest.
+     *
+     * @param scoreDirector never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, low endpoint (inclusive) of the range before the change
+     * @param toIndex {@code >= fromIndex}, high endpoint (exclusive) of the range before the change
+     */
+    default void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity, int fromIndex,
+            int toIndex) {
+        if (fromIndex == toIndex) {
+            beforeElementAdded(scoreDirector, entity, fromIndex);
+        } else {
+            for (int i = toIndex - 1; i >= fromIndex; i--) {
+                beforeElementRemoved(scoreDirector, entity, i);
+            }
+        }
+    }
+
+    /**
+     * The list variable of the {@code entity} has changed between {@code fromIndex} (inclusive)
+     * and {@code toIndex} (exclusive).
+     * If the size of the list variable changed, the index of every element after the range changed too.
+     * <p>
+     * Multiple changes of the same entity's list variable before the variable listeners are triggered
+     * are coalesced into a single call with a range that covers all of them.
+     * This method is called exactly once for every call of
+     * {@link #beforeListVariableChanged(ScoreDirector, Object, int, int)}.
+     * <p>
+     * The built-in list moves call this method instead of the per element methods.
+     * Unless overridden, it calls {@link #afterElementRemoved(ScoreDirector, Object, int)} for an empty range
+     * (a removal at {@code fromIndex})
+     * and {@link #afterElementAdded(ScoreDirector, Object, int)} for every index of a nonempty range,
+     * from the lowest index to the highest.
+     * Both per element methods imply that the elements after the index might have shifted.
+     *
+     * @param scoreDirector never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, low endpoint (inclusive) of the range after the change
+     * @param toIndex {@code >= fromIndex}, high endpoint (exclusive) of the range after the change
+     */
+    default void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity, int fromIndex,
+            int toIndex) {
+        if (fromIndex == toIndex) {
+            afterElementRemoved(scoreDirector, entity, fromIndex);
+        } else {
+            for (int i = fromIndex; i < toIndex; i++) {
+                afterElementAdded(scoreDirector, entity, i);
+            }
+        }
+    }
 }
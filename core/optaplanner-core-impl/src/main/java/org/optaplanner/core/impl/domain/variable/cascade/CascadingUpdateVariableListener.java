@@ -0,0 +1,141 @@
+package org.optaplanner.core.impl.domain.variable.cascade;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link VariableListener} for a shadow variable whose value depends on the shadow variable of the previous entity
+ * in a chain or a list, such as an arrival time or a start time.
+ * <p>
+ * A change is cascaded forward from the changed entity, but only until the shadow value stops changing.
+ * All entities notified within the same move are first registered as pending
+ * (because every before notification is triggered before any after notification),
+ * so a cascade walks over pending entities instead of stopping early
+ * and every entity is recalculated at most once per cascade.
+ * An entity whose previous entity is still pending is skipped, because the cascade of that previous entity covers it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Entity_> the entity type on which the shadow variable is declared
+ * @param <Value_> the type of the shadow variable
+ */
+public abstract class CascadingUpdateVariableListener<Solution_, Entity_, Value_>
+        implements VariableListener<Solution_, Entity_> {
+
+    protected final String shadowVariableName;
+
+    private final Set<Entity_> pendingEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    protected CascadingUpdateVariableListener(String shadowVariableName) {
+        this.shadowVariableName = Objects.requireNonNull(shadowVariableName);
+    }
+
+    /**
+     * @param entity never null
+     * @return null if the entity is the first one of its chain or list, or if it is not assigned
+     */
+    protected abstract Entity_ getPreviousEntity(Entity_ entity);
+
+    /**
+     * @param entity never null
+     * @return null if the entity is the last one of its chain or list, or if it is not assigned
+     */
+    protected abstract Entity_ getNextEntity(Entity_ entity);
+
+    /**
+     * Called after the shadow variable of the {@link #getPreviousEntity(Object) previous entity} is up-to-date.
+     *
+     * @param entity never null
+     * @return the new value of the shadow variable, sometimes null
+     */
+    protected abstract Value_ calculateShadowValue(Entity_ entity);
+
+    /**
+     * @param entity never null
+     * @return the current value of the shadow variable, sometimes null
+     */
+    protected abstract Value_ getShadowValue(Entity_ entity);
+
+    /**
+     * @param entity never null
+     * @param value sometimes null
+     */
+    protected abstract void setShadowValue(Entity_ entity, Value_ value);
+
+    @Override
+    public boolean requiresUniqueEntityEvents() {
+        return true;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        pendingEntitySet.add(entity);
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        cascade(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        pendingEntitySet.add(entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        cascade(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        pendingEntitySet.remove(entity);
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        pendingEntitySet.clear();
+    }
+
+    @Override
+    public void close() {
+        pendingEntitySet.clear();
+    }
+
+    protected void cascade(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        if (!pendingEntitySet.contains(entity)) {
+            // Already recalculated by the cascade of an entity earlier in the same chain or list
+            return;
+        }
+        Entity_ previousEntity = getPreviousEntity(entity);
+        if (previousEntity != null && pendingEntitySet.contains(previousEntity)) {
+            // The cascade of the previous entity will recalculate this entity too
+            return;
+        }
+        Entity_ shadowEntity = entity;
+        while (shadowEntity != null) {
+            boolean pending = pendingEntitySet.remove(shadowEntity);
+            Value_ shadowValue = calculateShadowValue(shadowEntity);
+            if (!Objects.equals(getShadowValue(shadowEntity), shadowValue)) {
+                scoreDirector.beforeVariableChanged(shadowEntity, shadowVariableName);
+                setShadowValue(shadowEntity, shadowValue);
+                scoreDirector.afterVariableChanged(shadowEntity, shadowVariableName);
+            } else if (!pending) {
+                // Unchanged and not changed by the move itself, so the rest of the chain or list is unaffected
+                return;
+            }
+            shadowEntity = getNextEntity(shadowEntity);
+        }
+    }
+
+}
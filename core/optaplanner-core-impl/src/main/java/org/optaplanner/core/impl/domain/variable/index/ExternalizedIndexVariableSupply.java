@@ -61,7 +61,7 @@ public class ExternalizedIndexVariableSupply<Solution_> implements
 
     @Override
     public void afterElementAdded(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
-        updateIndexes(entity, index);
+        updateIndexes(entity, index, index + 1);
     }
 
     @Override
@@ -79,7 +79,7 @@ public class ExternalizedIndexVariableSupply<Solution_> implements
 
     @Override
     public void afterElementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
-        updateIndexes(entity, index);
+        updateIndexes(entity, index, index + 1);
     }
 
     @Override
@@ -91,8 +91,20 @@ public class ExternalizedIndexVariableSupply<Solution_> implements
     @Override
     public void afterElementMoved(ScoreDirector<Solution_> scoreDirector,
             Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
-        updateIndexes(sourceEntity, sourceIndex);
-        updateIndexes(destinationEntity, destinationIndex);
+        updateIndexes(sourceEntity, sourceIndex, sourceIndex + 1);
+        updateIndexes(destinationEntity, destinationIndex, destinationIndex + 1);
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        updateIndexes(entity, fromIndex, toIndex);
     }
 
     @Override
@@ -138,13 +150,13 @@ public class ExternalizedIndexVariableSupply<Solution_> implements
         }
     }
 
-    private void updateIndexes(Object entity, int startIndex) {
+    private void updateIndexes(Object entity, int fromIndex, int toIndex) {
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int index = startIndex; index < listVariable.size(); index++) {
+        for (int index = fromIndex; index < listVariable.size(); index++) {
             Object element = listVariable.get(index);
             Integer oldIndex = indexMap.put(element, index);
-            // The first element is allowed to have a null oldIndex because it might have been just assigned.
-            if (oldIndex == null && index != startIndex) {
+            // The elements in the changed range are allowed to have a null oldIndex because they might have been just assigned.
+            if (oldIndex == null && index >= toIndex) {
                 throw new IllegalStateException("The supply (" + this + ") is corrupted,"
                         + " because the element (" + element
                         + ") at index (" + index
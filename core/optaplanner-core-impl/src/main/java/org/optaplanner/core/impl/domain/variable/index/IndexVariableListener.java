@@ -27,7 +27,7 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
 
     @Override
     public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
-        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, 0);
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, 0, 1);
     }
 
     @Override
@@ -53,7 +53,7 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
 
     @Override
     public void afterElementAdded(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
-        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, index);
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, index, index + 1);
     }
 
     @Override
@@ -67,7 +67,7 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
 
     @Override
     public void afterElementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
-        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, index);
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, index, index + 1);
     }
 
     @Override
@@ -82,22 +82,39 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
             Object sourceEntity, int sourceIndex,
             Object destinationEntity, int destinationIndex) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
-        updateIndexes(innerScoreDirector, sourceEntity, sourceIndex);
-        updateIndexes(innerScoreDirector, destinationEntity, destinationIndex);
+        updateIndexes(innerScoreDirector, sourceEntity, sourceIndex, sourceIndex + 1);
+        updateIndexes(innerScoreDirector, destinationEntity, destinationIndex, destinationIndex + 1);
     }
 
-    private void updateIndexes(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity, int startIndex) {
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        updateIndexes((InnerScoreDirector<Solution_, ?>) scoreDirector, entity, fromIndex, toIndex);
+    }
+
+    /**
+     * Updates the indexes of the elements from {@code fromIndex} onwards,
+     * until the end of the list or until an element after the changed range already has the expected index.
+     */
+    private void updateIndexes(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = startIndex; i < listVariable.size(); i++) {
+        for (int i = fromIndex; i < listVariable.size(); i++) {
             Object element = listVariable.get(i);
             Integer oldIndex = shadowVariableDescriptor.getValue(element);
             if (!Objects.equals(oldIndex, i)) {
                 scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
                 shadowVariableDescriptor.setValue(element, i);
                 scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
-            } else if (i != startIndex) {
+            } else if (i >= toIndex) {
                 // It is possible to quit early when an element with the expected index is encountered
-                // and **if it's not the moved element**. For example, when X is moved from Ann[3] to Beth[3],
+                // and **if it's not in the changed range**. For example, when X is moved from Ann[3] to Beth[3],
                 // we need to start updating Beth's elements at index 3 where X already has the expected index, but quitting
                 // there would be incorrect because all the elements after X need their indexes incremented.
                 return;
@@ -106,6 +106,20 @@ public class ExternalizedSingletonListInverseVariableSupply<Solution_> implement
         }
     }
 
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        for (Object element : sourceVariableDescriptor.getListVariable(entity).subList(fromIndex, toIndex)) {
+            inverseEntityMap.put(element, entity);
+        }
+    }
+
     @Override
     public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
         // Do nothing
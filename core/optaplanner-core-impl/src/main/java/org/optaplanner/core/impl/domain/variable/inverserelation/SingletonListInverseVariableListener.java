@@ -1,5 +1,7 @@
 package org.optaplanner.core.impl.domain.variable.inverserelation;
 
+import java.util.List;
+
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.variable.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -85,6 +87,27 @@ public class SingletonListInverseVariableListener<Solution_>
                 sourceVariableDescriptor.getElement(destinationEntity, destinationIndex), destinationEntity, sourceEntity);
     }
 
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
+        // The elements outside the range cannot have changed their entity, so it is enough to visit the range.
+        for (Object element : listVariable.subList(fromIndex, toIndex)) {
+            if (shadowVariableDescriptor.getValue(element) != entity) {
+                innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+                shadowVariableDescriptor.setValue(element, entity);
+                innerScoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+            }
+        }
+    }
+
     private void setInverse(InnerScoreDirector<Solution_, ?> scoreDirector,
             Object element, Object inverseEntity, Object expectedOldInverseEntity) {
         Object oldInverseEntity = shadowVariableDescriptor.getValue(element);
@@ -68,6 +68,24 @@ abstract class AbstractNotifiable<Solution_, T extends AbstractVariableListener<
         }
     }
 
+    /**
+     * Triggers the "before" method of the notification immediately, without queueing the notification.
+     *
+     * @param notification never null
+     */
+    protected void triggerBefore(Notification<Solution_, T> notification) {
+        notification.triggerBefore(variableListener, scoreDirector);
+    }
+
+    /**
+     * Queues the notification to trigger its "after" method later, without triggering its "before" method.
+     *
+     * @param notification never null
+     */
+    protected void queueAfter(Notification<Solution_, T> notification) {
+        notificationQueue.add(notification);
+    }
+
     @Override
     public void resetWorkingSolution() {
         variableListener.resetWorkingSolution(scoreDirector);
@@ -0,0 +1,74 @@
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.ListVariableListener;
+
+final class ListVariableChangedNotification<Solution_> extends AbstractNotification
+        implements ListVariableNotification<Solution_> {
+
+    private int fromIndex;
+    private int toIndex;
+    private int changeCount = 0;
+    private int beforeChangeListSize = -1;
+
+    /**
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, low endpoint (inclusive) of the range of the first change, before it
+     * @param toIndex {@code >= fromIndex}, high endpoint (exclusive) of the range of the first change, before it
+     */
+    ListVariableChangedNotification(Object entity, int fromIndex, int toIndex) {
+        super(entity);
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * @param listSize {@code >= 0}, the size of the list variable before the next change
+     */
+    void beforeChange(int listSize) {
+        beforeChangeListSize = listSize;
+    }
+
+    /**
+     * Widens the range of this notification so it also covers the change that just happened.
+     * Every range is in the coordinates of the list variable right after its own change,
+     * so a later change that inserts or removes elements shifts the ranges of the earlier changes.
+     *
+     * @param changeFromIndex {@code >= 0}, low endpoint (inclusive) of the range of the change, after it
+     * @param changeToIndex {@code >= changeFromIndex}, high endpoint (exclusive) of the range of the change, after it
+     * @param listSize {@code >= 0}, the size of the list variable after the change
+     */
+    void afterChange(int changeFromIndex, int changeToIndex, int listSize) {
+        if (changeCount == 0) {
+            fromIndex = changeFromIndex;
+            toIndex = changeToIndex;
+        } else {
+            // No change touches the elements before the lowest fromIndex, so they keep their index
+            fromIndex = Math.min(fromIndex, changeFromIndex);
+            if (listSize != beforeChangeListSize) {
+                // The earlier ranges might have shifted, so every element after fromIndex might have changed
+                toIndex = listSize;
+            } else {
+                toIndex = Math.max(toIndex, changeToIndex);
+            }
+        }
+        changeCount++;
+    }
+
+    @Override
+    public void triggerBefore(ListVariableListener<Solution_, Object> variableListener,
+            ScoreDirector<Solution_> scoreDirector) {
+        variableListener.beforeListVariableChanged(scoreDirector, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void triggerAfter(ListVariableListener<Solution_, Object> variableListener,
+            ScoreDirector<Solution_> scoreDirector) {
+        variableListener.afterListVariableChanged(scoreDirector, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "ListVariableChanged(" + entity + "[" + fromIndex + ".." + toIndex + "])";
+    }
+}
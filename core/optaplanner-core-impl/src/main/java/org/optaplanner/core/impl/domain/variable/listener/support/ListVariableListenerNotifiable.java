@@ -1,5 +1,8 @@
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.variable.ListVariableListener;
@@ -7,16 +10,49 @@ import org.optaplanner.core.impl.domain.variable.ListVariableListener;
 /**
  * A notifiable specialized to receive {@link ListVariableNotification}s and trigger them on a given
  * {@link ListVariableListener}.
+ * <p>
+ * Ranged list variable changes of the same entity are coalesced into one notification until they are triggered,
+ * so that both the "before" and the "after" method of the variable listener are called only once per entity.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 final class ListVariableListenerNotifiable<Solution_>
         extends AbstractNotifiable<Solution_, ListVariableListener<Solution_, Object>> {
 
+    private final Map<Object, ListVariableChangedNotification<Solution_>> pendingChangedNotificationMap =
+            new IdentityHashMap<>();
+
     ListVariableListenerNotifiable(
             ScoreDirector<Solution_> scoreDirector,
             ListVariableListener<Solution_, Object> variableListener,
             int globalOrder) {
         super(scoreDirector, variableListener, globalOrder);
     }
+
+    void notifyBeforeListVariableChanged(Object entity, int fromIndex, int toIndex, int listSize) {
+        ListVariableChangedNotification<Solution_> pendingNotification = pendingChangedNotificationMap.get(entity);
+        if (pendingNotification == null) {
+            pendingNotification = new ListVariableChangedNotification<>(entity, fromIndex, toIndex);
+            pendingChangedNotificationMap.put(entity, pendingNotification);
+            triggerBefore(pendingNotification);
+            queueAfter(pendingNotification);
+        }
+        // Otherwise the variable listener has already been told that this entity's list variable is about to change
+        pendingNotification.beforeChange(listSize);
+    }
+
+    void notifyAfterListVariableChanged(Object entity, int fromIndex, int toIndex, int listSize) {
+        ListVariableChangedNotification<Solution_> pendingNotification = pendingChangedNotificationMap.get(entity);
+        if (pendingNotification == null) {
+            throw new IllegalStateException("The afterListVariableChanged() of the entity (" + entity
+                    + ") is not preceded by a beforeListVariableChanged().");
+        }
+        pendingNotification.afterChange(fromIndex, toIndex, listSize);
+    }
+
+    @Override
+    public void triggerAllNotifications() {
+        super.triggerAllNotifications();
+        pendingChangedNotificationMap.clear();
+    }
 }
@@ -175,6 +175,29 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         }
     }
 
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        Collection<ListVariableListenerNotifiable<Solution_>> notifiables = notifiableRegistry.get(variableDescriptor);
+        if (!notifiables.isEmpty()) {
+            int listSize = variableDescriptor.getListSize(entity);
+            for (ListVariableListenerNotifiable<Solution_> notifiable : notifiables) {
+                notifiable.notifyBeforeListVariableChanged(entity, fromIndex, toIndex, listSize);
+            }
+        }
+    }
+
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        Collection<ListVariableListenerNotifiable<Solution_>> notifiables = notifiableRegistry.get(variableDescriptor);
+        if (!notifiables.isEmpty()) {
+            int listSize = variableDescriptor.getListSize(entity);
+            for (ListVariableListenerNotifiable<Solution_> notifiable : notifiables) {
+                notifiable.notifyAfterListVariableChanged(entity, fromIndex, toIndex, listSize);
+            }
+            notificationQueuesAreEmpty = false;
+        }
+    }
+
     public void triggerVariableListenersInNotificationQueues() {
         for (Notifiable notifiable : notifiableRegistry.getAll()) {
             notifiable.triggerAllNotifications();
@@ -215,8 +238,16 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         EntityDescriptor<Solution_> entityDescriptor = scoreDirector.getSolutionDescriptor()
                 .findEntityDescriptorOrFail(entity.getClass());
         for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
-            // No change
-            beforeVariableChanged(variableDescriptor, entity);
+            if (variableDescriptor.isGenuineListVariable()) {
+                // No change
+                ListVariableDescriptor<Solution_> listVariableDescriptor = (ListVariableDescriptor<Solution_>) variableDescriptor;
+                int listSize = listVariableDescriptor.getListSize(entity);
+                beforeListVariableChanged(listVariableDescriptor, entity, 0, listSize);
+                afterListVariableChanged(listVariableDescriptor, entity, 0, listSize);
+            } else {
+                // No change
+                beforeVariableChanged(variableDescriptor, entity);
+            }
         }
     }
 
@@ -0,0 +1,60 @@
+package org.optaplanner.core.impl.domain.variable.tracking;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+
+public class ChangeTrackingDemand<Solution_> implements Demand<ChangeTrackingSupply> {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public ChangeTrackingDemand(VariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public ChangeTrackingSupply createExternalizedSupply(SupplyManager supplyManager) {
+        if (sourceVariableDescriptor instanceof ListVariableDescriptor) {
+            // A list variable is not notified as a basic variable
+            return new ExternalizedListChangeTrackingSupply<>((ListVariableDescriptor<Solution_>) sourceVariableDescriptor);
+        }
+        return new ExternalizedChangeTrackingSupply<>(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChangeTrackingDemand)) {
+            return false;
+        }
+        ChangeTrackingDemand<Solution_> other = (ChangeTrackingDemand<Solution_>) o;
+        if (!sourceVariableDescriptor.equals(other.sourceVariableDescriptor)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ChangeTrackingDemand.class.getName(), sourceVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.optaplanner.core.impl.domain.variable.tracking;
+
+import java.util.Set;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Tracks which entities and planning values are touched by changes of a single variable,
+ * so a subsystem can invalidate only the information that depends on them.
+ * Nothing is tracked until {@link #startTracking()} is called.
+ * <p>
+ * To get an instance, demand a {@link ChangeTrackingDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ChangeTrackingSupply extends Supply {
+
+    /**
+     * Starts with an empty set of changed objects.
+     */
+    void startTracking();
+
+    /**
+     * Forgets the changed objects, because the supply can't be removed from its score director.
+     */
+    void stopTracking();
+
+    /**
+     * Returns the changed objects since the previous call and starts with an empty set of changed objects again.
+     *
+     * @return never null, the entities of which the variable changed
+     *         and the planning values of a genuine variable before and after the change,
+     *         which for a list variable are the elements in the changed range
+     */
+    Set<Object> pollChangedObjects();
+
+}
@@ -0,0 +1,114 @@
+package org.optaplanner.core.impl.domain.variable.tracking;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+public class ExternalizedChangeTrackingSupply<Solution_> implements
+        SourcedVariableListener<Solution_>,
+        VariableListener<Solution_, Object>,
+        ChangeTrackingSupply {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+    protected final boolean genuine;
+
+    protected Set<Object> changedObjectSet = null;
+
+    public ExternalizedChangeTrackingSupply(VariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        // The value of a shadow variable is not a planning value
+        genuine = sourceVariableDescriptor instanceof GenuineVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void startTracking() {
+        changedObjectSet = new HashSet<>();
+    }
+
+    @Override
+    public void stopTracking() {
+        changedObjectSet = null;
+    }
+
+    @Override
+    public Set<Object> pollChangedObjects() {
+        if (changedObjectSet == null) {
+            return Collections.emptySet();
+        }
+        Set<Object> polledChangedObjectSet = changedObjectSet;
+        changedObjectSet = new HashSet<>();
+        return polledChangedObjectSet;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        if (changedObjectSet != null) {
+            changedObjectSet.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        changedObjectSet = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity) {
+        if (changedObjectSet == null) {
+            return;
+        }
+        changedObjectSet.add(entity);
+        if (genuine) {
+            Object value = sourceVariableDescriptor.getValue(entity);
+            if (value != null) {
+                changedObjectSet.add(value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.optaplanner.core.impl.domain.variable.tracking;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.ListVariableListener;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Alternative to {@link ExternalizedChangeTrackingSupply} for a list variable.
+ */
+public class ExternalizedListChangeTrackingSupply<Solution_> implements
+        SourcedVariableListener<Solution_>,
+        ListVariableListener<Solution_, Object>,
+        ChangeTrackingSupply {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    protected Set<Object> changedObjectSet = null;
+
+    public ExternalizedListChangeTrackingSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void startTracking() {
+        changedObjectSet = new HashSet<>();
+    }
+
+    @Override
+    public void stopTracking() {
+        changedObjectSet = null;
+    }
+
+    @Override
+    public Set<Object> pollChangedObjects() {
+        if (changedObjectSet == null) {
+            return Collections.emptySet();
+        }
+        Set<Object> polledChangedObjectSet = changedObjectSet;
+        changedObjectSet = new HashSet<>();
+        return polledChangedObjectSet;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        if (changedObjectSet != null) {
+            changedObjectSet.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        changedObjectSet = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity, 0, sourceVariableDescriptor.getListSize(entity));
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity, 0, sourceVariableDescriptor.getListSize(entity));
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeElementAdded(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
+        // The elements after the index shift, so the entity changes
+        insert(entity, index, index);
+    }
+
+    @Override
+    public void afterElementAdded(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
+        insert(entity, index, index + 1);
+    }
+
+    @Override
+    public void beforeElementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
+        insert(entity, index, index + 1);
+    }
+
+    @Override
+    public void afterElementRemoved(ScoreDirector<Solution_> scoreDirector, Object entity, int index) {
+        insert(entity, index, index);
+    }
+
+    @Override
+    public void beforeElementMoved(ScoreDirector<Solution_> scoreDirector,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
+        insert(sourceEntity, sourceIndex, sourceIndex + 1);
+        insert(destinationEntity, destinationIndex, destinationIndex);
+    }
+
+    @Override
+    public void afterElementMoved(ScoreDirector<Solution_> scoreDirector,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
+        insert(sourceEntity, sourceIndex, sourceIndex);
+        insert(destinationEntity, destinationIndex, destinationIndex + 1);
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        insert(entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex,
+            int toIndex) {
+        insert(entity, fromIndex, toIndex);
+    }
+
+    /**
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, inclusive
+     * @param toIndex {@code >= fromIndex}, exclusive
+     */
+    protected void insert(Object entity, int fromIndex, int toIndex) {
+        if (changedObjectSet == null) {
+            return;
+        }
+        changedObjectSet.add(entity);
+        // The elements of the list variable are its planning values
+        for (int i = fromIndex; i < toIndex; i++) {
+            changedObjectSet.add(sourceVariableDescriptor.getElement(entity, i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
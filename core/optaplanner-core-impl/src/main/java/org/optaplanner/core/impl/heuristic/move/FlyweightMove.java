@@ -0,0 +1,23 @@
+package org.optaplanner.core.impl.heuristic.move;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+
+/**
+ * A {@link Move} instance that a move iterator reuses for every move it selects,
+ * so evaluating a move allocates neither the move nor its undo move.
+ * <p>
+ * Its state is only valid until the move iterator advances.
+ * Anything that retains the move longer, such as the picked step, must retain {@link #materialize()} instead.
+ * A flyweight move is only created by a {@link MoveSelector} after {@link MoveSelector#enableFlyweightMoves()}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface FlyweightMove<Solution_> extends Move<Solution_> {
+
+    /**
+     * @return never null, an immutable move that is {@link Object#equals(Object) equal} to the current state
+     */
+    Move<Solution_> materialize();
+
+}
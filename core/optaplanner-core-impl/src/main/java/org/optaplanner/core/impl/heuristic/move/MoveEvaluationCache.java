@@ -0,0 +1,333 @@
+package org.optaplanner.core.impl.heuristic.move;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.domain.variable.tracking.ChangeTrackingDemand;
+import org.optaplanner.core.impl.domain.variable.tracking.ChangeTrackingSupply;
+import org.optaplanner.core.impl.phase.scope.AbstractMoveScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the score difference of evaluated moves with the step score across steps,
+ * until a step changes one of the planning entities or planning values of a move.
+ * The variable listener notifications of the steps, tracked by a {@link ChangeTrackingSupply} per variable,
+ * tell which entities and planning values changed.
+ * Every cached move is indexed by its entities and values, so a step only removes the moves it affects.
+ * <p>
+ * A move is found in the cache by its {@link Object#equals(Object)}.
+ * The least recently used move is removed once the cache reaches its maximum size.
+ * <p>
+ * Because a constraint can also connect entities that don't share a planning value,
+ * {@link #pickVerifiedMove} evaluates the picked move again if its score difference is from an earlier step.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveEvaluationCache<Solution_> {
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected final String logIndentation;
+    protected final int maximumSize;
+
+    protected boolean assertMoveScoreFromScratch = false;
+    protected boolean assertExpectedUndoMoveScore = false;
+
+    protected SolutionDescriptor<Solution_> solutionDescriptor;
+    protected List<ChangeTrackingSupply> changeTrackingSupplyList;
+    protected Map<Move<Solution_>, CachedMove<Solution_>> cachedMoveMap;
+    protected Map<Object, Set<CachedMove<Solution_>>> planningObjectToCachedMoveSetMap;
+
+    /**
+     * @param maximumSize {@code > 0}
+     */
+    public MoveEvaluationCache(String logIndentation, int maximumSize) {
+        this.logIndentation = logIndentation;
+        this.maximumSize = maximumSize;
+    }
+
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+    }
+
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
+    }
+
+    public void phaseStarted(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        SupplyManager supplyManager = scoreDirector.getSupplyManager();
+        changeTrackingSupplyList = new ArrayList<>();
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getDeclaredVariableDescriptors()) {
+                ChangeTrackingSupply changeTrackingSupply =
+                        supplyManager.demand(new ChangeTrackingDemand<>(variableDescriptor));
+                changeTrackingSupply.startTracking();
+                changeTrackingSupplyList.add(changeTrackingSupply);
+            }
+        }
+        // Access order, to remove the least recently used move first
+        cachedMoveMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Move<Solution_>, CachedMove<Solution_>> eldest) {
+                if (size() <= maximumSize) {
+                    return false;
+                }
+                unindex(eldest.getValue());
+                return true;
+            }
+        };
+        planningObjectToCachedMoveSetMap = new HashMap<>();
+    }
+
+    public void phaseEnded() {
+        for (ChangeTrackingSupply changeTrackingSupply : changeTrackingSupplyList) {
+            changeTrackingSupply.stopTracking();
+        }
+        solutionDescriptor = null;
+        changeTrackingSupplyList = null;
+        cachedMoveMap = null;
+        planningObjectToCachedMoveSetMap = null;
+    }
+
+    /**
+     * Removes the moves of which a planning entity or planning value changed since the previous call
+     * of this method or {@link #ignoreChanges()}.
+     */
+    public void invalidateChangedMoves() {
+        for (ChangeTrackingSupply changeTrackingSupply : changeTrackingSupplyList) {
+            for (Object changedObject : changeTrackingSupply.pollChangedObjects()) {
+                Set<CachedMove<Solution_>> cachedMoveSet = planningObjectToCachedMoveSetMap.get(changedObject);
+                if (cachedMoveSet != null) {
+                    // Copied, because unindex() removes the moves from the set
+                    for (CachedMove<Solution_> cachedMove : new ArrayList<>(cachedMoveSet)) {
+                        cachedMoveMap.remove(cachedMove.move);
+                        unindex(cachedMove);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the changes since the previous call of this method or {@link #invalidateChangedMoves()},
+     * such as those of the evaluated moves, which have been undone.
+     */
+    public void ignoreChanges() {
+        for (ChangeTrackingSupply changeTrackingSupply : changeTrackingSupplyList) {
+            changeTrackingSupply.pollChangedObjects();
+        }
+    }
+
+    /**
+     * @param move never null
+     * @return null if the move is not cached
+     */
+    public CachedMove<Solution_> get(Move<Solution_> move) {
+        return cachedMoveMap.get(move);
+    }
+
+    /**
+     * @param move never null, not cached yet
+     * @param scoreDifference never null, the score of the move minus the score of the last step
+     * @param stepIndex the index of the step in which that score difference was calculated
+     * @return never null
+     */
+    public CachedMove<Solution_> put(Move<Solution_> move, Score scoreDifference, int stepIndex) {
+        CachedMove<Solution_> cachedMove = new CachedMove<>(move, findPlanningObjects(move),
+                scoreDifference, stepIndex);
+        for (Object planningObject : cachedMove.planningObjectList) {
+            planningObjectToCachedMoveSetMap.computeIfAbsent(planningObject, key -> new HashSet<>())
+                    .add(cachedMove);
+        }
+        cachedMoveMap.put(move, cachedMove);
+        return cachedMove;
+    }
+
+    /**
+     * Picks a move of which the score is verified in this step.
+     * If the picked move has a score difference from an earlier step, it is evaluated again.
+     * If that changes its score, all foraged moves are foraged again with their cached score difference,
+     * without evaluating them, and another move is picked.
+     * Every picked move is evaluated again at most once per step.
+     *
+     * @param stepScope never null
+     * @param foragedMoveScopeList never null, the foraged moves of this step, replaced when foraged again
+     * @param foragedCachedMoveList never null, the cached move of every foraged move, in the same order
+     * @param forager never null
+     * @param <MoveScope_> the move scope type of the phase
+     * @return null if no move is picked
+     */
+    public <MoveScope_ extends AbstractMoveScope<Solution_>> MoveScope_ pickVerifiedMove(
+            AbstractStepScope<Solution_> stepScope, List<MoveScope_> foragedMoveScopeList,
+            List<CachedMove<Solution_>> foragedCachedMoveList, CachedMoveForager<Solution_, MoveScope_> forager) {
+        MoveScope_ pickedMoveScope = forager.pickMove();
+        while (pickedMoveScope != null && !verifyPickedMove(stepScope,
+                foragedCachedMoveList.get(foragedMoveScopeList.indexOf(pickedMoveScope)), pickedMoveScope)) {
+            forager.restart();
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            for (int i = 0; i < foragedMoveScopeList.size(); i++) {
+                CachedMove<Solution_> cachedMove = foragedCachedMoveList.get(i);
+                MoveScope_ moveScope = forager.forage(foragedMoveScopeList.get(i).getMoveIndex(), cachedMove.getMove(),
+                        cachedMove.getScoreDifference().add(lastStepScore));
+                foragedMoveScopeList.set(i, moveScope);
+                if (forager.isQuitEarly()) {
+                    break;
+                }
+            }
+            pickedMoveScope = forager.pickMove();
+        }
+        return pickedMoveScope;
+    }
+
+    /**
+     * @param stepScope never null
+     * @param cachedMove never null
+     * @param pickedMoveScope never null
+     * @return true if the picked move has the score it was foraged with
+     */
+    private <Score_ extends Score<Score_>> boolean verifyPickedMove(AbstractStepScope<Solution_> stepScope,
+            CachedMove<Solution_> cachedMove, AbstractMoveScope<Solution_> pickedMoveScope) {
+        int stepIndex = stepScope.getStepIndex();
+        if (cachedMove.getScoreDifferenceStepIndex() == stepIndex) {
+            return true;
+        }
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        Score_ lastStepScore = (Score_) stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        Score_ score = scoreDirector.doAndProcessMove(cachedMove.getMove(), assertMoveScoreFromScratch);
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(cachedMove.getMove(), lastStepScore);
+        }
+        cachedMove.updateScoreDifference(score.subtract(lastStepScore), stepIndex);
+        if (score.equals(pickedMoveScope.getScore())) {
+            return true;
+        }
+        logger.trace("{}        Cached move ({}) changed score from ({}) to ({}).",
+                logIndentation, cachedMove.getMove(), pickedMoveScope.getScore(), score);
+        return false;
+    }
+
+    private List<Object> findPlanningObjects(Move<Solution_> move) {
+        List<Object> planningObjectList = new ArrayList<>();
+        for (Object entity : move.getPlanningEntities()) {
+            if (entity == null) {
+                continue;
+            }
+            planningObjectList.add(entity);
+            // The score difference also depends on the planning values the move changes away from
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptor(entity.getClass());
+            if (entityDescriptor != null) {
+                for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                        .getGenuineVariableDescriptorList()) {
+                    // A change of a list variable is tracked by its entity
+                    Object value = variableDescriptor.isListVariable() ? null : variableDescriptor.getValue(entity);
+                    if (value != null) {
+                        planningObjectList.add(value);
+                    }
+                }
+            }
+        }
+        for (Object value : move.getPlanningValues()) {
+            if (value != null) {
+                planningObjectList.add(value);
+            }
+        }
+        return planningObjectList;
+    }
+
+    private void unindex(CachedMove<Solution_> cachedMove) {
+        for (Object planningObject : cachedMove.planningObjectList) {
+            Set<CachedMove<Solution_>> cachedMoveSet = planningObjectToCachedMoveSetMap.get(planningObject);
+            if (cachedMoveSet != null) {
+                cachedMoveSet.remove(cachedMove);
+                if (cachedMoveSet.isEmpty()) {
+                    planningObjectToCachedMoveSetMap.remove(planningObject);
+                }
+            }
+        }
+    }
+
+    /**
+     * The forager of the phase, as seen by {@link #pickVerifiedMove}.
+     *
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @param <MoveScope_> the move scope type of the phase
+     */
+    public interface CachedMoveForager<Solution_, MoveScope_ extends AbstractMoveScope<Solution_>> {
+
+        /**
+         * @return null if no move is picked
+         */
+        MoveScope_ pickMove();
+
+        /**
+         * Forgets the foraged moves of this step.
+         */
+        void restart();
+
+        /**
+         * @param moveIndex the index of the move in this step
+         * @param move never null
+         * @param score never null, the cached score of the move
+         * @return never null, the new move scope of the move, which has been foraged
+         */
+        MoveScope_ forage(int moveIndex, Move<Solution_> move, Score score);
+
+        boolean isQuitEarly();
+
+    }
+
+    public static class CachedMove<Solution_> {
+
+        protected final Move<Solution_> move;
+        protected final List<Object> planningObjectList;
+        protected Score scoreDifference;
+        protected int scoreDifferenceStepIndex;
+
+        protected CachedMove(Move<Solution_> move, List<Object> planningObjectList,
+                Score scoreDifference, int scoreDifferenceStepIndex) {
+            this.move = move;
+            this.planningObjectList = planningObjectList;
+            this.scoreDifference = scoreDifference;
+            this.scoreDifferenceStepIndex = scoreDifferenceStepIndex;
+        }
+
+        public Move<Solution_> getMove() {
+            return move;
+        }
+
+        public Score getScoreDifference() {
+            return scoreDifference;
+        }
+
+        public int getScoreDifferenceStepIndex() {
+            return scoreDifferenceStepIndex;
+        }
+
+        /**
+         * @param scoreDifference never null, the score of the move minus the score of the last step
+         * @param scoreDifferenceStepIndex the index of the step in which that score difference was calculated
+         */
+        public void updateScoreDifference(Score scoreDifference, int scoreDifferenceStepIndex) {
+            this.scoreDifference = scoreDifference;
+            this.scoreDifferenceStepIndex = scoreDifferenceStepIndex;
+        }
+
+    }
+
+}
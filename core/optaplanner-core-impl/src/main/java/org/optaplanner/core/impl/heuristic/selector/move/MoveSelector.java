@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.heuristic.selector.move;
 
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.IterableSelector;
 
@@ -14,4 +15,16 @@ public interface MoveSelector<Solution_> extends IterableSelector<Solution_, Mov
         return false;
     }
 
+    /**
+     * Allows the iterators of this selector to return {@link FlyweightMove}s,
+     * so the caller must not retain a selected move after the iterator advances,
+     * unless it {@link FlyweightMove#materialize() materializes} it first.
+     * Decorators that retain moves (such as caching) must not pass this on to their child selectors.
+     *
+     * @return true if this selector or any of its child selectors might return {@link FlyweightMove}s
+     */
+    default boolean enableFlyweightMoves() {
+        return false;
+    }
+
 }
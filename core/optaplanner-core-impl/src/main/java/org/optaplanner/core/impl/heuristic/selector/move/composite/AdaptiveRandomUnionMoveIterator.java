@@ -0,0 +1,101 @@
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.solver.random.RandomUtils;
+
+/**
+ * Selects the child {@link MoveSelector}s with the probabilities learned by a {@link MoveSelectorBandit}
+ * and tells it which child supplied each move.
+ * Every selected move is also added to a list of the {@link UnionMoveSelector},
+ * which finds the picked move in it to reward the child that supplied it.
+ */
+final class AdaptiveRandomUnionMoveIterator<Solution_> extends SelectionIterator<Move<Solution_>> {
+
+    private final MoveSelectorBandit bandit;
+    private final List<Move<Solution_>> selectedMoveList;
+    private final Random workingRandom;
+    private final List<Iterator<Move<Solution_>>> moveIteratorList;
+    private final int[] activeChildIndexes;
+    private final double[] probabilityOffsets;
+    private int activeChildCount;
+    private double probabilityTotal;
+    private boolean stale;
+    // Checked lazily, because the hasNext() of a child can reset the flyweight move it returned last
+    private int lastChildIndex = -1;
+
+    public AdaptiveRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
+            MoveSelectorBandit bandit, List<Move<Solution_>> selectedMoveList, Random workingRandom) {
+        this.bandit = bandit;
+        this.selectedMoveList = selectedMoveList;
+        this.workingRandom = workingRandom;
+        int childCount = childMoveSelectorList.size();
+        this.moveIteratorList = new ArrayList<>(childCount);
+        for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
+            moveIteratorList.add(moveSelector.iterator());
+        }
+        this.activeChildIndexes = new int[childCount];
+        this.probabilityOffsets = new double[childCount];
+        this.stale = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        checkLastChildIndex();
+        if (stale) {
+            refreshProbabilityOffsets();
+        }
+        return activeChildCount > 0;
+    }
+
+    @Override
+    public Move<Solution_> next() {
+        checkLastChildIndex();
+        if (stale) {
+            refreshProbabilityOffsets();
+        }
+        double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityTotal);
+        int activeIndex = activeChildCount - 1;
+        // Few children, so a linear search beats a binary search
+        while (activeIndex > 0 && probabilityOffsets[activeIndex] > randomOffset) {
+            activeIndex--;
+        }
+        int childIndex = activeChildIndexes[activeIndex];
+        Move<Solution_> next = moveIteratorList.get(childIndex).next();
+        lastChildIndex = childIndex;
+        bandit.moveSelected(childIndex);
+        selectedMoveList.add(next);
+        return next;
+    }
+
+    private void checkLastChildIndex() {
+        if (lastChildIndex >= 0) {
+            if (!moveIteratorList.get(lastChildIndex).hasNext()) {
+                stale = true;
+            }
+            lastChildIndex = -1;
+        }
+    }
+
+    private void refreshProbabilityOffsets() {
+        activeChildCount = 0;
+        double probabilityOffset = 0.0;
+        for (int i = 0; i < moveIteratorList.size(); i++) {
+            if (moveIteratorList.get(i).hasNext()) {
+                activeChildIndexes[activeChildCount] = i;
+                probabilityOffsets[activeChildCount] = probabilityOffset;
+                activeChildCount++;
+                probabilityOffset += bandit.getProbability(i);
+            }
+        }
+        probabilityTotal = probabilityOffset;
+        stale = false;
+    }
+
+}
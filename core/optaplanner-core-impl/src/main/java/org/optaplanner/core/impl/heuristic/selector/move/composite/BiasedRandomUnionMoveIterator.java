@@ -21,6 +21,8 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
     private final Random workingRandom;
     private double probabilityWeightTotal;
     private boolean stale;
+    // Checked lazily, because the hasNext() of a child can reset the flyweight move it returned last
+    private Iterator<Move<Solution_>> lastMoveIterator = null;
 
     public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
             ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
@@ -41,6 +43,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
 
     @Override
     public boolean hasNext() {
+        checkLastMoveIterator();
         if (stale) {
             refreshMoveIteratorMap();
         }
@@ -49,6 +52,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
 
     @Override
     public Move<Solution_> next() {
+        checkLastMoveIterator();
         if (stale) {
             refreshMoveIteratorMap();
         }
@@ -57,12 +61,19 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         // The entry is never null because randomOffset < probabilityWeightTotal
         Iterator<Move<Solution_>> moveIterator = entry.getValue();
         Move<Solution_> next = moveIterator.next();
-        if (!moveIterator.hasNext()) {
-            stale = true;
-        }
+        lastMoveIterator = moveIterator;
         return next;
     }
 
+    private void checkLastMoveIterator() {
+        if (lastMoveIterator != null) {
+            if (!lastMoveIterator.hasNext()) {
+                stale = true;
+            }
+            lastMoveIterator = null;
+        }
+    }
+
     private void refreshMoveIteratorMap() {
         moveIteratorMap.clear();
         double probabilityWeightOffset = 0.0;
@@ -74,6 +85,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
             }
         }
         probabilityWeightTotal = probabilityWeightOffset;
+        stale = false;
     }
 
     private static final class ProbabilityItem<Solution_> {
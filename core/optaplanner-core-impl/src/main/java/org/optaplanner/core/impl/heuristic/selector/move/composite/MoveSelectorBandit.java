@@ -0,0 +1,126 @@
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+
+/**
+ * A multi-armed bandit over the child {@link MoveSelector}s of an adaptive {@link UnionMoveSelector}.
+ * Each child is rewarded when the step picks one of its moves and that step improves the step score.
+ * Its selection probability is proportional to those improvements per nanosecond spent on its moves.
+ * <p>
+ * Both the improvements and the time spent decay exponentially over the time spent,
+ * so a child that stops paying off loses its share after a few {@link #HALF_LIFE_NANOS half-lives}.
+ * Every child keeps at least a part of the {@link #MINIMUM_PROBABILITY_SHARE},
+ * so it can still be rediscovered once the solution changes.
+ * <p>
+ * The time spent on a move is the time between its selection and the selection of the next move,
+ * which includes its evaluation by a single threaded decider.
+ */
+final class MoveSelectorBandit {
+
+    static final double MINIMUM_PROBABILITY_SHARE = 0.1;
+    static final double HALF_LIFE_NANOS = 10_000_000_000.0;
+
+    private final int childCount;
+    private final double[] improvementCounts;
+    private final double[] timeNanos;
+    private final double[] probabilities;
+
+    // Reset every step
+    private final long[] stepTimeNanos;
+    private int[] selectedChildIndexes = new int[64];
+    private int selectedMoveCount = 0;
+    private int lastChildIndex = -1;
+    private long lastSelectionNanos = 0L;
+
+    MoveSelectorBandit(int childCount) {
+        this.childCount = childCount;
+        improvementCounts = new double[childCount];
+        timeNanos = new double[childCount];
+        probabilities = new double[childCount];
+        Arrays.fill(probabilities, 1.0 / childCount);
+        stepTimeNanos = new long[childCount];
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex < childCount}
+     * @return {@code 0.0 < probability <= 1.0}
+     */
+    double getProbability(int childIndex) {
+        return probabilities[childIndex];
+    }
+
+    void stepStarted() {
+        Arrays.fill(stepTimeNanos, 0L);
+        selectedMoveCount = 0;
+        lastChildIndex = -1;
+    }
+
+    void moveSelected(int childIndex) {
+        moveSelected(childIndex, System.nanoTime());
+    }
+
+    void moveSelected(int childIndex, long selectionNanos) {
+        if (lastChildIndex >= 0) {
+            stepTimeNanos[lastChildIndex] += selectionNanos - lastSelectionNanos;
+        }
+        if (selectedMoveCount == selectedChildIndexes.length) {
+            selectedChildIndexes = Arrays.copyOf(selectedChildIndexes, selectedMoveCount * 2);
+        }
+        selectedChildIndexes[selectedMoveCount] = childIndex;
+        selectedMoveCount++;
+        lastChildIndex = childIndex;
+        lastSelectionNanos = selectionNanos;
+    }
+
+    void stepEnded(int pickedMoveIndex, boolean improving) {
+        stepEnded(pickedMoveIndex, improving, System.nanoTime());
+    }
+
+    /**
+     * @param pickedMoveIndex the index of the picked move in the selection order of this step,
+     *        -1 if unknown
+     * @param improving true if the picked move improved the step score
+     * @param endNanos the end of the time spent on the last selected move
+     */
+    void stepEnded(int pickedMoveIndex, boolean improving, long endNanos) {
+        if (lastChildIndex >= 0) {
+            stepTimeNanos[lastChildIndex] += endNanos - lastSelectionNanos;
+        }
+        long stepTimeNanosTotal = 0L;
+        for (long childStepTimeNanos : stepTimeNanos) {
+            stepTimeNanosTotal += childStepTimeNanos;
+        }
+        double decay = Math.pow(0.5, stepTimeNanosTotal / HALF_LIFE_NANOS);
+        for (int i = 0; i < childCount; i++) {
+            improvementCounts[i] *= decay;
+            timeNanos[i] = timeNanos[i] * decay + stepTimeNanos[i];
+        }
+        if (improving && pickedMoveIndex >= 0 && pickedMoveIndex < selectedMoveCount) {
+            improvementCounts[selectedChildIndexes[pickedMoveIndex]] += 1.0;
+        }
+        refreshProbabilities();
+    }
+
+    private void refreshProbabilities() {
+        double improvementRateTotal = 0.0;
+        for (int i = 0; i < childCount; i++) {
+            improvementRateTotal += calculateImprovementRate(i);
+        }
+        if (improvementRateTotal == 0.0) {
+            Arrays.fill(probabilities, 1.0 / childCount);
+            return;
+        }
+        for (int i = 0; i < childCount; i++) {
+            probabilities[i] = (MINIMUM_PROBABILITY_SHARE / childCount)
+                    + (1.0 - MINIMUM_PROBABILITY_SHARE) * calculateImprovementRate(i) / improvementRateTotal;
+        }
+    }
+
+    private double calculateImprovementRate(int childIndex) {
+        // An improvement requires a picked move, so the time spent is never zero in practice
+        return timeNanos[childIndex] <= 0.0 ? 0.0 : improvementCounts[childIndex] / timeNanos[childIndex];
+    }
+
+}
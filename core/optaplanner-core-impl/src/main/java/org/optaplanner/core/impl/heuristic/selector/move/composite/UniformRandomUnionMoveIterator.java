@@ -13,6 +13,8 @@ final class UniformRandomUnionMoveIterator<Solution_> extends SelectionIterator<
 
     private final List<Iterator<Move<Solution_>>> moveIteratorList;
     private final Random workingRandom;
+    // Checked lazily, because the hasNext() of a child can reset the flyweight move it returned last
+    private int lastMoveIteratorIndex = -1;
 
     public UniformRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList, Random workingRandom) {
         this.moveIteratorList = childMoveSelectorList.stream()
@@ -24,18 +26,26 @@ final class UniformRandomUnionMoveIterator<Solution_> extends SelectionIterator<
 
     @Override
     public boolean hasNext() {
+        removeExhaustedLastMoveIterator();
         return !moveIteratorList.isEmpty();
     }
 
     @Override
     public Move<Solution_> next() {
+        removeExhaustedLastMoveIterator();
         int index = workingRandom.nextInt(moveIteratorList.size());
-        Iterator<Move<Solution_>> moveIterator = moveIteratorList.get(index);
-        Move<Solution_> next = moveIterator.next();
-        if (!moveIterator.hasNext()) {
-            moveIteratorList.remove(index);
-        }
+        Move<Solution_> next = moveIteratorList.get(index).next();
+        lastMoveIteratorIndex = index;
         return next;
     }
 
+    private void removeExhaustedLastMoveIterator() {
+        if (lastMoveIteratorIndex >= 0) {
+            if (!moveIteratorList.get(lastMoveIteratorIndex).hasNext()) {
+                moveIteratorList.remove(lastMoveIteratorIndex);
+            }
+            lastMoveIteratorIndex = -1;
+        }
+    }
+
 }
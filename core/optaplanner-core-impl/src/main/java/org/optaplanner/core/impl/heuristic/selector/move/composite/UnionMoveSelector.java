@@ -1,15 +1,24 @@
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * A {@link CompositeMoveSelector} that unions 2 or more {@link MoveSelector}s.
@@ -17,6 +26,8 @@ import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
  * For example: a union of {A, B, C} and {X, Y} will result in {A, B, C, X, Y}.
  * <p>
  * Warning: there is no duplicated {@link Move} check, so union of {A, B, C} and {B, D} will result in {A, B, C, B, D}.
+ * <p>
+ * With adaptive selection, the probability of each child is learned during solving by a {@link MoveSelectorBandit}.
  *
  * @see CompositeMoveSelector
  */
@@ -24,7 +35,13 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
 
+    protected final MoveSelectorBandit bandit;
+    // Only used if adaptive selection, reset every step
+    protected final List<Move<Solution_>> selectedMoveList;
+
     protected ScoreDirector<Solution_> scoreDirector;
+    // Only used if adaptive selection
+    protected AtomicReference<Number>[] probabilityGauges;
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection) {
         this(childMoveSelectorList, randomSelection, null);
@@ -32,6 +49,12 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
             SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory) {
+        this(childMoveSelectorList, randomSelection, selectorProbabilityWeightFactory, false);
+    }
+
+    public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
+            SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory,
+            boolean adaptiveSelection) {
         super(childMoveSelectorList, randomSelection);
         this.selectorProbabilityWeightFactory = selectorProbabilityWeightFactory;
         if (!randomSelection) {
@@ -41,6 +64,37 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                         + ") cannot have a selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
                         + ").");
             }
+            if (adaptiveSelection) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") without randomSelection (" + randomSelection
+                        + ") cannot have adaptiveSelection (" + adaptiveSelection + ").");
+            }
+        }
+        if (adaptiveSelection && selectorProbabilityWeightFactory != null) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") with adaptiveSelection (" + adaptiveSelection
+                    + ") cannot have a selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
+                    + ").");
+        }
+        this.bandit = adaptiveSelection ? new MoveSelectorBandit(childMoveSelectorList.size()) : null;
+        this.selectedMoveList = adaptiveSelection ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        if (bandit != null && solverScope.isMetricEnabled(SolverMetric.MOVE_SELECTOR_PROBABILITY)) {
+            probabilityGauges = new AtomicReference[childMoveSelectorList.size()];
+            for (int i = 0; i < childMoveSelectorList.size(); i++) {
+                String moveSelectorString = childMoveSelectorList.get(i).toString();
+                // The gauges are kept on the SolverScope, so they survive multiple phases
+                probabilityGauges[i] = solverScope.getMoveSelectorProbabilityMap().computeIfAbsent(moveSelectorString,
+                        key -> Metrics.gauge(SolverMetric.MOVE_SELECTOR_PROBABILITY.getMeterId(),
+                                solverScope.getMonitoringTags().and("move.selector", key),
+                                new AtomicReference<Number>(0.0), ar -> ar.get().doubleValue()));
+                probabilityGauges[i].set(bandit.getProbability(i));
+            }
         }
     }
 
@@ -48,12 +102,71 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
         super.stepStarted(stepScope);
+        if (bandit != null) {
+            bandit.stepStarted();
+            selectedMoveList.clear();
+        }
     }
 
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
         scoreDirector = null;
+        if (bandit != null) {
+            rewardChildMoveSelectors(stepScope);
+        }
+    }
+
+    private void rewardChildMoveSelectors(AbstractStepScope<Solution_> stepScope) {
+        int pickedMoveIndex = -1;
+        boolean improving = false;
+        if (stepScope instanceof LocalSearchStepScope) {
+            Move<Solution_> step = ((LocalSearchStepScope<Solution_>) stepScope).getStep();
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            Score stepScore = stepScope.getScore();
+            if (step != null && stepScore != null && lastStepScore != null) {
+                pickedMoveIndex = findSelectedMoveIndex(step);
+                improving = stepScore.compareTo(lastStepScore) > 0;
+            }
+        }
+        bandit.stepEnded(pickedMoveIndex, improving);
+        selectedMoveList.clear();
+        if (probabilityGauges != null) {
+            for (int i = 0; i < probabilityGauges.length; i++) {
+                probabilityGauges[i].set(bandit.getProbability(i));
+            }
+        }
+    }
+
+    /**
+     * The step move index can't be used instead,
+     * because a filter, a count limit or a parent selector changes the order of the selected moves.
+     *
+     * @param step never null
+     * @return the index of the step in the moves selected by this selector in this step, -1 if it didn't select it
+     */
+    int findSelectedMoveIndex(Move<Solution_> step) {
+        for (int i = 0; i < selectedMoveList.size(); i++) {
+            if (selectedMoveList.get(i) == step) {
+                return i;
+            }
+        }
+        // A multithreaded decider picks a rebased copy of the selected move
+        for (int i = 0; i < selectedMoveList.size(); i++) {
+            if (selectedMoveList.get(i).equals(step)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        if (bandit != null) {
+            selectedMoveList.clear();
+        }
+        probabilityGauges = null;
     }
 
     // ************************************************************************
@@ -77,6 +190,20 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         }
     }
 
+    @Override
+    public boolean enableFlyweightMoves() {
+        if (bandit != null) {
+            // The selected moves are kept until the step ends, to find the picked move among them
+            return false;
+        }
+        boolean flyweightMoves = false;
+        for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
+            // Every child must be enabled, so no short-circuit
+            flyweightMoves |= moveSelector.enableFlyweightMoves();
+        }
+        return flyweightMoves;
+    }
+
     @Override
     public long getSize() {
         long size = 0L;
@@ -94,6 +221,8 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                 stream = Stream.concat(stream, toStream(moveSelector));
             }
             return stream.iterator();
+        } else if (bandit != null) {
+            return new AdaptiveRandomUnionMoveIterator<>(childMoveSelectorList, bandit, selectedMoveList, workingRandom);
         } else if (selectorProbabilityWeightFactory == null) {
             return new UniformRandomUnionMoveIterator<>(childMoveSelectorList, workingRandom);
         } else {
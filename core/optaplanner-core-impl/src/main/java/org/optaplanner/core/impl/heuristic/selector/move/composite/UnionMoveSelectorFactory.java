@@ -3,6 +3,7 @@ package org.optaplanner.core.impl.heuristic.selector.move.composite;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -25,6 +26,30 @@ public class UnionMoveSelectorFactory<Solution_>
         List<MoveSelector<Solution_>> moveSelectorList = buildInnerMoveSelectors(config.getMoveSelectorList(),
                 configPolicy, minimumCacheType, randomSelection);
 
+        boolean adaptiveSelection = Objects.requireNonNullElse(config.getAdaptiveSelection(), false);
+        if (adaptiveSelection) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + adaptiveSelection
+                        + ") has non-random randomSelection (" + randomSelection + ").");
+            }
+            if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + adaptiveSelection
+                        + ") cannot have a selectorProbabilityWeightFactoryClass ("
+                        + config.getSelectorProbabilityWeightFactoryClass() + ").");
+            }
+            for (MoveSelectorConfig<?> innerMoveSelectorConfig : config.getMoveSelectorList()) {
+                if (innerMoveSelectorConfig.getFixedProbabilityWeight() != null) {
+                    throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                            + ") with adaptiveSelection (" + adaptiveSelection
+                            + ") cannot have a child moveSelectorConfig (" + innerMoveSelectorConfig
+                            + ") with a fixedProbabilityWeight ("
+                            + innerMoveSelectorConfig.getFixedProbabilityWeight() + ").");
+                }
+            }
+            return new UnionMoveSelector<>(moveSelectorList, true, null, true);
+        }
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
         if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
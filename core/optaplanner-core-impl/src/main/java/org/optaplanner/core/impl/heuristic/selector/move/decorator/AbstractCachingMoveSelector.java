@@ -57,12 +57,23 @@ public abstract class AbstractCachingMoveSelector<Solution_> extends AbstractMov
                     + ") with childSize (" + childSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        cachedMoveList = new ArrayList<>((int) childSize);
-        childMoveSelector.iterator().forEachRemaining(cachedMoveList::add);
+        cachedMoveList = buildCachedMoveList((int) childSize);
         logger.trace("    Created cachedMoveList: size ({}), moveSelector ({}).",
                 cachedMoveList.size(), this);
     }
 
+    /**
+     * Subclasses that never modify the cached moves can override this to use a more compact representation.
+     *
+     * @param childSize at least 0
+     * @return never null
+     */
+    protected List<Move<Solution_>> buildCachedMoveList(int childSize) {
+        List<Move<Solution_>> moveList = new ArrayList<>(childSize);
+        childMoveSelector.iterator().forEachRemaining(moveList::add);
+        return moveList;
+    }
+
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
         cachedMoveList = null;
@@ -1,6 +1,7 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -12,6 +13,9 @@ import org.optaplanner.core.impl.heuristic.selector.value.decorator.CachingValue
 /**
  * A {@link MoveSelector} that caches the result of its child {@link MoveSelector}.
  * <p>
+ * A {@link SelectionCacheType#PHASE} or {@link SelectionCacheType#SOLVER} cache is stored as a {@link CompactMoveList},
+ * because such a cache can be huge and it lives long enough to outweigh the cost of materializing the moves.
+ * <p>
  * Keep this code in sync with {@link CachingEntitySelector} and {@link CachingValueSelector}.
  */
 public class CachingMoveSelector<Solution_> extends AbstractCachingMoveSelector<Solution_> {
@@ -28,6 +32,17 @@ public class CachingMoveSelector<Solution_> extends AbstractCachingMoveSelector<
     // Worker methods
     // ************************************************************************
 
+    @Override
+    protected List<Move<Solution_>> buildCachedMoveList(int childSize) {
+        if (cacheType.compareTo(SelectionCacheType.PHASE) < 0) {
+            return super.buildCachedMoveList(childSize);
+        }
+        CompactMoveList<Solution_> moveList = new CompactMoveList<>(childSize);
+        childMoveSelector.iterator().forEachRemaining(moveList::add);
+        moveList.trimToSize();
+        return moveList;
+    }
+
     @Override
     public boolean isNeverEnding() {
         // CachedListRandomIterator is neverEnding
@@ -0,0 +1,282 @@
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
+
+/**
+ * An unmodifiable {@link List} of cached moves, which stores the generic moves
+ * ({@link ChangeMove}, {@link SwapMove}, {@link ListChangeMove} and {@link ListSwapMove})
+ * as int indexes into a shared table of entities and values, instead of as move instances.
+ * Every {@link #get(int)} materializes a new move, which is {@link Object#equals(Object) equal}
+ * to the move that was {@link #add(Move) added}.
+ * <p>
+ * Consecutive moves of the same type with the same variable descriptor(s) share a segment,
+ * so for example a {@link SwapMove} costs 2 ints instead of a move instance and a reference to it.
+ * Any other move is kept as is.
+ * <p>
+ * Moves are {@link #add(Move) added} while the cache is constructed, then {@link #trimToSize()} freezes it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class CompactMoveList<Solution_> extends AbstractList<Move<Solution_>> implements RandomAccess {
+
+    private static final int NULL_INDEX = -1;
+
+    private final int firstSegmentCapacity;
+    /**
+     * The entities and values referenced by the compact moves, and the moves that cannot be compacted.
+     */
+    private final ArrayList<Object> objectList = new ArrayList<>();
+    /**
+     * Null after {@link #trimToSize()}.
+     */
+    private Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+    private final List<Segment> segmentList = new ArrayList<>();
+    private int[] segmentStartIndexes = new int[16];
+    private int size = 0;
+
+    /**
+     * @param initialCapacity at least 0, the expected number of moves
+     */
+    public CompactMoveList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initialCapacity (" + initialCapacity + ") cannot be negative.");
+        }
+        // The initialCapacity is a hint for the first segment only, because typically there is only 1 segment
+        this.firstSegmentCapacity = Math.max(initialCapacity, 16);
+    }
+
+    // ************************************************************************
+    // Construction methods
+    // ************************************************************************
+
+    @Override
+    public boolean add(Move<Solution_> move) {
+        if (objectIndexMap == null) {
+            throw new IllegalStateException("The compact move list (size " + size
+                    + ") cannot add a move (" + move + ") after it has been trimmed.");
+        }
+        Class<?> moveClass = move.getClass();
+        // Subclasses are kept as is, because they might carry more state
+        if (moveClass == ChangeMove.class) {
+            ChangeMove<Solution_> changeMove = (ChangeMove<Solution_>) move;
+            findSegment(MoveKind.CHANGE, changeMove.getVariableDescriptor())
+                    .add(internObject(changeMove.getEntity()), internObject(changeMove.getToPlanningValue()), 0, 0);
+        } else if (moveClass == SwapMove.class) {
+            SwapMove<Solution_> swapMove = (SwapMove<Solution_>) move;
+            findSegment(MoveKind.SWAP, swapMove.getVariableDescriptorList())
+                    .add(internObject(swapMove.getLeftEntity()), internObject(swapMove.getRightEntity()), 0, 0);
+        } else if (moveClass == ListChangeMove.class) {
+            ListChangeMove<Solution_> listChangeMove = (ListChangeMove<Solution_>) move;
+            findSegment(MoveKind.LIST_CHANGE, listChangeMove.getVariableDescriptor())
+                    .add(internObject(listChangeMove.getSourceEntity()), listChangeMove.getSourceIndex(),
+                            internObject(listChangeMove.getDestinationEntity()), listChangeMove.getDestinationIndex());
+        } else if (moveClass == ListSwapMove.class) {
+            ListSwapMove<Solution_> listSwapMove = (ListSwapMove<Solution_>) move;
+            findSegment(MoveKind.LIST_SWAP, listSwapMove.getVariableDescriptor())
+                    .add(internObject(listSwapMove.getLeftEntity()), listSwapMove.getLeftIndex(),
+                            internObject(listSwapMove.getRightEntity()), listSwapMove.getRightIndex());
+        } else {
+            int moveIndex = objectList.size();
+            objectList.add(move);
+            findSegment(MoveKind.OTHER, null).add(moveIndex, 0, 0, 0);
+        }
+        size++;
+        return true;
+    }
+
+    private int internObject(Object object) {
+        if (object == null) {
+            return NULL_INDEX;
+        }
+        return objectIndexMap.computeIfAbsent(object, key -> {
+            objectList.add(key);
+            return objectList.size() - 1;
+        });
+    }
+
+    private Segment findSegment(MoveKind kind, Object descriptor) {
+        int segmentCount = segmentList.size();
+        if (segmentCount > 0) {
+            Segment lastSegment = segmentList.get(segmentCount - 1);
+            if (lastSegment.kind == kind && Objects.equals(lastSegment.descriptor, descriptor)) {
+                return lastSegment;
+            }
+        }
+        if (segmentCount == segmentStartIndexes.length) {
+            segmentStartIndexes = Arrays.copyOf(segmentStartIndexes, segmentCount * 2);
+        }
+        segmentStartIndexes[segmentCount] = size;
+        Segment segment = new Segment(kind, descriptor, segmentCount == 0 ? firstSegmentCapacity : 16);
+        segmentList.add(segment);
+        return segment;
+    }
+
+    /**
+     * Releases the construction overhead. No more moves can be added afterwards.
+     */
+    public void trimToSize() {
+        objectIndexMap = null;
+        objectList.trimToSize();
+        segmentStartIndexes = Arrays.copyOf(segmentStartIndexes, segmentList.size());
+        for (Segment segment : segmentList) {
+            segment.trimToSize();
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Move<Solution_> get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds for size (" + size + ").");
+        }
+        int segmentIndex = Arrays.binarySearch(segmentStartIndexes, 0, segmentList.size(), index);
+        if (segmentIndex < 0) {
+            segmentIndex = -segmentIndex - 2;
+        }
+        return materialize(segmentList.get(segmentIndex), index - segmentStartIndexes[segmentIndex]);
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new CompactMoveIterator();
+    }
+
+    private Move<Solution_> materialize(Segment segment, int indexInSegment) {
+        int[] operands = segment.operands;
+        int offset = indexInSegment * segment.kind.arity;
+        switch (segment.kind) {
+            case CHANGE:
+                return new ChangeMove<>((GenuineVariableDescriptor<Solution_>) segment.descriptor,
+                        getObject(operands[offset]), getObject(operands[offset + 1]));
+            case SWAP:
+                return new SwapMove<>((List<GenuineVariableDescriptor<Solution_>>) segment.descriptor,
+                        getObject(operands[offset]), getObject(operands[offset + 1]));
+            case LIST_CHANGE:
+                return new ListChangeMove<>((ListVariableDescriptor<Solution_>) segment.descriptor,
+                        getObject(operands[offset]), operands[offset + 1],
+                        getObject(operands[offset + 2]), operands[offset + 3]);
+            case LIST_SWAP:
+                return new ListSwapMove<>((ListVariableDescriptor<Solution_>) segment.descriptor,
+                        getObject(operands[offset]), operands[offset + 1],
+                        getObject(operands[offset + 2]), operands[offset + 3]);
+            case OTHER:
+                return (Move<Solution_>) objectList.get(operands[offset]);
+            default:
+                throw new IllegalStateException("The moveKind (" + segment.kind + ") is not implemented.");
+        }
+    }
+
+    private Object getObject(int objectIndex) {
+        return objectIndex == NULL_INDEX ? null : objectList.get(objectIndex);
+    }
+
+    private enum MoveKind {
+        CHANGE(2),
+        SWAP(2),
+        LIST_CHANGE(4),
+        LIST_SWAP(4),
+        OTHER(1);
+
+        private final int arity;
+
+        MoveKind(int arity) {
+            this.arity = arity;
+        }
+
+    }
+
+    private static final class Segment {
+
+        private final MoveKind kind;
+        /**
+         * The {@link GenuineVariableDescriptor}, the {@link List} of them or the {@link ListVariableDescriptor},
+         * depending on the {@link #kind}.
+         */
+        private final Object descriptor;
+        private int[] operands;
+        private int size = 0;
+
+        private Segment(MoveKind kind, Object descriptor, int initialCapacity) {
+            this.kind = kind;
+            this.descriptor = descriptor;
+            this.operands = new int[initialCapacity * kind.arity];
+        }
+
+        private void add(int operand0, int operand1, int operand2, int operand3) {
+            int offset = size * kind.arity;
+            if (offset + kind.arity > operands.length) {
+                // Grow by 50%, like ArrayList
+                int newLength = Math.max(offset + kind.arity, operands.length + (operands.length >> 1));
+                operands = Arrays.copyOf(operands, newLength);
+            }
+            operands[offset] = operand0;
+            if (kind.arity > 1) {
+                operands[offset + 1] = operand1;
+            }
+            if (kind.arity > 2) {
+                operands[offset + 2] = operand2;
+                operands[offset + 3] = operand3;
+            }
+            size++;
+        }
+
+        private void trimToSize() {
+            operands = Arrays.copyOf(operands, size * kind.arity);
+        }
+
+    }
+
+    private final class CompactMoveIterator implements Iterator<Move<Solution_>> {
+
+        private int segmentIndex = 0;
+        private int indexInSegment = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (segmentIndex < segmentList.size()) {
+                if (indexInSegment < segmentList.get(segmentIndex).size) {
+                    return true;
+                }
+                segmentIndex++;
+                indexInSegment = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public Move<Solution_> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return materialize(segmentList.get(segmentIndex), indexInSegment++);
+        }
+
+    }
+
+}
@@ -42,6 +42,12 @@ public class FilteringMoveSelector<Solution_> extends AbstractMoveSelector<Solut
         scoreDirector = null;
     }
 
+    @Override
+    public boolean enableFlyweightMoves() {
+        // A SelectionFilter must not retain the move it accepts or rejects
+        return childMoveSelector.enableFlyweightMoves();
+    }
+
     @Override
     public boolean isCountable() {
         return childMoveSelector.isCountable();
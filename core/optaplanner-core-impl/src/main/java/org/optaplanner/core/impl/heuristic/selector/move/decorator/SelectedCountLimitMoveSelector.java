@@ -27,6 +27,11 @@ public class SelectedCountLimitMoveSelector<Solution_> extends AbstractMoveSelec
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public boolean enableFlyweightMoves() {
+        return childMoveSelector.enableFlyweightMoves();
+    }
+
     @Override
     public boolean isCountable() {
         return true;
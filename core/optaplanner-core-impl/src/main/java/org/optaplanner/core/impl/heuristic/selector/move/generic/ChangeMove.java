@@ -26,6 +26,10 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         this.toPlanningValue = toPlanningValue;
     }
 
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public String getVariableName() {
         return variableDescriptor.getVariableName();
     }
@@ -90,6 +94,9 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         if (this == o) {
             return true;
         }
+        if (o instanceof FlyweightChangeMove) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
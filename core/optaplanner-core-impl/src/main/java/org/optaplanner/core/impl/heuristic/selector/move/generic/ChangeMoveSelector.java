@@ -23,6 +23,7 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
 
     protected final boolean chained;
     protected SingletonInverseVariableSupply inverseVariableSupply = null;
+    protected boolean flyweightMoves = false;
 
     public ChangeMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
             boolean randomSelection) {
@@ -40,6 +41,12 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
         return !chained;
     }
 
+    @Override
+    public boolean enableFlyweightMoves() {
+        flyweightMoves = !chained;
+        return flyweightMoves;
+    }
+
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
@@ -97,6 +104,14 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
                         return new ChainedChangeMove<>(variableDescriptor, entity, toValue, inverseVariableSupply);
                     }
                 };
+            } else if (flyweightMoves) {
+                FlyweightChangeMove<Solution_> flyweightMove = new FlyweightChangeMove<>(variableDescriptor);
+                return new AbstractOriginalChangeIterator<>(entitySelector, valueSelector) {
+                    @Override
+                    protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
+                        return flyweightMove.reset(entity, toValue);
+                    }
+                };
             } else {
                 return new AbstractOriginalChangeIterator<>(entitySelector, valueSelector) {
                     @Override
@@ -113,6 +128,14 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
                         return new ChainedChangeMove<>(variableDescriptor, entity, toValue, inverseVariableSupply);
                     }
                 };
+            } else if (flyweightMoves) {
+                FlyweightChangeMove<Solution_> flyweightMove = new FlyweightChangeMove<>(variableDescriptor);
+                return new AbstractRandomChangeIterator<>(entitySelector, valueSelector) {
+                    @Override
+                    protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
+                        return flyweightMove.reset(entity, toValue);
+                    }
+                };
             } else {
                 return new AbstractRandomChangeIterator<>(entitySelector, valueSelector) {
                     @Override
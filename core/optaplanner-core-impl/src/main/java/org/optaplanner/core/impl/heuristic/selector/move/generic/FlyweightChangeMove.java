@@ -0,0 +1,133 @@
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * A reusable {@link ChangeMove}, which also reuses its undo move.
+ * It is {@link #equals(Object) equal} to a {@link ChangeMove} with the same state and has the same hash code.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see FlyweightMove
+ */
+public final class FlyweightChangeMove<Solution_> extends AbstractMove<Solution_> implements FlyweightMove<Solution_> {
+
+    private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+
+    private Object entity = null;
+    private Object toPlanningValue = null;
+    private FlyweightChangeMove<Solution_> undoMove = null;
+
+    public FlyweightChangeMove(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        this.variableDescriptor = variableDescriptor;
+    }
+
+    public FlyweightChangeMove<Solution_> reset(Object entity, Object toPlanningValue) {
+        this.entity = entity;
+        this.toPlanningValue = toPlanningValue;
+        return this;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public Object getToPlanningValue() {
+        return toPlanningValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public ChangeMove<Solution_> materialize() {
+        return new ChangeMove<>(variableDescriptor, entity, toPlanningValue);
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        Object oldValue = variableDescriptor.getValue(entity);
+        return !Objects.equals(oldValue, toPlanningValue);
+    }
+
+    @Override
+    protected FlyweightChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        if (undoMove == null) {
+            undoMove = new FlyweightChangeMove<>(variableDescriptor);
+        }
+        Object oldValue = variableDescriptor.getValue(entity);
+        return undoMove.reset(entity, oldValue);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.changeVariableFacade(variableDescriptor, entity, toPlanningValue);
+    }
+
+    @Override
+    public ChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return materialize().rebase(destinationScoreDirector);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return ChangeMove.class.getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(entity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(toPlanningValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof FlyweightChangeMove) {
+            FlyweightChangeMove<?> other = (FlyweightChangeMove<?>) o;
+            return Objects.equals(variableDescriptor, other.variableDescriptor) &&
+                    Objects.equals(entity, other.entity) &&
+                    Objects.equals(toPlanningValue, other.toPlanningValue);
+        }
+        if (o == null || o.getClass() != ChangeMove.class) {
+            return false;
+        }
+        ChangeMove<?> other = (ChangeMove<?>) o;
+        return Objects.equals(variableDescriptor, other.getVariableDescriptor()) &&
+                Objects.equals(entity, other.getEntity()) &&
+                Objects.equals(toPlanningValue, other.getToPlanningValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, entity, toPlanningValue);
+    }
+
+    @Override
+    public String toString() {
+        Object oldValue = variableDescriptor.getValue(entity);
+        return entity + " {" + oldValue + " -> " + toPlanningValue + "}";
+    }
+
+}
@@ -0,0 +1,142 @@
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
+
+/**
+ * A reusable {@link SwapMove}, which also reuses its undo move.
+ * It is {@link #equals(Object) equal} to a {@link SwapMove} with the same state and has the same hash code.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see FlyweightMove
+ */
+public final class FlyweightSwapMove<Solution_> extends AbstractMove<Solution_> implements FlyweightMove<Solution_> {
+
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+
+    private Object leftEntity = null;
+    private Object rightEntity = null;
+    private FlyweightSwapMove<Solution_> undoMove = null;
+
+    public FlyweightSwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList) {
+        this.variableDescriptorList = variableDescriptorList;
+    }
+
+    public FlyweightSwapMove<Solution_> reset(Object leftEntity, Object rightEntity) {
+        this.leftEntity = leftEntity;
+        this.rightEntity = rightEntity;
+        return this;
+    }
+
+    public Object getLeftEntity() {
+        return leftEntity;
+    }
+
+    public Object getRightEntity() {
+        return rightEntity;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public SwapMove<Solution_> materialize() {
+        return new SwapMove<>(variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return SwapMove.isMoveDoable(scoreDirector, variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    @Override
+    protected FlyweightSwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        if (undoMove == null) {
+            undoMove = new FlyweightSwapMove<>(variableDescriptorList);
+        }
+        return undoMove.reset(rightEntity, leftEntity);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        SwapMove.swapValues(scoreDirector, variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    @Override
+    public SwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return materialize().rebase(destinationScoreDirector);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        StringBuilder moveTypeDescription = new StringBuilder(20 * (variableDescriptorList.size() + 1));
+        moveTypeDescription.append(SwapMove.class.getSimpleName()).append("(");
+        String delimiter = "";
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            moveTypeDescription.append(delimiter).append(variableDescriptor.getSimpleEntityAndVariableName());
+            delimiter = ", ";
+        }
+        moveTypeDescription.append(")");
+        return moveTypeDescription.toString();
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Arrays.asList(leftEntity, rightEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        List<Object> values = new ArrayList<>(variableDescriptorList.size() * 2);
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            values.add(variableDescriptor.getValue(leftEntity));
+            values.add(variableDescriptor.getValue(rightEntity));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof FlyweightSwapMove) {
+            FlyweightSwapMove<?> other = (FlyweightSwapMove<?>) o;
+            return Objects.equals(variableDescriptorList, other.variableDescriptorList) &&
+                    Objects.equals(leftEntity, other.leftEntity) &&
+                    Objects.equals(rightEntity, other.rightEntity);
+        }
+        if (o == null || o.getClass() != SwapMove.class) {
+            return false;
+        }
+        SwapMove<?> other = (SwapMove<?>) o;
+        return Objects.equals(variableDescriptorList, other.getVariableDescriptorList()) &&
+                Objects.equals(leftEntity, other.getLeftEntity()) &&
+                Objects.equals(rightEntity, other.getRightEntity());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+
+}
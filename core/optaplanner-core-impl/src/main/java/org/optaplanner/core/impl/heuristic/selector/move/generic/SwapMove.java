@@ -30,6 +30,10 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         this.rightEntity = rightEntity;
     }
 
+    public List<GenuineVariableDescriptor<Solution_>> getVariableDescriptorList() {
+        return variableDescriptorList;
+    }
+
     public Object getLeftEntity() {
         return leftEntity;
     }
@@ -44,6 +48,11 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return isMoveDoable(scoreDirector, variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    static <Solution_> boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
         boolean movable = false;
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
             Object leftValue = variableDescriptor.getValue(leftEntity);
@@ -81,6 +90,11 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        swapValues(scoreDirector, variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    static <Solution_> void swapValues(ScoreDirector<Solution_> scoreDirector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
             Object oldLeftValue = variableDescriptor.getValue(leftEntity);
@@ -129,6 +143,9 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         if (this == o) {
             return true;
         }
+        if (o instanceof FlyweightSwapMove) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
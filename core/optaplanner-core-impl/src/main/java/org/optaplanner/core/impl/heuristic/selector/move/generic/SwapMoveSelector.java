@@ -25,6 +25,7 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
+    protected boolean flyweightMoves = false;
 
     public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection) {
@@ -70,6 +71,12 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         return !anyChained;
     }
 
+    @Override
+    public boolean enableFlyweightMoves() {
+        flyweightMoves = !anyChained;
+        return flyweightMoves;
+    }
+
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
@@ -117,6 +124,24 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     @Override
     public Iterator<Move<Solution_>> iterator() {
+        if (flyweightMoves) {
+            FlyweightSwapMove<Solution_> flyweightMove = new FlyweightSwapMove<>(variableDescriptorList);
+            if (!randomSelection) {
+                return new AbstractOriginalSwapIterator<>(leftEntitySelector, rightEntitySelector) {
+                    @Override
+                    protected Move<Solution_> newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        return flyweightMove.reset(leftSubSelection, rightSubSelection);
+                    }
+                };
+            } else {
+                return new AbstractRandomSwapIterator<>(leftEntitySelector, rightEntitySelector) {
+                    @Override
+                    protected Move<Solution_> newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        return flyweightMove.reset(leftSubSelection, rightSubSelection);
+                    }
+                };
+            }
+        }
         if (!randomSelection) {
             return new AbstractOriginalSwapIterator<>(leftEntitySelector, rightEntitySelector) {
                 @Override
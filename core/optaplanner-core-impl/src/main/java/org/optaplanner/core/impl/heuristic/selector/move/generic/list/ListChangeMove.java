@@ -9,6 +9,7 @@ import java.util.Set;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -19,6 +20,12 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
  * in the given destination entity's list variable.
  * <p>
  * An undo move is simply created by flipping the source and destination entity+index.
+ * <p>
+ * The variable listeners are notified with one ranged change per entity
+ * ({@link ListVariableListener#beforeListVariableChanged(ScoreDirector, Object, int, int)}),
+ * not with the element moved notifications.
+ * A {@link ListVariableListener} that doesn't override the ranged methods
+ * receives the element added and removed notifications that they fall back to.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -97,6 +104,10 @@ public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
         this.destinationIndex = destinationIndex;
     }
 
+    public ListVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public Object getSourceEntity() {
         return sourceEntity;
     }
@@ -139,12 +150,25 @@ public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
 
-        innerScoreDirector.beforeElementMoved(variableDescriptor,
-                sourceEntity, sourceIndex, destinationEntity, destinationIndex);
-        Object element = variableDescriptor.removeElement(sourceEntity, sourceIndex);
-        variableDescriptor.addElement(destinationEntity, destinationIndex, element);
-        innerScoreDirector.afterElementMoved(variableDescriptor,
-                sourceEntity, sourceIndex, destinationEntity, destinationIndex);
+        if (sourceEntity == destinationEntity) {
+            // One ranged notification covers both the removal and the insertion
+            int fromIndex = Math.min(sourceIndex, destinationIndex);
+            int toIndex = Math.max(sourceIndex, destinationIndex) + 1;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+            Object element = variableDescriptor.removeElement(sourceEntity, sourceIndex);
+            variableDescriptor.addElement(destinationEntity, destinationIndex, element);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, fromIndex, toIndex);
+        } else {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceIndex + 1);
+            Object element = variableDescriptor.removeElement(sourceEntity, sourceIndex);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceIndex, sourceIndex);
+
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor,
+                    destinationEntity, destinationIndex, destinationIndex);
+            variableDescriptor.addElement(destinationEntity, destinationIndex, element);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor,
+                    destinationEntity, destinationIndex, destinationIndex + 1);
+        }
     }
 
     @Override
@@ -9,6 +9,7 @@ import java.util.Set;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -21,6 +22,12 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
  * Left and right entity can be the same instance.
  * <p>
  * An undo move is created by flipping the left and right-hand entity and index.
+ * <p>
+ * The variable listeners are notified with one ranged change per entity
+ * ({@link ListVariableListener#beforeListVariableChanged(ScoreDirector, Object, int, int)}),
+ * not with the element moved notifications.
+ * A {@link ListVariableListener} that doesn't override the ranged methods
+ * receives the element added and removed notifications that they fall back to.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -84,6 +91,10 @@ public class ListSwapMove<Solution_> extends AbstractMove<Solution_> {
         this.rightIndex = rightIndex;
     }
 
+    public ListVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public Object getLeftEntity() {
         return leftEntity;
     }
@@ -131,12 +142,22 @@ public class ListSwapMove<Solution_> extends AbstractMove<Solution_> {
         Object leftElement = variableDescriptor.getElement(leftEntity, leftIndex);
         Object rightElement = variableDescriptor.getElement(rightEntity, rightIndex);
 
-        innerScoreDirector.beforeElementMoved(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
-        innerScoreDirector.beforeElementMoved(variableDescriptor, rightEntity, rightIndex, leftEntity, leftIndex);
-        variableDescriptor.setElement(leftEntity, leftIndex, rightElement);
-        variableDescriptor.setElement(rightEntity, rightIndex, leftElement);
-        innerScoreDirector.afterElementMoved(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
-        innerScoreDirector.afterElementMoved(variableDescriptor, rightEntity, rightIndex, leftEntity, leftIndex);
+        if (leftEntity == rightEntity) {
+            // One ranged notification covers both elements
+            int fromIndex = Math.min(leftIndex, rightIndex);
+            int toIndex = Math.max(leftIndex, rightIndex) + 1;
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, leftEntity, fromIndex, toIndex);
+            variableDescriptor.setElement(leftEntity, leftIndex, rightElement);
+            variableDescriptor.setElement(rightEntity, rightIndex, leftElement);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, leftEntity, fromIndex, toIndex);
+        } else {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, leftEntity, leftIndex, leftIndex + 1);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, rightEntity, rightIndex, rightIndex + 1);
+            variableDescriptor.setElement(leftEntity, leftIndex, rightElement);
+            variableDescriptor.setElement(rightEntity, rightIndex, leftElement);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, leftEntity, leftIndex, leftIndex + 1);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, rightEntity, rightIndex, rightIndex + 1);
+        }
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.localsearch;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,8 +16,10 @@ import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleList
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.checkpoint.ResumablePhase;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
 
@@ -29,7 +32,7 @@ import io.micrometer.core.instrument.Tags;
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_> implements LocalSearchPhase<Solution_>,
-        LocalSearchPhaseLifecycleListener<Solution_> {
+        LocalSearchPhaseLifecycleListener<Solution_>, ResumablePhase<Solution_> {
 
     protected final LocalSearchDecider<Solution_> decider;
     protected final AtomicLong acceptedMoveCountPerStep = new AtomicLong(0);
@@ -39,6 +42,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalStepScoreMap = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalBestScoreMap = new ConcurrentHashMap<>();
 
+    // Only set until the next phaseStarted() of a phase that resumes from a checkpoint
+    protected int resumedStepIndex = -1;
+    protected Serializable resumedAcceptorState = null;
+
     private DefaultLocalSearchPhase(Builder<Solution_> builder) {
         super(builder);
         decider = builder.decider;
@@ -116,10 +123,41 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         decider.phaseStarted(phaseScope);
+        if (resumedStepIndex >= 0) {
+            resumePhase(phaseScope);
+        }
         // TODO maybe this restriction should be lifted to allow LocalSearch to initialize a solution too?
         assertWorkingSolutionInitialized(phaseScope);
     }
 
+    private void resumePhase(LocalSearchPhaseScope<Solution_> phaseScope) {
+        // The working solution is the checkpointed best solution, which is the solution of the resumed step
+        LocalSearchStepScope<Solution_> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope,
+                resumedStepIndex);
+        lastCompletedStepScope.setTimeGradient(phaseTermination.calculatePhaseTimeGradient(phaseScope));
+        lastCompletedStepScope.setScore(phaseScope.getStartingScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        phaseScope.setBestSolutionStepIndex(resumedStepIndex);
+        if (resumedAcceptorState != null) {
+            decider.getAcceptor().restoreCheckpointState(phaseScope, resumedAcceptorState);
+        }
+        logger.info("{}Local Search phase ({}) resumed after step index ({}).",
+                logIndentation, phaseIndex, resumedStepIndex);
+        resumedStepIndex = -1;
+        resumedAcceptorState = null;
+    }
+
+    @Override
+    public Serializable createCheckpointState(AbstractPhaseScope<Solution_> phaseScope) {
+        return decider.getAcceptor().createCheckpointState((LocalSearchPhaseScope<Solution_>) phaseScope);
+    }
+
+    @Override
+    public void resumeFromCheckpoint(int stepIndex, Serializable checkpointState) {
+        resumedStepIndex = stepIndex;
+        resumedAcceptorState = checkpointState;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
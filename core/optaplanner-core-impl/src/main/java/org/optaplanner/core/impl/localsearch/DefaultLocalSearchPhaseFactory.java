@@ -13,13 +13,17 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import org.optaplanner.core.config.localsearch.decider.forager.FinalistPodiumType;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
+import org.optaplanner.core.impl.localsearch.decider.CachingLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -71,9 +75,24 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
                     + "Maybe configure the <forager> with an <acceptedCountLimit>.");
         }
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
+        boolean stepPipeliningEnabled = Objects.requireNonNullElse(phaseConfig.getStepPipeliningEnabled(), false);
+        if (stepPipeliningEnabled) {
+            validateStepPipelining(configPolicy, moveSelector);
+        }
+        Integer moveEvaluationCacheSize = phaseConfig.getMoveEvaluationCacheSize();
+        if (moveEvaluationCacheSize != null) {
+            validateMoveEvaluationCacheSize(configPolicy, moveEvaluationCacheSize);
+        }
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         LocalSearchDecider<Solution_> decider;
-        if (moveThreadCount == null) {
+        if (moveEvaluationCacheSize != null) {
+            // The cached moves are found by their equals(), so they cannot be reused
+            decider = new CachingLocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector,
+                    acceptor, forager, moveEvaluationCacheSize);
+        } else if (moveThreadCount == null) {
+            // Each selected move is evaluated before the next one is selected, so the moves can be reused.
+            // The move threads of the multithreaded decider evaluate moves concurrently, so it cannot.
+            moveSelector.enableFlyweightMoves();
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -95,6 +114,7 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            multiThreadedDecider.setStepPipeliningEnabled(stepPipeliningEnabled);
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -103,9 +123,69 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         if (environmentMode.isIntrusiveFastAsserted()) {
             decider.setAssertExpectedUndoMoveScore(true);
         }
+        boolean moveEvaluationAbortEnabled =
+                Objects.requireNonNullElse(phaseConfig.getMoveEvaluationAbortEnabled(), false);
+        if (moveEvaluationAbortEnabled) {
+            validateMoveEvaluationAbort(moveThreadCount, moveEvaluationCacheSize);
+            // The asserts need the full score of every move
+            decider.setMoveEvaluationAbortEnabled(!environmentMode.isNonIntrusiveFullAsserted()
+                    && !environmentMode.isIntrusiveFastAsserted());
+        }
         return decider;
     }
 
+    private void validateMoveEvaluationAbort(Integer moveThreadCount, Integer moveEvaluationCacheSize) {
+        if (moveThreadCount != null) {
+            throw new IllegalArgumentException("The moveEvaluationAbortEnabled ("
+                    + phaseConfig.getMoveEvaluationAbortEnabled()
+                    + ") is not supported with a moveThreadCount (" + moveThreadCount + ").\n"
+                    + "Maybe remove the moveEvaluationAbortEnabled or the moveThreadCount.");
+        }
+        if (moveEvaluationCacheSize != null) {
+            // The cache needs the full score difference of every move
+            throw new IllegalArgumentException("The moveEvaluationAbortEnabled ("
+                    + phaseConfig.getMoveEvaluationAbortEnabled()
+                    + ") is not supported with a moveEvaluationCacheSize (" + moveEvaluationCacheSize + ").\n"
+                    + "Maybe remove the moveEvaluationAbortEnabled or the moveEvaluationCacheSize.");
+        }
+        // The strategic oscillation podium can pick a rejected move with lower hard levels
+        FinalistPodiumType finalistPodiumType = phaseConfig.getForagerConfig() == null ? null
+                : phaseConfig.getForagerConfig().getFinalistPodiumType();
+        if (finalistPodiumType != null && finalistPodiumType != FinalistPodiumType.HIGHEST_SCORE) {
+            throw new IllegalArgumentException("The moveEvaluationAbortEnabled ("
+                    + phaseConfig.getMoveEvaluationAbortEnabled()
+                    + ") is not supported with the finalistPodiumType (" + finalistPodiumType + ").\n"
+                    + "Maybe remove the moveEvaluationAbortEnabled or use the finalistPodiumType ("
+                    + FinalistPodiumType.HIGHEST_SCORE + ").");
+        }
+    }
+
+    private void validateStepPipelining(HeuristicConfigPolicy<Solution_> configPolicy,
+            MoveSelector<Solution_> moveSelector) {
+        if (configPolicy.getMoveThreadCount() == null) {
+            throw new IllegalArgumentException("The stepPipeliningEnabled (" + phaseConfig.getStepPipeliningEnabled()
+                    + ") requires a moveThreadCount (" + configPolicy.getMoveThreadCount() + ").");
+        }
+        if (!moveSelector.isNeverEnding()) {
+            throw new IllegalArgumentException("The stepPipeliningEnabled (" + phaseConfig.getStepPipeliningEnabled()
+                    + ") requires a moveSelector (" + moveSelector + ") with neverEnding (" + moveSelector.isNeverEnding()
+                    + "), because it would select the pipelined moves again.\n"
+                    + "Maybe use the selectionOrder (" + SelectionOrder.RANDOM + ").");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isChained()) {
+                    throw new IllegalArgumentException("The stepPipeliningEnabled ("
+                            + phaseConfig.getStepPipeliningEnabled() + ") does not support the chained variable ("
+                            + variableDescriptor.getSimpleEntityAndVariableName()
+                            + "), because a step can break the chain of a move that doesn't share a planning entity.");
+                }
+            }
+        }
+    }
+
     protected Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         LocalSearchAcceptorConfig acceptorConfig_;
         if (phaseConfig.getAcceptorConfig() != null) {
@@ -0,0 +1,139 @@
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.MoveEvaluationCache;
+import org.optaplanner.core.impl.heuristic.move.MoveEvaluationCache.CachedMove;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Caches the score difference of evaluated moves with the step score across steps in a {@link MoveEvaluationCache},
+ * similar to the don't look bits of a first improvement local search:
+ * a move that didn't get picked is not evaluated again
+ * until a step changes one of its planning entities or planning values.
+ * <p>
+ * The picked move is verified by {@link MoveEvaluationCache#pickVerifiedMove}.
+ * The move selector must not reuse its moves.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class CachingLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final MoveEvaluationCache<Solution_> moveEvaluationCache;
+
+    // The foraged moves of the current step, because the cache can remove them during the step
+    protected List<LocalSearchMoveScope<Solution_>> foragedMoveScopeList;
+    protected List<CachedMove<Solution_>> foragedCachedMoveList;
+
+    public CachingLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            int moveEvaluationCacheSize) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        moveEvaluationCache = new MoveEvaluationCache<>(logIndentation, moveEvaluationCacheSize);
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveEvaluationCache.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveEvaluationCache.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveEvaluationCache.phaseStarted(phaseScope.getScoreDirector());
+        foragedMoveScopeList = new ArrayList<>();
+        foragedCachedMoveList = new ArrayList<>();
+    }
+
+    @Override
+    public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        moveEvaluationCache.invalidateChangedMoves();
+        foragedMoveScopeList.clear();
+        foragedCachedMoveList.clear();
+    }
+
+    @Override
+    protected void evaluateMove(LocalSearchMoveScope<Solution_> moveScope) {
+        LocalSearchStepScope<Solution_> stepScope = moveScope.getStepScope();
+        Move<Solution_> move = moveScope.getMove();
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        CachedMove<Solution_> cachedMove = moveEvaluationCache.get(move);
+        if (cachedMove == null) {
+            doMove(moveScope);
+            cachedMove = moveEvaluationCache.put(move, moveScope.getScore().subtract(lastStepScore),
+                    stepScope.getStepIndex());
+        } else {
+            processMove(moveScope, cachedMove.getScoreDifference().add(lastStepScore));
+            logger.trace("{}        Move index ({}), cached score ({}), accepted ({}), move ({}).",
+                    logIndentation,
+                    moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                    moveScope.getMove());
+        }
+        foragedMoveScopeList.add(moveScope);
+        foragedCachedMoveList.add(cachedMove);
+    }
+
+    @Override
+    protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
+        LocalSearchMoveScope<Solution_> pickedMoveScope = moveEvaluationCache.pickVerifiedMove(stepScope,
+                foragedMoveScopeList, foragedCachedMoveList, new MoveEvaluationCache.CachedMoveForager<>() {
+                    @Override
+                    public LocalSearchMoveScope<Solution_> pickMove() {
+                        return forager.pickMove(stepScope);
+                    }
+
+                    @Override
+                    public void restart() {
+                        forager.stepStarted(stepScope);
+                    }
+
+                    @Override
+                    public LocalSearchMoveScope<Solution_> forage(int moveIndex, Move<Solution_> move, Score score) {
+                        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+                        processMove(moveScope, score);
+                        return moveScope;
+                    }
+
+                    @Override
+                    public boolean isQuitEarly() {
+                        return forager.isQuitEarly();
+                    }
+                });
+        if (pickedMoveScope != null) {
+            setStep(stepScope, pickedMoveScope);
+        }
+        // Ignore the notifications of the evaluated moves, which have been undone
+        moveEvaluationCache.ignoreChanges();
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveEvaluationCache.phaseEnded();
+        foragedMoveScopeList = null;
+        foragedCachedMoveList = null;
+    }
+
+}
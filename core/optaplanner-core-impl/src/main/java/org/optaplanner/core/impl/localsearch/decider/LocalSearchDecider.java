@@ -1,7 +1,10 @@
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -15,6 +18,8 @@ import org.optaplanner.core.impl.solver.termination.Termination;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -31,6 +36,14 @@ public class LocalSearchDecider<Solution_> {
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
 
+    protected boolean moveEvaluationAbortEnabled = false;
+
+    protected boolean moveEvaluationSpeedMetricEnabled = false;
+
+    // Only used if moveEvaluationAbortEnabled
+    protected boolean acceptedMoveFound;
+    protected Score bestRejectedMoveScore;
+
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
         this.logIndentation = logIndentation;
@@ -64,6 +77,15 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    /**
+     * @param moveEvaluationAbortEnabled true to stop the score calculation of a move early,
+     *        as soon as its hard levels show that it won't be accepted nor picked.
+     *        Only correct if the forager picks the highest scoring rejected move if no move is accepted.
+     */
+    public void setMoveEvaluationAbortEnabled(boolean moveEvaluationAbortEnabled) {
+        this.moveEvaluationAbortEnabled = moveEvaluationAbortEnabled;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -75,12 +97,15 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        moveEvaluationSpeedMetricEnabled = phaseScope.getSolverScope().isMetricEnabled(SolverMetric.MOVE_EVALUATION_SPEED);
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        acceptedMoveFound = false;
+        bestRejectedMoveScore = null;
         moveSelector.stepStarted(stepScope);
         acceptor.stepStarted(stepScope);
         forager.stepStarted(stepScope);
@@ -98,7 +123,7 @@ public class LocalSearchDecider<Solution_> {
                 logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
                         logIndentation, moveScope.getMoveIndex(), move);
             } else {
-                doMove(moveScope);
+                evaluateMove(moveScope);
                 if (forager.isQuitEarly()) {
                     break;
                 }
@@ -108,18 +133,36 @@ public class LocalSearchDecider<Solution_> {
                 break;
             }
         }
-        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        // Picking a move can evaluate it again
         pickMove(stepScope);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+    }
+
+    /**
+     * Does the move to calculate its score, unless a subclass finds its score elsewhere,
+     * and then passes it to {@link #processMove(LocalSearchMoveScope, Score)}.
+     *
+     * @param moveScope never null
+     */
+    protected void evaluateMove(LocalSearchMoveScope<Solution_> moveScope) {
+        doMove(moveScope);
     }
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
-            boolean accepted = acceptor.isAccepted(moveScope);
-            moveScope.setAccepted(accepted);
-            forager.addMove(moveScope);
-        });
+        long evaluationStartNanos = moveEvaluationSpeedMetricEnabled ? System.nanoTime() : 0L;
+        Score_ abortThreshold = moveEvaluationAbortEnabled ? determineAbortThreshold(moveScope.getStepScope()) : null;
+        if (abortThreshold == null) {
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch,
+                    score -> processMove(moveScope, score));
+        } else {
+            // An aborted score is lower than the abortThreshold, so it is rejected and ignored by the forager,
+            // even though only its hard levels are correct
+            scoreDirector.doAndProcessMove(moveScope.getMove(), abortThreshold, score -> processMove(moveScope, score));
+        }
+        if (moveEvaluationSpeedMetricEnabled) {
+            collectMoveEvaluationMetrics(moveScope, System.nanoTime() - evaluationStartNanos);
+        }
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
@@ -130,16 +173,80 @@ public class LocalSearchDecider<Solution_> {
                 moveScope.getMove());
     }
 
+    protected <Score_ extends Score<Score_>> void processMove(LocalSearchMoveScope<Solution_> moveScope, Score_ score) {
+        moveScope.setScore(score);
+        boolean accepted = acceptor.isAccepted(moveScope);
+        moveScope.setAccepted(accepted);
+        forager.addMove(moveScope);
+        if (moveEvaluationAbortEnabled) {
+            if (accepted) {
+                acceptedMoveFound = true;
+            } else if (bestRejectedMoveScore == null || score.compareTo((Score_) bestRejectedMoveScore) > 0) {
+                bestRejectedMoveScore = score;
+            }
+        }
+    }
+
+    /**
+     * A move can only be aborted if it is certainly rejected by the acceptor
+     * and it cannot be picked by the forager either, in case no move is accepted in this step.
+     *
+     * @param stepScope never null
+     * @return null if the score of the next move must be fully calculated
+     */
+    protected <Score_ extends Score<Score_>> Score_ determineAbortThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        Score_ acceptanceThreshold = (Score_) acceptor.getAcceptanceThreshold(stepScope);
+        if (acceptanceThreshold == null) {
+            return null;
+        }
+        if (acceptedMoveFound) {
+            // The forager ignores rejected moves from now on
+            return acceptanceThreshold;
+        }
+        if (bestRejectedMoveScore == null) {
+            // If no move gets accepted, the forager picks the best rejected move, so the first one needs its full score
+            return null;
+        }
+        return bestRejectedMoveScore.compareTo(acceptanceThreshold) < 0 ? (Score_) bestRejectedMoveScore
+                : acceptanceThreshold;
+    }
+
+    /**
+     * Only called if {@link SolverMetric#MOVE_EVALUATION_SPEED} is enabled,
+     * because {@link Move#getSimpleMoveTypeDescription()} is too expensive to call for every evaluated move otherwise.
+     *
+     * @param moveScope never null
+     * @param evaluationTimeNanos the time spent doing, scoring, accepting and undoing the move
+     */
+    protected void collectMoveEvaluationMetrics(LocalSearchMoveScope<Solution_> moveScope, long evaluationTimeNanos) {
+        SolverScope<Solution_> solverScope = moveScope.getStepScope().getPhaseScope().getSolverScope();
+        String moveType = moveScope.getMove().getSimpleMoveTypeDescription();
+        // The counters are kept on the SolverScope, so the gauges survive multiple local search phases
+        AtomicLong moveEvaluationCount = solverScope.getMoveEvaluationCountMap().computeIfAbsent(moveType,
+                key -> Metrics.gauge(SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".count",
+                        solverScope.getMonitoringTags().and("move.type", moveType), new AtomicLong(0L)));
+        AtomicLong moveEvaluationTime = solverScope.getMoveEvaluationTimeMap().computeIfAbsent(moveType,
+                key -> Metrics.gauge(SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".time",
+                        solverScope.getMonitoringTags().and("move.type", moveType), new AtomicLong(0L)));
+        moveEvaluationCount.incrementAndGet();
+        moveEvaluationTime.addAndGet(evaluationTimeNanos);
+    }
+
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
-            Move<Solution_> step = pickedMoveScope.getMove();
-            stepScope.setStep(step);
-            if (logger.isDebugEnabled()) {
-                stepScope.setStepString(step.toString());
-            }
-            stepScope.setScore(pickedMoveScope.getScore());
+            setStep(stepScope, pickedMoveScope);
+        }
+    }
+
+    protected void setStep(LocalSearchStepScope<Solution_> stepScope, LocalSearchMoveScope<Solution_> pickedMoveScope) {
+        Move<Solution_> step = pickedMoveScope.getMove();
+        stepScope.setStep(step);
+        stepScope.setStepMoveIndex(pickedMoveScope.getMoveIndex());
+        if (logger.isDebugEnabled()) {
+            stepScope.setStepString(step.toString());
         }
+        stepScope.setScore(pickedMoveScope.getScore());
     }
 
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
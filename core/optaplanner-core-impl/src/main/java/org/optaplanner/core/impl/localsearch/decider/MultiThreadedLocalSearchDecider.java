@@ -1,8 +1,12 @@
 package org.optaplanner.core.impl.localsearch.decider;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
@@ -44,12 +48,15 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected boolean stepPipeliningEnabled = false;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    protected int pipelinedStepIndex;
+    protected List<Move<Solution_>> pipelinedMoveList;
 
     public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
@@ -72,6 +79,19 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * The moves that are selected but not foraged in a step are evaluated for the next step
+     * while the solver thread is still applying the step,
+     * unless they share a planning entity or planning value with the step.
+     * At most the selected move buffer size of moves is pipelined per step.
+     * Only sensible with a never ending move selector, because it would select those moves again otherwise.
+     *
+     * @param stepPipeliningEnabled true to keep the move threads busy while the step is applied
+     */
+    public void setStepPipeliningEnabled(boolean stepPipeliningEnabled) {
+        this.stepPipeliningEnabled = stepPipeliningEnabled;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -93,6 +113,8 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
+        pipelinedStepIndex = -1;
+        pipelinedMoveList = Collections.emptyList();
     }
 
     @Override
@@ -114,6 +136,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         operationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        pipelinedMoveList = null;
     }
 
     @Override
@@ -136,10 +159,19 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     @Override
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         int stepIndex = stepScope.getStepIndex();
-        resultQueue.startNextStep(stepIndex);
+        List<Move<Solution_>> selectedMoveList;
+        if (pipelinedStepIndex == stepIndex) {
+            // The previous step already started the evaluation of these moves
+            selectedMoveList = new ArrayList<>(pipelinedMoveList);
+        } else {
+            resultQueue.startNextStep(stepIndex);
+            selectedMoveList = new ArrayList<>();
+        }
+        pipelinedMoveList = Collections.emptyList();
 
-        int selectingMoveIndex = 0;
+        int selectingMoveIndex = selectedMoveList.size();
         int foragingMoveIndex = 0;
+        boolean quitEarly = false;
         Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
         do {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
@@ -148,6 +180,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             // even if some of those moves won't end up being evaluated or foraged
             if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
                 if (forageResult(stepScope, stepIndex)) {
+                    quitEarly = true;
                     break;
                 }
                 foragingMoveIndex++;
@@ -155,6 +188,9 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             if (!moveIteratorEmpty) {
                 Move<Solution_> selectingMove = moveIterator.next();
                 operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                if (stepPipeliningEnabled) {
+                    selectedMoveList.add(selectingMove);
+                }
                 selectingMoveIndex++;
             }
         } while (foragingMoveIndex < selectingMoveIndex);
@@ -176,9 +212,57 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             for (int i = 0; i < moveThreadCount; i++) {
                 operationQueue.add(stepOperation);
             }
+            if (stepPipeliningEnabled && quitEarly) {
+                // For reproducibility, the moves after the foraged moves are pipelined,
+                // regardless if their evaluation for this step had started
+                pipelineNextStep(stepScope, selectedMoveList.subList(foragingMoveIndex + 1, selectedMoveList.size()));
+            }
         }
     }
 
+    private void pipelineNextStep(LocalSearchStepScope<Solution_> stepScope, List<Move<Solution_>> unforagedMoveList) {
+        int nextStepIndex = stepScope.getStepIndex() + 1;
+        // The move threads apply the step before they take these operations,
+        // and they skip a move that the step made undoable, so every score is exact
+        resultQueue.startNextStep(nextStepIndex);
+        List<Move<Solution_>> nextPipelinedMoveList = selectPipelinedMoves(stepScope.getStep(), unforagedMoveList);
+        for (int i = 0; i < nextPipelinedMoveList.size(); i++) {
+            operationQueue.add(new MoveEvaluationOperation<>(nextStepIndex, i, nextPipelinedMoveList.get(i)));
+        }
+        logger.trace("{}        Pipelined ({}) of ({}) unforaged moves for step index ({}).",
+                logIndentation, nextPipelinedMoveList.size(), unforagedMoveList.size(), nextStepIndex);
+        pipelinedStepIndex = nextStepIndex;
+        pipelinedMoveList = nextPipelinedMoveList;
+    }
+
+    /**
+     * @param step never null
+     * @param unforagedMoveList never null
+     * @return never null, the unforaged moves that share no planning entity and no planning value with the step,
+     *         in the same order
+     */
+    protected List<Move<Solution_>> selectPipelinedMoves(Move<Solution_> step, List<Move<Solution_>> unforagedMoveList) {
+        Set<Object> stepPlanningObjectSet = new HashSet<>(step.getPlanningEntities());
+        stepPlanningObjectSet.addAll(step.getPlanningValues());
+        List<Move<Solution_>> pipelinedMoveList = new ArrayList<>(unforagedMoveList.size());
+        for (Move<Solution_> move : unforagedMoveList) {
+            if (!containsAny(stepPlanningObjectSet, move.getPlanningEntities())
+                    && !containsAny(stepPlanningObjectSet, move.getPlanningValues())) {
+                pipelinedMoveList.add(move);
+            }
+        }
+        return pipelinedMoveList;
+    }
+
+    private static boolean containsAny(Set<Object> stepPlanningObjectSet, Collection<?> planningObjects) {
+        for (Object planningObject : planningObjects) {
+            if (planningObject != null && stepPlanningObjectSet.contains(planningObject)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
         try {
@@ -1,9 +1,15 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import java.io.Serializable;
+
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.checkpoint.ResumablePhase;
 
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
@@ -19,4 +25,35 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Every move with a score lower than this threshold is rejected by {@link #isAccepted(LocalSearchMoveScope)},
+     * so the score calculation of such a move can stop as soon as its hard levels are known.
+     *
+     * @param stepScope not null
+     * @return null if there is no such threshold
+     */
+    default Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        return null;
+    }
+
+    /**
+     * Called between 2 steps, so a {@link ResumablePhase} can continue with the same acceptor state.
+     *
+     * @param phaseScope never null
+     * @return null if this acceptor carries no state from step to step
+     */
+    default Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return null;
+    }
+
+    /**
+     * Called after {@link #phaseStarted(LocalSearchPhaseScope)} of a phase that resumes from a checkpoint.
+     *
+     * @param phaseScope never null
+     * @param checkpointState never null, created by {@link #createCheckpointState(LocalSearchPhaseScope)}
+     *        of an acceptor with the same configuration
+     */
+    default void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+    }
+
 }
@@ -13,6 +13,8 @@ import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.greatdeluge.GreatDelugeAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.LateAcceptanceAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.SelfTuningLateAcceptanceAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing.SelfTuningSimulatedAnnealingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing.SimulatedAnnealingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.EntityTabuAcceptor;
@@ -20,7 +22,10 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.MoveTabuAccep
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.ValueTabuAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.EntityRatioTabuSizeStrategy;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTabuSizeStrategy;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.ReactiveTabuSizeStrategy;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.TabuSizeStrategy;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.ValueRatioTabuSizeStrategy;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 
 public class AcceptorFactory<Solution_> {
 
@@ -38,20 +43,29 @@ public class AcceptorFactory<Solution_> {
     }
 
     public Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
+        boolean selfTuning = Objects.requireNonNullElse(acceptorConfig.getSelfTuning(), false);
         List<Acceptor<Solution_>> acceptorList = Stream.of(
                 buildHillClimbingAcceptor(),
                 buildStepCountingHillClimbingAcceptor(),
-                buildEntityTabuAcceptor(configPolicy),
+                buildEntityTabuAcceptor(configPolicy, selfTuning),
                 buildValueTabuAcceptor(configPolicy),
                 buildMoveTabuAcceptor(configPolicy),
                 buildUndoMoveTabuAcceptor(configPolicy),
-                buildSimulatedAnnealingAcceptor(configPolicy),
-                buildLateAcceptanceAcceptor(),
+                buildSimulatedAnnealingAcceptor(configPolicy, selfTuning),
+                buildLateAcceptanceAcceptor(selfTuning),
                 buildGreatDelugeAcceptor(configPolicy))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
 
+        if (selfTuning && acceptorList.stream().noneMatch(acceptor -> acceptor instanceof EntityTabuAcceptor
+                || acceptor instanceof SimulatedAnnealingAcceptor || acceptor instanceof LateAcceptanceAcceptor)) {
+            throw new IllegalArgumentException("The acceptor with selfTuning (" + selfTuning
+                    + ") does not have an acceptorType (" + acceptorConfig.getAcceptorTypeList()
+                    + ") that supports it.\n"
+                    + "Maybe use the acceptorType " + AcceptorType.ENTITY_TABU + ", "
+                    + AcceptorType.SIMULATED_ANNEALING + " or " + AcceptorType.LATE_ACCEPTANCE + ".");
+        }
         if (acceptorList.size() == 1) {
             return acceptorList.get(0);
         } else if (acceptorList.size() > 1) {
@@ -90,7 +104,8 @@ public class AcceptorFactory<Solution_> {
         return Optional.empty();
     }
 
-    private Optional<EntityTabuAcceptor<Solution_>> buildEntityTabuAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
+    private Optional<EntityTabuAcceptor<Solution_>> buildEntityTabuAcceptor(HeuristicConfigPolicy<Solution_> configPolicy,
+            boolean selfTuning) {
         if ((acceptorConfig.getAcceptorTypeList() != null
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.ENTITY_TABU))
                 || acceptorConfig.getEntityTabuSize() != null || acceptorConfig.getEntityTabuRatio() != null
@@ -121,6 +136,11 @@ public class AcceptorFactory<Solution_> {
                 acceptor.setFadingTabuSizeStrategy(
                         new EntityRatioTabuSizeStrategy<>(acceptorConfig.getFadingEntityTabuRatio()));
             }
+            if (selfTuning) {
+                acceptor.setTabuSizeStrategy(buildReactiveEntityTabuSizeStrategy(acceptor.getTabuSizeStrategy()));
+                acceptor.setFadingTabuSizeStrategy(
+                        buildReactiveEntityTabuSizeStrategy(acceptor.getFadingTabuSizeStrategy()));
+            }
             if (configPolicy.getEnvironmentMode().isNonIntrusiveFullAsserted()) {
                 acceptor.setAssertTabuHashCodeCorrectness(true);
             }
@@ -129,6 +149,14 @@ public class AcceptorFactory<Solution_> {
         return Optional.empty();
     }
 
+    private TabuSizeStrategy<Solution_> buildReactiveEntityTabuSizeStrategy(
+            TabuSizeStrategy<Solution_> startingTabuSizeStrategy) {
+        if (startingTabuSizeStrategy == null) {
+            return null;
+        }
+        return new ReactiveTabuSizeStrategy<>(startingTabuSizeStrategy, LocalSearchPhaseScope::getWorkingEntityCount);
+    }
+
     private Optional<ValueTabuAcceptor<Solution_>> buildValueTabuAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         if ((acceptorConfig.getAcceptorTypeList() != null
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.VALUE_TABU))
@@ -211,11 +239,12 @@ public class AcceptorFactory<Solution_> {
     }
 
     private Optional<SimulatedAnnealingAcceptor<Solution_>>
-            buildSimulatedAnnealingAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
+            buildSimulatedAnnealingAcceptor(HeuristicConfigPolicy<Solution_> configPolicy, boolean selfTuning) {
         if ((acceptorConfig.getAcceptorTypeList() != null
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.SIMULATED_ANNEALING))
                 || acceptorConfig.getSimulatedAnnealingStartingTemperature() != null) {
-            SimulatedAnnealingAcceptor<Solution_> acceptor = new SimulatedAnnealingAcceptor<>();
+            SimulatedAnnealingAcceptor<Solution_> acceptor = selfTuning ? new SelfTuningSimulatedAnnealingAcceptor<>()
+                    : new SimulatedAnnealingAcceptor<>();
             if (acceptorConfig.getSimulatedAnnealingStartingTemperature() == null) {
                 // TODO Support SA without a parameter
                 throw new IllegalArgumentException("The acceptorType (" + AcceptorType.SIMULATED_ANNEALING
@@ -229,11 +258,12 @@ public class AcceptorFactory<Solution_> {
         return Optional.empty();
     }
 
-    private Optional<LateAcceptanceAcceptor<Solution_>> buildLateAcceptanceAcceptor() {
+    private Optional<LateAcceptanceAcceptor<Solution_>> buildLateAcceptanceAcceptor(boolean selfTuning) {
         if ((acceptorConfig.getAcceptorTypeList() != null
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.LATE_ACCEPTANCE))
                 || acceptorConfig.getLateAcceptanceSize() != null) {
-            LateAcceptanceAcceptor<Solution_> acceptor = new LateAcceptanceAcceptor<>();
+            LateAcceptanceAcceptor<Solution_> acceptor = selfTuning ? new SelfTuningLateAcceptanceAcceptor<>()
+                    : new LateAcceptanceAcceptor<>();
             acceptor.setLateAcceptanceSize(Objects.requireNonNullElse(acceptorConfig.getLateAcceptanceSize(), 400));
             return Optional.of(acceptor);
         }
@@ -1,8 +1,11 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -61,6 +64,19 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        // A move is only accepted if every acceptor accepts it, so the highest threshold applies
+        Score acceptanceThreshold = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            Score threshold = acceptor.getAcceptanceThreshold(stepScope);
+            if (threshold != null && (acceptanceThreshold == null || threshold.compareTo(acceptanceThreshold) > 0)) {
+                acceptanceThreshold = threshold;
+            }
+        }
+        return acceptanceThreshold;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -75,6 +91,26 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         }
     }
 
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        ArrayList<Serializable> checkpointStateList = new ArrayList<>(acceptorList.size());
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            checkpointStateList.add(acceptor.createCheckpointState(phaseScope));
+        }
+        return checkpointStateList;
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        List<Serializable> checkpointStateList = (List<Serializable>) checkpointState;
+        for (int i = 0; i < acceptorList.size(); i++) {
+            Serializable acceptorCheckpointState = checkpointStateList.get(i);
+            if (acceptorCheckpointState != null) {
+                acceptorList.get(i).restoreCheckpointState(phaseScope, acceptorCheckpointState);
+            }
+        }
+    }
+
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
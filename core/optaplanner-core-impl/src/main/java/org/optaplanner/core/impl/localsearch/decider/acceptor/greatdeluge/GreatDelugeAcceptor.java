@@ -1,5 +1,7 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.greatdeluge;
 
+import java.io.Serializable;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -61,6 +63,19 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         currentWaterLevel = null;
     }
 
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return new GreatDelugeCheckpointState(startingWaterLevel, currentWaterLevel, currentWaterLevelRatio);
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        GreatDelugeCheckpointState greatDelugeCheckpointState = (GreatDelugeCheckpointState) checkpointState;
+        startingWaterLevel = greatDelugeCheckpointState.startingWaterLevel;
+        currentWaterLevel = greatDelugeCheckpointState.currentWaterLevel;
+        currentWaterLevelRatio = greatDelugeCheckpointState.currentWaterLevelRatio;
+    }
+
     @Override
     public boolean isAccepted(LocalSearchMoveScope moveScope) {
         Score moveScore = moveScope.getScore();
@@ -75,6 +90,13 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return false;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        // Aspiration accepts any move that improves the last step score
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return lastStepScore.compareTo(currentWaterLevel) < 0 ? lastStepScore : currentWaterLevel;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -90,4 +112,21 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         }
     }
 
+    private static class GreatDelugeCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Score startingWaterLevel;
+        private final Score currentWaterLevel;
+        private final Double currentWaterLevelRatio;
+
+        private GreatDelugeCheckpointState(Score startingWaterLevel, Score currentWaterLevel,
+                Double currentWaterLevelRatio) {
+            this.startingWaterLevel = startingWaterLevel;
+            this.currentWaterLevel = currentWaterLevel;
+            this.currentWaterLevelRatio = currentWaterLevelRatio;
+        }
+
+    }
+
 }
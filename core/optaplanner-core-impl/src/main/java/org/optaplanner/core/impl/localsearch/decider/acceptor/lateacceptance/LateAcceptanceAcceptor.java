@@ -1,5 +1,7 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
 
+import java.io.Serializable;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -61,6 +63,18 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        Score lateScore = previousScores[lateScoreIndex];
+        if (hillClimbingEnabled) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            if (lastStepScore.compareTo(lateScore) < 0) {
+                return lastStepScore;
+            }
+        }
+        return lateScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -75,4 +89,31 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         lateScoreIndex = -1;
     }
 
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return new LateAcceptanceCheckpointState(previousScores.clone(), lateScoreIndex);
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        LateAcceptanceCheckpointState lateAcceptanceCheckpointState = (LateAcceptanceCheckpointState) checkpointState;
+        previousScores = lateAcceptanceCheckpointState.previousScores.clone();
+        lateAcceptanceSize = previousScores.length;
+        lateScoreIndex = lateAcceptanceCheckpointState.lateScoreIndex;
+    }
+
+    protected static class LateAcceptanceCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final Score[] previousScores;
+        protected final int lateScoreIndex;
+
+        protected LateAcceptanceCheckpointState(Score[] previousScores, int lateScoreIndex) {
+            this.previousScores = previousScores;
+            this.lateScoreIndex = lateScoreIndex;
+        }
+
+    }
+
 }
@@ -0,0 +1,112 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import java.io.Serializable;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * A {@link LateAcceptanceAcceptor} that adjusts its late acceptance size during solving.
+ * If the best score hasn't improved for {@link #STAGNATION_SIZE_MULTIPLIER} times the late acceptance size,
+ * the size doubles, so worse steps remain acceptable for longer to escape the local optimum.
+ * Every step that improves the best score halves the size, down to the configured size,
+ * to intensify the search around that best solution.
+ */
+public class SelfTuningLateAcceptanceAcceptor<Solution_> extends LateAcceptanceAcceptor<Solution_> {
+
+    protected static final int STAGNATION_SIZE_MULTIPLIER = 10;
+    protected static final int MAXIMUM_SIZE_MULTIPLIER = 64;
+
+    protected int startingLateAcceptanceSize = -1;
+    protected int lastGrowthStepIndex = -1;
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        startingLateAcceptanceSize = lateAcceptanceSize;
+        super.phaseStarted(phaseScope);
+        lastGrowthStepIndex = -1;
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        int stepIndex = stepScope.getStepIndex();
+        if (Boolean.TRUE.equals(stepScope.getBestScoreImproved())) {
+            if (lateAcceptanceSize > startingLateAcceptanceSize) {
+                resizeLateAcceptanceList(Math.max(lateAcceptanceSize / 2, startingLateAcceptanceSize));
+            }
+        } else {
+            int stagnantStepCount = stepIndex
+                    - Math.max(stepScope.getPhaseScope().getBestSolutionStepIndex(), lastGrowthStepIndex);
+            int maximumLateAcceptanceSize = startingLateAcceptanceSize * MAXIMUM_SIZE_MULTIPLIER;
+            if (stagnantStepCount > lateAcceptanceSize * STAGNATION_SIZE_MULTIPLIER
+                    && lateAcceptanceSize < maximumLateAcceptanceSize) {
+                resizeLateAcceptanceList(Math.min(lateAcceptanceSize * 2, maximumLateAcceptanceSize));
+                lastGrowthStepIndex = stepIndex;
+            }
+        }
+    }
+
+    /**
+     * Keeps the newest scores and pads the list with the oldest score,
+     * so the next steps are compared against that oldest score.
+     *
+     * @param newLateAcceptanceSize {@code > 0}
+     */
+    protected void resizeLateAcceptanceList(int newLateAcceptanceSize) {
+        Score[] newPreviousScores = new Score[newLateAcceptanceSize];
+        // The score at lateScoreIndex is the oldest score
+        Score oldestScore = previousScores[lateScoreIndex];
+        int keptCount = Math.min(lateAcceptanceSize, newLateAcceptanceSize);
+        int paddingCount = newLateAcceptanceSize - keptCount;
+        for (int i = 0; i < paddingCount; i++) {
+            newPreviousScores[i] = oldestScore;
+        }
+        int keptStartIndex = lateScoreIndex + lateAcceptanceSize - keptCount;
+        for (int i = 0; i < keptCount; i++) {
+            newPreviousScores[paddingCount + i] = previousScores[(keptStartIndex + i) % lateAcceptanceSize];
+        }
+        previousScores = newPreviousScores;
+        lateAcceptanceSize = newLateAcceptanceSize;
+        lateScoreIndex = 0;
+    }
+
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return new SelfTuningLateAcceptanceCheckpointState(previousScores.clone(), lateScoreIndex, lastGrowthStepIndex);
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        super.restoreCheckpointState(phaseScope, checkpointState);
+        lastGrowthStepIndex = ((SelfTuningLateAcceptanceCheckpointState) checkpointState).lastGrowthStepIndex;
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // The next phase starts from the configured size again
+        lateAcceptanceSize = startingLateAcceptanceSize;
+        startingLateAcceptanceSize = -1;
+    }
+
+    protected static class SelfTuningLateAcceptanceCheckpointState extends LateAcceptanceCheckpointState {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final int lastGrowthStepIndex;
+
+        protected SelfTuningLateAcceptanceCheckpointState(Score[] previousScores, int lateScoreIndex,
+                int lastGrowthStepIndex) {
+            super(previousScores, lateScoreIndex);
+            this.lastGrowthStepIndex = lastGrowthStepIndex;
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing;
+
+import java.io.Serializable;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * A {@link SimulatedAnnealingAcceptor} that scales its temperature during solving,
+ * so the ratio of accepted worsening moves follows a target that decreases with the time gradient.
+ * A starting temperature that is too high or too low for the dataset is corrected after a few steps.
+ */
+public class SelfTuningSimulatedAnnealingAcceptor<Solution_> extends SimulatedAnnealingAcceptor<Solution_> {
+
+    protected static final double STARTING_ACCEPTANCE_RATIO_TARGET = 0.5;
+    protected static final int MEASUREMENT_WORSENING_MOVE_COUNT = 100;
+    protected static final double TEMPERATURE_SCALE_FACTOR = 1.1;
+    protected static final double TEMPERATURE_SCALE_MINIMUM = 1.0E-6;
+    protected static final double TEMPERATURE_SCALE_MAXIMUM = 1.0E6;
+
+    protected double temperatureScale = 1.0;
+    protected int worseningMoveCount = 0;
+    protected int acceptedWorseningMoveCount = 0;
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        temperatureScale = 1.0;
+        worseningMoveCount = 0;
+        acceptedWorseningMoveCount = 0;
+    }
+
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return new SelfTuningSimulatedAnnealingCheckpointState(temperatureScale, worseningMoveCount,
+                acceptedWorseningMoveCount);
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        SelfTuningSimulatedAnnealingCheckpointState selfTuningCheckpointState =
+                (SelfTuningSimulatedAnnealingCheckpointState) checkpointState;
+        temperatureScale = selfTuningCheckpointState.temperatureScale;
+        worseningMoveCount = selfTuningCheckpointState.worseningMoveCount;
+        acceptedWorseningMoveCount = selfTuningCheckpointState.acceptedWorseningMoveCount;
+    }
+
+    @Override
+    public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
+        boolean accepted = super.isAccepted(moveScope);
+        if (!accepted) {
+            // Only worsening moves can be rejected
+            worseningMoveCount++;
+        } else {
+            Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+            if (moveScope.getScore().compareTo(lastStepScore) < 0) {
+                worseningMoveCount++;
+                acceptedWorseningMoveCount++;
+            }
+        }
+        return accepted;
+    }
+
+    @Override
+    public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        if (worseningMoveCount >= MEASUREMENT_WORSENING_MOVE_COUNT) {
+            double timeGradient = stepScope.getTimeGradient();
+            // A timeGradient of -1.0 means that the termination doesn't support it
+            double acceptanceRatioTarget = STARTING_ACCEPTANCE_RATIO_TARGET
+                    * (timeGradient < 0.0 ? 1.0 : 1.0 - timeGradient);
+            double acceptanceRatio = acceptedWorseningMoveCount / (double) worseningMoveCount;
+            if (acceptanceRatio > acceptanceRatioTarget) {
+                temperatureScale = Math.max(temperatureScale / TEMPERATURE_SCALE_FACTOR, TEMPERATURE_SCALE_MINIMUM);
+            } else if (acceptanceRatio < acceptanceRatioTarget) {
+                temperatureScale = Math.min(temperatureScale * TEMPERATURE_SCALE_FACTOR, TEMPERATURE_SCALE_MAXIMUM);
+            }
+            worseningMoveCount = 0;
+            acceptedWorseningMoveCount = 0;
+        }
+        for (int i = 0; i < levelsLength; i++) {
+            temperatureLevels[i] = Math.max(temperatureLevels[i] * temperatureScale, temperatureMinimum);
+        }
+    }
+
+    protected static class SelfTuningSimulatedAnnealingCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final double temperatureScale;
+        protected final int worseningMoveCount;
+        protected final int acceptedWorseningMoveCount;
+
+        protected SelfTuningSimulatedAnnealingCheckpointState(double temperatureScale, int worseningMoveCount,
+                int acceptedWorseningMoveCount) {
+            this.temperatureScale = temperatureScale;
+            this.worseningMoveCount = worseningMoveCount;
+            this.acceptedWorseningMoveCount = acceptedWorseningMoveCount;
+        }
+
+    }
+
+}
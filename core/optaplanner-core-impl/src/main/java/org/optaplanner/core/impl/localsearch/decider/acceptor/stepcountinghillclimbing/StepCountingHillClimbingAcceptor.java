@@ -1,5 +1,7 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing;
 
+import java.io.Serializable;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingType;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
@@ -40,6 +42,19 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
         count = 0;
     }
 
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        return new StepCountingHillClimbingCheckpointState(thresholdScore, count);
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        StepCountingHillClimbingCheckpointState stepCountingCheckpointState =
+                (StepCountingHillClimbingCheckpointState) checkpointState;
+        thresholdScore = stepCountingCheckpointState.thresholdScore;
+        count = stepCountingCheckpointState.count;
+    }
+
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
         Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
@@ -89,4 +104,18 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
         count = -1;
     }
 
+    protected static class StepCountingHillClimbingCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final Score thresholdScore;
+        protected final int count;
+
+        protected StepCountingHillClimbingCheckpointState(Score thresholdScore, int count) {
+            this.thresholdScore = thresholdScore;
+            this.count = count;
+        }
+
+    }
+
 }
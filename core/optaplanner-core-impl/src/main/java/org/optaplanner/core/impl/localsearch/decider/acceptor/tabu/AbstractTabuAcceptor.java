@@ -1,12 +1,16 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.ArrayDeque;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.TabuSizeStrategy;
@@ -16,6 +20,12 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * Abstract superclass for all Tabu Acceptors.
+ * <p>
+ * Every planning entity and problem fact of the working solution gets an ordinal once per phase,
+ * found by identity, so checking whether it is tabu is an int array lookup.
+ * Any other tabu (such as a move or a planning value that isn't a problem fact)
+ * gets an ordinal while it is tabu, found by {@link Object#equals(Object)}.
+ * The tabu sequence is a circular buffer of ordinals.
  *
  * @see Acceptor
  */
@@ -29,8 +39,21 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
-    protected Map<Object, Integer> tabuToStepIndexMap;
-    protected Deque<Object> tabuSequenceDeque;
+    // Never changes during a phase, so the ordinals below factCount are never reused
+    protected Map<Object, Integer> factToOrdinalMap;
+    protected int factCount;
+    // Only contains the other tabus that are currently tabu, so their ordinals can be reused
+    protected Map<Object, Integer> tabuToOrdinalMap;
+    protected Object[] ordinalToTabu;
+    protected int[] ordinalToStepIndex;
+    protected int[] freeOrdinals;
+    protected int freeOrdinalCount;
+    protected int ordinalCount;
+    // Circular buffer in step order, which includes stale entries of tabus that have been pushed to the end of the line
+    protected int[] tabuSequenceOrdinals;
+    protected int[] tabuSequenceStepIndexes;
+    protected int tabuSequenceHead;
+    protected int tabuSequenceSize;
 
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
@@ -39,10 +62,18 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         this.logIndentation = logIndentation;
     }
 
+    public TabuSizeStrategy<Solution_> getTabuSizeStrategy() {
+        return tabuSizeStrategy;
+    }
+
     public void setTabuSizeStrategy(TabuSizeStrategy<Solution_> tabuSizeStrategy) {
         this.tabuSizeStrategy = tabuSizeStrategy;
     }
 
+    public TabuSizeStrategy<Solution_> getFadingTabuSizeStrategy() {
+        return fadingTabuSizeStrategy;
+    }
+
     public void setFadingTabuSizeStrategy(TabuSizeStrategy<Solution_> fadingTabuSizeStrategy) {
         this.fadingTabuSizeStrategy = fadingTabuSizeStrategy;
     }
@@ -68,15 +99,54 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
-        tabuSequenceDeque = new ArrayDeque<>();
+        int initialCapacity = Math.max(totalTabuListSize, 16);
+        factToOrdinalMap = new IdentityHashMap<>();
+        if (isFactTabu()) {
+            phaseScope.getSolutionDescriptor().visitAllFacts(phaseScope.getWorkingSolution(),
+                    fact -> factToOrdinalMap.putIfAbsent(fact, factToOrdinalMap.size()));
+        }
+        factCount = factToOrdinalMap.size();
+        tabuToOrdinalMap = createTabuToOrdinalMap(initialCapacity);
+        ordinalToTabu = new Object[factCount + initialCapacity];
+        ordinalToStepIndex = new int[factCount + initialCapacity];
+        Arrays.fill(ordinalToStepIndex, 0, factCount, -1);
+        freeOrdinals = new int[initialCapacity];
+        freeOrdinalCount = 0;
+        ordinalCount = factCount;
+        tabuSequenceOrdinals = new int[initialCapacity];
+        tabuSequenceStepIndexes = new int[initialCapacity];
+        tabuSequenceHead = 0;
+        tabuSequenceSize = 0;
+    }
+
+    /**
+     * @return true if the tabus are planning entities or planning values,
+     *         so those of the working solution are found by identity
+     */
+    protected boolean isFactTabu() {
+        return true;
+    }
+
+    /**
+     * @param initialCapacity {@code > 0}
+     * @return never null, a {@link HashMap} by default, so the tabus that aren't planning entities or problem facts
+     *         of the working solution are equal if they are {@link Object#equals(Object)}
+     */
+    protected Map<Object, Integer> createTabuToOrdinalMap(int initialCapacity) {
+        return new HashMap<>(initialCapacity);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        factToOrdinalMap = null;
+        factCount = 0;
+        tabuToOrdinalMap = null;
+        ordinalToTabu = null;
+        ordinalToStepIndex = null;
+        freeOrdinals = null;
+        tabuSequenceOrdinals = null;
+        tabuSequenceStepIndexes = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -90,34 +160,152 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         adjustTabuList(stepScope.getStepIndex(), findNewTabu(stepScope));
     }
 
+    /**
+     * A tabu is checkpointed by its ordinal, which is the index in which
+     * {@link SolutionDescriptor#visitAllFacts(Object, Consumer)} visits it,
+     * because the resumed working solution has other instances.
+     * A tabu that isn't a planning entity or problem fact of the working solution (such as a move) is not checkpointed.
+     */
+    @Override
+    public Serializable createCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope) {
+        int capacity = tabuSequenceOrdinals.length;
+        List<int[]> tabuEntryList = new ArrayList<>(tabuSequenceSize);
+        for (int i = 0; i < tabuSequenceSize; i++) {
+            int ordinal = tabuSequenceOrdinals[(tabuSequenceHead + i) % capacity];
+            int tabuStepIndex = tabuSequenceStepIndexes[(tabuSequenceHead + i) % capacity];
+            // A stale entry doesn't affect acceptance
+            if (ordinal < factCount && ordinalToStepIndex[ordinal] == tabuStepIndex) {
+                tabuEntryList.add(new int[] { ordinal, tabuStepIndex });
+            }
+        }
+        return new TabuCheckpointState(tabuEntryList.toArray(new int[0][]), workingTabuSize, workingFadingTabuSize,
+                tabuSizeStrategy == null ? null : tabuSizeStrategy.createCheckpointState(),
+                fadingTabuSizeStrategy == null ? null : fadingTabuSizeStrategy.createCheckpointState());
+    }
+
+    @Override
+    public void restoreCheckpointState(LocalSearchPhaseScope<Solution_> phaseScope, Serializable checkpointState) {
+        TabuCheckpointState tabuCheckpointState = (TabuCheckpointState) checkpointState;
+        workingTabuSize = tabuCheckpointState.workingTabuSize;
+        workingFadingTabuSize = tabuCheckpointState.workingFadingTabuSize;
+        if (tabuCheckpointState.tabuSizeStrategyState != null) {
+            tabuSizeStrategy.restoreCheckpointState(tabuCheckpointState.tabuSizeStrategyState);
+        }
+        if (tabuCheckpointState.fadingTabuSizeStrategyState != null) {
+            fadingTabuSizeStrategy.restoreCheckpointState(tabuCheckpointState.fadingTabuSizeStrategyState);
+        }
+        for (int[] tabuEntry : tabuCheckpointState.tabuEntries) {
+            int ordinal = tabuEntry[0];
+            if (ordinal >= factCount) {
+                throw new IllegalStateException("The checkpointed tabu fact index (" + ordinal
+                        + ") is not below the fact count (" + factCount + ") of the resumed working solution.");
+            }
+            ordinalToStepIndex[ordinal] = tabuEntry[1];
+            addToTabuSequence(ordinal, tabuEntry[1]);
+        }
+    }
+
     protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
-        for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
-            Object oldTabu = it.next();
-            Integer oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                        + oldTabu + ") of class (" + oldTabu.getClass()
-                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
-            }
-            int oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
+        while (tabuSequenceSize > 0) {
+            int oldTabuStepIndex = tabuSequenceStepIndexes[tabuSequenceHead];
+            int oldTabuStepCount = tabuStepIndex - oldTabuStepIndex; // at least 1
             if (oldTabuStepCount < totalTabuListSize) {
                 break;
             }
-            it.remove();
-            tabuToStepIndexMap.remove(oldTabu);
+            int oldTabuOrdinal = tabuSequenceOrdinals[tabuSequenceHead];
+            tabuSequenceHead = (tabuSequenceHead + 1) % tabuSequenceOrdinals.length;
+            tabuSequenceSize--;
+            // Otherwise the tabu has been pushed to the end of the line, so this entry is stale
+            if (ordinalToStepIndex[oldTabuOrdinal] == oldTabuStepIndex) {
+                removeTabu(oldTabuOrdinal);
+            }
         }
         // Add the new tabu(s)
         for (Object tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
+            addTabu(tabu, tabuStepIndex);
+        }
+    }
+
+    private void addTabu(Object tabu, int tabuStepIndex) {
+        // Otherwise push tabu to the end of the line
+        int ordinal = findOrdinal(tabu);
+        if (ordinal < 0) {
+            ordinal = allocateOrdinal();
+            ordinalToTabu[ordinal] = tabu;
+            tabuToOrdinalMap.put(tabu, ordinal);
+        }
+        ordinalToStepIndex[ordinal] = tabuStepIndex;
+        addToTabuSequence(ordinal, tabuStepIndex);
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return -1 if the tabu is neither a planning entity or problem fact of the working solution nor currently tabu
+     */
+    private int findOrdinal(Object tabu) {
+        Integer ordinal = factToOrdinalMap.get(tabu);
+        if (ordinal == null) {
+            ordinal = tabuToOrdinalMap.get(tabu);
+            if (ordinal == null) {
+                return -1;
+            }
+        }
+        return ordinal;
+    }
+
+    private void removeTabu(int ordinal) {
+        ordinalToStepIndex[ordinal] = -1;
+        if (ordinal < factCount) {
+            return;
+        }
+        Object oldTabu = ordinalToTabu[ordinal];
+        if (tabuToOrdinalMap.remove(oldTabu) == null) {
+            throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                    + oldTabu + ") of class (" + oldTabu.getClass()
+                    + ") changed during planning, since it was inserted in the tabu Map or Set.");
+        }
+        ordinalToTabu[ordinal] = null;
+        freeOrdinals[freeOrdinalCount] = ordinal;
+        freeOrdinalCount++;
+    }
+
+    private int allocateOrdinal() {
+        if (freeOrdinalCount > 0) {
+            freeOrdinalCount--;
+            return freeOrdinals[freeOrdinalCount];
+        }
+        if (ordinalCount == ordinalToTabu.length) {
+            int newCapacity = factCount + (ordinalCount - factCount) * 2;
+            ordinalToTabu = Arrays.copyOf(ordinalToTabu, newCapacity);
+            ordinalToStepIndex = Arrays.copyOf(ordinalToStepIndex, newCapacity);
+            freeOrdinals = Arrays.copyOf(freeOrdinals, newCapacity - factCount);
+        }
+        int ordinal = ordinalCount;
+        ordinalCount++;
+        return ordinal;
+    }
+
+    private void addToTabuSequence(int ordinal, int tabuStepIndex) {
+        int capacity = tabuSequenceOrdinals.length;
+        if (tabuSequenceSize == capacity) {
+            // Unroll the circular buffer into a bigger one
+            int[] newTabuSequenceOrdinals = new int[capacity * 2];
+            int[] newTabuSequenceStepIndexes = new int[capacity * 2];
+            for (int i = 0; i < tabuSequenceSize; i++) {
+                newTabuSequenceOrdinals[i] = tabuSequenceOrdinals[(tabuSequenceHead + i) % capacity];
+                newTabuSequenceStepIndexes[i] = tabuSequenceStepIndexes[(tabuSequenceHead + i) % capacity];
             }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            tabuSequenceOrdinals = newTabuSequenceOrdinals;
+            tabuSequenceStepIndexes = newTabuSequenceStepIndexes;
+            tabuSequenceHead = 0;
+            capacity *= 2;
         }
+        int tail = (tabuSequenceHead + tabuSequenceSize) % capacity;
+        tabuSequenceOrdinals[tail] = ordinal;
+        tabuSequenceStepIndexes[tail] = tabuStepIndex;
+        tabuSequenceSize++;
     }
 
     @Override
@@ -161,12 +349,14 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
         int maximumTabuStepIndex = -1;
         for (Object checkingTabu : checkingTabus) {
-            Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
+            int checkingOrdinal = findOrdinal(checkingTabu);
+            if (checkingOrdinal >= 0) {
+                // A planning entity or problem fact that isn't tabu has step index -1
+                maximumTabuStepIndex = Math.max(ordinalToStepIndex[checkingOrdinal], maximumTabuStepIndex);
             }
             if (assertTabuHashCodeCorrectness) {
-                for (Object tabu : tabuSequenceDeque) {
+                for (int ordinal = factCount; ordinal < ordinalCount; ordinal++) {
+                    Object tabu = ordinalToTabu[ordinal];
                     // tabu and checkingTabu can be null with a nullable planning variable
                     if (tabu != null && tabu.equals(checkingTabu)) {
                         if (tabu.hashCode() != checkingTabu.hashCode()) {
@@ -175,7 +365,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
                                     + ") and checkingTabu (" + checkingTabu
                                     + ") are equals() but have a different hashCode().");
                         }
-                        if (tabuStepIndexInteger == null) {
+                        if (checkingOrdinal < 0) {
                             throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
                                     + tabu + ") of class (" + tabu.getClass()
                                     + ") changed during planning, since it was inserted in the tabu Map or Set.");
@@ -201,4 +391,26 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected abstract Collection<? extends Object> findNewTabu(LocalSearchStepScope<Solution_> stepScope);
 
+    protected static class TabuCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        // Every entry is a fact index and the step index in which that fact became tabu, in step order
+        protected final int[][] tabuEntries;
+        protected final int workingTabuSize;
+        protected final int workingFadingTabuSize;
+        protected final Serializable tabuSizeStrategyState;
+        protected final Serializable fadingTabuSizeStrategyState;
+
+        protected TabuCheckpointState(int[][] tabuEntries, int workingTabuSize, int workingFadingTabuSize,
+                Serializable tabuSizeStrategyState, Serializable fadingTabuSizeStrategyState) {
+            this.tabuEntries = tabuEntries;
+            this.workingTabuSize = workingTabuSize;
+            this.workingFadingTabuSize = workingFadingTabuSize;
+            this.tabuSizeStrategyState = tabuSizeStrategyState;
+            this.fadingTabuSizeStrategyState = fadingTabuSizeStrategyState;
+        }
+
+    }
+
 }
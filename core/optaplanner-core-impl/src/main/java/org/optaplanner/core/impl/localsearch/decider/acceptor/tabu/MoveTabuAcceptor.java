@@ -23,6 +23,11 @@ public class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_>
     // Worker methods
     // ************************************************************************
 
+    @Override
+    protected boolean isFactTabu() {
+        return false;
+    }
+
     @Override
     protected Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope) {
         return Collections.singletonList(moveScope.getMove());
@@ -0,0 +1,89 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size;
+
+import java.io.Serializable;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.AbstractTabuAcceptor;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * Adjusts the tabu size during solving, similar to Reactive Tabu Search.
+ * It starts from the tabu size of another {@link TabuSizeStrategy}.
+ * Every step that improves the best score shrinks the tabu size, to intensify the search around that best solution.
+ * If the best score hasn't improved for more steps than the tabu size, the tabu size grows,
+ * because a tabu list that short doesn't escape the local optimum.
+ * <p>
+ * Must be called exactly once per step, as done by {@link AbstractTabuAcceptor}.
+ */
+public class ReactiveTabuSizeStrategy<Solution_> extends AbstractTabuSizeStrategy<Solution_> {
+
+    protected static final double SHRINK_FACTOR = 0.9;
+    protected static final double GROWTH_FACTOR = 1.1;
+
+    protected final TabuSizeStrategy<Solution_> startingTabuSizeStrategy;
+    protected final ToIntFunction<LocalSearchPhaseScope<Solution_>> totalSizeFunction;
+
+    protected double reactiveTabuSize = -1.0;
+    protected int lastGrowthStepIndex = -1;
+
+    /**
+     * @param startingTabuSizeStrategy never null
+     * @param totalSizeFunction never null, for example the entity count
+     */
+    public ReactiveTabuSizeStrategy(TabuSizeStrategy<Solution_> startingTabuSizeStrategy,
+            ToIntFunction<LocalSearchPhaseScope<Solution_>> totalSizeFunction) {
+        this.startingTabuSizeStrategy = startingTabuSizeStrategy;
+        this.totalSizeFunction = totalSizeFunction;
+    }
+
+    @Override
+    public int determineTabuSize(LocalSearchStepScope<Solution_> stepScope) {
+        LocalSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        int totalSize = totalSizeFunction.applyAsInt(phaseScope);
+        int stepIndex = stepScope.getStepIndex();
+        if (stepIndex < 0 || reactiveTabuSize < 0.0) {
+            // A new phase starts from the starting tabu size
+            reactiveTabuSize = startingTabuSizeStrategy.determineTabuSize(stepScope);
+            lastGrowthStepIndex = stepIndex;
+        } else if (Boolean.TRUE.equals(stepScope.getBestScoreImproved())) {
+            reactiveTabuSize *= SHRINK_FACTOR;
+        } else {
+            int stagnantStepCount = stepIndex - Math.max(phaseScope.getBestSolutionStepIndex(), lastGrowthStepIndex);
+            if (stagnantStepCount > reactiveTabuSize) {
+                reactiveTabuSize *= GROWTH_FACTOR;
+                lastGrowthStepIndex = stepIndex;
+            }
+        }
+        // Keep it within bounds, so it reacts as soon as the search changes direction
+        reactiveTabuSize = Math.max(1.0, Math.min(reactiveTabuSize, totalSize - 1.0));
+        return protectTabuSizeCornerCases(totalSize, (int) Math.round(reactiveTabuSize));
+    }
+
+    @Override
+    public Serializable createCheckpointState() {
+        return new ReactiveTabuSizeCheckpointState(reactiveTabuSize, lastGrowthStepIndex);
+    }
+
+    @Override
+    public void restoreCheckpointState(Serializable checkpointState) {
+        ReactiveTabuSizeCheckpointState reactiveCheckpointState = (ReactiveTabuSizeCheckpointState) checkpointState;
+        reactiveTabuSize = reactiveCheckpointState.reactiveTabuSize;
+        lastGrowthStepIndex = reactiveCheckpointState.lastGrowthStepIndex;
+    }
+
+    protected static class ReactiveTabuSizeCheckpointState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final double reactiveTabuSize;
+        protected final int lastGrowthStepIndex;
+
+        protected ReactiveTabuSizeCheckpointState(double reactiveTabuSize, int lastGrowthStepIndex) {
+            this.reactiveTabuSize = reactiveTabuSize;
+            this.lastGrowthStepIndex = lastGrowthStepIndex;
+        }
+
+    }
+
+}
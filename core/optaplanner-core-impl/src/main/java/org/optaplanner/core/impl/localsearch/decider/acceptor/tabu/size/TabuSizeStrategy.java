@@ -1,5 +1,7 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size;
 
+import java.io.Serializable;
+
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 public interface TabuSizeStrategy<Solution_> {
@@ -10,4 +12,18 @@ public interface TabuSizeStrategy<Solution_> {
      */
     int determineTabuSize(LocalSearchStepScope<Solution_> stepScope);
 
+    /**
+     * @return sometimes null, the state that this strategy carries from step to step
+     */
+    default Serializable createCheckpointState() {
+        return null;
+    }
+
+    /**
+     * @param checkpointState never null, created by {@link #createCheckpointState()}
+     */
+    default void restoreCheckpointState(Serializable checkpointState) {
+        // Stateless by default
+    }
+
 }
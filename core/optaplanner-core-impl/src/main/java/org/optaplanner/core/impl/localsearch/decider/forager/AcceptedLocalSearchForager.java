@@ -88,6 +88,7 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
             case FIRST_BEST_SCORE_IMPROVING:
                 Score bestScore = moveScope.getStepScope().getPhaseScope().getBestScore();
                 if (((Score) moveScope.getScore()).compareTo(bestScore) > 0) {
+                    moveScope.materializeMove();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
@@ -95,6 +96,7 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
                 Score lastStepScore = moveScope.getStepScope().getPhaseScope()
                         .getLastCompletedStepScope().getScore();
                 if (((Score) moveScope.getScore()).compareTo(lastStepScore) > 0) {
+                    moveScope.materializeMove();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
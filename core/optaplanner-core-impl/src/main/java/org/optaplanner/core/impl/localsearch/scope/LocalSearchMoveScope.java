@@ -1,6 +1,7 @@
 package org.optaplanner.core.impl.localsearch.scope;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.scope.AbstractMoveScope;
 
@@ -31,6 +32,15 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
         this.accepted = accepted;
     }
 
+    /**
+     * Replaces a {@link FlyweightMove} by an immutable copy, so this scope can be retained after the move iteration.
+     */
+    public void materializeMove() {
+        if (move instanceof FlyweightMove) {
+            move = ((FlyweightMove<Solution_>) move).materialize();
+        }
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -13,6 +13,7 @@ public class LocalSearchStepScope<Solution_> extends AbstractStepScope<Solution_
 
     private double timeGradient = Double.NaN;
     private Move<Solution_> step = null;
+    private Integer stepMoveIndex = null;
     private String stepString = null;
     private Move<Solution_> undoStep = null;
     private Long selectedMoveCount = null;
@@ -48,6 +49,17 @@ public class LocalSearchStepScope<Solution_> extends AbstractStepScope<Solution_
         this.step = step;
     }
 
+    /**
+     * @return null if no move was picked, otherwise the move index of the {@link #getStep() step}
+     */
+    public Integer getStepMoveIndex() {
+        return stepMoveIndex;
+    }
+
+    public void setStepMoveIndex(Integer stepMoveIndex) {
+        this.stepMoveIndex = stepMoveIndex;
+    }
+
     /**
      * @return null if logging level is too high
      */
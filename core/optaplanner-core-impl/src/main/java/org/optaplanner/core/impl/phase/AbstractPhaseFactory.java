@@ -5,6 +5,7 @@ import java.util.Objects;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.move.MoveEvaluationCache;
 import org.optaplanner.core.impl.solver.termination.PhaseToSolverTerminationBridge;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.termination.TerminationFactory;
@@ -27,4 +28,24 @@ public abstract class AbstractPhaseFactory<Solution_, PhaseConfig_ extends Phase
         Termination<Solution_> phaseTermination = new PhaseToSolverTerminationBridge<>(solverTermination);
         return TerminationFactory.<Solution_> create(terminationConfig_).buildTermination(configPolicy, phaseTermination);
     }
+
+    /**
+     * A {@link MoveEvaluationCache} is only used by the solver thread, so it does not support move threads.
+     *
+     * @param configPolicy never null
+     * @param moveEvaluationCacheSize the configured maximum number of cached moves
+     */
+    protected void validateMoveEvaluationCacheSize(HeuristicConfigPolicy<Solution_> configPolicy,
+            int moveEvaluationCacheSize) {
+        if (moveEvaluationCacheSize < 1) {
+            throw new IllegalArgumentException("The moveEvaluationCacheSize (" + moveEvaluationCacheSize
+                    + ") cannot be negative or zero.");
+        }
+        Integer moveThreadCount = configPolicy.getMoveThreadCount();
+        if (moveThreadCount != null) {
+            throw new IllegalArgumentException("The moveEvaluationCacheSize (" + moveEvaluationCacheSize
+                    + ") is not supported with a moveThreadCount (" + moveThreadCount + ").\n"
+                    + "Maybe remove the moveEvaluationCacheSize or the moveThreadCount.");
+        }
+    }
 }
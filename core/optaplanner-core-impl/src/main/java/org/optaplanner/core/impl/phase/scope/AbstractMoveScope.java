@@ -13,7 +13,7 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 public abstract class AbstractMoveScope<Solution_> {
 
     protected final int moveIndex;
-    protected final Move<Solution_> move;
+    protected Move<Solution_> move;
 
     protected Score<?> score = null;
 
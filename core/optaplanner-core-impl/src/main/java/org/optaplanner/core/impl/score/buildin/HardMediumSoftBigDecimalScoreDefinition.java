@@ -27,6 +27,14 @@ public class HardMediumSoftBigDecimalScoreDefinition extends AbstractScoreDefini
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardMediumSoftBigDecimalScore score, HardMediumSoftBigDecimalScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return score.getHardScore().compareTo(otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardMediumSoftBigDecimalScore> getScoreClass() {
         return HardMediumSoftBigDecimalScore.class;
@@ -27,6 +27,14 @@ public class HardMediumSoftLongScoreDefinition extends AbstractScoreDefinition<H
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardMediumSoftLongScore score, HardMediumSoftLongScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return Long.compare(score.getHardScore(), otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardMediumSoftLongScore> getScoreClass() {
         return HardMediumSoftLongScore.class;
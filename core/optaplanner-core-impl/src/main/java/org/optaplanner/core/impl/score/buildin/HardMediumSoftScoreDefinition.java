@@ -27,6 +27,14 @@ public class HardMediumSoftScoreDefinition extends AbstractScoreDefinition<HardM
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardMediumSoftScore score, HardMediumSoftScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return Integer.compare(score.getHardScore(), otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardMediumSoftScore> getScoreClass() {
         return HardMediumSoftScore.class;
@@ -27,6 +27,14 @@ public class HardSoftBigDecimalScoreDefinition extends AbstractScoreDefinition<H
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardSoftBigDecimalScore score, HardSoftBigDecimalScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return score.getHardScore().compareTo(otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardSoftBigDecimalScore> getScoreClass() {
         return HardSoftBigDecimalScore.class;
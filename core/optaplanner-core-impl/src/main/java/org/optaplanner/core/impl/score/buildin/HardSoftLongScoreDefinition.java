@@ -27,6 +27,14 @@ public class HardSoftLongScoreDefinition extends AbstractScoreDefinition<HardSof
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardSoftLongScore score, HardSoftLongScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return Long.compare(score.getHardScore(), otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardSoftLongScore> getScoreClass() {
         return HardSoftLongScore.class;
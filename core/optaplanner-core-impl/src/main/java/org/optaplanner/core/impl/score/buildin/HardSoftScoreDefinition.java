@@ -22,6 +22,14 @@ public class HardSoftScoreDefinition extends AbstractScoreDefinition<HardSoftSco
         return 1;
     }
 
+    @Override
+    public int compareFeasibleLevels(HardSoftScore score, HardSoftScore otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        return Integer.compare(score.getHardScore(), otherScore.getHardScore());
+    }
+
     @Override
     public Class<HardSoftScore> getScoreClass() {
         return HardSoftScore.class;
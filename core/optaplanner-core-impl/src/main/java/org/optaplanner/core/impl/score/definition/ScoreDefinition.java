@@ -86,6 +86,30 @@ public interface ScoreDefinition<Score_ extends Score<Score_>> {
         return score.compareTo(getZeroScore()) <= 0;
     }
 
+    /**
+     * Compares 2 scores on their {@link Score#getInitScore() init score}
+     * and their {@link #getFeasibleLevelsSize() feasible levels} only, ignoring the other levels.
+     *
+     * @param score never null
+     * @param otherScore never null
+     * @return negative, zero or positive, in the same order as {@link Score#compareTo(Object)}
+     */
+    default int compareFeasibleLevels(Score_ score, Score_ otherScore) {
+        if (score.getInitScore() != otherScore.getInitScore()) {
+            return Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        }
+        Number[] levelNumbers = score.toLevelNumbers();
+        Number[] otherLevelNumbers = otherScore.toLevelNumbers();
+        int feasibleLevelsSize = getFeasibleLevelsSize();
+        for (int i = 0; i < feasibleLevelsSize; i++) {
+            int comparison = ((Comparable) levelNumbers[i]).compareTo(otherLevelNumbers[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
     /**
      * Returns a {@link String} representation of the {@link Score}.
      *
@@ -69,6 +69,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
 
     protected long calculationCount = 0L;
+    protected long moveEvaluationCount = 0L;
 
     protected AbstractScoreDirector(Factory_ scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
@@ -127,6 +128,11 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.calculationCount = 0L;
     }
 
+    @Override
+    public long getMoveEvaluationCount() {
+        return moveEvaluationCount;
+    }
+
     @Override
     public SupplyManager getSupplyManager() {
         return variableListenerSupport;
@@ -191,6 +197,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        moveEvaluationCount++;
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
@@ -202,6 +209,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
+        moveEvaluationCount++;
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
@@ -211,6 +219,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         undoMove.doMoveOnly(this);
     }
 
+    @Override
+    public void doAndProcessMove(Move<Solution_> move, Score_ abortThreshold, Consumer<Score_> moveProcessor) {
+        moveEvaluationCount++;
+        Move<Solution_> undoMove = move.doMove(this);
+        Score_ score = calculateScoreOrAbort(abortThreshold);
+        moveProcessor.accept(score);
+        undoMove.doMoveOnly(this);
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -265,6 +282,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         calculationCount++;
     }
 
+    /**
+     * Counts a score calculation that was aborted by {@link #calculateScoreOrAbort(Score)},
+     * without setting its partially calculated score on the working solution.
+     */
+    protected void countAbortedCalculation() {
+        calculationCount++;
+    }
+
     @Override
     public AbstractScoreDirector<Solution_, Score_, Factory_> clone() {
         // Breaks incremental score calculation.
@@ -416,6 +441,18 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         // Do nothing
     }
 
+    @Override
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        variableListenerSupport.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
@@ -45,6 +45,23 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Score_ calculateScore();
 
+    /**
+     * Like {@link #calculateScore()}, but it can stop early if the score is certainly lower than the abortThreshold,
+     * because its {@link ScoreDefinition#getFeasibleLevelsSize() feasible levels} are already lower.
+     * In that case only the feasible levels of the returned score are correct,
+     * so it is only returned to the caller and the score of the {@link PlanningSolution working solution}
+     * is not updated.
+     * The changes that weren't processed yet are processed by the next score calculation.
+     *
+     * @param abortThreshold never null
+     * @return never null, the {@link Score} of the {@link PlanningSolution working solution}
+     *         or a partially calculated one, which is lower than the abortThreshold
+     * @see ScoreDefinition#compareFeasibleLevels(Score, Score)
+     */
+    default Score_ calculateScoreOrAbort(Score_ abortThreshold) {
+        return calculateScore();
+    }
+
     /**
      * @return true if {@link #getConstraintMatchTotalMap()} and {@link #getIndictmentMap} can be called
      */
@@ -110,6 +127,17 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but the score calculation can stop early, see {@link #calculateScoreOrAbort(Score)}.
+     * A partially calculated score cannot be asserted from scratch.
+     *
+     * @param move never null
+     * @param abortThreshold never null
+     * @param moveProcessor never null, use this to store the score as well as call the acceptor and forager
+     */
+    void doAndProcessMove(Move<Solution_> move, Score_ abortThreshold, Consumer<Score_> moveProcessor);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -164,6 +192,14 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void resetCalculationCount();
 
+    /**
+     * Unlike {@link #getCalculationCount()}, it excludes the score calculations of steps,
+     * so it only counts the moves evaluated by this score director.
+     *
+     * @return at least 0L, the number of calls to {@link #doAndProcessMove(Move, boolean)} and its overloads
+     */
+    long getMoveEvaluationCount();
+
     /**
      * @return never null
      */
@@ -300,4 +336,30 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
             Object sourceEntity, int sourceIndex,
             Object destinationEntity, int destinationIndex);
 
+    /**
+     * Call this before the list variable of the {@code entity} changes
+     * between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive).
+     * Prefer this over the per element methods when a move changes multiple elements of the same list variable.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}
+     * @param toIndex {@code >= fromIndex}
+     */
+    void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex);
+
+    /**
+     * Call this after the list variable of the {@code entity} changed
+     * between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive).
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}
+     * @param toIndex {@code >= fromIndex}
+     * @see #beforeListVariableChanged(ListVariableDescriptor, Object, int, int)
+     */
+    void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex);
+
 }
@@ -196,6 +196,18 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
         throw new UnsupportedOperationException("Not yet supported.");
     }
 
+    @Override
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("Not yet supported.");
+    }
+
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("Not yet supported.");
+    }
+
     @Override
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         incrementalScoreCalculator.beforeEntityRemoved(entity);
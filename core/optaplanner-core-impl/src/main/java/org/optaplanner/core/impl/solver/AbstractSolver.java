@@ -71,13 +71,21 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
     }
 
     protected void runPhases(SolverScope<Solution_> solverScope) {
+        runPhases(solverScope, 0);
+    }
+
+    /**
+     * @param solverScope never null
+     * @param startingPhaseIndex {@code >= 0}, the phases before it are skipped, for example when resuming
+     */
+    protected void runPhases(SolverScope<Solution_> solverScope, int startingPhaseIndex) {
         if (!solverScope.getSolutionDescriptor().hasMovableEntities(solverScope.getScoreDirector())) {
             logger.info("Skipped all phases ({}): out of {} planning entities, none are movable (non-pinned).",
                     phaseList.size(),
                     solverScope.getSolutionDescriptor().getEntityCount(solverScope.getWorkingSolution()));
             return;
         }
-        Iterator<Phase<Solution_>> it = phaseList.iterator();
+        Iterator<Phase<Solution_>> it = phaseList.listIterator(startingPhaseIndex);
         while (!solverTermination.isSolverTerminated(solverScope) && it.hasNext()) {
             Phase<Solution_> phase = it.next();
             phase.solve(solverScope);
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -19,6 +20,9 @@ import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
+import org.optaplanner.core.impl.solver.checkpoint.ResumablePhase;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpoint;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointer;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -51,6 +55,11 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     private final String moveThreadCountDescription;
 
+    // Null if checkpointing is disabled
+    protected final SolverCheckpointer<Solution_> checkpointer;
+    // Non-null only until the phases of the resumed solve have ended
+    protected SolverCheckpoint<Solution_> resumedCheckpoint = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -59,12 +68,25 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             BestSolutionRecaller<Solution_> bestSolutionRecaller,
             BasicPlumbingTermination<Solution_> basicPlumbingTermination, Termination<Solution_> termination,
             List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope, String moveThreadCountDescription) {
+        this(environmentMode, randomFactory, bestSolutionRecaller, basicPlumbingTermination, termination, phaseList,
+                solverScope, moveThreadCountDescription, null);
+    }
+
+    public DefaultSolver(EnvironmentMode environmentMode, RandomFactory randomFactory,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            BasicPlumbingTermination<Solution_> basicPlumbingTermination, Termination<Solution_> termination,
+            List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope, String moveThreadCountDescription,
+            SolverCheckpointer<Solution_> checkpointer) {
         super(bestSolutionRecaller, termination, phaseList);
         this.environmentMode = environmentMode;
         this.randomFactory = randomFactory;
         this.basicPlumbingTermination = basicPlumbingTermination;
         this.solverScope = solverScope;
         this.moveThreadCountDescription = moveThreadCountDescription;
+        this.checkpointer = checkpointer;
+        if (checkpointer != null) {
+            checkpointer.registerPhases(phaseList);
+        }
     }
 
     public EnvironmentMode getEnvironmentMode() {
@@ -83,6 +105,10 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope;
     }
 
+    public SolverCheckpointer<Solution_> getCheckpointer() {
+        return checkpointer;
+    }
+
     // ************************************************************************
     // Complex getters
     // ************************************************************************
@@ -190,7 +216,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             LongTaskTimer.Sample sample = solveLengthTimer.start();
             try {
                 solvingStarted(solverScope);
-                runPhases(solverScope);
+                runPhases(solverScope, resumedCheckpoint == null ? 0 : resumedCheckpoint.getPhaseIndex());
                 solvingEnded(solverScope);
             } catch (Exception e) {
                 errorCounter.increment();
@@ -216,11 +242,47 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         basicPlumbingTermination.resetTerminateEarly();
         solverScope.setStartingSolverCount(0);
         solverScope.setWorkingRandom(randomFactory.createRandom());
+        if (checkpointer != null) {
+            resumeFromCheckpoint(solverScope);
+        }
+    }
+
+    private void resumeFromCheckpoint(SolverScope<Solution_> solverScope) {
+        resumedCheckpoint = checkpointer.loadCheckpoint();
+        if (resumedCheckpoint == null) {
+            return;
+        }
+        // The checkpoint replaces the problem, because it was taken while solving that same problem
+        solverScope.setBestSolution(resumedCheckpoint.getBestSolution());
+        Random resumedRandom = resumedCheckpoint.deserializeRandom();
+        if (resumedRandom != null) {
+            solverScope.setWorkingRandom(resumedRandom);
+        }
+        int phaseIndex = resumedCheckpoint.getPhaseIndex();
+        int stepIndex = resumedCheckpoint.getStepIndex();
+        boolean phaseResumed = false;
+        if (stepIndex >= 0 && phaseIndex < phaseList.size() && phaseList.get(phaseIndex) instanceof ResumablePhase) {
+            ((ResumablePhase<Solution_>) phaseList.get(phaseIndex)).resumeFromCheckpoint(stepIndex,
+                    resumedCheckpoint.deserializePhaseState());
+            phaseResumed = true;
+        }
+        logger.info("Resuming from checkpoint: phase ({}), step index ({}), time spent ({}), random ({}),"
+                + " phase state ({}).",
+                phaseIndex, stepIndex, resumedCheckpoint.getTimeMillisSpent(),
+                (resumedRandom != null ? "restored" : "not restored"),
+                (stepIndex < 0 ? "none" : phaseResumed ? "restored" : "not restored, the phase starts over"));
     }
 
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.startingNow();
+        if (resumedCheckpoint != null) {
+            solverScope.resumingNow(resumedCheckpoint.getTimeMillisSpent());
+        } else {
+            solverScope.startingNow();
+        }
+        if (checkpointer != null) {
+            checkpointer.solvingStarted();
+        }
         solverScope.getScoreDirector().resetCalculationCount();
         super.solvingStarted(solverScope);
         int startingSolverCount = solverScope.getStartingSolverCount() + 1;
@@ -239,11 +301,17 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
         solverScope.endingNow();
+        // A restart after problem changes starts from the first phase again
+        resumedCheckpoint = null;
     }
 
     public void outerSolvingEnded(SolverScope<Solution_> solverScope) {
         // Must be kept open for doProblemFactChange
         solverScope.getScoreDirector().close();
+        if (checkpointer != null) {
+            // The caller receives the best solution, so there is nothing left to resume
+            checkpointer.deleteCheckpoint();
+        }
         logger.info("Solving ended: time spent ({}), best score ({}), score calculation speed ({}/sec), "
                 + "phase total ({}), environment mode ({}), move thread count ({}).",
                 solverScope.getTimeMillisSpent(),
@@ -6,6 +6,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -21,6 +22,7 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.checkpoint.CheckpointConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.config.solver.random.RandomType;
@@ -38,6 +40,8 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
 import org.optaplanner.core.impl.solver.change.DefaultProblemChangeDirector;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointRepository;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointer;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -46,6 +50,7 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.termination.TerminationFactory;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -123,7 +128,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
         return new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
                 termination, phaseList, solverScope,
-                moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
+                moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_),
+                buildCheckpointer());
     }
 
     private SolutionDescriptor<Solution_> buildSolutionDescriptor() {
@@ -148,9 +154,31 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         if (environmentMode.isAsserted()) {
             solutionDescriptor.setAssertModelForCloning(true);
         }
+        Integer parallelSolutionCloningThreshold = solverConfig.getParallelSolutionCloningThreshold();
+        if (parallelSolutionCloningThreshold != null
+                && !solutionDescriptor.enableParallelSolutionCloning(parallelSolutionCloningThreshold,
+                        resolveCloneThreadCount(), buildCloneThreadFactory())) {
+            LOGGER.warn("The parallelSolutionCloningThreshold ({}) is ignored"
+                    + " because the solutionCloner ({}) is not the default reflection-based solution cloner.",
+                    parallelSolutionCloningThreshold, solutionDescriptor.getSolutionCloner().getClass().getSimpleName());
+        }
         return solutionDescriptor;
     }
 
+    private int resolveCloneThreadCount() {
+        // The move threads wait for the next step while a new best solution is cloned
+        Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
+        return moveThreadCount_ == null ? Runtime.getRuntime().availableProcessors() : moveThreadCount_;
+    }
+
+    private ThreadFactory buildCloneThreadFactory() {
+        Class<? extends ThreadFactory> threadFactoryClass = solverConfig.getThreadFactoryClass();
+        if (threadFactoryClass != null) {
+            return ConfigUtils.newInstance(solverConfig, "threadFactoryClass", threadFactoryClass);
+        }
+        return new DefaultSolverThreadFactory("CloneThread");
+    }
+
     private InnerScoreDirectorFactory<Solution_, ?> buildScoreDirectorFactory() {
         EnvironmentMode environmentMode = solverConfig.determineEnvironmentMode();
         ScoreDirectorFactoryConfig scoreDirectorFactoryConfig_ =
@@ -183,6 +211,24 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         return randomFactory;
     }
 
+    private SolverCheckpointer<Solution_> buildCheckpointer() {
+        CheckpointConfig checkpointConfig = solverConfig.getCheckpointConfig();
+        if (checkpointConfig == null) {
+            return null;
+        }
+        if (checkpointConfig.getCheckpointRepositoryClass() == null) {
+            throw new IllegalArgumentException("The checkpointConfig (" + checkpointConfig
+                    + ") must have a checkpointRepositoryClass (" + checkpointConfig.getCheckpointRepositoryClass()
+                    + ").");
+        }
+        SolverCheckpointRepository<Solution_> checkpointRepository = ConfigUtils.newInstance(checkpointConfig,
+                "checkpointRepositoryClass", checkpointConfig.getCheckpointRepositoryClass());
+        ConfigUtils.applyCustomProperties(checkpointRepository, "checkpointRepositoryClass",
+                checkpointConfig.getCheckpointRepositoryCustomProperties(), "checkpointRepositoryCustomProperties");
+        checkpointRepository.initialize(solutionDescriptor);
+        return new SolverCheckpointer<>(checkpointRepository, checkpointConfig.determineInterval().toMillis());
+    }
+
     private List<Phase<Solution_>> buildPhaseList(HeuristicConfigPolicy<Solution_> configPolicy,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination) {
         List<PhaseConfig> phaseConfigList_ = solverConfig.getPhaseConfigList();
@@ -0,0 +1,39 @@
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import java.io.Serializable;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+
+/**
+ * A {@link Phase} that can resume from a {@link SolverCheckpoint} taken between 2 of its steps,
+ * as if it had never been interrupted.
+ * <p>
+ * Such a checkpoint is only taken right after a step that improved the best solution,
+ * so the checkpointed best solution is also the working solution of that step.
+ * A phase that doesn't implement this interface restarts from its first step instead.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface ResumablePhase<Solution_> extends Phase<Solution_> {
+
+    /**
+     * Called by the solver thread between 2 steps of this phase.
+     *
+     * @param phaseScope never null
+     * @return sometimes null, the state that this phase carries from step to step,
+     *         which must not refer to planning entities or problem facts directly
+     */
+    Serializable createCheckpointState(AbstractPhaseScope<Solution_> phaseScope);
+
+    /**
+     * Called before this phase is solved, so it continues after the given step instead of starting over.
+     *
+     * @param stepIndex {@code >= 0}, the index of the last completed step
+     * @param checkpointState sometimes null, created by {@link #createCheckpointState(AbstractPhaseScope)}
+     *        of a phase with the same configuration
+     */
+    void resumeFromCheckpoint(int stepIndex, Serializable checkpointState);
+
+}
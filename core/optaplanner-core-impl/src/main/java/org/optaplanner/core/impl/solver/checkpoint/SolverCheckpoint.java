@@ -0,0 +1,157 @@
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Random;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * The persisted progress of a {@link Solver}, from which it can resume after a crash or a restart.
+ * <p>
+ * Immutable.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class SolverCheckpoint<Solution_> {
+
+    private final Solution_ bestSolution;
+    private final int phaseIndex;
+    private final int stepIndex;
+    private final long timeMillisSpent;
+    private final byte[] randomState;
+    private final byte[] phaseState;
+
+    public SolverCheckpoint(Solution_ bestSolution, int phaseIndex, int stepIndex, long timeMillisSpent,
+            byte[] randomState) {
+        this(bestSolution, phaseIndex, stepIndex, timeMillisSpent, randomState, null);
+    }
+
+    /**
+     * @param bestSolution never null
+     * @param phaseIndex {@code >= 0}, the index of the phase to resume,
+     *        which equals the phase count if every phase has ended
+     * @param stepIndex {@code >= -1}, the index of the last completed step in that phase,
+     *        -1 if that phase hasn't started yet
+     * @param timeMillisSpent {@code >= 0}, the time spent by the solver up to this checkpoint
+     * @param randomState sometimes null, see {@link #serializeRandom(Random)}
+     * @param phaseState sometimes null, see {@link #serializePhaseState(Serializable)}
+     */
+    public SolverCheckpoint(Solution_ bestSolution, int phaseIndex, int stepIndex, long timeMillisSpent,
+            byte[] randomState, byte[] phaseState) {
+        if (bestSolution == null) {
+            throw new IllegalArgumentException("The bestSolution (" + bestSolution + ") cannot be null.");
+        }
+        if (phaseIndex < 0 || stepIndex < -1 || timeMillisSpent < 0L) {
+            throw new IllegalArgumentException("The phaseIndex (" + phaseIndex + "), stepIndex (" + stepIndex
+                    + ") or timeMillisSpent (" + timeMillisSpent + ") is invalid.");
+        }
+        this.bestSolution = bestSolution;
+        this.phaseIndex = phaseIndex;
+        this.stepIndex = stepIndex;
+        this.timeMillisSpent = timeMillisSpent;
+        this.randomState = randomState;
+        this.phaseState = phaseState;
+    }
+
+    public Solution_ getBestSolution() {
+        return bestSolution;
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    /**
+     * @return sometimes null, the state of the working {@link Random}
+     */
+    public byte[] getRandomState() {
+        return randomState;
+    }
+
+    /**
+     * @return sometimes null, the state that the phase of {@link #getPhaseIndex()} carries from step to step,
+     *         such as the tabu list of its acceptor
+     * @see ResumablePhase
+     */
+    public byte[] getPhaseState() {
+        return phaseState;
+    }
+
+    // ************************************************************************
+    // State methods
+    // ************************************************************************
+
+    /**
+     * @param random never null
+     * @return null if the random isn't {@link Serializable}
+     */
+    public static byte[] serializeRandom(Random random) {
+        return serialize(random, "random");
+    }
+
+    /**
+     * @return null if there is no {@link #getRandomState() random state}
+     */
+    public Random deserializeRandom() {
+        return (Random) deserialize(randomState, "random state");
+    }
+
+    /**
+     * @param phaseState sometimes null
+     * @return null if the phaseState is null or isn't {@link Serializable} after all
+     */
+    public static byte[] serializePhaseState(Serializable phaseState) {
+        return phaseState == null ? null : serialize(phaseState, "phase state");
+    }
+
+    /**
+     * @return null if there is no {@link #getPhaseState() phase state}
+     */
+    public Serializable deserializePhaseState() {
+        return (Serializable) deserialize(phaseState, "phase state");
+    }
+
+    private static byte[] serialize(Object object, String description) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        } catch (NotSerializableException e) {
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed serializing the " + description + " (" + object + ").", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] state, String description) {
+        if (state == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Failed deserializing the " + description + " of the checkpoint.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SolverCheckpoint(phase " + phaseIndex + ", step " + stepIndex + ", time spent " + timeMillisSpent + ")";
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.solver.checkpoint.CheckpointConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Persists the {@link SolverCheckpoint} of a solver, typically to a file or a database that outlives the JVM.
+ * <p>
+ * An implementation must have a public no-arg constructor.
+ * Its custom properties ({@link CheckpointConfig#getCheckpointRepositoryCustomProperties()})
+ * are applied before {@link #initialize(SolutionDescriptor)} is called.
+ * Each solver instance has its own repository instance, so 2 solvers must not be configured
+ * with custom properties that point to the same storage.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface SolverCheckpointRepository<Solution_> {
+
+    /**
+     * Called once, before any other method.
+     *
+     * @param solutionDescriptor never null
+     */
+    void initialize(SolutionDescriptor<Solution_> solutionDescriptor);
+
+    /**
+     * @return null if there is no checkpoint
+     */
+    SolverCheckpoint<Solution_> load();
+
+    /**
+     * Replaces the previous checkpoint.
+     * If it fails halfway, {@link #load()} must still return the previous checkpoint.
+     * <p>
+     * Called by the solver thread, which waits for it to return.
+     *
+     * @param checkpoint never null
+     */
+    void save(SolverCheckpoint<Solution_> checkpoint);
+
+    /**
+     * Called when the solver returns normally, after which {@link #load()} must return null.
+     */
+    void delete();
+
+}
@@ -0,0 +1,145 @@
+package org.optaplanner.core.impl.solver.checkpoint;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves a {@link SolverCheckpoint} through a {@link SolverCheckpointRepository}
+ * at the end of every phase and, during a phase, after a step that improved the best solution
+ * once the interval has passed since the previous checkpoint.
+ * <p>
+ * The checkpoint is saved by the solver thread, between 2 steps,
+ * so the best solution doesn't change while it is written.
+ * It is saved when the next step starts, after every step listener has processed the improving step,
+ * so the state of a {@link ResumablePhase} is in sync with the best solution,
+ * which is then also the working solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see DefaultSolver
+ */
+public class SolverCheckpointer<Solution_> {
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final SolverCheckpointRepository<Solution_> checkpointRepository;
+    private final long intervalMillis;
+
+    private long lastCheckpointTimeMillis;
+
+    public SolverCheckpointer(SolverCheckpointRepository<Solution_> checkpointRepository, long intervalMillis) {
+        this.checkpointRepository = checkpointRepository;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public SolverCheckpointRepository<Solution_> getCheckpointRepository() {
+        return checkpointRepository;
+    }
+
+    /**
+     * Registers a listener on each phase, which knows the index of that phase.
+     *
+     * @param phaseList never null
+     */
+    public void registerPhases(List<Phase<Solution_>> phaseList) {
+        for (int phaseIndex = 0; phaseIndex < phaseList.size(); phaseIndex++) {
+            Phase<Solution_> phase = phaseList.get(phaseIndex);
+            phase.addPhaseLifecycleListener(new PhaseCheckpointListener(phase, phaseIndex));
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return null if there is no checkpoint to resume from
+     */
+    public SolverCheckpoint<Solution_> loadCheckpoint() {
+        return checkpointRepository.load();
+    }
+
+    public void solvingStarted() {
+        lastCheckpointTimeMillis = System.currentTimeMillis();
+    }
+
+    public void deleteCheckpoint() {
+        checkpointRepository.delete();
+    }
+
+    protected void saveCheckpoint(SolverScope<Solution_> solverScope, int phaseIndex, int stepIndex,
+            Serializable phaseState) {
+        SolverCheckpoint<Solution_> checkpoint = new SolverCheckpoint<>(solverScope.getBestSolution(),
+                phaseIndex, stepIndex, solverScope.calculateTimeMillisSpentUpToNow(),
+                SolverCheckpoint.serializeRandom(solverScope.getWorkingRandom()),
+                SolverCheckpoint.serializePhaseState(phaseState));
+        long startTimeMillis = System.currentTimeMillis();
+        try {
+            checkpointRepository.save(checkpoint);
+        } catch (RuntimeException e) {
+            // Losing a checkpoint is better than losing the solve
+            logger.warn("Saving the checkpoint ({}) failed, solving continues without it.", checkpoint, e);
+            return;
+        }
+        lastCheckpointTimeMillis = System.currentTimeMillis();
+        logger.debug("    Checkpoint saved: phase ({}), step index ({}), best score ({}), save time ({}).",
+                phaseIndex, stepIndex, solverScope.getBestScore(), lastCheckpointTimeMillis - startTimeMillis);
+    }
+
+    private class PhaseCheckpointListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Phase<Solution_> phase;
+        private final int phaseIndex;
+
+        private boolean checkpointDue = false;
+
+        private PhaseCheckpointListener(Phase<Solution_> phase, int phaseIndex) {
+            this.phase = phase;
+            this.phaseIndex = phaseIndex;
+        }
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            checkpointDue = false;
+        }
+
+        @Override
+        public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+            if (checkpointDue) {
+                checkpointDue = false;
+                AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+                Serializable phaseState = phase instanceof ResumablePhase
+                        ? ((ResumablePhase<Solution_>) phase).createCheckpointState(phaseScope)
+                        : null;
+                saveCheckpoint(phaseScope.getSolverScope(), phaseIndex, stepScope.getStepIndex() - 1, phaseState);
+            }
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            // Only after an improving step, the best solution is also the working solution
+            if (Boolean.TRUE.equals(stepScope.getBestScoreImproved())
+                    && System.currentTimeMillis() - lastCheckpointTimeMillis >= intervalMillis) {
+                checkpointDue = true;
+            }
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            checkpointDue = false;
+            // The phase is complete, so a resumed solver starts with the next phase
+            saveCheckpoint(phaseScope.getSolverScope(), phaseIndex + 1, -1, null);
+        }
+
+    }
+
+}
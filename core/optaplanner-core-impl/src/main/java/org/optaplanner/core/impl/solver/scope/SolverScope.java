@@ -7,6 +7,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -51,6 +52,18 @@ public class SolverScope<Solution_> {
      * Used for tracking step score
      */
     protected final Map<Tags, List<AtomicReference<Number>>> stepScoreMap = new ConcurrentHashMap<>();
+    /**
+     * Used for tracking the number of evaluated moves per move type
+     */
+    protected final Map<String, AtomicLong> moveEvaluationCountMap = new ConcurrentHashMap<>();
+    /**
+     * Used for tracking the time spent evaluating moves per move type, in nanoseconds
+     */
+    protected final Map<String, AtomicLong> moveEvaluationTimeMap = new ConcurrentHashMap<>();
+    /**
+     * Used for tracking the probability of each child move selector of an adaptive union move selector
+     */
+    protected final Map<String, AtomicReference<Number>> moveSelectorProbabilityMap = new ConcurrentHashMap<>();
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -76,6 +89,18 @@ public class SolverScope<Solution_> {
         return stepScoreMap;
     }
 
+    public Map<String, AtomicLong> getMoveEvaluationCountMap() {
+        return moveEvaluationCountMap;
+    }
+
+    public Map<String, AtomicLong> getMoveEvaluationTimeMap() {
+        return moveEvaluationTimeMap;
+    }
+
+    public Map<String, AtomicReference<Number>> getMoveSelectorProbabilityMap() {
+        return moveSelectorProbabilityMap;
+    }
+
     public Set<SolverMetric> getSolverMetricSet() {
         return solverMetricSet;
     }
@@ -207,6 +232,17 @@ public class SolverScope<Solution_> {
         endingSystemTimeMillis = null;
     }
 
+    /**
+     * Like {@link #startingNow()}, but counts the time spent before a resumed checkpoint as time spent,
+     * so the time spent terminations take it into account.
+     *
+     * @param previousTimeMillisSpent {@code >= 0}
+     */
+    public void resumingNow(long previousTimeMillisSpent) {
+        startingNow();
+        startingSystemTimeMillis -= previousTimeMillisSpent;
+    }
+
     public Long getBestSolutionTimeMillisSpent() {
         return bestSolutionTimeMillis - startingSystemTimeMillis;
     }
@@ -0,0 +1,109 @@
+package org.optaplanner.core.impl.statistic;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+public class AllocationRateStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    /**
+     * Keeps the {@link AllocationMeasurement} reachable, because a gauge only holds a weak reference to it.
+     * Synchronized, because multiple solvers can start and end in parallel.
+     */
+    private final Map<Solver<Solution_>, AllocationMeasurement> solverToMeasurementMap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        if (solverToMeasurementMap.remove(solver) != null) {
+            Tags tags = ((DefaultSolver<Solution_>) solver).getSolverScope().getMonitoringTags();
+            Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.ALLOCATION_RATE.getMeterId() + ".bytes",
+                    tags, null, null, Meter.Type.GAUGE));
+            Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.ALLOCATION_RATE.getMeterId() + ".gc.pause",
+                    tags, null, null, Meter.Type.GAUGE));
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        Tags tags = defaultSolver.getSolverScope().getMonitoringTags();
+        // Called by the solver thread at the start of Solver.solve()
+        AllocationMeasurement measurement = new AllocationMeasurement(Thread.currentThread().getId());
+        solverToMeasurementMap.put(solver, measurement);
+        Metrics.gauge(SolverMetric.ALLOCATION_RATE.getMeterId() + ".bytes", tags,
+                measurement, AllocationMeasurement::getAllocatedBytes);
+        Metrics.gauge(SolverMetric.ALLOCATION_RATE.getMeterId() + ".gc.pause", tags,
+                measurement, AllocationMeasurement::getGcPauseTimeMillis);
+    }
+
+    /**
+     * Only reads the JVM counters when a gauge is measured, so it costs nothing per step or per move.
+     */
+    private static class AllocationMeasurement {
+
+        private final com.sun.management.ThreadMXBean threadMXBean;
+        private final long solverThreadId;
+        private final long startingAllocatedBytes;
+        private final long startingGcPauseTimeMillis;
+
+        public AllocationMeasurement(long solverThreadId) {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled()) {
+                this.threadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            } else {
+                this.threadMXBean = null;
+            }
+            this.solverThreadId = solverThreadId;
+            this.startingAllocatedBytes = readAllocatedBytes();
+            this.startingGcPauseTimeMillis = readGcPauseTimeMillis();
+        }
+
+        /**
+         * @return the bytes allocated by the solver thread since solving started,
+         *         {@link Double#NaN} if the JVM does not support measuring it
+         */
+        public double getAllocatedBytes() {
+            long allocatedBytes = readAllocatedBytes();
+            if (allocatedBytes < 0L || startingAllocatedBytes < 0L) {
+                return Double.NaN;
+            }
+            return allocatedBytes - startingAllocatedBytes;
+        }
+
+        /**
+         * @return the time spent in garbage collection by the entire JVM since solving started, in milliseconds
+         */
+        public double getGcPauseTimeMillis() {
+            return readGcPauseTimeMillis() - startingGcPauseTimeMillis;
+        }
+
+        private long readAllocatedBytes() {
+            // -1 if the thread is no longer alive
+            return threadMXBean == null ? -1L : threadMXBean.getThreadAllocatedBytes(solverThreadId);
+        }
+
+        private static long readGcPauseTimeMillis() {
+            long gcTimeMillis = 0L;
+            for (GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                // -1 if undefined for this collector
+                gcTimeMillis += Math.max(garbageCollectorMXBean.getCollectionTime(), 0L);
+            }
+            return gcTimeMillis;
+        }
+
+    }
+}
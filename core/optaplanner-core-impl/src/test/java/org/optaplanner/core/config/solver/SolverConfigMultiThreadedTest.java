@@ -2,6 +2,8 @@ package org.optaplanner.core.config.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -9,10 +11,18 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.inverserelation.TestdataInverseRelationValue;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 class SolverConfigMultiThreadedTest {
@@ -30,6 +40,108 @@ class SolverConfigMultiThreadedTest {
         runSolvingAndVerifySolution(1, 1, "2");
     }
 
+    @Test
+    @Timeout(5)
+    void solvingWithSpeculativePlacementsFinishes() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        QueuedEntityPlacerConfig placerConfig = new QueuedEntityPlacerConfig();
+        placerConfig.setSpeculativePlacementCount(4);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Arrays.asList(
+                new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(placerConfig),
+                localSearchPhaseConfig));
+
+        TestdataSolution solution = createTestSolution(10, 3);
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    void speculativePlacementsSolveLikeNonSpeculativePlacements() {
+        List<String> expectedValueCodeList = solveWithSpeculativePlacements(null, null);
+        // A batch with all of its placements
+        assertThat(solveWithSpeculativePlacements(4, null)).isEqualTo(expectedValueCodeList);
+        // A batch limited to 6 moves by the move thread buffer, of which a placement with 4 values is not speculative
+        assertThat(solveWithSpeculativePlacements(4, 3)).isEqualTo(expectedValueCodeList);
+    }
+
+    private List<String> solveWithSpeculativePlacements(Integer speculativePlacementCount,
+            Integer moveThreadBufferSize) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.REPRODUCIBLE);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBufferSize(moveThreadBufferSize);
+        QueuedEntityPlacerConfig placerConfig = new QueuedEntityPlacerConfig();
+        placerConfig.setSpeculativePlacementCount(speculativePlacementCount);
+        solverConfig.setPhaseConfigList(Collections.singletonList(
+                new ConstructionHeuristicPhaseConfig().withEntityPlacerConfig(placerConfig)));
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(20, 4));
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @Timeout(5)
+    void solvingWithStepPipeliningFinishes() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withStepPipeliningEnabled(true);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Arrays.asList(
+                new ConstructionHeuristicPhaseConfig(),
+                localSearchPhaseConfig));
+
+        TestdataSolution solution = createTestSolution(10, 3);
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
+    @Test
+    @Timeout(5)
+    void solvingWithStepPipeliningAndShadowVariableFinishes() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataInverseRelationSolution.class,
+                TestdataInverseRelationEntity.class, TestdataInverseRelationValue.class);
+        // Also asserts that the shadow variables aren't stale after each step on the move threads
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withStepPipeliningEnabled(true);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Arrays.asList(
+                new ConstructionHeuristicPhaseConfig(),
+                localSearchPhaseConfig));
+
+        TestdataInverseRelationSolution solution = new TestdataInverseRelationSolution("solution");
+        solution.setValueList(IntStream.range(0, 3)
+                .mapToObj(number -> new TestdataInverseRelationValue("value" + number))
+                .collect(Collectors.toList()));
+        solution.setEntityList(IntStream.range(0, 10)
+                .mapToObj(number -> new TestdataInverseRelationEntity("entity" + number))
+                .collect(Collectors.toList()));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
     private void runSolvingAndVerifySolution(final int entityCount, final int valueCount, final String moveThreadCount) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class);
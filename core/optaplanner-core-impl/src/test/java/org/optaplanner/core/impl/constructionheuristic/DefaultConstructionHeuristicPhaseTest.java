@@ -1,14 +1,31 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -94,4 +111,183 @@ class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithRegretInsertion() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION)
+                .withRegretK(3)));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", null),
+                new TestdataEntity("e4", null)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(solution.getEntityList().get(1).getValue()).isEqualTo(v2);
+        // Every entity only conflicts with itself
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        assertThat(solution.getScore().getScore()).isEqualTo(-4);
+    }
+
+    @Test
+    void solveWithRegretInsertionPlacesTheEntityWithTheLargestRegretFirst() {
+        // Cheapest insertion places e1 first on v1, which leaves only the expensive v2 for e2
+        assertPlacementOrder(ConstructionHeuristicType.CHEAPEST_INSERTION, null, -10, "e1", "e2");
+        // e2 regrets missing v1 most (10 versus 1 for e1), so regret insertion places it first
+        assertPlacementOrder(ConstructionHeuristicType.REGRET_INSERTION, 2, -1, "e2", "e1");
+    }
+
+    private static void assertPlacementOrder(ConstructionHeuristicType constructionHeuristicType, Integer regretK,
+            int expectedScore, String... expectedEntityCodes) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataRegretScoreCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(constructionHeuristicType)
+                .withRegretK(regretK)));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null)));
+
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataStepRecorder stepRecorder = new TestdataStepRecorder();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(stepRecorder);
+        solution = solver.solve(solution);
+        assertThat(stepRecorder.placedEntityCodeList).containsExactly(expectedEntityCodes);
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(expectedScore));
+    }
+
+    /**
+     * Records the entity placed by every step and the number of moves evaluated in that step.
+     */
+    private static class TestdataStepRecorder extends PhaseLifecycleListenerAdapter<TestdataSolution> {
+
+        private final List<String> placedEntityCodeList = new ArrayList<>();
+        private final List<Long> evaluatedMoveCountList = new ArrayList<>();
+        private long stepStartingMoveEvaluationCount;
+
+        @Override
+        public void stepStarted(AbstractStepScope<TestdataSolution> stepScope) {
+            stepStartingMoveEvaluationCount = stepScope.getScoreDirector().getMoveEvaluationCount();
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+            Move<TestdataSolution> step = ((ConstructionHeuristicStepScope<TestdataSolution>) stepScope).getStep();
+            for (Object entity : step.getPlanningEntities()) {
+                placedEntityCodeList.add(((TestdataEntity) entity).getCode());
+            }
+            evaluatedMoveCountList.add(stepScope.getScoreDirector().getMoveEvaluationCount()
+                    - stepStartingMoveEvaluationCount);
+        }
+
+    }
+
+    /**
+     * Penalizes entities that share a value by 100, and assigning e1 to v2 by 1 and e2 to v2 by 10.
+     */
+    public static class TestdataRegretScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
+
+        @Override
+        public SimpleScore calculateScore(TestdataSolution solution) {
+            int score = 0;
+            Set<TestdataValue> usedValueSet = new HashSet<>();
+            for (TestdataEntity entity : solution.getEntityList()) {
+                TestdataValue value = entity.getValue();
+                if (value == null) {
+                    continue;
+                }
+                if (!usedValueSet.add(value)) {
+                    score -= 100;
+                }
+                if (value.getCode().equals("v2")) {
+                    score -= entity.getCode().equals("e1") ? 1 : 10;
+                }
+            }
+            return SimpleScore.of(score);
+        }
+
+    }
+
+    @Test
+    void solveWithMoveEvaluationCache() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)
+                .withMoveEvaluationCacheSize(1000)));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", null),
+                new TestdataEntity("e4", null)));
+
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataStepRecorder stepRecorder = new TestdataStepRecorder();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(stepRecorder);
+        solution = solver.solve(solution);
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .containsExactly(v1, v2, v3, v4);
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-4));
+        assertThat(stepRecorder.placedEntityCodeList).containsExactly("e1", "e3", "e4");
+        // The first step evaluates every move of e1, e3 and e4 (3 * 4).
+        // Every next step only evaluates the moves to the value of the previous step (2, then 1),
+        // and verifies the picked move, which was cached in an earlier step (1).
+        // Without the cache, those steps would evaluate 8 and 4 moves.
+        assertThat(stepRecorder.evaluatedMoveCountList).containsExactly(12L, 3L, 2L);
+    }
+
+    @Test
+    void moveEvaluationCacheWithQueuedEntityPlacer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT)
+                .withMoveEvaluationCacheSize(1000)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, PlannerTestUtils.generateTestdataSolution("s1")))
+                .withMessageContaining("moveEvaluationCacheSize");
+    }
+
+    @Test
+    void regretKWithoutRegretInsertion() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)
+                .withRegretK(3)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, PlannerTestUtils.generateTestdataSolution("s1")))
+                .withMessageContaining("regretK");
+    }
+
 }
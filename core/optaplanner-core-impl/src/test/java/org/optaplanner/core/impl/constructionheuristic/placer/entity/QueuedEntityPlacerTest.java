@@ -14,6 +14,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.placer.SpeculativePlacement;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicRecordingEntitySelector;
@@ -99,6 +100,126 @@ class QueuedEntityPlacerTest extends AbstractEntityPlacerTest {
         verifyPhaseLifecycle(valueSelector, 1, 2, 4);
     }
 
+    @Test
+    void speculativePlacements() {
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class,
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"));
+        MimicRecordingEntitySelector<TestdataSolution> recordingEntitySelector =
+                new MimicRecordingEntitySelector<>(entitySelector);
+        ValueSelector<TestdataSolution> valueSelector = SelectorTestUtils.mockValueSelector(TestdataEntity.class, "value",
+                new TestdataValue("1"), new TestdataValue("2"));
+
+        MoveSelector<TestdataSolution> moveSelector =
+                new ChangeMoveSelector<>(new MimicReplayingEntitySelector<>(recordingEntitySelector), valueSelector, false);
+        QueuedEntityPlacer<TestdataSolution> placer =
+                new QueuedEntityPlacer<>(recordingEntitySelector, Collections.singletonList(moveSelector), 2, 100);
+
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        placer.solvingStarted(solverScope);
+
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        placer.phaseStarted(phaseScopeA);
+        Iterator<Placement<TestdataSolution>> placementIterator = placer.iterator();
+
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA1);
+        SpeculativePlacement<TestdataSolution> placementA1 = (SpeculativePlacement<TestdataSolution>) placementIterator.next();
+        assertThat(placementA1.getBatchIndex()).isEqualTo(0);
+        assertThat(placementA1.getBatch()).hasSize(2);
+        assertEntityPlacement(placementA1, "a", "1", "2");
+        placer.stepEnded(stepScopeA1);
+
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA2);
+        SpeculativePlacement<TestdataSolution> placementA2 = (SpeculativePlacement<TestdataSolution>) placementIterator.next();
+        assertThat(placementA2.getBatchIndex()).isEqualTo(1);
+        assertThat(placementA2.getBatch()).isSameAs(placementA1.getBatch());
+        assertEntityPlacement(placementA2, "b", "1", "2");
+        placer.stepEnded(stepScopeA2);
+
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA3 = mock(AbstractStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA3);
+        SpeculativePlacement<TestdataSolution> placementA3 = (SpeculativePlacement<TestdataSolution>) placementIterator.next();
+        assertThat(placementA3.getBatchIndex()).isEqualTo(0);
+        assertThat(placementA3.getBatch()).hasSize(1);
+        assertEntityPlacement(placementA3, "c", "1", "2");
+        placer.stepEnded(stepScopeA3);
+
+        assertThat(placementIterator.hasNext()).isFalse();
+        placer.phaseEnded(phaseScopeA);
+
+        placer.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 3);
+        verifyPhaseLifecycle(valueSelector, 1, 1, 3);
+    }
+
+    @Test
+    void speculativePlacementsWithMoveCountLimit() {
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class,
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"));
+        MimicRecordingEntitySelector<TestdataSolution> recordingEntitySelector =
+                new MimicRecordingEntitySelector<>(entitySelector);
+        ValueSelector<TestdataSolution> valueSelector = SelectorTestUtils.mockValueSelector(TestdataEntity.class, "value",
+                new TestdataValue("1"), new TestdataValue("2"));
+
+        MoveSelector<TestdataSolution> moveSelector =
+                new ChangeMoveSelector<>(new MimicReplayingEntitySelector<>(recordingEntitySelector), valueSelector, false);
+        QueuedEntityPlacer<TestdataSolution> placer =
+                new QueuedEntityPlacer<>(recordingEntitySelector, Collections.singletonList(moveSelector), 3, 3);
+
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        placer.solvingStarted(solverScope);
+
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        placer.phaseStarted(phaseScopeA);
+        Iterator<Placement<TestdataSolution>> placementIterator = placer.iterator();
+
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA1);
+        SpeculativePlacement<TestdataSolution> placementA1 = (SpeculativePlacement<TestdataSolution>) placementIterator.next();
+        assertThat(placementA1.getBatch()).hasSize(1);
+        assertEntityPlacement(placementA1, "a", "1", "2");
+        placer.stepEnded(stepScopeA1);
+
+        // The moves of b exceed the limit of the batch, so b is not speculative
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA2);
+        Placement<TestdataSolution> placementA2 = placementIterator.next();
+        assertThat(placementA2).isNotInstanceOf(SpeculativePlacement.class);
+        assertEntityPlacement(placementA2, "b", "1", "2");
+        placer.stepEnded(stepScopeA2);
+
+        assertThat(placementIterator.hasNext()).isTrue();
+        AbstractStepScope<TestdataSolution> stepScopeA3 = mock(AbstractStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        placer.stepStarted(stepScopeA3);
+        SpeculativePlacement<TestdataSolution> placementA3 = (SpeculativePlacement<TestdataSolution>) placementIterator.next();
+        assertThat(placementA3.getBatch()).hasSize(1);
+        assertEntityPlacement(placementA3, "c", "1", "2");
+        placer.stepEnded(stepScopeA3);
+
+        assertThat(placementIterator.hasNext()).isFalse();
+        placer.phaseEnded(phaseScopeA);
+
+        placer.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 3);
+        verifyPhaseLifecycle(valueSelector, 1, 1, 3);
+    }
+
     @Test
     void multiQueuedMoveSelector() {
         EntitySelector<TestdataMultiVarSolution> entitySelector =
@@ -0,0 +1,89 @@
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+class ParallelFieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest {
+
+    @Override
+    protected <Solution_> SolutionCloner<Solution_> createSolutionCloner(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        // Clone every solution in parallel, regardless of its size
+        return new ParallelFieldAccessingSolutionCloner<>(solutionDescriptor, 0);
+    }
+
+    @Test
+    void cloneChainedSolutionAcrossChunks() {
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor =
+                TestdataChainedSolution.buildSolutionDescriptor();
+        AtomicInteger createdThreadCount = new AtomicInteger(0);
+        ThreadFactory threadFactory = runnable -> {
+            createdThreadCount.incrementAndGet();
+            return new Thread(runnable);
+        };
+        int cloneThreadCount = 2;
+        SolutionCloner<TestdataChainedSolution> cloner =
+                new ParallelFieldAccessingSolutionCloner<>(solutionDescriptor, 0, cloneThreadCount, threadFactory);
+
+        // Far more entities than chunks (cloneThreadCount * 4), every entity follows an entity of another chunk
+        int anchorCount = 10;
+        int entityCount = 1000;
+        List<TestdataChainedAnchor> anchorList = new ArrayList<>(anchorCount);
+        for (int i = 0; i < anchorCount; i++) {
+            anchorList.add(new TestdataChainedAnchor("a" + i));
+        }
+        List<TestdataChainedEntity> entityList = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            int chainIndex = i % anchorCount;
+            TestdataChainedObject previous = i < anchorCount ? anchorList.get(chainIndex)
+                    : entityList.get(i - anchorCount);
+            entityList.add(new TestdataChainedEntity("e" + i, previous));
+        }
+        // Reversed, so the previous entity of most entities is in a later chunk
+        Collections.reverse(entityList);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(anchorList);
+        original.setChainedEntityList(entityList);
+        original.setUnchainedValueList(Collections.emptyList());
+
+        TestdataChainedSolution clone = cloner.cloneSolution(original);
+
+        assertThat(createdThreadCount.get()).isEqualTo(cloneThreadCount);
+        assertThat(clone.getChainedAnchorList()).isSameAs(anchorList);
+        List<TestdataChainedEntity> cloneEntityList = clone.getChainedEntityList();
+        assertThat(cloneEntityList).isNotSameAs(entityList).hasSize(entityCount);
+        Map<TestdataChainedObject, TestdataChainedObject> originalToCloneMap = new IdentityHashMap<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            TestdataChainedEntity originalEntity = entityList.get(i);
+            TestdataChainedEntity cloneEntity = cloneEntityList.get(i);
+            assertThat(cloneEntity).isNotSameAs(originalEntity);
+            assertThat(cloneEntity.getCode()).isEqualTo(originalEntity.getCode());
+            originalToCloneMap.put(originalEntity, cloneEntity);
+        }
+        for (int i = 0; i < entityCount; i++) {
+            TestdataChainedObject originalPrevious = entityList.get(i).getChainedObject();
+            TestdataChainedObject clonePrevious = cloneEntityList.get(i).getChainedObject();
+            if (originalPrevious instanceof TestdataChainedAnchor) {
+                assertThat(clonePrevious).isSameAs(originalPrevious);
+            } else {
+                assertThat(clonePrevious).isSameAs(originalToCloneMap.get(originalPrevious));
+            }
+        }
+    }
+
+}
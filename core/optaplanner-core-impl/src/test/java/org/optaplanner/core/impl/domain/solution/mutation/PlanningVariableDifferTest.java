@@ -0,0 +1,119 @@
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+class PlanningVariableDifferTest {
+
+    @Test
+    void diffMatchesEntitiesByPlanningId() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        PlanningVariableDiffer<TestdataSolution> differ = new PlanningVariableDiffer<>(solutionDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        List<TestdataValue> valueList = Arrays.asList(val1, val2);
+
+        TestdataSolution a = new TestdataSolution("solution");
+        a.setValueList(valueList);
+        a.setEntityList(Arrays.asList(new TestdataEntity("a", val1), new TestdataEntity("b", val1),
+                new TestdataEntity("c", null)));
+
+        TestdataEntity b_a = new TestdataEntity("a", val1);
+        TestdataEntity b_b = new TestdataEntity("b", val2);
+        TestdataEntity b_c = new TestdataEntity("c", val2);
+        TestdataEntity b_d = new TestdataEntity("d", val1);
+        TestdataSolution b = new TestdataSolution("solution");
+        b.setValueList(valueList);
+        // Reordered, which must not matter because the entities have a planning id
+        b.setEntityList(Arrays.asList(b_d, b_c, b_b, b_a));
+
+        PlanningVariableDiff<TestdataSolution> diff = differ.diff(a, b);
+        assertThat(diff.getChangeCount()).isEqualTo(3);
+        assertThat(diff.getChangedEntityList()).containsExactly(b_d, b_c, b_b);
+        PlanningVariableChange<TestdataSolution> change = diff.getChangeList().get(2);
+        assertThat(change.getEntity()).isSameAs(b_b);
+        assertThat(change.getVariableName()).isEqualTo("value");
+        assertThat(change.getOldValue()).isSameAs(val1);
+        assertThat(change.getNewValue()).isSameAs(val2);
+        assertThat(diff.getChangeListByVariable()).hasSize(1);
+        assertThat(diff.getChangeListByVariable().values().iterator().next()).hasSize(3);
+        assertThat(differ.diff(a, a).isEmpty()).isTrue();
+    }
+
+    @Test
+    void diffChainedPlanningClone() {
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = TestdataChainedSolution.buildSolutionDescriptor();
+        PlanningVariableDiffer<TestdataChainedSolution> differ = new PlanningVariableDiffer<>(solutionDescriptor);
+
+        TestdataChainedAnchor anchor = new TestdataChainedAnchor("anchor");
+        TestdataValue value = new TestdataValue("v");
+        TestdataChainedEntity e1 = new TestdataChainedEntity("e1", anchor);
+        TestdataChainedEntity e2 = new TestdataChainedEntity("e2", e1);
+        TestdataChainedEntity e3 = new TestdataChainedEntity("e3", e2);
+        e1.setUnchainedValue(value);
+        e2.setUnchainedValue(value);
+        e3.setUnchainedValue(value);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(Arrays.asList(anchor));
+        original.setUnchainedValueList(Arrays.asList(value));
+        original.setChainedEntityList(Arrays.asList(e1, e2, e3));
+
+        TestdataChainedSolution clone = solutionDescriptor.getSolutionCloner().cloneSolution(original);
+        // The cloned entities are different instances with the same planning id
+        assertThat(differ.diff(original, clone).isEmpty()).isTrue();
+
+        // Swap e2 and e3 in the chain
+        List<TestdataChainedEntity> clonedEntityList = clone.getChainedEntityList();
+        TestdataChainedEntity clonedE1 = clonedEntityList.get(0);
+        TestdataChainedEntity clonedE2 = clonedEntityList.get(1);
+        TestdataChainedEntity clonedE3 = clonedEntityList.get(2);
+        clonedE3.setChainedObject(clonedE1);
+        clonedE2.setChainedObject(clonedE3);
+        PlanningVariableDiff<TestdataChainedSolution> diff = differ.diff(original, clone);
+        assertThat(diff.getChangedEntityList()).containsExactly(clonedE2, clonedE3);
+        assertThat(diff.getChangeList()).extracting(PlanningVariableChange::getVariableName)
+                .containsOnly("chainedObject");
+    }
+
+    @Test
+    void diffListVariable() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        PlanningVariableDiffer<TestdataListSolution> differ = new PlanningVariableDiffer<>(solutionDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListSolution a = new TestdataListSolution();
+        a.setValueList(Arrays.asList(v1, v2, v3));
+        a.setEntityList(Arrays.asList(new TestdataListEntity("a", v1, v2), new TestdataListEntity("b", v3)));
+
+        TestdataListEntity b_a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b_b = new TestdataListEntity("b", new ArrayList<>());
+        TestdataListSolution b = new TestdataListSolution();
+        b.setValueList(Arrays.asList(v1, v2, v3));
+        b.setEntityList(Arrays.asList(b_a, b_b));
+        assertThat(differ.diff(a, b).getChangedEntityList()).containsExactly(b_b);
+
+        b_a.getValueList().add(0, v3);
+        PlanningVariableDiff<TestdataListSolution> diff = differ.diff(a, b);
+        assertThat(diff.getChangedEntityList()).containsExactly(b_a, b_b);
+        assertThat(diff.getChangeList().get(0).getNewValue()).isEqualTo(Arrays.asList(v3, v1, v2));
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.optaplanner.core.impl.domain.variable.cascade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+class CascadingUpdateVariableListenerTest {
+
+    private ScoreDirector<Object> scoreDirector;
+    private SumListener listener;
+    private Node a;
+    private Node b;
+    private Node c;
+    private Node d;
+
+    @BeforeEach
+    void setUp() {
+        scoreDirector = mock(ScoreDirector.class);
+        listener = new SumListener();
+        a = new Node("a", 1);
+        b = new Node("b", 2);
+        c = new Node("c", 3);
+        d = new Node("d", 4);
+        link(a, b, c, d);
+        for (Node node : new Node[] { a, b, c, d }) {
+            listener.beforeEntityAdded(scoreDirector, node);
+        }
+        for (Node node : new Node[] { a, b, c, d }) {
+            listener.afterEntityAdded(scoreDirector, node);
+        }
+    }
+
+    @Test
+    void entityAdded() {
+        assertThat(a.sum).isEqualTo(1);
+        assertThat(b.sum).isEqualTo(3);
+        assertThat(c.sum).isEqualTo(6);
+        assertThat(d.sum).isEqualTo(10);
+        assertThat(listener.calculationCount).isEqualTo(4);
+    }
+
+    @Test
+    void cascadeStopsWhenUnchanged() {
+        listener.calculationCount = 0;
+        // Swap the weights of b and c, so only the sum of b changes
+        listener.beforeVariableChanged(scoreDirector, b);
+        listener.beforeVariableChanged(scoreDirector, c);
+        b.weight = 3;
+        c.weight = 2;
+        listener.afterVariableChanged(scoreDirector, b);
+        listener.afterVariableChanged(scoreDirector, c);
+
+        assertThat(b.sum).isEqualTo(4);
+        assertThat(c.sum).isEqualTo(6);
+        assertThat(d.sum).isEqualTo(10);
+        // b and c are recalculated once, d is recalculated once to detect that it is unchanged
+        assertThat(listener.calculationCount).isEqualTo(3);
+        verify(scoreDirector, never()).beforeVariableChanged(c, "sum");
+        verify(scoreDirector, never()).beforeVariableChanged(d, "sum");
+    }
+
+    @Test
+    void laterNotificationFirst() {
+        listener.calculationCount = 0;
+        // Reverse the order of b and c
+        listener.beforeVariableChanged(scoreDirector, c);
+        listener.beforeVariableChanged(scoreDirector, b);
+        link(a, c, b, d);
+        listener.afterVariableChanged(scoreDirector, b);
+        listener.afterVariableChanged(scoreDirector, c);
+
+        assertThat(a.sum).isEqualTo(1);
+        assertThat(c.sum).isEqualTo(4);
+        assertThat(b.sum).isEqualTo(6);
+        assertThat(d.sum).isEqualTo(10);
+        // Each affected node is recalculated only once, in the cascade of c
+        assertThat(listener.calculationCount).isEqualTo(3);
+    }
+
+    @Test
+    void cascadeToEnd() {
+        listener.calculationCount = 0;
+        listener.beforeVariableChanged(scoreDirector, a);
+        a.weight = 5;
+        listener.afterVariableChanged(scoreDirector, a);
+
+        assertThat(a.sum).isEqualTo(5);
+        assertThat(b.sum).isEqualTo(7);
+        assertThat(c.sum).isEqualTo(10);
+        assertThat(d.sum).isEqualTo(14);
+        assertThat(listener.calculationCount).isEqualTo(4);
+        verify(scoreDirector).beforeVariableChanged(d, "sum");
+        verify(scoreDirector).afterVariableChanged(d, "sum");
+    }
+
+    private static void link(Node... nodes) {
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i].previous = i == 0 ? null : nodes[i - 1];
+            nodes[i].next = i == nodes.length - 1 ? null : nodes[i + 1];
+        }
+    }
+
+    private static final class Node {
+
+        private final String code;
+        private int weight;
+        private Node previous;
+        private Node next;
+        private Integer sum;
+
+        private Node(String code, int weight) {
+            this.code = code;
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+
+    }
+
+    private static final class SumListener extends CascadingUpdateVariableListener<Object, Node, Integer> {
+
+        private int calculationCount = 0;
+
+        private SumListener() {
+            super("sum");
+        }
+
+        @Override
+        protected Node getPreviousEntity(Node node) {
+            return node.previous;
+        }
+
+        @Override
+        protected Node getNextEntity(Node node) {
+            return node.next;
+        }
+
+        @Override
+        protected Integer calculateShadowValue(Node node) {
+            calculationCount++;
+            if (node.previous == null) {
+                return node.weight;
+            }
+            return node.previous.sum == null ? null : node.previous.sum + node.weight;
+        }
+
+        @Override
+        protected Integer getShadowValue(Node node) {
+            return node.sum;
+        }
+
+        @Override
+        protected void setShadowValue(Node node, Integer sum) {
+            node.sum = sum;
+        }
+
+    }
+
+}
@@ -55,6 +55,40 @@ class IndexVariableListenerTest {
         assertThat(v3.getIndex()).isEqualTo(2);
     }
 
+    @Test
+    void listVariableChanged() {
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+
+        IndexVariableListener<TestdataListSolution> indexVariableListener = new IndexVariableListener<>(
+                TestdataListValue.buildVariableDescriptorForIndex(),
+                TestdataListEntity.buildVariableDescriptorForValueList());
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListEntity entity = TestdataListEntity.createWithValues("a", v1, v2, v3, v4);
+
+        // Reverse the range [1, 3).
+        indexVariableListener.beforeListVariableChanged(scoreDirector, entity, 1, 3);
+        entity.getValueList().set(1, v3);
+        entity.getValueList().set(2, v2);
+        indexVariableListener.afterListVariableChanged(scoreDirector, entity, 1, 3);
+
+        assertThat(v1.getIndex()).isEqualTo(0);
+        assertThat(v3.getIndex()).isEqualTo(1);
+        assertThat(v2.getIndex()).isEqualTo(2);
+        assertThat(v4.getIndex()).isEqualTo(3);
+
+        // Remove the range [0, 2), which shifts all the following elements.
+        indexVariableListener.beforeListVariableChanged(scoreDirector, entity, 0, 2);
+        entity.getValueList().subList(0, 2).clear();
+        indexVariableListener.afterListVariableChanged(scoreDirector, entity, 0, 0);
+
+        assertThat(v2.getIndex()).isEqualTo(0);
+        assertThat(v4.getIndex()).isEqualTo(1);
+    }
+
     @Test
     void removeEntity() {
         InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
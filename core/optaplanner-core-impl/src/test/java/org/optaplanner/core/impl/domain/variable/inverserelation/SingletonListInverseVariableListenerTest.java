@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -53,6 +55,27 @@ class SingletonListInverseVariableListenerTest {
         assertThat(inverseVariableListener.getInverseSingleton(v1)).isEqualTo(e2);
     }
 
+    @Test
+    void listVariableChanged() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("a", v1, v2);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("b", v3);
+
+        // Move the range e1[0, 2) to e2[1].
+        inverseVariableListener.beforeListVariableChanged(scoreDirector, e1, 0, 2);
+        e1.getValueList().clear();
+        inverseVariableListener.afterListVariableChanged(scoreDirector, e1, 0, 0);
+        inverseVariableListener.beforeListVariableChanged(scoreDirector, e2, 1, 1);
+        e2.getValueList().addAll(1, List.of(v1, v2));
+        inverseVariableListener.afterListVariableChanged(scoreDirector, e2, 1, 3);
+
+        assertThat(v1.getEntity()).isEqualTo(e2);
+        assertThat(v2.getEntity()).isEqualTo(e2);
+        assertThat(v3.getEntity()).isEqualTo(e2);
+    }
+
     @Test
     void removeEntity() {
         TestdataListValue v1 = new TestdataListValue("1");
@@ -0,0 +1,77 @@
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.ListVariableListener;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+
+class ListVariableListenerNotifiableTest {
+
+    private final ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+    private final ListVariableListener<TestdataListSolution, Object> variableListener =
+            mock(ListVariableListener.class);
+    private final TestdataListEntity entity = new TestdataListEntity("e");
+
+    @Test
+    void coalesceChangesWithoutSizeChange() {
+        ListVariableListenerNotifiable<TestdataListSolution> notifiable =
+                new ListVariableListenerNotifiable<>(scoreDirector, variableListener, 0);
+        notifiable.notifyBeforeListVariableChanged(entity, 4, 5, 8);
+        notifiable.notifyAfterListVariableChanged(entity, 4, 5, 8);
+        notifiable.notifyBeforeListVariableChanged(entity, 1, 3, 8);
+        notifiable.notifyAfterListVariableChanged(entity, 1, 3, 8);
+        notifiable.triggerAllNotifications();
+
+        verify(variableListener).beforeListVariableChanged(scoreDirector, entity, 4, 5);
+        verify(variableListener).afterListVariableChanged(scoreDirector, entity, 1, 5);
+        verifyCallCount(1);
+    }
+
+    @Test
+    void coalesceChangesWithSizeChangeUpToListEnd() {
+        ListVariableListenerNotifiable<TestdataListSolution> notifiable =
+                new ListVariableListenerNotifiable<>(scoreDirector, variableListener, 0);
+        // Add an element at index 5 of a list of size 6
+        notifiable.notifyBeforeListVariableChanged(entity, 5, 5, 6);
+        notifiable.notifyAfterListVariableChanged(entity, 5, 6, 7);
+        // Add an element at index 0, which shifts the element added at index 5 to index 6
+        notifiable.notifyBeforeListVariableChanged(entity, 0, 0, 7);
+        notifiable.notifyAfterListVariableChanged(entity, 0, 1, 8);
+        notifiable.triggerAllNotifications();
+
+        verify(variableListener).beforeListVariableChanged(scoreDirector, entity, 5, 5);
+        verify(variableListener).afterListVariableChanged(scoreDirector, entity, 0, 8);
+        verifyCallCount(1);
+    }
+
+    @Test
+    void triggerAllNotificationsStartsNewCoalescing() {
+        ListVariableListenerNotifiable<TestdataListSolution> notifiable =
+                new ListVariableListenerNotifiable<>(scoreDirector, variableListener, 0);
+        notifiable.notifyBeforeListVariableChanged(entity, 2, 3, 4);
+        notifiable.notifyAfterListVariableChanged(entity, 2, 3, 4);
+        notifiable.triggerAllNotifications();
+        notifiable.notifyBeforeListVariableChanged(entity, 0, 1, 4);
+        notifiable.notifyAfterListVariableChanged(entity, 0, 1, 4);
+        notifiable.triggerAllNotifications();
+
+        verify(variableListener).beforeListVariableChanged(scoreDirector, entity, 2, 3);
+        verify(variableListener).afterListVariableChanged(scoreDirector, entity, 2, 3);
+        verify(variableListener).beforeListVariableChanged(scoreDirector, entity, 0, 1);
+        verify(variableListener).afterListVariableChanged(scoreDirector, entity, 0, 1);
+        verifyCallCount(2);
+    }
+
+    private void verifyCallCount(int callCount) {
+        verify(variableListener, times(callCount)).beforeListVariableChanged(any(), any(), anyInt(), anyInt());
+        verify(variableListener, times(callCount)).afterListVariableChanged(any(), any(), anyInt(), anyInt());
+    }
+
+}
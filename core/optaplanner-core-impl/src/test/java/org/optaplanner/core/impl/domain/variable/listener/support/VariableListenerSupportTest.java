@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
@@ -18,12 +20,16 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInvers
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
 import org.optaplanner.core.impl.testdata.domain.shadow.order.TestdataShadowVariableOrderEntity;
 import org.optaplanner.core.impl.testdata.domain.shadow.order.TestdataShadowVariableOrderSolution;
 
@@ -156,4 +162,54 @@ class VariableListenerSupportTest {
         assertThat(registry.get(entityDescriptor.getVariableDescriptor("x0G")))
                 .isEmpty();
     }
+
+    @Test
+    void coalesceListVariableChangesThatShiftEachOther() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                new EasyScoreDirectorFactory<>(solutionDescriptor, solution -> SimpleScore.of(0))
+                        .buildScoreDirector(false, false);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                (ListVariableDescriptor<TestdataListSolution>) solutionDescriptor
+                        .findEntityDescriptorOrFail(TestdataListEntity.class).getGenuineVariableDescriptor("valueList");
+
+        TestdataListValue a0 = new TestdataListValue("a0");
+        TestdataListValue a1 = new TestdataListValue("a1");
+        TestdataListValue a2 = new TestdataListValue("a2");
+        TestdataListValue a3 = new TestdataListValue("a3");
+        TestdataListValue a4 = new TestdataListValue("a4");
+        TestdataListValue a5 = new TestdataListValue("a5");
+        TestdataListValue x = new TestdataListValue("x");
+        TestdataListValue y = new TestdataListValue("y");
+        TestdataListEntity a = TestdataListEntity.createWithValues("A", a0, a1, a2, a3, a4, a5);
+        TestdataListEntity b = TestdataListEntity.createWithValues("B", x, y);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(a0, a1, a2, a3, a4, a5, x, y));
+        solution.setEntityList(Arrays.asList(a, b));
+        scoreDirector.setWorkingSolution(solution);
+
+        // Move x to A[5]
+        scoreDirector.beforeListVariableChanged(variableDescriptor, b, 0, 1);
+        variableDescriptor.removeElement(b, 0);
+        scoreDirector.afterListVariableChanged(variableDescriptor, b, 0, 0);
+        scoreDirector.beforeListVariableChanged(variableDescriptor, a, 5, 5);
+        variableDescriptor.addElement(a, 5, x);
+        scoreDirector.afterListVariableChanged(variableDescriptor, a, 5, 6);
+        // Move y to A[0], which shifts x out of the range of the previous change of A
+        scoreDirector.beforeListVariableChanged(variableDescriptor, b, 0, 1);
+        variableDescriptor.removeElement(b, 0);
+        scoreDirector.afterListVariableChanged(variableDescriptor, b, 0, 0);
+        scoreDirector.beforeListVariableChanged(variableDescriptor, a, 0, 0);
+        variableDescriptor.addElement(a, 0, y);
+        scoreDirector.afterListVariableChanged(variableDescriptor, a, 0, 1);
+        scoreDirector.triggerVariableListeners();
+
+        assertThat(a.getValueList()).containsExactly(y, a0, a1, a2, a3, a4, x, a5);
+        assertThat(b.getValueList()).isEmpty();
+        for (int i = 0; i < a.getValueList().size(); i++) {
+            TestdataListValue value = a.getValueList().get(i);
+            assertThat(value.getEntity()).as("Entity of " + value).isSameAs(a);
+            assertThat(value.getIndex()).as("Index of " + value).isEqualTo(i);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package org.optaplanner.core.impl.domain.variable.tracking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+class ExternalizedChangeTrackingSupplyTest {
+
+    @Test
+    void genuineVariable() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChangeTrackingSupply<TestdataSolution> supply =
+                new ExternalizedChangeTrackingSupply<>(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", null);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+
+        // Not tracking yet
+        supply.beforeVariableChanged(scoreDirector, e1);
+        e1.setValue(v1);
+        supply.afterVariableChanged(scoreDirector, e1);
+        assertThat(supply.pollChangedObjects()).isEmpty();
+
+        supply.startTracking();
+        supply.beforeVariableChanged(scoreDirector, e2);
+        e2.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, e2);
+        assertThat(supply.pollChangedObjects()).containsExactlyInAnyOrder(e2, v1, v2);
+        assertThat(supply.pollChangedObjects()).isEmpty();
+
+        supply.beforeVariableChanged(scoreDirector, e1);
+        e1.setValue(null);
+        supply.afterVariableChanged(scoreDirector, e1);
+        assertThat(supply.pollChangedObjects()).containsExactlyInAnyOrder(e1, v1);
+
+        supply.stopTracking();
+        supply.beforeVariableChanged(scoreDirector, e1);
+        e1.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, e1);
+        assertThat(supply.pollChangedObjects()).isEmpty();
+
+        supply.close();
+    }
+
+    @Test
+    void listVariable() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ChangeTrackingSupply supply = new ChangeTrackingDemand<>(variableDescriptor).createExternalizedSupply(null);
+        assertThat(supply).isInstanceOf(ExternalizedListChangeTrackingSupply.class);
+        ExternalizedListChangeTrackingSupply<TestdataListSolution> listSupply =
+                (ExternalizedListChangeTrackingSupply<TestdataListSolution>) supply;
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListValue v4 = new TestdataListValue("v4");
+        TestdataListEntity e1 = new TestdataListEntity("e1", v1, v2, v3);
+        TestdataListEntity e2 = new TestdataListEntity("e2", v4);
+
+        listSupply.startTracking();
+        // Move v2 from e1 to the end of e2
+        listSupply.beforeListVariableChanged(scoreDirector, e1, 1, 2);
+        e1.getValueList().remove(v2);
+        listSupply.beforeListVariableChanged(scoreDirector, e2, 1, 1);
+        e2.getValueList().add(v2);
+        listSupply.afterListVariableChanged(scoreDirector, e1, 1, 1);
+        listSupply.afterListVariableChanged(scoreDirector, e2, 1, 2);
+        // The shifted v3 is only changed through its entity
+        assertThat(listSupply.pollChangedObjects()).containsExactlyInAnyOrder(e1, e2, v2);
+        assertThat(listSupply.pollChangedObjects()).isEmpty();
+
+        listSupply.beforeElementMoved(scoreDirector, e2, 0, e1, 0);
+        e2.getValueList().remove(v4);
+        e1.getValueList().add(0, v4);
+        listSupply.afterElementMoved(scoreDirector, e2, 0, e1, 0);
+        assertThat(listSupply.pollChangedObjects()).containsExactlyInAnyOrder(e1, e2, v4);
+
+        listSupply.stopTracking();
+        listSupply.beforeListVariableChanged(scoreDirector, e1, 0, 1);
+        listSupply.afterListVariableChanged(scoreDirector, e1, 0, 1);
+        assertThat(listSupply.pollChangedObjects()).isEmpty();
+
+        listSupply.close();
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.optaplanner.core.impl.heuristic.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.domain.variable.tracking.ExternalizedChangeTrackingSupply;
+import org.optaplanner.core.impl.domain.variable.tracking.ExternalizedListChangeTrackingSupply;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+class MoveEvaluationCacheTest {
+
+    private final SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            solutionDescriptor.findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+    private final List<Supply> supplyList = new ArrayList<>();
+
+    private final TestdataValue v1 = new TestdataValue("v1");
+    private final TestdataValue v2 = new TestdataValue("v2");
+    private final TestdataValue v3 = new TestdataValue("v3");
+    private final TestdataValue v4 = new TestdataValue("v4");
+    private final TestdataEntity e1 = new TestdataEntity("e1", v1);
+    private final TestdataEntity e2 = new TestdataEntity("e2", v2);
+    private final TestdataEntity e3 = new TestdataEntity("e3", v3);
+
+    @Test
+    void invalidateChangedMoves() {
+        MoveEvaluationCache<TestdataSolution> cache = new MoveEvaluationCache<>("", 100);
+        cache.phaseStarted(mockScoreDirector(solutionDescriptor));
+        ChangeMove<TestdataSolution> move1 = new ChangeMove<>(variableDescriptor, e1, v3);
+        ChangeMove<TestdataSolution> move2 = new ChangeMove<>(variableDescriptor, e2, v3);
+        ChangeMove<TestdataSolution> move3 = new ChangeMove<>(variableDescriptor, e3, v4);
+        cache.put(move1, SimpleScore.of(-1), 0);
+        cache.put(move2, SimpleScore.of(-2), 0);
+        cache.put(move3, SimpleScore.of(-3), 0);
+
+        // An undone move changes nothing
+        changeValue(e2, v4);
+        changeValue(e2, v2);
+        cache.ignoreChanges();
+        cache.invalidateChangedMoves();
+        assertThat(cache.get(new ChangeMove<>(variableDescriptor, e1, v3))).isNotNull();
+        assertThat(cache.get(move2)).isNotNull();
+        assertThat(cache.get(move3)).isNotNull();
+
+        // A step that changes e2 from v2 to v4 affects the moves of e2 and the moves to v4
+        changeValue(e2, v4);
+        cache.invalidateChangedMoves();
+        MoveEvaluationCache.CachedMove<TestdataSolution> cachedMove1 = cache.get(move1);
+        assertThat(cachedMove1.getScoreDifference()).isEqualTo(SimpleScore.of(-1));
+        assertThat(cachedMove1.getScoreDifferenceStepIndex()).isEqualTo(0);
+        assertThat(cache.get(move2)).isNull();
+        assertThat(cache.get(move3)).isNull();
+        assertThat(cache.planningObjectToCachedMoveSetMap).containsOnlyKeys(e1, v1, v3);
+
+        cache.phaseEnded();
+    }
+
+    @Test
+    void removeLeastRecentlyUsedMove() {
+        MoveEvaluationCache<TestdataSolution> cache = new MoveEvaluationCache<>("", 2);
+        cache.phaseStarted(mockScoreDirector(solutionDescriptor));
+        ChangeMove<TestdataSolution> move1 = new ChangeMove<>(variableDescriptor, e1, v3);
+        ChangeMove<TestdataSolution> move2 = new ChangeMove<>(variableDescriptor, e2, v4);
+        ChangeMove<TestdataSolution> move3 = new ChangeMove<>(variableDescriptor, e3, v4);
+        cache.put(move1, SimpleScore.of(-1), 0);
+        cache.put(move2, SimpleScore.of(-2), 0);
+        cache.get(move1);
+        cache.put(move3, SimpleScore.of(-3), 0);
+
+        assertThat(cache.get(move1)).isNotNull();
+        assertThat(cache.get(move2)).isNull();
+        assertThat(cache.get(move3)).isNotNull();
+        // The removed move is no longer indexed
+        assertThat(cache.planningObjectToCachedMoveSetMap).containsOnlyKeys(e1, v1, v3, e3, v4);
+        assertThat(cache.planningObjectToCachedMoveSetMap.get(v4)).hasSize(1);
+
+        cache.phaseEnded();
+    }
+
+    @Test
+    void invalidateChangedListMoves() {
+        SolutionDescriptor<TestdataListSolution> listSolutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        ListVariableDescriptor<TestdataListSolution> listVariableDescriptor =
+                (ListVariableDescriptor<TestdataListSolution>) listSolutionDescriptor
+                        .findEntityDescriptorOrFail(TestdataListEntity.class).getGenuineVariableDescriptor("valueList");
+        TestdataListValue lv1 = new TestdataListValue("lv1");
+        TestdataListValue lv2 = new TestdataListValue("lv2");
+        TestdataListValue lv3 = new TestdataListValue("lv3");
+        TestdataListValue lv4 = new TestdataListValue("lv4");
+        TestdataListEntity le1 = new TestdataListEntity("le1", lv1, lv2);
+        TestdataListEntity le2 = new TestdataListEntity("le2", lv3);
+        TestdataListEntity le3 = new TestdataListEntity("le3", lv4);
+        MoveEvaluationCache<TestdataListSolution> cache = new MoveEvaluationCache<>("", 100);
+        cache.phaseStarted(mockScoreDirector(listSolutionDescriptor));
+        ListChangeMove<TestdataListSolution> move1 = new ListChangeMove<>(listVariableDescriptor, le1, 0, le2, 0);
+        ListChangeMove<TestdataListSolution> move2 = new ListChangeMove<>(listVariableDescriptor, le3, 0, le2, 1);
+        cache.put(move1, SimpleScore.of(-1), 0);
+        cache.put(move2, SimpleScore.of(-2), 0);
+
+        // A step that removes lv2 from the end of le1 shifts no element of move1, but changes its source entity
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListChangeTrackingSupply<TestdataListSolution> supply = supplyList.stream()
+                .filter(ExternalizedListChangeTrackingSupply.class::isInstance)
+                .map(ExternalizedListChangeTrackingSupply.class::cast)
+                .findFirst().orElseThrow();
+        supply.beforeListVariableChanged(scoreDirector, le1, 1, 2);
+        le1.getValueList().remove(lv2);
+        supply.afterListVariableChanged(scoreDirector, le1, 1, 1);
+        cache.invalidateChangedMoves();
+        assertThat(cache.get(move1)).isNull();
+        assertThat(cache.get(move2)).isNotNull();
+
+        cache.phaseEnded();
+    }
+
+    private <Solution_> InnerScoreDirector<Solution_, SimpleScore> mockScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        InnerScoreDirector<Solution_, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        when(scoreDirector.getSupplyManager()).thenReturn(new SupplyManager() {
+            @Override
+            public <Supply_ extends Supply> Supply_ demand(Demand<Supply_> demand) {
+                Supply_ supply = demand.createExternalizedSupply(this);
+                supplyList.add(supply);
+                return supply;
+            }
+        });
+        return scoreDirector;
+    }
+
+    private void changeValue(TestdataEntity entity, TestdataValue value) {
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChangeTrackingSupply<TestdataSolution> supply =
+                (ExternalizedChangeTrackingSupply<TestdataSolution>) supplyList.get(0);
+        supply.beforeVariableChanged(scoreDirector, entity);
+        entity.setValue(value);
+        supply.afterVariableChanged(scoreDirector, entity);
+    }
+
+}
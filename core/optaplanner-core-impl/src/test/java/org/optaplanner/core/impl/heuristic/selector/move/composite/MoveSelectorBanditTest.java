@@ -0,0 +1,58 @@
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+class MoveSelectorBanditTest {
+
+    @Test
+    void uniformWithoutImprovement() {
+        MoveSelectorBandit bandit = new MoveSelectorBandit(2);
+        assertThat(bandit.getProbability(0)).isEqualTo(0.5);
+        assertThat(bandit.getProbability(1)).isEqualTo(0.5);
+
+        bandit.stepStarted();
+        bandit.moveSelected(0, 0L);
+        bandit.moveSelected(1, 1_000L);
+        bandit.stepEnded(1, false, 2_000L);
+        assertThat(bandit.getProbability(0)).isEqualTo(0.5);
+        assertThat(bandit.getProbability(1)).isEqualTo(0.5);
+    }
+
+    @Test
+    void improvingChildIsSelectedMoreOften() {
+        MoveSelectorBandit bandit = new MoveSelectorBandit(2);
+        bandit.stepStarted();
+        bandit.moveSelected(0, 0L);
+        bandit.moveSelected(1, 1_000L);
+        bandit.stepEnded(1, true, 2_000L);
+        // The other child keeps its part of the minimum probability share
+        assertThat(bandit.getProbability(0)).isCloseTo(0.05, offset(1e-9));
+        assertThat(bandit.getProbability(1)).isCloseTo(0.95, offset(1e-9));
+    }
+
+    @Test
+    void improvementPerTimeSpent() {
+        MoveSelectorBandit bandit = new MoveSelectorBandit(2);
+        bandit.stepStarted();
+        bandit.moveSelected(0, 0L);
+        bandit.moveSelected(1, 1_000L);
+        bandit.stepEnded(0, true, 4_000L);
+        bandit.stepStarted();
+        bandit.moveSelected(1, 10_000L);
+        bandit.stepEnded(0, true, 10_000L);
+        // Both children improved once, but the second child took 3 times longer
+        assertThat(bandit.getProbability(0)).isCloseTo(0.05 + 0.9 * 0.75, offset(1e-6));
+        assertThat(bandit.getProbability(1)).isCloseTo(0.05 + 0.9 * 0.25, offset(1e-6));
+
+        // A child that stops improving loses its share
+        bandit.stepStarted();
+        bandit.moveSelected(0, 0L);
+        bandit.stepEnded(-1, false, (long) MoveSelectorBandit.HALF_LIFE_NANOS);
+        assertThat(bandit.getProbability(0)).isLessThan(0.1);
+        assertThat(bandit.getProbability(1)).isGreaterThan(0.9);
+    }
+
+}
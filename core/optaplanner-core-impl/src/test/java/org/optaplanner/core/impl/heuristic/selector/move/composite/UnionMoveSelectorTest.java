@@ -1,5 +1,6 @@
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfMoveSelector;
@@ -7,12 +8,15 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseL
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
@@ -148,6 +152,36 @@ class UnionMoveSelectorTest {
         verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
     }
 
+    @Test
+    void adaptiveRandomSelection() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                SelectorTestUtils.mockMoveSelector(DummyMove.class, new DummyMove("a1"), new DummyMove("a2"),
+                        new DummyMove("a3")),
+                SelectorTestUtils.mockMoveSelector(DummyMove.class, new DummyMove("b1"), new DummyMove("b2")));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null, true);
+
+        // Without any improvements yet, each child has the same probability
+        Random workingRandom = new TestRandom(0.0, 0.75, 0.75, 0.0, 0.0);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope<TestdataSolution> stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        // A union of ending MoveSelectors does end, even with randomSelection
+        assertAllCodesOfMoveSelector(moveSelector, "a1", "b1", "b2", "a2", "a3");
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childMoveSelectorList.get(0), 1, 1, 1);
+        verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
+    }
+
     @Test
     void emptyUniformRandomSelection() {
         ArrayList<MoveSelector<TestdataSolution>> childMoveSelectorList = new ArrayList<>();
@@ -210,4 +244,148 @@ class UnionMoveSelectorTest {
         verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
     }
 
+
+    @Test
+    void uniformRandomSelectionKeepsTheFlyweightMoveItReturned() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                mockFlyweightMoveSelector("a1", "a2", "a3"),
+                mockFlyweightMoveSelector("b1", "b2"));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null);
+
+        Random workingRandom = new TestRandom(0, 1, 1, 0, 0);
+        assertFlyweightCodesOfMoveSelector(moveSelector, workingRandom, "a1", "b1", "b2", "a2", "a3");
+    }
+
+    @Test
+    void biasedRandomSelectionKeepsTheFlyweightMoveItReturned() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                mockFlyweightMoveSelector("a1", "a2", "a3"),
+                mockFlyweightMoveSelector("b1", "b2"));
+        Map<MoveSelector<TestdataSolution>, Double> fixedProbabilityWeightMap = new HashMap<>();
+        fixedProbabilityWeightMap.put(childMoveSelectorList.get(0), 1000.0);
+        fixedProbabilityWeightMap.put(childMoveSelectorList.get(1), 20.0);
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true,
+                        new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap));
+
+        Random workingRandom = new TestRandom(
+                1.0 / 1020.0,
+                1019.0 / 1020.0,
+                1000.0 / 1020.0,
+                0.0,
+                999.0 / 1020.0);
+        assertFlyweightCodesOfMoveSelector(moveSelector, workingRandom, "a1", "b1", "b2", "a2", "a3");
+    }
+
+    @Test
+    void adaptiveRandomSelectionKeepsTheFlyweightMoveItReturned() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                mockFlyweightMoveSelector("a1", "a2", "a3"),
+                mockFlyweightMoveSelector("b1", "b2"));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null, true);
+
+        Random workingRandom = new TestRandom(0.0, 0.75, 0.75, 0.0, 0.0);
+        assertFlyweightCodesOfMoveSelector(moveSelector, workingRandom, "a1", "b1", "b2", "a2", "a3");
+    }
+
+    @Test
+    void adaptiveRandomSelectionFindsThePickedMoveAmongTheSelectedMoves() {
+        DummyMove a1 = new DummyMove("a1");
+        DummyMove b1 = new DummyMove("b1");
+        DummyMove b2 = new DummyMove("b2");
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                SelectorTestUtils.mockMoveSelector(DummyMove.class, a1, new DummyMove("a2")),
+                SelectorTestUtils.mockMoveSelector(DummyMove.class, b1, b2));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null, true);
+        assertThat(moveSelector.enableFlyweightMoves()).isFalse();
+
+        Random workingRandom = new TestRandom(0.0, 0.75, 0.75);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope<TestdataSolution> stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        // Only 3 of the moves are selected, for example because a filter or a parent selector stops early
+        Iterator<Move<TestdataSolution>> moveIterator = moveSelector.iterator();
+        assertThat(moveIterator.next()).isSameAs(a1);
+        assertThat(moveIterator.next()).isSameAs(b1);
+        assertThat(moveIterator.next()).isSameAs(b2);
+        assertThat(moveSelector.findSelectedMoveIndex(b2)).isEqualTo(2);
+        assertThat(moveSelector.findSelectedMoveIndex(a1)).isZero();
+        assertThat(moveSelector.findSelectedMoveIndex(new DummyMove("a2"))).isEqualTo(-1);
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    /**
+     * Reads every move before the next {@link Iterator#hasNext()} call, like the local search decider does.
+     */
+    private static void assertFlyweightCodesOfMoveSelector(UnionMoveSelector<TestdataSolution> moveSelector,
+            Random workingRandom, String... codes) {
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope<TestdataSolution> stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        List<String> codeList = new ArrayList<>();
+        Iterator<Move<TestdataSolution>> moveIterator = moveSelector.iterator();
+        while (moveIterator.hasNext()) {
+            codeList.add(moveIterator.next().toString());
+        }
+        assertThat(codeList).containsExactly(codes);
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    /**
+     * Like the prefetching iterator of a flyweight move selector,
+     * its {@link Iterator#hasNext()} resets the one move instance that it returns.
+     */
+    private static MoveSelector<TestdataSolution> mockFlyweightMoveSelector(String... codes) {
+        MoveSelector<TestdataSolution> moveSelector = mock(MoveSelector.class);
+        when(moveSelector.iterator()).thenAnswer(invocation -> new Iterator<Move<TestdataSolution>>() {
+
+            private final FlyweightDummyMove move = new FlyweightDummyMove();
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                move.reset("reset");
+                return index < codes.length;
+            }
+
+            @Override
+            public Move<TestdataSolution> next() {
+                move.reset(codes[index++]);
+                return move;
+            }
+
+        });
+        when(moveSelector.isNeverEnding()).thenReturn(false);
+        when(moveSelector.getCacheType()).thenReturn(SelectionCacheType.JUST_IN_TIME);
+        when(moveSelector.getSize()).thenReturn((long) codes.length);
+        return moveSelector;
+    }
+
+    private static final class FlyweightDummyMove extends DummyMove {
+
+        private void reset(String code) {
+            this.code = code;
+        }
+
+    }
+
 }
@@ -0,0 +1,87 @@
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+
+class CompactMoveListTest {
+
+    @Test
+    void genericMoves() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList = Arrays.asList(variableDescriptor);
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+
+        List<Move<TestdataSolution>> expectedMoveList = Arrays.asList(
+                new ChangeMove<>(variableDescriptor, a, v1),
+                new ChangeMove<>(variableDescriptor, a, null),
+                new ChangeMove<>(variableDescriptor, b, v2),
+                new SwapMove<>(variableDescriptorList, a, b),
+                new SwapMove<>(variableDescriptorList, b, a),
+                new DummyMove("x"),
+                new ChangeMove<>(variableDescriptor, b, v1));
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(expectedMoveList.size());
+        expectedMoveList.forEach(moveList::add);
+        moveList.trimToSize();
+
+        assertThat(moveList).hasSize(expectedMoveList.size());
+        assertThat(new ArrayList<>(moveList)).isEqualTo(expectedMoveList);
+        for (int i = 0; i < expectedMoveList.size(); i++) {
+            assertThat(moveList.get(i)).isEqualTo(expectedMoveList.get(i));
+        }
+        assertThat(((ChangeMove<TestdataSolution>) moveList.get(0)).getEntity()).isSameAs(a);
+        assertThat(moveList.get(5)).isSameAs(expectedMoveList.get(5));
+    }
+
+    @Test
+    void listMoves() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        TestdataListEntity a = new TestdataListEntity("a");
+        TestdataListEntity b = new TestdataListEntity("b");
+
+        List<Move<TestdataListSolution>> expectedMoveList = Arrays.asList(
+                new ListChangeMove<>(variableDescriptor, a, 0, b, 1),
+                new ListChangeMove<>(variableDescriptor, b, 2, b, 0),
+                new ListSwapMove<>(variableDescriptor, a, 1, b, 3));
+        CompactMoveList<TestdataListSolution> moveList = new CompactMoveList<>(0);
+        expectedMoveList.forEach(moveList::add);
+        moveList.trimToSize();
+
+        assertThat(new ArrayList<>(moveList)).isEqualTo(expectedMoveList);
+        assertThat(moveList.get(2)).isEqualTo(expectedMoveList.get(2));
+        ListChangeMove<TestdataListSolution> listChangeMove = (ListChangeMove<TestdataListSolution>) moveList.get(1);
+        assertThat(listChangeMove.getSourceIndex()).isEqualTo(2);
+        assertThat(listChangeMove.getDestinationIndex()).isEqualTo(0);
+    }
+
+    @Test
+    void addAfterTrim() {
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(1);
+        moveList.add(new DummyMove("x"));
+        moveList.trimToSize();
+        assertThatIllegalStateException().isThrownBy(() -> moveList.add(new DummyMove("y")));
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingSolution;
+
+class FlyweightChangeMoveTest {
+
+    @Test
+    void doMoveReusesUndoMove() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2, v3), v1);
+
+        ScoreDirectorFactory<TestdataEntityProvidingSolution> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataEntityProvidingSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.ZERO);
+        ScoreDirector<TestdataEntityProvidingSolution> scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        GenuineVariableDescriptor<TestdataEntityProvidingSolution> variableDescriptor =
+                TestdataEntityProvidingEntity.buildVariableDescriptorForValue();
+
+        FlyweightChangeMove<TestdataEntityProvidingSolution> move = new FlyweightChangeMove<>(variableDescriptor);
+        Move<TestdataEntityProvidingSolution> undoMove = move.reset(a, v2).doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        undoMove.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+
+        Move<TestdataEntityProvidingSolution> otherUndoMove = move.reset(a, v3).doMove(scoreDirector);
+        assertThat(otherUndoMove).isSameAs(undoMove);
+        assertThat(a.getValue()).isSameAs(v3);
+        otherUndoMove.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+    }
+
+    @Test
+    void equalsChangeMove() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2), v1);
+        GenuineVariableDescriptor<TestdataEntityProvidingSolution> variableDescriptor =
+                TestdataEntityProvidingEntity.buildVariableDescriptorForValue();
+
+        FlyweightChangeMove<TestdataEntityProvidingSolution> move = new FlyweightChangeMove<>(variableDescriptor);
+        move.reset(a, v2);
+        ChangeMove<TestdataEntityProvidingSolution> changeMove = new ChangeMove<>(variableDescriptor, a, v2);
+        assertThat(move).isEqualTo(changeMove);
+        assertThat(changeMove).isEqualTo(move);
+        assertThat(move.hashCode()).isEqualTo(changeMove.hashCode());
+        assertThat(move.getSimpleMoveTypeDescription()).isEqualTo(changeMove.getSimpleMoveTypeDescription());
+
+        ChangeMove<TestdataEntityProvidingSolution> materializedMove = move.materialize();
+        move.reset(a, v1);
+        assertThat(materializedMove).isEqualTo(changeMove);
+        assertThat(move).isNotEqualTo(changeMove);
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class FlyweightSwapMoveTest {
+
+    @Test
+    void doMoveAndEquals() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+
+        ScoreDirectorFactory<TestdataSolution> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), solution -> SimpleScore.ZERO);
+        ScoreDirector<TestdataSolution> scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList =
+                TestdataEntity.buildEntityDescriptor().getGenuineVariableDescriptorList();
+
+        FlyweightSwapMove<TestdataSolution> move = new FlyweightSwapMove<>(variableDescriptorList);
+        move.reset(a, b);
+        SwapMove<TestdataSolution> swapMove = new SwapMove<>(variableDescriptorList, a, b);
+        assertThat(move).isEqualTo(swapMove);
+        assertThat(swapMove).isEqualTo(move);
+        assertThat(move.hashCode()).isEqualTo(swapMove.hashCode());
+        assertThat(move.isMoveDoable(scoreDirector)).isTrue();
+
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        assertThat(b.getValue()).isSameAs(v1);
+        undoMove.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+        assertThat(b.getValue()).isSameAs(v2);
+        assertThat(move.doMove(scoreDirector)).isSameAs(undoMove);
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.optaplanner.core.impl.localsearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
@@ -9,8 +10,12 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.localsearch.decider.forager.FinalistPodiumType;
+import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -188,6 +193,64 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithMoveEvaluationCache() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.HILL_CLIMBING)
+                .withMoveEvaluationCacheSize(100);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v1),
+                new TestdataEntity("e3", v1),
+                new TestdataEntity("e4", v1)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void moveEvaluationCacheWithMoveThreadCount() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig().withMoveEvaluationCacheSize(100);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, PlannerTestUtils.generateTestdataSolution("s1")))
+                .withMessageContaining("moveEvaluationCacheSize");
+    }
+
+    @Test
+    void moveEvaluationAbortWithStrategicOscillation() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withForagerConfig(new LocalSearchForagerConfig()
+                        .withFinalistPodiumType(FinalistPodiumType.STRATEGIC_OSCILLATION))
+                .withMoveEvaluationAbortEnabled(true);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, PlannerTestUtils.generateTestdataSolution("s1")))
+                .withMessageContaining("moveEvaluationAbortEnabled");
+    }
+
     @Test
     void solveListVariable() {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
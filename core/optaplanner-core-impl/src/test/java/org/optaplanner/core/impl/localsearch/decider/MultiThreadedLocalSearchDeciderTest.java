@@ -0,0 +1,124 @@
+package org.optaplanner.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class MultiThreadedLocalSearchDeciderTest {
+
+    @Test
+    @Timeout(5)
+    void pipelineUnforagedMovesThatDontConflictWithTheStep() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v2);
+        TestdataEntity e3 = new TestdataEntity("e3", v3);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+        // Minus the number of entity pairs that share a value, so a move score depends on the step before it
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory = new EasyScoreDirectorFactory<>(
+                TestdataSolution.buildSolutionDescriptor(), s -> {
+                    int score = 0;
+                    List<TestdataEntity> entityList = s.getEntityList();
+                    for (int i = 0; i < entityList.size(); i++) {
+                        for (int j = i + 1; j < entityList.size(); j++) {
+                            if (entityList.get(i).getValue() == entityList.get(j).getValue()) {
+                                score--;
+                            }
+                        }
+                    }
+                    return SimpleScore.of(score);
+                });
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ChangeMove<TestdataSolution> step = new ChangeMove<>(variableDescriptor, e1, v2);
+        ChangeMove<TestdataSolution> entityConflictingMove = new ChangeMove<>(variableDescriptor, e1, v3);
+        ChangeMove<TestdataSolution> valueConflictingMove = new ChangeMove<>(variableDescriptor, e3, v2);
+        ChangeMove<TestdataSolution> nonConflictingMove = new ChangeMove<>(variableDescriptor, e3, v4);
+        MoveSelector<TestdataSolution> moveSelector = mock(MoveSelector.class);
+        when(moveSelector.iterator()).thenReturn(
+                Arrays.<Move<TestdataSolution>> asList(step, entityConflictingMove, valueConflictingMove,
+                        nonConflictingMove).iterator(),
+                Collections.emptyIterator());
+        Acceptor<TestdataSolution> acceptor = mock(Acceptor.class);
+        when(acceptor.isAccepted(any())).thenReturn(true);
+        // Quits early at the first move, so the other moves of the buffer aren't foraged
+        AtomicReference<LocalSearchMoveScope<TestdataSolution>> foragedMoveScope = new AtomicReference<>();
+        LocalSearchForager<TestdataSolution> forager = mock(LocalSearchForager.class);
+        when(forager.isQuitEarly()).thenAnswer(invocation -> foragedMoveScope.get() != null);
+        when(forager.pickMove(any())).thenAnswer(invocation -> foragedMoveScope.get());
+        doAnswer(invocation -> {
+            foragedMoveScope.set(invocation.getArgument(0));
+            return null;
+        }).when(forager).addMove(any());
+        MultiThreadedLocalSearchDecider<TestdataSolution> decider = new MultiThreadedLocalSearchDecider<>("",
+                mock(Termination.class), moveSelector, acceptor, forager,
+                new DefaultSolverThreadFactory("MoveThread"), 1, 4);
+        decider.setStepPipeliningEnabled(true);
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setSolverMetricSet(EnumSet.noneOf(SolverMetric.class));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(scoreDirector.calculateScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        decider.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        decider.decideNextStep(stepScope0);
+        assertThat(stepScope0.getStep()).isEqualTo(step);
+        assertThat(decider.pipelinedStepIndex).isEqualTo(1);
+        assertThat(decider.pipelinedMoveList).containsExactly(nonConflictingMove);
+        stepScope0.getStep().doMove(scoreDirector);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // The move selector selects no moves in this step, so the step can only be the pipelined move
+        foragedMoveScope.set(null);
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        decider.decideNextStep(stepScope1);
+        assertThat(stepScope1.getStep()).isEqualTo(nonConflictingMove);
+        assertThat(stepScope1.getStepMoveIndex()).isZero();
+        // Evaluated after the move thread applied the step, which made e1 and e2 share v2
+        assertThat(stepScope1.getScore()).isEqualTo(SimpleScore.of(-1));
+
+        decider.phaseEnded(phaseScope);
+    }
+
+}
@@ -17,11 +17,14 @@ import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.greatdeluge.GreatDelugeAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.LateAcceptanceAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.SelfTuningLateAcceptanceAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing.SelfTuningSimulatedAnnealingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing.SimulatedAnnealingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.EntityTabuAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.MoveTabuAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.ValueTabuAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.ReactiveTabuSizeStrategy;
 import org.optaplanner.core.impl.score.buildin.HardSoftScoreDefinition;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
@@ -69,6 +72,39 @@ class AcceptorFactoryTest {
         assertThat(compositeAcceptor.acceptorList.get(position)).isExactlyInstanceOf(expectedAcceptorType);
     }
 
+    @Test
+    <Solution_> void buildSelfTuningAcceptor() {
+        LocalSearchAcceptorConfig localSearchAcceptorConfig = new LocalSearchAcceptorConfig()
+                .withAcceptorTypeList(Arrays.asList(AcceptorType.ENTITY_TABU, AcceptorType.SIMULATED_ANNEALING,
+                        AcceptorType.LATE_ACCEPTANCE))
+                .withEntityTabuSize(5)
+                .withSimulatedAnnealingStartingTemperature("10hard/10soft")
+                .withSelfTuning(true);
+
+        HeuristicConfigPolicy<Solution_> heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
+        when(heuristicConfigPolicy.getEnvironmentMode()).thenReturn(EnvironmentMode.REPRODUCIBLE);
+        when(heuristicConfigPolicy.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+
+        CompositeAcceptor<Solution_> compositeAcceptor = (CompositeAcceptor<Solution_>) AcceptorFactory
+                .<Solution_> create(localSearchAcceptorConfig).buildAcceptor(heuristicConfigPolicy);
+        assertThat(compositeAcceptor.acceptorList).hasSize(3);
+        EntityTabuAcceptor<Solution_> entityTabuAcceptor =
+                (EntityTabuAcceptor<Solution_>) compositeAcceptor.acceptorList.get(0);
+        assertThat(entityTabuAcceptor.getTabuSizeStrategy()).isExactlyInstanceOf(ReactiveTabuSizeStrategy.class);
+        assertThat(entityTabuAcceptor.getFadingTabuSizeStrategy()).isNull();
+        assertAcceptorTypeAtPosition(compositeAcceptor, 1, SelfTuningSimulatedAnnealingAcceptor.class);
+        assertAcceptorTypeAtPosition(compositeAcceptor, 2, SelfTuningLateAcceptanceAcceptor.class);
+    }
+
+    @Test
+    <Solution_> void selfTuningWithoutSupportedAcceptor_throwsException() {
+        AcceptorFactory<Solution_> acceptorFactory = AcceptorFactory.create(new LocalSearchAcceptorConfig()
+                .withAcceptorTypeList(Arrays.asList(AcceptorType.HILL_CLIMBING))
+                .withSelfTuning(true));
+        assertThatIllegalArgumentException().isThrownBy(() -> acceptorFactory.buildAcceptor(mock(HeuristicConfigPolicy.class)))
+                .withMessageContaining("does not have an acceptorType");
+    }
+
     @Test
     <Solution_> void noAcceptorConfigured_throwsException() {
         AcceptorFactory<Solution_> acceptorFactory = AcceptorFactory.create(new LocalSearchAcceptorConfig());
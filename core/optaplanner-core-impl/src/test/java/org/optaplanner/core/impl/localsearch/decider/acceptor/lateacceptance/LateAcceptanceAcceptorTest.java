@@ -240,6 +240,43 @@ class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void acceptanceThreshold() {
+        LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(true);
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.of(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1000, lastStepScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.getAcceptanceThreshold(stepScope0)).isEqualTo(SimpleScore.of(-1000));
+        stepScope0.setScore(SimpleScore.of(-500));
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1000, lastStepScore = -500
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.getAcceptanceThreshold(stepScope1)).isEqualTo(SimpleScore.of(-1000));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1001))).isFalse();
+        stepScope1.setScore(SimpleScore.of(-2000));
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = -500, lastStepScore = -2000: hill climbing accepts more than late acceptance
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.getAcceptanceThreshold(stepScope2)).isEqualTo(SimpleScore.of(-2000));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -2001))).isFalse();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     void zeroLateAcceptanceSize() {
         LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
@@ -0,0 +1,83 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class SelfTuningLateAcceptanceAcceptorTest extends AbstractAcceptorTest {
+
+    @Test
+    void resizeLateAcceptanceList() {
+        SelfTuningLateAcceptanceAcceptor<TestdataSolution> acceptor = new SelfTuningLateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(3);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = buildPhaseScope(-1000);
+        acceptor.phaseStarted(phaseScope);
+        doStep(acceptor, phaseScope, -900, false);
+        doStep(acceptor, phaseScope, -800, false);
+
+        // Pads with the oldest score, so the next steps are compared against it
+        acceptor.resizeLateAcceptanceList(5);
+        assertThat(acceptor.previousScores).containsExactly(SimpleScore.of(-1000), SimpleScore.of(-1000),
+                SimpleScore.of(-1000), SimpleScore.of(-900), SimpleScore.of(-800));
+        assertThat(acceptor.lateScoreIndex).isZero();
+        // Keeps the newest scores
+        acceptor.resizeLateAcceptanceList(2);
+        assertThat(acceptor.previousScores).containsExactly(SimpleScore.of(-900), SimpleScore.of(-800));
+        assertThat(acceptor.lateScoreIndex).isZero();
+    }
+
+    @Test
+    void lateAcceptanceSize() {
+        SelfTuningLateAcceptanceAcceptor<TestdataSolution> acceptor = new SelfTuningLateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(2);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = buildPhaseScope(-1000);
+        acceptor.phaseStarted(phaseScope);
+        doStep(acceptor, phaseScope, -900, true);
+        phaseScope.setBestSolutionStepIndex(0);
+
+        // Stagnation doubles the size, once per STAGNATION_SIZE_MULTIPLIER times the size steps
+        for (int i = 0; i < 2 * SelfTuningLateAcceptanceAcceptor.STAGNATION_SIZE_MULTIPLIER; i++) {
+            doStep(acceptor, phaseScope, -950, false);
+            assertThat(acceptor.lateAcceptanceSize).isEqualTo(2);
+        }
+        doStep(acceptor, phaseScope, -950, false);
+        assertThat(acceptor.lateAcceptanceSize).isEqualTo(4);
+        assertThat(acceptor.previousScores).hasSize(4);
+
+        // An improving step halves the size, down to the configured size
+        doStep(acceptor, phaseScope, -800, true);
+        assertThat(acceptor.lateAcceptanceSize).isEqualTo(2);
+        doStep(acceptor, phaseScope, -700, true);
+        assertThat(acceptor.lateAcceptanceSize).isEqualTo(2);
+
+        acceptor.phaseEnded(phaseScope);
+        assertThat(acceptor.lateAcceptanceSize).isEqualTo(2);
+    }
+
+    private static LocalSearchPhaseScope<TestdataSolution> buildPhaseScope(int bestScore) {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(bestScore));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.of(bestScore));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        return phaseScope;
+    }
+
+    private static void doStep(SelfTuningLateAcceptanceAcceptor<TestdataSolution> acceptor,
+            LocalSearchPhaseScope<TestdataSolution> phaseScope, int score, boolean bestScoreImproved) {
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope);
+        stepScope.setScore(SimpleScore.of(score));
+        stepScope.setBestScoreImproved(bestScoreImproved);
+        acceptor.stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -13,6 +14,7 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTab
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -31,8 +33,7 @@ class EntityTabuAcceptorTest {
         TestdataEntity e3 = new TestdataEntity("e3");
         TestdataEntity e4 = new TestdataEntity("e4");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(0));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(0, e0, e1, e2, e3, e4);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -116,8 +117,7 @@ class EntityTabuAcceptorTest {
         TestdataEntity e3 = new TestdataEntity("e3");
         TestdataEntity e4 = new TestdataEntity("e4");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(0));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(0, e0, e1, e2, e3, e4);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -213,8 +213,7 @@ class EntityTabuAcceptorTest {
         TestdataEntity e0 = new TestdataEntity("e0");
         TestdataEntity e1 = new TestdataEntity("e1");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(-100));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(-100, e0, e1);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -237,6 +236,55 @@ class EntityTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    void tabuSizeBeyondInitialCapacity() {
+        EntityTabuAcceptor acceptor = new EntityTabuAcceptor("");
+        int tabuSize = 20;
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(tabuSize));
+        acceptor.setAspirationEnabled(true);
+
+        int entityCount = 25;
+        TestdataEntity[] entities = new TestdataEntity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = new TestdataEntity("e" + i);
+        }
+
+        // The other entities are not in the working solution, so they are found by equals()
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(0, Arrays.copyOf(entities, 10));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+
+        for (int stepIndex = 0; stepIndex < 100; stepIndex++) {
+            LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+            assertThat(stepScope.getStepIndex()).isEqualTo(stepIndex);
+            for (int i = 0; i < entityCount; i++) {
+                // Step t made entity (t % entityCount) tabu
+                int lastTabuStepIndex = stepIndex - 1 - Math.floorMod(stepIndex - 1 - i, entityCount);
+                boolean tabu = lastTabuStepIndex >= 0 && stepIndex - lastTabuStepIndex <= tabuSize;
+                assertThat(acceptor.isAccepted(buildMoveScope(stepScope, entities[i])))
+                        .as("Entity (%d) at step (%d)", i, stepIndex).isEqualTo(!tabu);
+            }
+            stepScope.setStep(buildMoveScope(stepScope, entities[stepIndex % entityCount]).getMove());
+            acceptor.stepEnded(stepScope);
+            phaseScope.setLastCompletedStepScope(stepScope);
+        }
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private SolverScope<TestdataSolution> buildSolverScope(int bestScore, TestdataEntity... entities) {
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Collections.emptyList());
+        solution.setEntityList(Arrays.asList(entities));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(SimpleScore.of(bestScore));
+        return solverScope;
+    }
+
     private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(
             LocalSearchStepScope<Solution_> stepScope, TestdataEntity... entities) {
         return buildMoveScope(stepScope, 0, entities);
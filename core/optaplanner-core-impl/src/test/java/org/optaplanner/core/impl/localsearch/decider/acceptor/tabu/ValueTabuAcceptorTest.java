@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -13,6 +14,7 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTab
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -31,8 +33,7 @@ class ValueTabuAcceptorTest {
         TestdataValue v3 = new TestdataValue("v3");
         TestdataValue v4 = new TestdataValue("v4");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(0));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(0, v0, v1, v2, v3, v4);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -116,8 +117,7 @@ class ValueTabuAcceptorTest {
         TestdataValue v3 = new TestdataValue("v3");
         TestdataValue v4 = new TestdataValue("v4");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(0));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(0, v0, v1, v2, v3, v4);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -213,8 +213,7 @@ class ValueTabuAcceptorTest {
         TestdataValue v0 = new TestdataValue("v0");
         TestdataValue v1 = new TestdataValue("v1");
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
-        solverScope.setBestScore(SimpleScore.of(-100));
+        SolverScope<TestdataSolution> solverScope = buildSolverScope(-100, v0, v1);
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
 
@@ -237,6 +236,19 @@ class ValueTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    private SolverScope<TestdataSolution> buildSolverScope(int bestScore, TestdataValue... values) {
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Arrays.asList(values));
+        solution.setEntityList(Collections.emptyList());
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(SimpleScore.of(bestScore));
+        return solverScope;
+    }
+
     private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(
             LocalSearchStepScope<Solution_> stepScope, TestdataValue... values) {
         return buildMoveScope(stepScope, 0, values);
@@ -0,0 +1,61 @@
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class ReactiveTabuSizeStrategyTest {
+
+    @Test
+    void tabuSize() {
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getWorkingEntityCount()).thenReturn(100);
+        when(phaseScope.getBestSolutionStepIndex()).thenReturn(-1);
+        ReactiveTabuSizeStrategy<TestdataSolution> tabuSizeStrategy =
+                new ReactiveTabuSizeStrategy<>(new FixedTabuSizeStrategy<>(10), LocalSearchPhaseScope::getWorkingEntityCount);
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, -1, null))).isEqualTo(10);
+
+        // An improving step shrinks the tabu size
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 0, true))).isEqualTo(9);
+        when(phaseScope.getBestSolutionStepIndex()).thenReturn(0);
+        // Stagnation grows the tabu size, once per tabu size steps
+        for (int stepIndex = 1; stepIndex < 10; stepIndex++) {
+            assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, stepIndex, false))).isEqualTo(9);
+        }
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 10, false))).isEqualTo(10);
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 11, false))).isEqualTo(10);
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 20, false))).isEqualTo(11);
+
+        // A new phase starts from the starting tabu size again
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, -1, null))).isEqualTo(10);
+    }
+
+    @Test
+    void tabuSizeCornerCases() {
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getWorkingEntityCount()).thenReturn(3);
+        when(phaseScope.getBestSolutionStepIndex()).thenReturn(-1);
+        ReactiveTabuSizeStrategy<TestdataSolution> tabuSizeStrategy =
+                new ReactiveTabuSizeStrategy<>(new FixedTabuSizeStrategy<>(1), LocalSearchPhaseScope::getWorkingEntityCount);
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, -1, null))).isEqualTo(1);
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 0, true))).isEqualTo(1);
+        for (int stepIndex = 1; stepIndex < 100; stepIndex++) {
+            assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, stepIndex, false)))
+                    .isBetween(1, 2);
+        }
+        assertThat(tabuSizeStrategy.determineTabuSize(buildStepScope(phaseScope, 100, false))).isEqualTo(2);
+    }
+
+    private static LocalSearchStepScope<TestdataSolution> buildStepScope(LocalSearchPhaseScope<TestdataSolution> phaseScope,
+            int stepIndex, Boolean bestScoreImproved) {
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope, stepIndex);
+        stepScope.setBestScoreImproved(bestScoreImproved);
+        return stepScope;
+    }
+
+}
@@ -37,6 +37,22 @@ class HardMediumSoftBigDecimalScoreDefinitionTest {
         assertThat(new HardMediumSoftBigDecimalScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardMediumSoftBigDecimalScoreDefinition scoreDefinition = new HardMediumSoftBigDecimalScoreDefinition();
+        HardMediumSoftBigDecimalScore score =
+                HardMediumSoftBigDecimalScore.of(new BigDecimal("-1.0"), new BigDecimal("-3"), new BigDecimal("-5"));
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardMediumSoftBigDecimalScore.of(new BigDecimal("-1"), BigDecimal.ZERO, BigDecimal.ZERO)))
+                .isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardMediumSoftBigDecimalScore.of(new BigDecimal("-2"), BigDecimal.ZERO, BigDecimal.ZERO)))
+                .isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardMediumSoftBigDecimalScore.ofUninitialized(-1, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO)))
+                .isPositive();
+    }
+
     // Optimistic and pessimistic bounds are currently not supported for this score definition
 
     @Test
@@ -37,6 +37,17 @@ class HardMediumSoftLongScoreDefinitionTest {
         assertThat(new HardMediumSoftLongScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardMediumSoftLongScoreDefinition scoreDefinition = new HardMediumSoftLongScoreDefinition();
+        HardMediumSoftLongScore score = HardMediumSoftLongScore.of(-1L, -3L, -5L);
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardMediumSoftLongScore.of(-1L, 0L, 0L))).isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardMediumSoftLongScore.of(-2L, 0L, 0L))).isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardMediumSoftLongScore.ofUninitialized(-1, 0L, 0L, 0L)))
+                .isPositive();
+    }
+
     @Test
     void buildOptimisticBoundOnlyUp() {
         HardMediumSoftLongScoreDefinition scoreDefinition = new HardMediumSoftLongScoreDefinition();
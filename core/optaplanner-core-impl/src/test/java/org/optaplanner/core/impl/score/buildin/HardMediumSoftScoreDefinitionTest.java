@@ -37,6 +37,15 @@ class HardMediumSoftScoreDefinitionTest {
         assertThat(new HardMediumSoftScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardMediumSoftScoreDefinition scoreDefinition = new HardMediumSoftScoreDefinition();
+        HardMediumSoftScore score = HardMediumSoftScore.of(-1, -3, -5);
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardMediumSoftScore.of(-1, 0, 0))).isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardMediumSoftScore.of(-2, 0, 0))).isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardMediumSoftScore.ofUninitialized(-1, 0, 0, 0))).isPositive();
+    }
+
     @Test
     void buildOptimisticBoundOnlyUp() {
         HardMediumSoftScoreDefinition scoreDefinition = new HardMediumSoftScoreDefinition();
@@ -37,6 +37,21 @@ class HardSoftBigDecimalScoreDefinitionTest {
         assertThat(new HardSoftBigDecimalScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardSoftBigDecimalScoreDefinition scoreDefinition = new HardSoftBigDecimalScoreDefinition();
+        HardSoftBigDecimalScore score = HardSoftBigDecimalScore.of(new BigDecimal("-1.0"), new BigDecimal("-5"));
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardSoftBigDecimalScore.of(new BigDecimal("-1"), BigDecimal.ZERO)))
+                .isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardSoftBigDecimalScore.of(new BigDecimal("-2"), BigDecimal.ZERO)))
+                .isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score,
+                HardSoftBigDecimalScore.ofUninitialized(-1, BigDecimal.ZERO, BigDecimal.ZERO)))
+                .isPositive();
+    }
+
     // Optimistic and pessimistic bounds are currently not supported for this score definition
 
     @Test
@@ -36,6 +36,15 @@ class HardSoftLongScoreDefinitionTest {
         assertThat(new HardSoftLongScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardSoftLongScoreDefinition scoreDefinition = new HardSoftLongScoreDefinition();
+        HardSoftLongScore score = HardSoftLongScore.of(-1L, -5L);
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftLongScore.of(-1L, 0L))).isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftLongScore.of(-2L, 0L))).isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftLongScore.ofUninitialized(-1, 0L, 0L))).isPositive();
+    }
+
     @Test
     void buildOptimisticBoundOnlyUp() {
         HardSoftLongScoreDefinition scoreDefinition = new HardSoftLongScoreDefinition();
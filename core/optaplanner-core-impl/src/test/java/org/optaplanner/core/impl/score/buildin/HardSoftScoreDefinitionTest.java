@@ -36,6 +36,15 @@ class HardSoftScoreDefinitionTest extends AbstractScoreDefinitionTest {
         assertThat(new HardSoftScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    void compareFeasibleLevels() {
+        HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
+        HardSoftScore score = HardSoftScore.of(-1, -5);
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftScore.of(-1, 0))).isZero();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftScore.of(-2, 0))).isPositive();
+        assertThat(scoreDefinition.compareFeasibleLevels(score, HardSoftScore.ofUninitialized(-1, 0, 0))).isPositive();
+    }
+
     @Test
     void buildOptimisticBoundOnlyUp() {
         HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
@@ -12,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedEntity;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedSolution;
@@ -66,4 +69,27 @@ class EasyScoreDirectorTest {
                 () -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ofUninitialized(0, 0), "FirstChange"))
                         .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    void moveEvaluationCountExcludesStepScoreCalculations() {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        (solution_) -> SimpleScore.of(0));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        solution.setEntityList(Arrays.asList(e1));
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+
+        scoreDirector.doAndProcessMove(new ChangeMove<>(TestdataEntity.buildVariableDescriptorForValue(), e1, v2), false);
+        assertThat(scoreDirector.getMoveEvaluationCount()).isEqualTo(1L);
+        assertThat(scoreDirector.getCalculationCount()).isEqualTo(2L);
+        assertThat(e1.getValue()).isSameAs(v1);
+    }
 }
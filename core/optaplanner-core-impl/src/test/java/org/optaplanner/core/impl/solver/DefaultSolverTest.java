@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,19 +39,28 @@ import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicTy
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.checkpoint.CheckpointConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpoint;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointRepository;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -480,6 +490,34 @@ class DefaultSolverTest {
                 .isEqualTo(3);
     }
 
+    @Test
+    void solveMoveEvaluationSpeedMetrics() {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.MOVE_EVALUATION_SPEED)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", "solveMetrics"));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        solution = solver.solve(solution);
+
+        meterRegistry.publish(solver);
+        assertThat(solution).isNotNull();
+        String changeMoveTag = ":move.type=ChangeMove(TestdataEntity.value)";
+        assertThat(meterRegistry.getMeasurement(SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".count"
+                + changeMoveTag, "VALUE").longValue()).isPositive();
+        assertThat(meterRegistry.getMeasurement(SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".time"
+                + changeMoveTag, "VALUE").longValue()).isPositive();
+    }
+
     public static class ErrorThrowingEasyScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
 
         @Override
@@ -812,4 +850,150 @@ class DefaultSolverTest {
         assertThat(solution).isNotNull();
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
+
+    @Test
+    void resumeFromCheckpoint() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withCheckpointConfig(new CheckpointConfig()
+                        .withCheckpointRepositoryClass(InMemoryCheckpointRepository.class));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        InMemoryCheckpointRepository checkpointRepository =
+                (InMemoryCheckpointRepository) solver.getCheckpointer().getCheckpointRepository();
+
+        TestdataSolution checkpointSolution = new TestdataSolution("checkpointed");
+        TestdataValue v1 = new TestdataValue("v1");
+        checkpointSolution.setValueList(Arrays.asList(v1, new TestdataValue("v2")));
+        checkpointSolution.setEntityList(Arrays.asList(new TestdataEntity("e1", v1), new TestdataEntity("e2", v1)));
+        // The construction heuristic (phase 0) has ended
+        checkpointRepository.checkpoint = new SolverCheckpoint<>(checkpointSolution, 1, -1, 1000L, null);
+        List<String> startedPhaseList = new ArrayList<>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                startedPhaseList.add(phaseScope.getClass().getSimpleName());
+            }
+        });
+
+        TestdataSolution problem = new TestdataSolution("s1");
+        problem.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        problem.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        TestdataSolution solution = solver.solve(problem);
+        assertThat(solution.getCode()).isEqualTo("checkpointed");
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(startedPhaseList).containsExactly("LocalSearchPhaseScope");
+        assertThat(solver.getTimeMillisSpent()).isGreaterThanOrEqualTo(1000L);
+        // The local search phase ended with a checkpoint, which was deleted when the solver returned
+        assertThat(checkpointRepository.savedPhaseIndexList).containsExactly(2);
+        assertThat(checkpointRepository.checkpoint).isNull();
+    }
+
+    @Test
+    void resumeLocalSearchFromCheckpointLikeUninterrupted() {
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withAcceptorConfig(new LocalSearchAcceptorConfig()
+                        .withEntityTabuSize(2)
+                        .withLateAcceptanceSize(3));
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(30));
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.REPRODUCIBLE)
+                .withRandomSeed(37L)
+                .withPhases(localSearchPhaseConfig)
+                .withCheckpointConfig(new CheckpointConfig()
+                        .withCheckpointRepositoryClass(InMemoryCheckpointRepository.class)
+                        .withInterval(Duration.ZERO));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        DefaultSolver<TestdataSolution> uninterruptedSolver =
+                (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        List<String> uninterruptedStepList = new ArrayList<>();
+        uninterruptedSolver.addPhaseLifecycleListener(new StepRecordingListener(uninterruptedStepList));
+        TestdataSolution uninterruptedSolution = uninterruptedSolver.solve(buildUnassignedProblem());
+        InMemoryCheckpointRepository uninterruptedRepository =
+                (InMemoryCheckpointRepository) uninterruptedSolver.getCheckpointer().getCheckpointRepository();
+        SolverCheckpoint<TestdataSolution> midPhaseCheckpoint = uninterruptedRepository.savedCheckpointList.stream()
+                .filter(checkpoint -> checkpoint.getPhaseIndex() == 0 && checkpoint.getStepIndex() >= 0)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No checkpoint was saved during the phase."));
+        assertThat(midPhaseCheckpoint.getPhaseState()).isNotNull();
+
+        DefaultSolver<TestdataSolution> resumedSolver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        InMemoryCheckpointRepository resumedRepository =
+                (InMemoryCheckpointRepository) resumedSolver.getCheckpointer().getCheckpointRepository();
+        resumedRepository.checkpoint = midPhaseCheckpoint;
+        List<String> resumedStepList = new ArrayList<>();
+        resumedSolver.addPhaseLifecycleListener(new StepRecordingListener(resumedStepList));
+        TestdataSolution resumedSolution = resumedSolver.solve(buildUnassignedProblem());
+
+        int resumedStepIndex = midPhaseCheckpoint.getStepIndex() + 1;
+        assertThat(resumedStepList).isNotEmpty()
+                .isEqualTo(uninterruptedStepList.subList(resumedStepIndex, uninterruptedStepList.size()));
+        assertThat(resumedSolution.getScore()).isEqualTo(uninterruptedSolution.getScore());
+        assertThat(resumedSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(uninterruptedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
+    private static TestdataSolution buildUnassignedProblem() {
+        TestdataSolution problem = new TestdataSolution("s1");
+        List<TestdataValue> valueList = Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2"),
+                new TestdataValue("v3"));
+        problem.setValueList(valueList);
+        // Every entity starts on the same value, so the local search improves the best solution in several steps
+        problem.setEntityList(IntStream.range(0, 8)
+                .mapToObj(i -> new TestdataEntity("e" + i, valueList.get(0)))
+                .collect(Collectors.toList()));
+        return problem;
+    }
+
+    private static class StepRecordingListener extends PhaseLifecycleListenerAdapter<TestdataSolution> {
+
+        private final List<String> stepList;
+
+        private StepRecordingListener(List<String> stepList) {
+            this.stepList = stepList;
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+            stepList.add(stepScope.getStepIndex() + ": " + ((LocalSearchStepScope<TestdataSolution>) stepScope)
+                    .getStepString() + " " + stepScope.getScore());
+        }
+
+    }
+
+    public static class InMemoryCheckpointRepository implements SolverCheckpointRepository<TestdataSolution> {
+
+        private SolverCheckpoint<TestdataSolution> checkpoint = null;
+        private final List<Integer> savedPhaseIndexList = new ArrayList<>();
+        private final List<SolverCheckpoint<TestdataSolution>> savedCheckpointList = new ArrayList<>();
+
+        @Override
+        public void initialize(SolutionDescriptor<TestdataSolution> solutionDescriptor) {
+        }
+
+        @Override
+        public SolverCheckpoint<TestdataSolution> load() {
+            return checkpoint;
+        }
+
+        @Override
+        public void save(SolverCheckpoint<TestdataSolution> checkpoint) {
+            savedPhaseIndexList.add(checkpoint.getPhaseIndex());
+            savedCheckpointList.add(checkpoint);
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public void delete() {
+            checkpoint = null;
+        }
+
+    }
+
 }
@@ -44,6 +44,7 @@ import freemarker.template.TemplateException;
         "benchmarkDirectory",
         "threadFactoryClass",
         "parallelBenchmarkCount",
+        "cpuPinningEnabled",
         "warmUpMillisecondsSpentLimit",
         "warmUpSecondsSpentLimit",
         "warmUpMinutesSpentLimit",
@@ -477,6 +478,7 @@ public class PlannerBenchmarkConfig {
 
     private Class<? extends ThreadFactory> threadFactoryClass = null;
     private String parallelBenchmarkCount = null;
+    private Boolean cpuPinningEnabled = null;
     private Long warmUpMillisecondsSpentLimit = null;
     private Long warmUpSecondsSpentLimit = null;
     private Long warmUpMinutesSpentLimit = null;
@@ -559,6 +561,23 @@ public class PlannerBenchmarkConfig {
         this.parallelBenchmarkCount = parallelBenchmarkCount;
     }
 
+    /**
+     * Pins every parallel benchmark thread to its own set of processors,
+     * so parallel benchmarks don't disturb each other through thread migration and shared caches.
+     * Only supported on Linux with the {@code taskset} command (package {@code util-linux}),
+     * building the benchmark fails on other platforms.
+     * Disabled by default.
+     *
+     * @return null or false to not pin the benchmark threads, true to pin them
+     */
+    public Boolean getCpuPinningEnabled() {
+        return cpuPinningEnabled;
+    }
+
+    public void setCpuPinningEnabled(Boolean cpuPinningEnabled) {
+        this.cpuPinningEnabled = cpuPinningEnabled;
+    }
+
     public Long getWarmUpMillisecondsSpentLimit() {
         return warmUpMillisecondsSpentLimit;
     }
@@ -2,6 +2,7 @@ package org.optaplanner.benchmark.config.report;
 
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlType;
@@ -18,15 +19,19 @@ import org.optaplanner.core.impl.io.jaxb.adapter.JaxbLocaleAdapter;
         "locale",
         "solverRankingType",
         "solverRankingComparatorClass",
-        "solverRankingWeightFactoryClass"
+        "solverRankingWeightFactoryClass",
+        "scoreCalculationSpeedVariationThreshold"
 })
 public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig> {
 
+    public static final double DEFAULT_SCORE_CALCULATION_SPEED_VARIATION_THRESHOLD = 0.1;
+
     @XmlJavaTypeAdapter(JaxbLocaleAdapter.class)
     private Locale locale = null;
     private SolverRankingType solverRankingType = null;
     private Class<? extends Comparator<SolverBenchmarkResult>> solverRankingComparatorClass = null;
     private Class<? extends SolverRankingWeightFactory> solverRankingWeightFactoryClass = null;
+    private Double scoreCalculationSpeedVariationThreshold = null;
 
     public BenchmarkReportConfig() {
     }
@@ -69,10 +74,31 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         this.solverRankingWeightFactoryClass = solverRankingWeightFactoryClass;
     }
 
+    /**
+     * The maximum coefficient of variation (the standard deviation divided by the average)
+     * of the score calculation speed of the runs of a single benchmark,
+     * before the report warns that those runs are too noisy to be reliable.
+     * Only applies to single benchmarks with a {@code subSingleCount} higher than 1.
+     *
+     * @return null or a fraction, for example {@code 0.1} for 10%
+     */
+    public Double getScoreCalculationSpeedVariationThreshold() {
+        return scoreCalculationSpeedVariationThreshold;
+    }
+
+    public void setScoreCalculationSpeedVariationThreshold(Double scoreCalculationSpeedVariationThreshold) {
+        this.scoreCalculationSpeedVariationThreshold = scoreCalculationSpeedVariationThreshold;
+    }
+
     public Locale determineLocale() {
         return getLocale() == null ? Locale.getDefault() : getLocale();
     }
 
+    public double determineScoreCalculationSpeedVariationThreshold() {
+        return Objects.requireNonNullElse(scoreCalculationSpeedVariationThreshold,
+                DEFAULT_SCORE_CALCULATION_SPEED_VARIATION_THRESHOLD);
+    }
+
     @Override
     public BenchmarkReportConfig inherit(BenchmarkReportConfig inheritedConfig) {
         locale = ConfigUtils.inheritOverwritableProperty(locale, inheritedConfig.getLocale());
@@ -82,6 +108,8 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
                 inheritedConfig.getSolverRankingComparatorClass());
         solverRankingWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(solverRankingWeightFactoryClass,
                 inheritedConfig.getSolverRankingWeightFactoryClass());
+        scoreCalculationSpeedVariationThreshold = ConfigUtils.inheritOverwritableProperty(
+                scoreCalculationSpeedVariationThreshold, inheritedConfig.getScoreCalculationSpeedVariationThreshold());
         return this;
     }
 
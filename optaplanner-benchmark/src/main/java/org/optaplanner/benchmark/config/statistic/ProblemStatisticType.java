@@ -7,6 +7,7 @@ import javax.xml.bind.annotation.XmlEnum;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
@@ -19,6 +20,7 @@ public enum ProblemStatisticType implements StatisticType {
     BEST_SCORE,
     STEP_SCORE,
     SCORE_CALCULATION_SPEED,
+    ALLOCATION_RATE,
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
     MEMORY_USE;
@@ -32,6 +34,8 @@ public enum ProblemStatisticType implements StatisticType {
                 return new StepScoreProblemStatistic(problemBenchmarkResult);
             case SCORE_CALCULATION_SPEED:
                 return new ScoreCalculationSpeedProblemStatistic(problemBenchmarkResult);
+            case ALLOCATION_RATE:
+                return new AllocationRateProblemStatistic(problemBenchmarkResult);
             case BEST_SOLUTION_MUTATION:
                 return new BestSolutionMutationProblemStatistic(problemBenchmarkResult);
             case MOVE_COUNT_PER_STEP:
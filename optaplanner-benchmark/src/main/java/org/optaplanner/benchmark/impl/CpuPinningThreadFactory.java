@@ -0,0 +1,182 @@
+package org.optaplanner.benchmark.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pins every thread it creates to its own set of processors,
+ * so parallel benchmarks don't migrate between processors and don't share their caches.
+ * Any thread started by a pinned thread (such as a move thread of multithreaded solving) inherits its processors.
+ * <p>
+ * The JVM has no API for thread affinity, so this relies on the {@code taskset} command of Linux
+ * (package {@code util-linux}) and on {@code /proc/thread-self} (Linux 3.17 or higher).
+ * Call {@link #assertSupported()} first, to fail fast on other platforms.
+ * If pinning a thread still fails, that thread runs unpinned, which is logged as a warning
+ * and counted in {@link #getUnpinnedThreadCount()}.
+ */
+public class CpuPinningThreadFactory implements ThreadFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CpuPinningThreadFactory.class);
+    private static final Path THREAD_SELF_PATH = Paths.get("/proc/thread-self");
+    private static final String DEFAULT_TASKSET_COMMAND = "taskset";
+
+    /**
+     * @throws IllegalStateException if this platform can't pin threads to processors
+     */
+    public static void assertSupported() {
+        assertSupported(DEFAULT_TASKSET_COMMAND);
+    }
+
+    static void assertSupported(String tasksetCommand) {
+        String osName = System.getProperty("os.name");
+        if (osName == null || !osName.toLowerCase().startsWith("linux")) {
+            throw new IllegalStateException("The cpuPinningEnabled (true) is only supported on Linux,"
+                    + " not on this operating system (" + osName + ").\n"
+                    + "Maybe disable cpuPinningEnabled.");
+        }
+        if (!Files.isSymbolicLink(THREAD_SELF_PATH)) {
+            throw new IllegalStateException("The cpuPinningEnabled (true) requires " + THREAD_SELF_PATH
+                    + ", which exists since Linux 3.17.\n"
+                    + "Maybe disable cpuPinningEnabled.");
+        }
+        int exitCode;
+        try {
+            Process process = new ProcessBuilder(tasksetCommand, "--version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            exitCode = process.waitFor();
+        } catch (IOException e) {
+            throw new IllegalStateException("The cpuPinningEnabled (true) requires the " + tasksetCommand
+                    + " command, which could not be executed.\n"
+                    + "Maybe install the package util-linux or disable cpuPinningEnabled.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking the " + tasksetCommand + " command.", e);
+        }
+        if (exitCode != 0) {
+            throw new IllegalStateException("The cpuPinningEnabled (true) requires the " + tasksetCommand
+                    + " command, which failed with exitCode (" + exitCode + ").\n"
+                    + "Maybe install the package util-linux or disable cpuPinningEnabled.");
+        }
+    }
+
+    /**
+     * Splits the processors into disjoint, equally sized and contiguous sets.
+     * The remaining processors are left unused, for garbage collection and other processes.
+     *
+     * @param availableProcessorCount {@code >= 1}
+     * @param parallelBenchmarkCount {@code 1 <= parallelBenchmarkCount <= availableProcessorCount}
+     * @return never null, of size {@code parallelBenchmarkCount},
+     *         each element in the CPU list format of {@code taskset}, for example {@code "4-7"}
+     */
+    public static List<String> buildCpuListList(int availableProcessorCount, int parallelBenchmarkCount) {
+        if (parallelBenchmarkCount < 1 || parallelBenchmarkCount > availableProcessorCount) {
+            throw new IllegalArgumentException("The parallelBenchmarkCount (" + parallelBenchmarkCount
+                    + ") must be at least 1 and at most the availableProcessorCount (" + availableProcessorCount + ").");
+        }
+        int cpuCountPerBenchmark = availableProcessorCount / parallelBenchmarkCount;
+        List<String> cpuListList = new ArrayList<>(parallelBenchmarkCount);
+        for (int i = 0; i < parallelBenchmarkCount; i++) {
+            int firstCpu = i * cpuCountPerBenchmark;
+            int lastCpu = firstCpu + cpuCountPerBenchmark - 1;
+            cpuListList.add(firstCpu == lastCpu ? Integer.toString(firstCpu) : firstCpu + "-" + lastCpu);
+        }
+        return cpuListList;
+    }
+
+    private final ThreadFactory delegateThreadFactory;
+    private final List<String> cpuListList;
+    private final String tasksetCommand;
+    private final AtomicInteger threadIndex = new AtomicInteger(0);
+    private final AtomicInteger unpinnedThreadCount = new AtomicInteger(0);
+    private final AtomicBoolean unpinnedWarningLogged = new AtomicBoolean(false);
+
+    /**
+     * @param delegateThreadFactory never null, creates the threads before they are pinned
+     * @param cpuListList never null, not empty, the processors of each thread, in the CPU list format of {@code taskset}.
+     *        When more threads are created than there are elements, the elements are reused round-robin.
+     */
+    public CpuPinningThreadFactory(ThreadFactory delegateThreadFactory, List<String> cpuListList) {
+        this(delegateThreadFactory, cpuListList, DEFAULT_TASKSET_COMMAND);
+    }
+
+    CpuPinningThreadFactory(ThreadFactory delegateThreadFactory, List<String> cpuListList, String tasksetCommand) {
+        if (cpuListList.isEmpty()) {
+            throw new IllegalArgumentException("The cpuListList (" + cpuListList + ") must not be empty.");
+        }
+        this.delegateThreadFactory = delegateThreadFactory;
+        this.cpuListList = cpuListList;
+        this.tasksetCommand = tasksetCommand;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of started threads that could not be pinned and run unpinned
+     */
+    public int getUnpinnedThreadCount() {
+        return unpinnedThreadCount.get();
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        String cpuList = cpuListList.get(threadIndex.getAndIncrement() % cpuListList.size());
+        return delegateThreadFactory.newThread(() -> {
+            pinCurrentThread(cpuList);
+            runnable.run();
+        });
+    }
+
+    private void pinCurrentThread(String cpuList) {
+        if (!Files.isSymbolicLink(THREAD_SELF_PATH)) {
+            logUnpinned(cpuList, "There is no " + THREAD_SELF_PATH + ".", null);
+            return;
+        }
+        try {
+            // Resolves to "<pid>/task/<tid>", the tid is the native id of the current thread
+            Path threadSelf = Files.readSymbolicLink(THREAD_SELF_PATH);
+            String nativeThreadId = threadSelf.getFileName().toString();
+            Process process = new ProcessBuilder(tasksetCommand, "--cpu-list", "--pid", cpuList, nativeThreadId)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                logUnpinned(cpuList, "The " + tasksetCommand + " command failed with exitCode (" + exitCode + ").",
+                        null);
+                return;
+            }
+            LOGGER.debug("Pinned thread ({}) with native id ({}) to cpuList ({}).",
+                    Thread.currentThread().getName(), nativeThreadId, cpuList);
+        } catch (IOException e) {
+            logUnpinned(cpuList, "The " + tasksetCommand + " command could not be executed.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logUnpinned(cpuList, "Interrupted while waiting for the " + tasksetCommand + " command.", e);
+        }
+    }
+
+    private void logUnpinned(String cpuList, String reason, Exception exception) {
+        int count = unpinnedThreadCount.incrementAndGet();
+        // Warn once, the other unpinned threads are only counted
+        if (unpinnedWarningLogged.compareAndSet(false, true)) {
+            LOGGER.warn("The thread ({}) could not be pinned to cpuList ({}) and runs unpinned. {}\n"
+                    + "Maybe install the package util-linux or disable cpuPinningEnabled.",
+                    Thread.currentThread().getName(), cpuList, reason, exception);
+        } else {
+            LOGGER.debug("The thread ({}) could not be pinned to cpuList ({}) and runs unpinned,"
+                    + " unpinnedThreadCount ({}).",
+                    Thread.currentThread().getName(), cpuList, count);
+        }
+    }
+
+}
@@ -80,6 +80,10 @@ public class DefaultPlannerBenchmarkFactory extends PlannerBenchmarkFactory {
                         : plannerBenchmarkConfig.getBenchmarkReportConfig();
         BenchmarkReport benchmarkReport =
                 new BenchmarkReportFactory(benchmarkReportConfig_).buildBenchmarkReport(plannerBenchmarkResult);
+        if (Boolean.TRUE.equals(plannerBenchmarkConfig.getCpuPinningEnabled())) {
+            // Fail fast, instead of benchmarking unpinned although pinning was asked for
+            CpuPinningThreadFactory.assertSupported();
+        }
         return new DefaultPlannerBenchmark(plannerBenchmarkResult, plannerBenchmarkConfig.getBenchmarkDirectory(),
                 buildExecutorService(parallelBenchmarkCount), buildExecutorService(parallelBenchmarkCount), benchmarkReport);
     }
@@ -92,6 +96,11 @@ public class DefaultPlannerBenchmarkFactory extends PlannerBenchmarkFactory {
         } else {
             threadFactory = new DefaultSolverThreadFactory("BenchmarkThread");
         }
+        if (Boolean.TRUE.equals(plannerBenchmarkConfig.getCpuPinningEnabled())) {
+            // The warm up executor uses the same processor sets, so each set is warmed up alike
+            threadFactory = new CpuPinningThreadFactory(threadFactory, CpuPinningThreadFactory.buildCpuListList(
+                    Runtime.getRuntime().availableProcessors(), parallelBenchmarkCount));
+        }
         return Executors.newFixedThreadPool(parallelBenchmarkCount, threadFactory);
     }
 
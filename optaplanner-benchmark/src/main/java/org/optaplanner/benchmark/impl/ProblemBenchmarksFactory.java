@@ -1,6 +1,8 @@
 package org.optaplanner.benchmark.impl;
 
 import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -82,7 +84,7 @@ public class ProblemBenchmarksFactory {
                         + ") with an empty inputSolutionFileList (" + config.getInputSolutionFileList() + ").");
             }
         } else {
-            SolutionFileIO<Solution_> solutionFileIO = buildSolutionFileIO();
+            SolutionFileIO<Solution_> solutionFileIO = buildSolutionFileIO(solutionDescriptor);
             for (File inputSolutionFile : config.getInputSolutionFileList()) {
                 if (!inputSolutionFile.exists()) {
                     throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile
@@ -94,13 +96,27 @@ public class ProblemBenchmarksFactory {
         return problemProviderList;
     }
 
-    private <Solution_> SolutionFileIO<Solution_> buildSolutionFileIO() {
-        if (config.getSolutionFileIOClass() == null) {
+    private <Solution_> SolutionFileIO<Solution_> buildSolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        Class<SolutionFileIO<?>> solutionFileIOClass = config.getSolutionFileIOClass();
+        if (solutionFileIOClass == null) {
             throw new IllegalArgumentException(
-                    "The solutionFileIOClass (" + config.getSolutionFileIOClass() + ") cannot be null.");
+                    "The solutionFileIOClass (" + solutionFileIOClass + ") cannot be null.");
+        }
+        Constructor<SolutionFileIO<?>> constructor;
+        try {
+            // A SolutionFileIO that derives its format from the domain, such as a BinarySolutionFileIO
+            constructor = solutionFileIOClass.getConstructor(SolutionDescriptor.class);
+        } catch (NoSuchMethodException e) {
+            return (SolutionFileIO<Solution_>) ConfigUtils.newInstance(config, "solutionFileIOClass",
+                    solutionFileIOClass);
+        }
+        try {
+            return (SolutionFileIO<Solution_>) constructor.newInstance(solutionDescriptor);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("The solutionFileIOClass (" + solutionFileIOClass.getName()
+                    + ") could not be instantiated with its " + SolutionDescriptor.class.getSimpleName()
+                    + " constructor.", e);
         }
-        return (SolutionFileIO<Solution_>) ConfigUtils.newInstance(config, "solutionFileIOClass",
-                config.getSolutionFileIOClass());
     }
 
     private <Solution_> ProblemBenchmarkResult<Solution_> buildProblemBenchmark(
@@ -1,5 +1,8 @@
 package org.optaplanner.benchmark.impl;
 
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -101,9 +104,36 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
                 .values()) {
             subSingleStatistic.open(statisticRegistry, runTag, solver);
-            subSingleStatistic.initPointList();
+            // Stream the points to disk, so a long run doesn't keep them all in memory
+            subSingleStatistic.initPointCsvWriter();
         }
-        Solution_ solution = solver.solve(problem);
+        long gcCountBefore = calculateGcCount();
+        long gcTimeMillisBefore = calculateGcTimeMillis();
+        CompilationMXBean compilationMXBean = ManagementFactory.getCompilationMXBean();
+        boolean jitMonitored = compilationMXBean != null && compilationMXBean.isCompilationTimeMonitoringSupported();
+        long jitTimeMillisBefore = jitMonitored ? compilationMXBean.getTotalCompilationTime() : -1L;
+        Solution_ solution;
+        boolean failed = true;
+        try {
+            solution = solver.solve(problem);
+            failed = false;
+        } finally {
+            if (failed) {
+                // Close the CSV files of the failed run, also on an Error such as an OutOfMemoryError.
+                // The subSingleBenchmarkResult is only marked as failed after this method throws.
+                solver.removePhaseLifecycleListener(statisticRegistry);
+                Metrics.removeRegistry(statisticRegistry);
+                for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult
+                        .getEffectiveSubSingleStatisticMap().values()) {
+                    subSingleStatistic.hibernatePointList(true);
+                }
+            }
+        }
+        long gcCount = calculateGcCount() - gcCountBefore;
+        long gcTimeMillisSpent = calculateGcTimeMillis() - gcTimeMillisBefore;
+        Long jitCompilationTimeMillisSpent = jitMonitored
+                ? compilationMXBean.getTotalCompilationTime() - jitTimeMillisBefore
+                : null;
 
         solver.removePhaseLifecycleListener(statisticRegistry);
         Metrics.removeRegistry(statisticRegistry);
@@ -124,6 +154,9 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
             subSingleBenchmarkResult.setScore(solutionDescriptor.getScore(solution));
             subSingleBenchmarkResult.setTimeMillisSpent(timeMillisSpent);
             subSingleBenchmarkResult.setScoreCalculationCount(solverScope.getScoreCalculationCount());
+            subSingleBenchmarkResult.setGcCount(gcCount);
+            subSingleBenchmarkResult.setGcTimeMillisSpent(gcTimeMillisSpent);
+            subSingleBenchmarkResult.setJitCompilationTimeMillisSpent(jitCompilationTimeMillisSpent);
 
             ScoreManager<Solution_, ?> scoreManager = ScoreManager.create(solverFactory);
             boolean isConstraintMatchEnabled = solver.getSolverScope().getScoreDirector().isConstraintMatchEnabled();
@@ -137,6 +170,23 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         return this;
     }
 
+    private static long calculateGcCount() {
+        long gcCount = 0L;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 if undefined for this collector
+            gcCount += Math.max(garbageCollectorMXBean.getCollectionCount(), 0L);
+        }
+        return gcCount;
+    }
+
+    private static long calculateGcTimeMillis() {
+        long gcTimeMillis = 0L;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTimeMillis += Math.max(garbageCollectorMXBean.getCollectionTime(), 0L);
+        }
+        return gcTimeMillis;
+    }
+
     public String getName() {
         return subSingleBenchmarkResult.getName();
     }
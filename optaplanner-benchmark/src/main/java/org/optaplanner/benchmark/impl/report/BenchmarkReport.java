@@ -43,6 +43,7 @@ import org.jfree.data.statistics.DefaultBoxAndWhiskerCategoryDataset;
 import org.jfree.data.xy.XYDataItem;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
 import org.optaplanner.benchmark.impl.ranking.SolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.result.LoggingLevel;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
@@ -75,6 +76,8 @@ public class BenchmarkReport {
     private ZoneId timezoneId = null;
     private Comparator<SolverBenchmarkResult> solverRankingComparator = null;
     private SolverRankingWeightFactory solverRankingWeightFactory = null;
+    private double scoreCalculationSpeedVariationThreshold =
+            BenchmarkReportConfig.DEFAULT_SCORE_CALCULATION_SPEED_VARIATION_THRESHOLD;
     private File summaryDirectory = null;
     private List<File> bestScoreSummaryChartFileList = null;
     private List<File> bestScoreScalabilitySummaryChartFileList = null;
@@ -132,6 +135,14 @@ public class BenchmarkReport {
         this.solverRankingWeightFactory = solverRankingWeightFactory;
     }
 
+    public double getScoreCalculationSpeedVariationThreshold() {
+        return scoreCalculationSpeedVariationThreshold;
+    }
+
+    public void setScoreCalculationSpeedVariationThreshold(double scoreCalculationSpeedVariationThreshold) {
+        this.scoreCalculationSpeedVariationThreshold = scoreCalculationSpeedVariationThreshold;
+    }
+
     public File getSummaryDirectory() {
         return summaryDirectory;
     }
@@ -207,6 +218,16 @@ public class BenchmarkReport {
         return relativePath;
     }
 
+    /**
+     * @param singleBenchmarkResult never null
+     * @return true if its runs vary more than {@link #getScoreCalculationSpeedVariationThreshold()}
+     */
+    public boolean isScoreCalculationSpeedVariationHigh(SingleBenchmarkResult singleBenchmarkResult) {
+        Double scoreCalculationSpeedVariation = singleBenchmarkResult.getScoreCalculationSpeedVariation();
+        return scoreCalculationSpeedVariation != null
+                && scoreCalculationSpeedVariation > scoreCalculationSpeedVariationThreshold;
+    }
+
     public String getSolverRankingClassSimpleName() {
         Class solverRankingClass = getSolverRankingClass();
         return solverRankingClass == null ? null : solverRankingClass.getSimpleName();
@@ -239,32 +260,8 @@ public class BenchmarkReport {
         writeBestScorePerTimeSpentSummaryChart();
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
                 .getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
-                        .getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
-                            .values()) {
-                        try {
-                            subSingleStatistic.unhibernatePointList();
-                        } catch (IllegalStateException e) {
-                            if (!plannerBenchmarkResult.getAggregation()) {
-                                throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
-                                        + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").",
-                                        e);
-                            }
-                            LOGGER.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
-                                    + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(),
-                                    subSingleStatistic);
-                        }
-                    }
-                }
-            }
-        }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
-                .getUnifiedProblemBenchmarkResultList()) {
+            // Only the points of 1 problem are in memory at a time, so a large benchmark suite doesn't run out of memory
+            unhibernatePointLists(problemBenchmarkResult);
             if (problemBenchmarkResult.hasAnySuccess()) {
                 for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
                     problemStatistic.writeGraphFiles(this);
@@ -278,28 +275,52 @@ public class BenchmarkReport {
                     }
                 }
             }
+            releasePointLists(problemBenchmarkResult);
         }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
-                .getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
-                        .getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
-                            .values()) {
-                        if (plannerBenchmarkResult.getAggregation()) {
-                            subSingleStatistic.setPointList(null);
-                        } else {
-                            subSingleStatistic.hibernatePointList();
+        determineDefaultShownScoreLevelIndex();
+        writeHtmlOverviewFile();
+    }
+
+    private void unhibernatePointLists(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
+                    .getSubSingleBenchmarkResultList()) {
+                if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                    continue;
+                }
+                for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
+                        .values()) {
+                    try {
+                        subSingleStatistic.unhibernatePointList();
+                    } catch (IllegalStateException e) {
+                        if (!plannerBenchmarkResult.getAggregation()) {
+                            throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
+                                    + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").",
+                                    e);
                         }
+                        LOGGER.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
+                                + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(),
+                                subSingleStatistic);
                     }
                 }
             }
         }
-        determineDefaultShownScoreLevelIndex();
-        writeHtmlOverviewFile();
+    }
+
+    private void releasePointLists(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
+                    .getSubSingleBenchmarkResultList()) {
+                if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                    continue;
+                }
+                for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
+                        .values()) {
+                    // No need to hibernate: the CSV file already contains these points
+                    subSingleStatistic.setPointList(null);
+                }
+            }
+        }
     }
 
     protected void fillWarningList() {
@@ -337,6 +358,20 @@ public class BenchmarkReport {
                     + " This decreases performance."
                     + " Maybe set the loggingLevel to " + LoggingLevel.INFO + " or lower.");
         }
+        for (SolverBenchmarkResult solverBenchmarkResult : plannerBenchmarkResult.getSolverBenchmarkResultList()) {
+            for (SingleBenchmarkResult singleBenchmarkResult : solverBenchmarkResult.getSingleBenchmarkResultList()) {
+                if (isScoreCalculationSpeedVariationHigh(singleBenchmarkResult)) {
+                    double variationPercentage = singleBenchmarkResult.getScoreCalculationSpeedVariation() * 100.0;
+                    warningList.add("The score calculation speed of the runs of the singleBenchmark ("
+                            + singleBenchmarkResult.getName() + ") varies by "
+                            + String.format(locale, "%.1f%%", variationPercentage) + ", more than the threshold ("
+                            + String.format(locale, "%.1f%%", scoreCalculationSpeedVariationThreshold * 100.0) + ")."
+                            + " This makes its results unreliable."
+                            + " Maybe reduce the parallelBenchmarkCount, enable cpuPinningEnabled"
+                            + " or increase the warm up time.");
+                }
+            }
+        }
     }
 
     private void writeBestScoreSummaryChart() {
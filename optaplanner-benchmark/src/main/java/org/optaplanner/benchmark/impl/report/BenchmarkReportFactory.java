@@ -24,6 +24,7 @@ public class BenchmarkReportFactory {
         BenchmarkReport benchmarkReport = new BenchmarkReport(plannerBenchmark);
         benchmarkReport.setLocale(config.determineLocale());
         benchmarkReport.setTimezoneId(ZoneId.systemDefault());
+        benchmarkReport.setScoreCalculationSpeedVariationThreshold(config.determineScoreCalculationSpeedVariationThreshold());
         supplySolverRanking(benchmarkReport);
         return benchmarkReport;
     }
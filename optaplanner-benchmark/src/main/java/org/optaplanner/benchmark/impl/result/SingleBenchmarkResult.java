@@ -59,6 +59,7 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     // - the squaring would cause overflow for relatively small int and long scores.
     // - standard deviation should not be rounded to integer numbers
     private double[] standardDeviationDoubles = null;
+    private Double scoreCalculationSpeedVariation = null;
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
     private String scoreExplanationSummary = null;
@@ -215,6 +216,18 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return standardDeviationDoubles;
     }
 
+    /**
+     * The coefficient of variation (the standard deviation divided by the average)
+     * of the score calculation speed of the successful runs.
+     * Unlike the score, the score calculation speed hardly depends on the random seed,
+     * so a high variation indicates noise, for example from other processes or from parallel benchmarks.
+     *
+     * @return null if there are less than 2 successful runs, otherwise {@code >= 0}
+     */
+    public Double getScoreCalculationSpeedVariation() {
+        return scoreCalculationSpeedVariation;
+    }
+
     public Integer getInfeasibleScoreCount() {
         return infeasibleScoreCount;
     }
@@ -323,9 +336,35 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         determineTotalsAndAveragesAndRanking();
         standardDeviationDoubles = StatisticUtils.determineStandardDeviationDoubles(subSingleBenchmarkResultList, averageScore,
                 getSuccessCount());
+        determineScoreCalculationSpeedVariation();
         determineRepresentativeSubSingleBenchmarkResult();
     }
 
+    private void determineScoreCalculationSpeedVariation() {
+        scoreCalculationSpeedVariation = null;
+        if (getSuccessCount() < 2) {
+            return;
+        }
+        double sum = 0.0;
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (!subSingleBenchmarkResult.hasAnyFailure()) {
+                sum += subSingleBenchmarkResult.getScoreCalculationSpeed();
+            }
+        }
+        double average = sum / getSuccessCount();
+        if (average <= 0.0) {
+            return;
+        }
+        double squaredDifferenceSum = 0.0;
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (!subSingleBenchmarkResult.hasAnyFailure()) {
+                double difference = subSingleBenchmarkResult.getScoreCalculationSpeed() - average;
+                squaredDifferenceSum += difference * difference;
+            }
+        }
+        scoreCalculationSpeedVariation = Math.sqrt(squaredDifferenceSum / getSuccessCount()) / average;
+    }
+
     private void determineRepresentativeSubSingleBenchmarkResult() {
         if (subSingleBenchmarkResultList == null || subSingleBenchmarkResultList.isEmpty()) {
             throw new IllegalStateException(
@@ -17,6 +17,7 @@ import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationspeed.MoveEvaluationSpeedSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 import org.optaplanner.core.api.score.Score;
@@ -44,7 +45,9 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
             @XmlElement(name = "pickedMoveTypeBestScoreDiffSubSingleStatistic",
                     type = PickedMoveTypeBestScoreDiffSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeStepScoreDiffSubSingleStatistic",
-                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class)
+                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class),
+            @XmlElement(name = "moveEvaluationSpeedSubSingleStatistic",
+                    type = MoveEvaluationSpeedSubSingleStatistic.class)
     })
     private List<PureSubSingleStatistic> pureSubSingleStatisticList = null;
 
@@ -58,6 +61,9 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
     private String scoreExplanationSummary = null;
+    private Long gcCount = null;
+    private Long gcTimeMillisSpent = null;
+    private Long jitCompilationTimeMillisSpent = null;
 
     // ************************************************************************
     // Report accumulates
@@ -168,6 +174,45 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         this.scoreExplanationSummary = scoreExplanationSummary;
     }
 
+    /**
+     * The garbage collections of the entire JVM during solving,
+     * so with multiple parallel benchmarks they include those of the other benchmarks.
+     *
+     * @return null if not measured
+     */
+    public Long getGcCount() {
+        return gcCount;
+    }
+
+    public void setGcCount(Long gcCount) {
+        this.gcCount = gcCount;
+    }
+
+    /**
+     * @return null if not measured, the accumulated time of the garbage collections of {@link #getGcCount()}
+     */
+    public Long getGcTimeMillisSpent() {
+        return gcTimeMillisSpent;
+    }
+
+    public void setGcTimeMillisSpent(Long gcTimeMillisSpent) {
+        this.gcTimeMillisSpent = gcTimeMillisSpent;
+    }
+
+    /**
+     * The time spent by the JIT compiler threads of the entire JVM during solving.
+     * A high value indicates that the warm up was too short.
+     *
+     * @return null if not measured or if the JVM does not support it
+     */
+    public Long getJitCompilationTimeMillisSpent() {
+        return jitCompilationTimeMillisSpent;
+    }
+
+    public void setJitCompilationTimeMillisSpent(Long jitCompilationTimeMillisSpent) {
+        this.jitCompilationTimeMillisSpent = jitCompilationTimeMillisSpent;
+    }
+
     public Integer getRanking() {
         return ranking;
     }
@@ -290,6 +335,9 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         newResult.score = oldResult.score;
         newResult.timeMillisSpent = oldResult.timeMillisSpent;
         newResult.scoreCalculationCount = oldResult.scoreCalculationCount;
+        newResult.gcCount = oldResult.gcCount;
+        newResult.gcTimeMillisSpent = oldResult.gcTimeMillisSpent;
+        newResult.jitCompilationTimeMillisSpent = oldResult.jitCompilationTimeMillisSpent;
 
         singleBenchmarkResult.getSubSingleBenchmarkResultList().add(newResult);
         return newResult;
@@ -16,6 +16,7 @@ import org.optaplanner.benchmark.impl.report.ReportHelper;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
@@ -32,6 +33,7 @@ import org.optaplanner.benchmark.impl.statistic.stepscore.StepScoreProblemStatis
         BestScoreProblemStatistic.class,
         StepScoreProblemStatistic.class,
         ScoreCalculationSpeedProblemStatistic.class,
+        AllocationRateProblemStatistic.class,
         BestSolutionMutationProblemStatistic.class,
         MoveCountPerStepProblemStatistic.class,
         MemoryUseProblemStatistic.class
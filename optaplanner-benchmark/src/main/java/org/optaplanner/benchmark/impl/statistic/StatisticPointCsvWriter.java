@@ -0,0 +1,65 @@
+package org.optaplanner.benchmark.impl.statistic;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Appends every {@link StatisticPoint} to a CSV file as soon as it is measured, instead of keeping it in memory,
+ * so a long benchmark run uses bounded memory, regardless of the number of points.
+ * <p>
+ * The points are read back with {@link SubSingleStatistic#unhibernatePointList()}, after {@link #close(String)}.
+ *
+ * @param <StatisticPoint_> the type of the points
+ */
+public class StatisticPointCsvWriter<StatisticPoint_ extends StatisticPoint> {
+
+    private final File csvFile;
+    private final BufferedWriter writer;
+    private int pointCount = 0;
+
+    public StatisticPointCsvWriter(File csvFile, String csvHeader) {
+        this.csvFile = csvFile;
+        try {
+            writer = Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8);
+            writer.append(csvHeader);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+        }
+    }
+
+    public void write(StatisticPoint_ point) {
+        try {
+            writer.append(point.toCsvLine());
+            writer.newLine();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+        }
+        pointCount++;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of points written so far
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * @param lastLine null if there is no extra line to append after the points
+     */
+    public void close(String lastLine) {
+        try (BufferedWriter closingWriter = writer) {
+            if (lastLine != null) {
+                closingWriter.append(lastLine);
+                closingWriter.newLine();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+        }
+    }
+
+}
@@ -41,6 +41,8 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
 
     @XmlTransient
     protected List<StatisticPoint_> pointList;
+    @XmlTransient
+    protected StatisticPointCsvWriter<StatisticPoint_> pointCsvWriter;
 
     protected SubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
         this.subSingleBenchmarkResult = subSingleBenchmarkResult;
@@ -56,6 +58,9 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
 
     public abstract StatisticType getStatisticType();
 
+    /**
+     * @return null while the points are written with {@link #initPointCsvWriter()} or if the points are hibernated
+     */
     public List<StatisticPoint_> getPointList() {
         return pointList;
     }
@@ -101,9 +106,32 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         pointList = new ArrayList<>();
     }
 
+    /**
+     * Like {@link #initPointList()}, but every point is written to the {@link #getCsvFile() CSV file} immediately,
+     * instead of being kept in memory until {@link #hibernatePointList()}.
+     * The points can't be read until they are {@link #unhibernatePointList() unhibernated}.
+     */
+    public void initPointCsvWriter() {
+        pointList = null;
+        pointCsvWriter = new StatisticPointCsvWriter<>(getCsvFile(), getCsvHeader());
+    }
+
+    /**
+     * Called while solving, after {@link #initPointList()} or {@link #initPointCsvWriter()}.
+     *
+     * @param point never null
+     */
+    protected void addPoint(StatisticPoint_ point) {
+        if (pointCsvWriter != null) {
+            pointCsvWriter.write(point);
+        } else {
+            pointList.add(point);
+        }
+    }
+
     protected abstract String getCsvHeader();
 
-    private void writeCsvStatisticFile() {
+    private void writeCsvStatisticFile(boolean failed) {
         File csvFile = getCsvFile();
         try (BufferedWriter writer = Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8)) {
             writer.append(getCsvHeader());
@@ -112,7 +140,7 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                 writer.append(point.toCsvLine());
                 writer.newLine();
             }
-            if (subSingleBenchmarkResult.hasAnyFailure()) {
+            if (failed) {
                 writer.append(FAILED);
                 writer.newLine();
             }
@@ -180,7 +208,20 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
     }
 
     public void hibernatePointList() {
-        writeCsvStatisticFile();
+        hibernatePointList(subSingleBenchmarkResult.hasAnyFailure());
+    }
+
+    /**
+     * @param failed true if the run failed, even if the {@link SubSingleBenchmarkResult} isn't marked as failed yet
+     */
+    public void hibernatePointList(boolean failed) {
+        if (pointCsvWriter != null) {
+            // The points are already in the CSV file
+            pointCsvWriter.close(failed ? FAILED : null);
+            pointCsvWriter = null;
+        } else {
+            writeCsvStatisticFile(failed);
+        }
         pointList = null;
     }
 
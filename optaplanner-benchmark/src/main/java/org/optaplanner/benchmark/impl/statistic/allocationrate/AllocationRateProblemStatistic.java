@@ -0,0 +1,117 @@
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.awt.BasicStroke;
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+
+public class AllocationRateProblemStatistic extends ProblemStatistic {
+
+    protected File graphFile = null;
+
+    public AllocationRateProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.ALLOCATION_RATE);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new AllocationRateSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Collections.singletonList(graphFile);
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        CombinedDomainXYPlot plot = new CombinedDomainXYPlot(xAxis);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        plot.add(createSubPlot(locale, "Allocation rate (bytes per second)",
+                AllocationRateStatisticPoint::getAllocationRate, true));
+        plot.add(createSubPlot(locale, "Allocated bytes per move",
+                AllocationRateStatisticPoint::getAllocatedBytesPerMove, false));
+        plot.add(createSubPlot(locale, "GC pause time (ms)",
+                AllocationRateStatisticPoint::getGcPauseTimeMillis, false));
+        JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " allocation rate statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "AllocationRateStatistic");
+    }
+
+    private XYPlot createSubPlot(Locale locale, String yAxisLabel, ToLongFunction<AllocationRateStatisticPoint> valueFunction,
+            boolean showInLegend) {
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        yAxis.setAutoRangeIncludesZero(true);
+        XYPlot plot = new XYPlot(null, null, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        int seriesIndex = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            XYSeries series = new XYSeries(singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix());
+            XYItemRenderer renderer = new XYLineAndShapeRenderer();
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                AllocationRateSubSingleStatistic subSingleStatistic =
+                        (AllocationRateSubSingleStatistic) singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                List<AllocationRateStatisticPoint> points = subSingleStatistic.getPointList();
+                for (AllocationRateStatisticPoint point : points) {
+                    long value = valueFunction.applyAsLong(point);
+                    if (value != AllocationRateStatisticPoint.UNAVAILABLE) {
+                        series.add(point.getTimeMillisSpent(), value);
+                    }
+                }
+            }
+            plot.setDataset(seriesIndex, new XYSeriesCollection(series));
+
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                // Make the favorite more obvious
+                renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            }
+            // Only 1 legend for all sub plots, because every sub plot uses the same colors
+            renderer.setDefaultSeriesVisibleInLegend(showInLegend);
+            plot.setRenderer(seriesIndex, renderer);
+            seriesIndex++;
+        }
+        return plot;
+    }
+
+    @Override
+    protected void fillWarningList() {
+        if (problemBenchmarkResult.getPlannerBenchmarkResult().hasMultipleParallelBenchmarks()) {
+            warningList.add("This allocation rate statistic shows the GC pause time of the entire JVM, "
+                    + "including all benchmarks that ran in parallel, due to parallelBenchmarkCount ("
+                    + problemBenchmarkResult.getPlannerBenchmarkResult().getParallelBenchmarkCount() + ").");
+        }
+    }
+
+}
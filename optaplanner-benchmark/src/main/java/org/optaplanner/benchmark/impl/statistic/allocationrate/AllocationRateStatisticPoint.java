@@ -0,0 +1,55 @@
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class AllocationRateStatisticPoint extends StatisticPoint {
+
+    /**
+     * Used instead of a value that couldn't be measured, for example because the JVM doesn't support it.
+     */
+    public static final long UNAVAILABLE = -1L;
+
+    private final long timeMillisSpent;
+    private final long allocationRate;
+    private final long allocatedBytesPerMove;
+    private final long gcPauseTimeMillis;
+
+    /**
+     * @param timeMillisSpent at least 0
+     * @param allocationRate bytes allocated by the solver thread per second, during the interval before this point,
+     *        or {@link #UNAVAILABLE}
+     * @param allocatedBytesPerMove bytes allocated by the solver thread per move it evaluated,
+     *        during the interval before this point, or {@link #UNAVAILABLE}
+     * @param gcPauseTimeMillis time spent in garbage collection by the entire JVM,
+     *        during the interval before this point
+     */
+    public AllocationRateStatisticPoint(long timeMillisSpent, long allocationRate, long allocatedBytesPerMove,
+            long gcPauseTimeMillis) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.allocationRate = allocationRate;
+        this.allocatedBytesPerMove = allocatedBytesPerMove;
+        this.gcPauseTimeMillis = gcPauseTimeMillis;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getAllocationRate() {
+        return allocationRate;
+    }
+
+    public long getAllocatedBytesPerMove() {
+        return allocatedBytesPerMove;
+    }
+
+    public long getGcPauseTimeMillis() {
+        return gcPauseTimeMillis;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithLongs(timeMillisSpent, allocationRate, allocatedBytesPerMove, gcPauseTimeMillis);
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class AllocationRateSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, AllocationRateStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.ALLOCATION_RATE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        registry.addListener(SolverMetric.ALLOCATION_RATE, new AllocationRateSubSingleStatisticListener(registry, runTag));
+    }
+
+    private class AllocationRateSubSingleStatisticListener implements BiConsumer<Long, AbstractStepScope<Solution_>> {
+
+        private final StatisticRegistry<?> registry;
+        private final Tags tags;
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long lastTimeMillisSpent = 0L;
+        private long lastAllocatedBytes = 0L;
+        private long lastGcPauseTimeMillis = 0L;
+        private long lastMoveEvaluationCount = 0L;
+
+        public AllocationRateSubSingleStatisticListener(StatisticRegistry<?> registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+        }
+
+        @Override
+        public void accept(Long timeMillisSpent, AbstractStepScope<Solution_> stepScope) {
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                // Only the moves evaluated by the solver thread, whose allocations are measured, without the steps
+                long moveEvaluationCount = stepScope.getScoreDirector().getMoveEvaluationCount();
+                registry.getGaugeValue(SolverMetric.ALLOCATION_RATE.getMeterId() + ".bytes", tags,
+                        allocatedBytesNumber -> registry.getGaugeValue(
+                                SolverMetric.ALLOCATION_RATE.getMeterId() + ".gc.pause", tags,
+                                gcPauseTimeMillisNumber -> addPoint(timeMillisSpent, allocatedBytesNumber.doubleValue(),
+                                        gcPauseTimeMillisNumber.longValue(), moveEvaluationCount)));
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        /**
+         * @param allocatedBytes {@link Double#NaN} if the JVM does not support measuring it
+         */
+        private void addPoint(long timeMillisSpent, double allocatedBytes, long gcPauseTimeMillis,
+                long moveEvaluationCount) {
+            long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+            if (timeMillisSpentInterval == 0L) {
+                // Avoid divide by zero exception on a fast CPU
+                timeMillisSpentInterval = 1L;
+            }
+            long moveEvaluationCountInterval = moveEvaluationCount - lastMoveEvaluationCount;
+            long allocationRate;
+            long allocatedBytesPerMove;
+            if (Double.isNaN(allocatedBytes)) {
+                // Not a real zero, so the graph leaves it out
+                allocationRate = AllocationRateStatisticPoint.UNAVAILABLE;
+                allocatedBytesPerMove = AllocationRateStatisticPoint.UNAVAILABLE;
+            } else {
+                long allocatedBytesInterval = (long) allocatedBytes - lastAllocatedBytes;
+                allocationRate = allocatedBytesInterval * 1000L / timeMillisSpentInterval;
+                allocatedBytesPerMove = moveEvaluationCountInterval == 0L ? AllocationRateStatisticPoint.UNAVAILABLE
+                        : allocatedBytesInterval / moveEvaluationCountInterval;
+                lastAllocatedBytes = (long) allocatedBytes;
+            }
+            AllocationRateSubSingleStatistic.this.addPoint(new AllocationRateStatisticPoint(timeMillisSpent,
+                    allocationRate, allocatedBytesPerMove, gcPauseTimeMillis - lastGcPauseTimeMillis));
+            lastTimeMillisSpent = timeMillisSpent;
+            lastGcPauseTimeMillis = gcPauseTimeMillis;
+            lastMoveEvaluationCount = moveEvaluationCount;
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("timeMillisSpent", "allocationRate", "allocatedBytesPerMove",
+                "gcPauseTimeMillis");
+    }
+
+    @Override
+    protected AllocationRateStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new AllocationRateStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)),
+                Long.parseLong(csvLine.get(2)), Long.parseLong(csvLine.get(3)));
+    }
+
+}
@@ -28,7 +28,7 @@ public class BestScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.BEST_SCORE,
                 timestamp -> registry.extractScoreFromMeters(SolverMetric.BEST_SCORE, runTag,
-                        score -> pointList.add(new BestScoreStatisticPoint(timestamp, score))));
+                        score -> addPoint(new BestScoreStatisticPoint(timestamp, score))));
     }
 
     // ************************************************************************
@@ -28,8 +28,8 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.BEST_SOLUTION_MUTATION,
                 timestamp -> registry.getGaugeValue(SolverMetric.BEST_SOLUTION_MUTATION, runTag,
-                        mutationCount -> pointList
-                                .add(new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
+                        mutationCount -> addPoint(
+                                new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
     }
 
     // ************************************************************************
@@ -56,7 +56,7 @@ public class MemoryUseSubSingleStatistic<Solution_>
         public void accept(Long timeMillisSpent) {
             if (timeMillisSpent >= nextTimeMillisThreshold) {
                 registry.getGaugeValue(SolverMetric.MEMORY_USE, tags,
-                        memoryUse -> pointList.add(
+                        memoryUse -> addPoint(
                                 new MemoryUseStatisticPoint(timeMillisSpent, new MemoryUseMeasurement(memoryUse.longValue(),
                                         (long) registry.find("jvm.memory.max").tags(tags).gauge().value()))));
 
@@ -29,7 +29,7 @@ public class MoveCountPerStepSubSingleStatistic<Solution_>
         registry.addListener(SolverMetric.MOVE_COUNT_PER_STEP,
                 timeMillisSpent -> registry.getGaugeValue(SolverMetric.MOVE_COUNT_PER_STEP.getMeterId() + ".accepted", runTag,
                         accepted -> registry.getGaugeValue(SolverMetric.MOVE_COUNT_PER_STEP.getMeterId() + ".selected", runTag,
-                                selected -> pointList.add(new MoveCountPerStepStatisticPoint(timeMillisSpent,
+                                selected -> addPoint(new MoveCountPerStepStatisticPoint(timeMillisSpent,
                                         new MoveCountPerStepMeasurement(accepted.longValue(), selected.longValue()))))));
     }
 
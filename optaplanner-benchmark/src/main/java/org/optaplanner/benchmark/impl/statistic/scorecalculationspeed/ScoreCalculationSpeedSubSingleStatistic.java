@@ -56,7 +56,7 @@ public class ScoreCalculationSpeedSubSingleStatistic<Solution_>
                             timeMillisSpentInterval = 1L;
                         }
                         long scoreCalculationSpeed = calculationCountInterval * 1000L / timeMillisSpentInterval;
-                        pointList.add(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
+                        addPoint(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
                         lastScoreCalculationCount.set(scoreCalculationCount);
                     });
                     lastTimeMillisSpent = timeMillisSpent;
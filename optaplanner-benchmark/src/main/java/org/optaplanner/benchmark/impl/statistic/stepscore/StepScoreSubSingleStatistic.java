@@ -28,7 +28,7 @@ public class StepScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.STEP_SCORE,
                 timeMillisSpent -> registry.extractScoreFromMeters(SolverMetric.STEP_SCORE, runTag,
-                        score -> pointList.add(new StepScoreStatisticPoint(timeMillisSpent, score))));
+                        score -> addPoint(new StepScoreStatisticPoint(timeMillisSpent, score))));
     }
 
     // ************************************************************************
@@ -0,0 +1,55 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationspeed;
+
+import org.optaplanner.benchmark.impl.aggregator.BenchmarkAggregator;
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+public class MoveEvaluationSpeedStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    /**
+     * Not a {@link Class}{@code <}{@link Move}{@code >} because {@link CompositeMove}s need to be atomized
+     * and because that {@link Class} might no longer exist when {@link BenchmarkAggregator} aggregates.
+     */
+    private final String moveType;
+    /**
+     * Cumulative since the start of solving.
+     */
+    private final long moveEvaluationCount;
+    /**
+     * Cumulative since the start of solving, in nanoseconds.
+     */
+    private final long moveEvaluationTimeNanos;
+
+    public MoveEvaluationSpeedStatisticPoint(long timeMillisSpent, String moveType,
+            long moveEvaluationCount, long moveEvaluationTimeNanos) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.moveType = moveType;
+        this.moveEvaluationCount = moveEvaluationCount;
+        this.moveEvaluationTimeNanos = moveEvaluationTimeNanos;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getMoveType() {
+        return moveType;
+    }
+
+    public long getMoveEvaluationCount() {
+        return moveEvaluationCount;
+    }
+
+    public long getMoveEvaluationTimeNanos() {
+        return moveEvaluationTimeNanos;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, moveType,
+                Long.toString(moveEvaluationCount), Long.toString(moveEvaluationTimeNanos));
+    }
+
+}
@@ -0,0 +1,181 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationspeed;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+public class MoveEvaluationSpeedSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveEvaluationSpeedStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public MoveEvaluationSpeedSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public MoveEvaluationSpeedSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_EVALUATION_SPEED);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        String countMeterId = SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".count";
+        String timeMeterId = SolverMetric.MOVE_EVALUATION_SPEED.getMeterId() + ".time";
+        registry.addListener(SolverMetric.MOVE_EVALUATION_SPEED, new Consumer<Long>() {
+            long nextTimeMillisThreshold = timeMillisThresholdInterval;
+
+            @Override
+            public void accept(Long timeMillisSpent) {
+                if (timeMillisSpent >= nextTimeMillisThreshold) {
+                    for (Meter.Id meterId : registry.getMeterIds(SolverMetric.MOVE_EVALUATION_SPEED, runTag)) {
+                        if (!meterId.getName().equals(countMeterId)) {
+                            continue;
+                        }
+                        String moveType = meterId.getTag("move.type");
+                        Tags moveTypeRunTag = runTag.and("move.type", moveType);
+                        registry.getGaugeValue(countMeterId, moveTypeRunTag,
+                                count -> registry.getGaugeValue(timeMeterId, moveTypeRunTag,
+                                        timeNanos -> addPoint(new MoveEvaluationSpeedStatisticPoint(timeMillisSpent,
+                                                moveType, count.longValue(), timeNanos.longValue()))));
+                    }
+                    nextTimeMillisThreshold += timeMillisThresholdInterval;
+                    if (nextTimeMillisThreshold < timeMillisSpent) {
+                        nextTimeMillisThreshold = timeMillisSpent;
+                    }
+                }
+            }
+        });
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveEvaluationSpeedStatisticPoint.buildCsvLine("timeMillisSpent", "moveType",
+                "moveEvaluationCount", "moveEvaluationTimeNanos");
+    }
+
+    @Override
+    protected MoveEvaluationSpeedStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MoveEvaluationSpeedStatisticPoint(Long.parseLong(csvLine.get(0)), csvLine.get(1),
+                Long.parseLong(csvLine.get(2)), Long.parseLong(csvLine.get(3)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> moveTypeToSpeedSeriesMap = new LinkedHashMap<>();
+        Map<String, XYSeries> moveTypeToAverageTimeSeriesMap = new LinkedHashMap<>();
+        Map<String, MoveEvaluationSpeedStatisticPoint> moveTypeToPreviousPointMap = new HashMap<>();
+        for (MoveEvaluationSpeedStatisticPoint point : getPointList()) {
+            String moveType = point.getMoveType();
+            MoveEvaluationSpeedStatisticPoint previousPoint = moveTypeToPreviousPointMap.put(moveType, point);
+            long timeMillisSpent = point.getTimeMillisSpent();
+            // The points are cumulative, so the speed and the average time are calculated per interval
+            long countInterval = point.getMoveEvaluationCount()
+                    - (previousPoint == null ? 0L : previousPoint.getMoveEvaluationCount());
+            long timeNanosInterval = point.getMoveEvaluationTimeNanos()
+                    - (previousPoint == null ? 0L : previousPoint.getMoveEvaluationTimeNanos());
+            long timeMillisSpentInterval = timeMillisSpent
+                    - (previousPoint == null ? 0L : previousPoint.getTimeMillisSpent());
+            if (timeMillisSpentInterval == 0L) {
+                // Avoid divide by zero exception on a fast CPU
+                timeMillisSpentInterval = 1L;
+            }
+            moveTypeToSpeedSeriesMap.computeIfAbsent(moveType, XYSeries::new)
+                    .add(timeMillisSpent, countInterval * 1000L / timeMillisSpentInterval);
+            // Add every move type to both plots in the same order, so both plots use the same color per move type
+            XYSeries averageTimeSeries = moveTypeToAverageTimeSeriesMap.computeIfAbsent(moveType, XYSeries::new);
+            if (countInterval > 0L) {
+                averageTimeSeries.add(timeMillisSpent, timeNanosInterval / 1000.0 / countInterval);
+            }
+        }
+        if (moveTypeToSpeedSeriesMap.isEmpty()) {
+            graphFileList = Collections.emptyList();
+            return;
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        CombinedDomainXYPlot plot = new CombinedDomainXYPlot(xAxis);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        plot.add(createSubPlot(locale, "Move evaluation speed per second", moveTypeToSpeedSeriesMap, true));
+        plot.add(createSubPlot(locale, "Average move evaluation time in microseconds", moveTypeToAverageTimeSeriesMap, false));
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " move evaluation speed statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "MoveEvaluationSpeedStatistic"));
+    }
+
+    private XYPlot createSubPlot(Locale locale, String yAxisLabel, Map<String, XYSeries> moveTypeToSeriesMap,
+            boolean showInLegend) {
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        yAxis.setAutoRangeIncludesZero(true);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : moveTypeToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setDefaultSeriesVisibleInLegend(showInLegend);
+        XYPlot plot = new XYPlot(seriesCollection, null, yAxis, renderer);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
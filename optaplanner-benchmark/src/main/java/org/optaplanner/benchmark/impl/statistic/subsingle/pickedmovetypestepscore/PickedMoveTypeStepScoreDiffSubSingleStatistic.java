@@ -61,7 +61,7 @@ public class PickedMoveTypeStepScoreDiffSubSingleStatistic<Solution_>
                 String moveType = ((LocalSearchStepScope<Solution_>) stepScope).getStep().getSimpleMoveTypeDescription();
                 registry.extractScoreFromMeters(SolverMetric.PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
                         runTag.and(Tag.of("move.type", moveType)),
-                        score -> pointList.add(new PickedMoveTypeStepScoreDiffStatisticPoint(
+                        score -> addPoint(new PickedMoveTypeStepScoreDiffStatisticPoint(
                                 timeMillisSpent, moveType, score)));
             }
         });
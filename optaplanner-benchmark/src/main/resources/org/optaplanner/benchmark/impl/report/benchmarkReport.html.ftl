@@ -389,6 +389,9 @@
                                                         <td><div class="dropdown">
                                                             <span class="nav nav-pills dropdown-toggle" id="dLabel" type="button" data-toggle="dropdown" aria-haspopup="true" aria-expanded="false">
                                                                 ${singleBenchmarkResult.scoreCalculationSpeed!""}/s
+                                                                <#if benchmarkReport.isScoreCalculationSpeedVariationHigh(singleBenchmarkResult)>
+                                                                    <span class="label label-warning">High variance</span>
+                                                                </#if>
                                                                 <span class="caret"></span>
                                                             </span>
                                                         <ul class="dropdown-menu" aria-labelledby="dLabel">
@@ -397,6 +400,12 @@
                                                             <#list singleBenchmarkResult.subSingleBenchmarkResultList as subSingleBenchmarkResult>
                                                                 <li class="dropdown-header"><strong>Run #${subSingleBenchmarkResult.getSubSingleBenchmarkIndex()}</strong></li>
                                                                 <li>${subSingleBenchmarkResult.scoreCalculationSpeed!""}/s</li>
+                                                                <#if subSingleBenchmarkResult.gcTimeMillisSpent??>
+                                                                    <li>GC: ${subSingleBenchmarkResult.gcTimeMillisSpent} ms (${subSingleBenchmarkResult.gcCount!""} collections)</li>
+                                                                </#if>
+                                                                <#if subSingleBenchmarkResult.jitCompilationTimeMillisSpent??>
+                                                                    <li>JIT compilation: ${subSingleBenchmarkResult.jitCompilationTimeMillisSpent} ms</li>
+                                                                </#if>
                                                             </#list>
                                                         </ul>
                                                       </div></td>
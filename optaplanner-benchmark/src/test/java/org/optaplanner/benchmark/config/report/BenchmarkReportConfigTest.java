@@ -18,6 +18,7 @@ class BenchmarkReportConfigTest {
         inheritedReportConfig.setSolverRankingType(SolverRankingType.TOTAL_RANKING);
         inheritedReportConfig.setSolverRankingComparatorClass(TotalScoreSolverRankingComparator.class);
         inheritedReportConfig.setSolverRankingWeightFactoryClass(TotalRankSolverRankingWeightFactory.class);
+        inheritedReportConfig.setScoreCalculationSpeedVariationThreshold(0.05);
 
         BenchmarkReportConfig reportConfig = new BenchmarkReportConfig(inheritedReportConfig);
 
@@ -27,5 +28,6 @@ class BenchmarkReportConfigTest {
                 .isEqualTo(inheritedReportConfig.getSolverRankingComparatorClass());
         assertThat(reportConfig.getSolverRankingWeightFactoryClass())
                 .isEqualTo(inheritedReportConfig.getSolverRankingWeightFactoryClass());
+        assertThat(reportConfig.determineScoreCalculationSpeedVariationThreshold()).isEqualTo(0.05);
     }
 }
@@ -0,0 +1,55 @@
+package org.optaplanner.benchmark.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Test;
+
+class CpuPinningThreadFactoryTest {
+
+    private static final String NONEXISTENT_TASKSET_COMMAND = "nonexistent-taskset-command";
+
+    @Test
+    void buildCpuListList() {
+        assertThat(CpuPinningThreadFactory.buildCpuListList(8, 1)).containsExactly("0-7");
+        assertThat(CpuPinningThreadFactory.buildCpuListList(8, 2)).containsExactly("0-3", "4-7");
+        // The remaining processor is left for garbage collection and other processes
+        assertThat(CpuPinningThreadFactory.buildCpuListList(7, 3)).containsExactly("0-1", "2-3", "4-5");
+        assertThat(CpuPinningThreadFactory.buildCpuListList(4, 4)).containsExactly("0", "1", "2", "3");
+        assertThatIllegalArgumentException().isThrownBy(() -> CpuPinningThreadFactory.buildCpuListList(4, 5));
+        assertThatIllegalArgumentException().isThrownBy(() -> CpuPinningThreadFactory.buildCpuListList(4, 0));
+    }
+
+    @Test
+    void newThreadRunsRunnable() throws InterruptedException {
+        List<Runnable> createdRunnableList = new ArrayList<>();
+        ThreadFactory delegateThreadFactory = runnable -> {
+            createdRunnableList.add(runnable);
+            return new Thread(runnable);
+        };
+        CpuPinningThreadFactory threadFactory = new CpuPinningThreadFactory(delegateThreadFactory, Arrays.asList("0"),
+                NONEXISTENT_TASKSET_COMMAND);
+        boolean[] ran = new boolean[1];
+        Thread thread = threadFactory.newThread(() -> ran[0] = true);
+        thread.start();
+        thread.join();
+        // The runnable still runs, but the thread is reported as unpinned
+        assertThat(ran[0]).isTrue();
+        assertThat(createdRunnableList).hasSize(1);
+        assertThat(threadFactory.getUnpinnedThreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void assertSupportedFailsFast() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> CpuPinningThreadFactory.assertSupported(NONEXISTENT_TASKSET_COMMAND))
+                .withMessageContaining("cpuPinningEnabled");
+    }
+
+}
@@ -1,6 +1,10 @@
 package org.optaplanner.benchmark.impl.statistic;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +40,48 @@ public abstract class AbstractSubSingleStatisticTest<Point_ extends StatisticPoi
         SoftAssertions.assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
     }
 
+    @Test
+    void testStreaming(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // Stream the points to disk while they are added.
+        subSingleStatistic.initPointCsvWriter();
+        getInputPoints().forEach(subSingleStatistic::addPoint);
+        assertThat(subSingleStatistic.getPointList()).isNull();
+        assertThat(subSingleStatistic.pointCsvWriter.getPointCount()).isEqualTo(getInputPoints().size());
+        subSingleStatistic.hibernatePointList();
+
+        // Re-read the point list.
+        SubSingleStatistic_ subSingleStatisticUnhibernated = constructor.apply(subSingleBenchmarkResult);
+        subSingleStatisticUnhibernated.unhibernatePointList();
+
+        SoftAssertions.assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
+    }
+
+    @Test
+    void testStreamingFailed(@TempDir Path tempDir) throws IOException {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // The run fails before the subSingleBenchmarkResult is marked as failed.
+        subSingleStatistic.initPointCsvWriter();
+        getInputPoints().forEach(subSingleStatistic::addPoint);
+        assertThat(subSingleBenchmarkResult.hasAnyFailure()).isFalse();
+        subSingleStatistic.hibernatePointList(true);
+        List<String> lineList = Files.readAllLines(subSingleStatistic.getCsvFile().toPath());
+        assertThat(lineList.get(lineList.size() - 1)).isEqualTo("Failed");
+
+        // Re-read the point list of the failed run.
+        subSingleBenchmarkResult.setSucceeded(false);
+        SubSingleStatistic_ subSingleStatisticUnhibernated = constructor.apply(subSingleBenchmarkResult);
+        subSingleStatisticUnhibernated.unhibernatePointList();
+
+        SoftAssertions.assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
+    }
+
     protected abstract Function<SubSingleBenchmarkResult, SubSingleStatistic_> getSubSingleStatisticConstructor();
 
     protected abstract List<Point_> getInputPoints();
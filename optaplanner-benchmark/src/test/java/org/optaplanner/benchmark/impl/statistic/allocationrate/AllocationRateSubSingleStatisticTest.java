@@ -0,0 +1,39 @@
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.api.SoftAssertions;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public final class AllocationRateSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<AllocationRateStatisticPoint, AllocationRateSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, AllocationRateSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return AllocationRateSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<AllocationRateStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new AllocationRateStatisticPoint(Long.MAX_VALUE, Long.MAX_VALUE - 1,
+                Long.MAX_VALUE - 2, Long.MAX_VALUE - 3));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<AllocationRateStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getAllocationRate() == Long.MAX_VALUE - 1, "Allocation rates do not match.")
+                .matches(s -> s.getAllocatedBytesPerMove() == Long.MAX_VALUE - 2, "Allocated bytes per move do not match.")
+                .matches(s -> s.getGcPauseTimeMillis() == Long.MAX_VALUE - 3, "GC pause times do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationspeed;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.assertj.core.api.SoftAssertions;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public final class MoveEvaluationSpeedSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<MoveEvaluationSpeedStatisticPoint, MoveEvaluationSpeedSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, MoveEvaluationSpeedSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return MoveEvaluationSpeedSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<MoveEvaluationSpeedStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new MoveEvaluationSpeedStatisticPoint(Long.MAX_VALUE, "SomeMoveType",
+                Long.MAX_VALUE - 1, Long.MAX_VALUE - 2));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<MoveEvaluationSpeedStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> Objects.equals(s.getMoveType(), "SomeMoveType"), "Move types do not match.")
+                .matches(s -> s.getMoveEvaluationCount() == Long.MAX_VALUE - 1, "Move evaluation counts do not match.")
+                .matches(s -> s.getMoveEvaluationTimeNanos() == Long.MAX_VALUE - 2, "Move evaluation times do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
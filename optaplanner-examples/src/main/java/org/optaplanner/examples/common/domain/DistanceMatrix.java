@@ -0,0 +1,240 @@
+package org.optaplanner.examples.common.domain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A dense, square matrix of precalculated distances between locations, indexed by the location's ordinal.
+ * Unlike a {@code Map<Location, Double>} per location, it doesn't box any distance
+ * and a lookup doesn't need to calculate a hashCode,
+ * which matters because the score calculation looks up a distance for every evaluated move.
+ * <p>
+ * A matrix can be {@link #mapFile(File) memory-mapped} from a binary file,
+ * so a large road network doesn't need to fit in the heap nor be parsed.
+ * The binary file format is the int {@link #MAGIC_NUMBER}, the int size and then size * size longs, row by row,
+ * all big-endian.
+ * <p>
+ * The distances are typically multiplied by 1000 to avoid floating point arithmetic rounding errors.
+ * Distances might be asymmetric: the distance from A to B might differ from the distance from B to A.
+ */
+public final class DistanceMatrix {
+
+    public static final int MAGIC_NUMBER = 0x444D5458; // "DMTX"
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    /**
+     * A single mapped buffer or long array is limited to {@link Integer#MAX_VALUE} bytes or elements,
+     * so a larger matrix is split into blocks of rows.
+     */
+    private static final long MAX_BLOCK_BYTES = Integer.MAX_VALUE - (Integer.MAX_VALUE % Long.BYTES);
+
+    /**
+     * @param size at least 0, the number of locations
+     * @return never null, a heap based matrix filled with zeros
+     */
+    public static DistanceMatrix create(int size) {
+        int rowsPerBlock = calculateRowsPerBlock(size);
+        LongBuffer[] blocks = new LongBuffer[calculateBlockCount(size, rowsPerBlock)];
+        for (int i = 0; i < blocks.length; i++) {
+            int rowCount = Math.min(rowsPerBlock, size - i * rowsPerBlock);
+            blocks[i] = LongBuffer.wrap(new long[rowCount * size]);
+        }
+        return new DistanceMatrix(size, rowsPerBlock, blocks);
+    }
+
+    /**
+     * Reads the entire file into the heap.
+     *
+     * @param file never null, in the binary format described in the class javadoc
+     * @return never null
+     */
+    public static DistanceMatrix readFile(File file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            return read(in, file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading distance matrix file (" + file + ").", e);
+        }
+    }
+
+    /**
+     * @param in never null, in the binary format described in the class javadoc, not closed by this method
+     * @return never null
+     * @throws IOException if reading fails
+     */
+    public static DistanceMatrix read(InputStream in) throws IOException {
+        return read(new DataInputStream(in), null);
+    }
+
+    private static DistanceMatrix read(DataInputStream in, File file) throws IOException {
+        int size = readHeader(in.readInt(), in.readInt(), file);
+        DistanceMatrix distanceMatrix = create(size);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                distanceMatrix.setDistance(from, to, in.readLong());
+            }
+        }
+        return distanceMatrix;
+    }
+
+    /**
+     * Maps the file in memory, read-only, so the operating system pages the distances in on demand
+     * and shares them between JVMs that map the same file.
+     * The returned matrix doesn't support {@link #setDistance(int, int, long)}.
+     *
+     * @param file never null, in the binary format described in the class javadoc
+     * @return never null
+     */
+    public static DistanceMatrix mapFile(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new EOFException("The distance matrix file (" + file + ") is too short.");
+                }
+            }
+            header.flip();
+            int size = readHeader(header.getInt(), header.getInt(), file);
+            long expectedFileSize = HEADER_BYTES + (long) size * size * Long.BYTES;
+            if (channel.size() != expectedFileSize) {
+                throw new IllegalArgumentException("The distance matrix file (" + file + ") has a size ("
+                        + channel.size() + ") which differs from the expected size (" + expectedFileSize
+                        + ") for " + size + " locations.");
+            }
+            int rowsPerBlock = calculateRowsPerBlock(size);
+            LongBuffer[] blocks = new LongBuffer[calculateBlockCount(size, rowsPerBlock)];
+            long rowBytes = (long) size * Long.BYTES;
+            for (int i = 0; i < blocks.length; i++) {
+                int rowCount = Math.min(rowsPerBlock, size - i * rowsPerBlock);
+                // The mapping remains valid after the channel is closed
+                blocks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + i * rowsPerBlock * rowBytes, rowCount * rowBytes).asLongBuffer();
+            }
+            return new DistanceMatrix(size, rowsPerBlock, blocks);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed mapping distance matrix file (" + file + ").", e);
+        }
+    }
+
+    private static int readHeader(int magicNumber, int size, File file) {
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The distance matrix " + (file == null ? "input" : "file (" + file + ")")
+                    + " has a magicNumber (" + Integer.toHexString(magicNumber)
+                    + ") which differs from the expected magicNumber (" + Integer.toHexString(MAGIC_NUMBER) + ").");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("The distance matrix " + (file == null ? "input" : "file (" + file + ")")
+                    + " has a negative size (" + size + ").");
+        }
+        return size;
+    }
+
+    private static int calculateRowsPerBlock(int size) {
+        if (size == 0) {
+            return 1;
+        }
+        return (int) Math.max(1L, Math.min(size, MAX_BLOCK_BYTES / ((long) size * Long.BYTES)));
+    }
+
+    private static int calculateBlockCount(int size, int rowsPerBlock) {
+        return (size + rowsPerBlock - 1) / rowsPerBlock;
+    }
+
+    private final int size;
+    private final int rowsPerBlock;
+    private final LongBuffer[] blocks;
+    /**
+     * Null unless the matrix consists of 1 block, to avoid the division on the hot path.
+     */
+    private final LongBuffer singleBlock;
+
+    private DistanceMatrix(int size, int rowsPerBlock, LongBuffer[] blocks) {
+        this.size = size;
+        this.rowsPerBlock = rowsPerBlock;
+        this.blocks = blocks;
+        this.singleBlock = blocks.length == 1 ? blocks[0] : null;
+    }
+
+    /**
+     * @return at least 0, the number of locations
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if the matrix is memory-mapped and therefore read-only
+     */
+    public boolean isMapped() {
+        return blocks.length > 0 && blocks[0].isReadOnly();
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < size}
+     * @param toIndex {@code 0 <= toIndex < size}
+     * @return the distance from the location with ordinal fromIndex to the location with ordinal toIndex
+     */
+    public long getDistance(int fromIndex, int toIndex) {
+        if (singleBlock != null) {
+            return singleBlock.get(fromIndex * size + toIndex);
+        }
+        return blocks[fromIndex / rowsPerBlock].get((fromIndex % rowsPerBlock) * size + toIndex);
+    }
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < size}
+     * @param toIndex {@code 0 <= toIndex < size}
+     * @param distance the distance from the location with ordinal fromIndex to the location with ordinal toIndex
+     * @throws java.nio.ReadOnlyBufferException if the matrix is {@link #isMapped() mapped}
+     */
+    public void setDistance(int fromIndex, int toIndex, long distance) {
+        blocks[fromIndex / rowsPerBlock].put((fromIndex % rowsPerBlock) * size + toIndex, distance);
+    }
+
+    /**
+     * @param file never null, overwritten if it exists
+     */
+    public void writeFile(File file) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            write(out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing distance matrix file (" + file + ").", e);
+        }
+    }
+
+    /**
+     * @param out never null, not closed by this method
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC_NUMBER);
+        dataOut.writeInt(size);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                dataOut.writeLong(getDistance(from, to));
+            }
+        }
+        dataOut.flush();
+    }
+
+    @Override
+    public String toString() {
+        return "DistanceMatrix(" + size + "x" + size + (isMapped() ? ", mapped" : "") + ")";
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.examples.common.business.SolutionBusiness;
+import org.optaplanner.examples.common.domain.DistanceMatrix;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -388,6 +389,59 @@ public abstract class AbstractTxtSolutionImporter<Solution_> extends AbstractSol
             }
         }
 
+        // ************************************************************************
+        // Distance matrix methods
+        // ************************************************************************
+
+        /**
+         * Reads a full matrix, such as a TSPLIB {@code EDGE_WEIGHT_FORMAT: FULL_MATRIX}:
+         * size lines with size distances each.
+         * The distances are multiplied by 1000 to avoid floating point arithmetic rounding errors.
+         *
+         * @param size at least 0, the number of locations
+         * @return never null
+         * @throws IOException if reading fails
+         */
+        public DistanceMatrix readFullDistanceMatrix(int size) throws IOException {
+            DistanceMatrix distanceMatrix = DistanceMatrix.create(size);
+            for (int i = 0; i < size; i++) {
+                String line = bufferedReader.readLine();
+                String[] lineTokens = splitBySpacesOrTabs(line.trim(), size);
+                for (int j = 0; j < size; j++) {
+                    double travelDistance = Double.parseDouble(lineTokens[j]);
+                    if (i == j && travelDistance != 0.0) {
+                        throw new IllegalStateException("The travelDistance (" + travelDistance
+                                + ") should be zero.");
+                    }
+                    distanceMatrix.setDistance(i, j, (long) (travelDistance * 1000.0 + 0.5));
+                }
+            }
+            return distanceMatrix;
+        }
+
+        /**
+         * Memory-maps a binary distance matrix file, such as a {@code EDGE_WEIGHT_FORMAT: BINARY_MATRIX}.
+         * The distances in that file are already multiplied by 1000.
+         *
+         * @param fileName never null, relative to the directory of the {@link #inputFile} unless it is absolute
+         * @param expectedSize at least 0, the number of locations
+         * @return never null
+         * @see DistanceMatrix#mapFile(File)
+         */
+        public DistanceMatrix mapDistanceMatrixFile(String fileName, int expectedSize) {
+            File distanceMatrixFile = new File(fileName);
+            if (!distanceMatrixFile.isAbsolute() && inputFile != null) {
+                distanceMatrixFile = new File(inputFile.getParentFile(), fileName);
+            }
+            DistanceMatrix distanceMatrix = DistanceMatrix.mapFile(distanceMatrixFile);
+            if (distanceMatrix.getSize() != expectedSize) {
+                throw new IllegalArgumentException("The distance matrix file (" + distanceMatrixFile
+                        + ") has a size (" + distanceMatrix.getSize() + ") which differs from the expected size ("
+                        + expectedSize + ").");
+            }
+            return distanceMatrix;
+        }
+
     }
 
 }
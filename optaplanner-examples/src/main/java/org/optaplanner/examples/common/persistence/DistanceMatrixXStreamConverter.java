@@ -0,0 +1,57 @@
+package org.optaplanner.examples.common.persistence;
+
+import org.optaplanner.examples.common.domain.DistanceMatrix;
+
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+
+/**
+ * Writes a {@link DistanceMatrix} as a size attribute and 1 line of space separated distances per row.
+ * A memory-mapped matrix is written in full too, so the XML file is self-contained.
+ */
+public class DistanceMatrixXStreamConverter implements Converter {
+
+    @Override
+    public boolean canConvert(Class type) {
+        return DistanceMatrix.class.equals(type);
+    }
+
+    @Override
+    public void marshal(Object source, HierarchicalStreamWriter writer, MarshallingContext context) {
+        DistanceMatrix distanceMatrix = (DistanceMatrix) source;
+        int size = distanceMatrix.getSize();
+        writer.addAttribute("size", Integer.toString(size));
+        StringBuilder value = new StringBuilder(size * size * 6);
+        for (int from = 0; from < size; from++) {
+            value.append('\n');
+            for (int to = 0; to < size; to++) {
+                if (to > 0) {
+                    value.append(' ');
+                }
+                value.append(distanceMatrix.getDistance(from, to));
+            }
+        }
+        writer.setValue(value.toString());
+    }
+
+    @Override
+    public Object unmarshal(HierarchicalStreamReader reader, UnmarshallingContext context) {
+        int size = Integer.parseInt(reader.getAttribute("size"));
+        String value = reader.getValue().trim();
+        String[] tokens = value.isEmpty() ? new String[0] : value.split("\\s+");
+        if (tokens.length != size * size) {
+            throw new ConversionException("The distance matrix has " + tokens.length
+                    + " distances, but it should have " + (size * size) + " distances for size (" + size + ").");
+        }
+        DistanceMatrix distanceMatrix = DistanceMatrix.create(size);
+        for (int i = 0; i < tokens.length; i++) {
+            distanceMatrix.setDistance(i / size, i % size, Long.parseLong(tokens[i]));
+        }
+        return distanceMatrix;
+    }
+
+}
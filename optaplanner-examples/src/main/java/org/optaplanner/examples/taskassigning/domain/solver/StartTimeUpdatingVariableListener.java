@@ -1,72 +1,60 @@
 package org.optaplanner.examples.taskassigning.domain.solver;
 
 import java.util.List;
-import java.util.Objects;
 
-import org.optaplanner.core.api.domain.variable.VariableListener;
-import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.cascade.CascadingUpdateVariableListener;
 import org.optaplanner.examples.taskassigning.domain.Employee;
 import org.optaplanner.examples.taskassigning.domain.Task;
 import org.optaplanner.examples.taskassigning.domain.TaskAssigningSolution;
 
-public class StartTimeUpdatingVariableListener implements VariableListener<TaskAssigningSolution, Task> {
+public class StartTimeUpdatingVariableListener
+        extends CascadingUpdateVariableListener<TaskAssigningSolution, Task, Integer> {
 
-    @Override
-    public void beforeEntityAdded(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        // Do nothing
-    }
-
-    @Override
-    public void afterEntityAdded(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        updateStartTime(scoreDirector, task);
-    }
-
-    @Override
-    public void beforeVariableChanged(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        // Do nothing
+    public StartTimeUpdatingVariableListener() {
+        super("startTime");
     }
 
     @Override
-    public void afterVariableChanged(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        updateStartTime(scoreDirector, task);
-    }
-
-    @Override
-    public void beforeEntityRemoved(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        // Do nothing
+    protected Task getPreviousEntity(Task task) {
+        Employee employee = task.getEmployee();
+        if (employee == null || task.getIndex() == null || task.getIndex() == 0) {
+            return null;
+        }
+        return employee.getTasks().get(task.getIndex() - 1);
     }
 
     @Override
-    public void afterEntityRemoved(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
-        // Do nothing
-    }
-
-    protected void updateStartTime(ScoreDirector<TaskAssigningSolution> scoreDirector, Task task) {
+    protected Task getNextEntity(Task task) {
         Employee employee = task.getEmployee();
-        if (employee == null) {
-            return;
+        if (employee == null || task.getIndex() == null) {
+            return null;
         }
-        Integer index = task.getIndex();
         List<Task> tasks = employee.getTasks();
-        Integer previousEndTime = index == 0 ? Integer.valueOf(0) : tasks.get(index - 1).getEndTime();
-
-        for (int i = index; i < tasks.size(); i++) {
-            Task t = tasks.get(i);
-            Integer startTime = calculateStartTime(t, previousEndTime);
-            if (!Objects.equals(t.getStartTime(), startTime)) {
-                scoreDirector.beforeVariableChanged(t, "startTime");
-                t.setStartTime(startTime);
-                scoreDirector.afterVariableChanged(t, "startTime");
-            }
-            previousEndTime = t.getEndTime();
-        }
+        int nextIndex = task.getIndex() + 1;
+        return nextIndex < tasks.size() ? tasks.get(nextIndex) : null;
     }
 
-    private Integer calculateStartTime(Task task, Integer previousEndTime) {
+    @Override
+    protected Integer calculateShadowValue(Task task) {
+        if (task.getEmployee() == null) {
+            return task.getStartTime();
+        }
+        Task previousTask = getPreviousEntity(task);
+        Integer previousEndTime = previousTask == null ? Integer.valueOf(0) : previousTask.getEndTime();
         if (previousEndTime == null) {
             return null;
         }
         return Math.max(task.getReadyTime(), previousEndTime);
     }
 
+    @Override
+    protected Integer getShadowValue(Task task) {
+        return task.getStartTime();
+    }
+
+    @Override
+    protected void setShadowValue(Task task, Integer startTime) {
+        task.setStartTime(startTime);
+    }
+
 }
@@ -2,19 +2,32 @@ package org.optaplanner.examples.tsp.domain.location;
 
 import java.util.Map;
 
+import org.optaplanner.examples.common.domain.DistanceMatrix;
+import org.optaplanner.examples.common.persistence.DistanceMatrixXStreamConverter;
+
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamConverter;
 
 /**
  * The cost between 2 locations was precalculated on a real road network route.
  * The cost itself might be the distance in km, the travel time, the fuel usage or a weighted function of any of those.
  * Used with {@link DistanceType#ROAD_DISTANCE}.
+ * <p>
+ * The costs are looked up in a {@link DistanceMatrix} shared by all road locations, by {@link #getMatrixIndex()}.
+ * The {@link #getTravelDistanceMap() travelDistanceMap} is only used if there is no distance matrix,
+ * for data files written before the distance matrix existed.
  */
 @XStreamAlias("TspRoadLocation")
 public class RoadLocation extends Location {
 
+    // Only used if there is no distanceMatrix.
     // Prefer Map over array or List because customers might be added and removed in real-time planning.
     protected Map<RoadLocation, Double> travelDistanceMap;
 
+    @XStreamConverter(DistanceMatrixXStreamConverter.class)
+    protected DistanceMatrix distanceMatrix;
+    protected int matrixIndex;
+
     public RoadLocation() {
     }
 
@@ -30,11 +43,34 @@ public class RoadLocation extends Location {
         this.travelDistanceMap = travelDistanceMap;
     }
 
+    public DistanceMatrix getDistanceMatrix() {
+        return distanceMatrix;
+    }
+
+    public void setDistanceMatrix(DistanceMatrix distanceMatrix) {
+        this.distanceMatrix = distanceMatrix;
+    }
+
+    /**
+     * @return the row and column of this location in the {@link #getDistanceMatrix() distance matrix}
+     */
+    public int getMatrixIndex() {
+        return matrixIndex;
+    }
+
+    public void setMatrixIndex(int matrixIndex) {
+        this.matrixIndex = matrixIndex;
+    }
+
     @Override
     public long getDistanceTo(Location location) {
         if (this == location) {
             return 0L;
         }
+        if (distanceMatrix != null) {
+            // Already multiplied by 1000
+            return distanceMatrix.getDistance(matrixIndex, ((RoadLocation) location).matrixIndex);
+        }
         double distance = travelDistanceMap.get((RoadLocation) location);
         // Multiplied by 1000 to avoid floating point arithmetic rounding errors
         return (long) (distance * 1000.0 + 0.5);
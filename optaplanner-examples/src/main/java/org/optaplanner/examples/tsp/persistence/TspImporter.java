@@ -4,11 +4,11 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.examples.common.business.SolutionBusiness;
+import org.optaplanner.examples.common.domain.DistanceMatrix;
 import org.optaplanner.examples.common.persistence.AbstractTxtSolutionImporter;
 import org.optaplanner.examples.common.persistence.SolutionConverter;
 import org.optaplanner.examples.tsp.app.TspApp;
@@ -48,6 +48,7 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
         private TspSolution tspSolution;
 
         private int locationListSize;
+        private String distanceMatrixFileName;
 
         @Override
         public TspSolution readSolution() throws IOException {
@@ -91,7 +92,9 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
             } else if (edgeWeightType.equalsIgnoreCase("EXPLICIT")) {
                 tspSolution.setDistanceType(DistanceType.ROAD_DISTANCE);
                 String edgeWeightFormat = readStringValue("EDGE_WEIGHT_FORMAT *:");
-                if (!edgeWeightFormat.equalsIgnoreCase("FULL_MATRIX")) {
+                if (edgeWeightFormat.equalsIgnoreCase("BINARY_MATRIX")) {
+                    distanceMatrixFileName = readStringValue("EDGE_WEIGHT_FILE *:");
+                } else if (!edgeWeightFormat.equalsIgnoreCase("FULL_MATRIX")) {
                     throw new IllegalArgumentException("The edgeWeightFormat (" + edgeWeightFormat + ") is not supported.");
                 }
             } else {
@@ -130,25 +133,17 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
             }
             tspSolution.setLocationList(locationList);
             if (distanceType == DistanceType.ROAD_DISTANCE) {
-                readConstantLine("EDGE_WEIGHT_SECTION");
+                DistanceMatrix distanceMatrix;
+                if (distanceMatrixFileName != null) {
+                    distanceMatrix = mapDistanceMatrixFile(distanceMatrixFileName, locationListSize);
+                } else {
+                    readConstantLine("EDGE_WEIGHT_SECTION");
+                    distanceMatrix = readFullDistanceMatrix(locationListSize);
+                }
                 for (int i = 0; i < locationListSize; i++) {
                     RoadLocation location = (RoadLocation) locationList.get(i);
-                    Map<RoadLocation, Double> travelDistanceMap = new LinkedHashMap<>(locationListSize);
-                    String line = bufferedReader.readLine();
-                    String[] lineTokens = splitBySpacesOrTabs(line.trim(), locationListSize);
-                    for (int j = 0; j < locationListSize; j++) {
-                        double travelDistance = Double.parseDouble(lineTokens[j]);
-                        if (i == j) {
-                            if (travelDistance != 0.0) {
-                                throw new IllegalStateException("The travelDistance (" + travelDistance
-                                        + ") should be zero.");
-                            }
-                        } else {
-                            RoadLocation otherLocation = (RoadLocation) locationList.get(j);
-                            travelDistanceMap.put(otherLocation, travelDistance);
-                        }
-                    }
-                    location.setTravelDistanceMap(travelDistanceMap);
+                    location.setDistanceMatrix(distanceMatrix);
+                    location.setMatrixIndex(i);
                 }
             }
         }
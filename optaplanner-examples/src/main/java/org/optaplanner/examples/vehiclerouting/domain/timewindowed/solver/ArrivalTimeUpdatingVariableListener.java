@@ -1,9 +1,6 @@
 package org.optaplanner.examples.vehiclerouting.domain.timewindowed.solver;
 
-import java.util.Objects;
-
-import org.optaplanner.core.api.domain.variable.VariableListener;
-import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.cascade.CascadingUpdateVariableListener;
 import org.optaplanner.examples.vehiclerouting.domain.Customer;
 import org.optaplanner.examples.vehiclerouting.domain.Standstill;
 import org.optaplanner.examples.vehiclerouting.domain.Vehicle;
@@ -12,71 +9,55 @@ import org.optaplanner.examples.vehiclerouting.domain.timewindowed.TimeWindowedC
 import org.optaplanner.examples.vehiclerouting.domain.timewindowed.TimeWindowedDepot;
 
 // TODO When this class is added only for TimeWindowedCustomer, use TimeWindowedCustomer instead of Customer
-public class ArrivalTimeUpdatingVariableListener implements VariableListener<VehicleRoutingSolution, Customer> {
+public class ArrivalTimeUpdatingVariableListener
+        extends CascadingUpdateVariableListener<VehicleRoutingSolution, Customer, Long> {
 
-    @Override
-    public void beforeEntityAdded(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        // Do nothing
+    public ArrivalTimeUpdatingVariableListener() {
+        super("arrivalTime");
     }
 
     @Override
-    public void afterEntityAdded(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        if (customer instanceof TimeWindowedCustomer) {
-            updateArrivalTime(scoreDirector, (TimeWindowedCustomer) customer);
-        }
+    protected Customer getPreviousEntity(Customer customer) {
+        Standstill previousStandstill = customer.getPreviousStandstill();
+        return previousStandstill instanceof Customer ? (Customer) previousStandstill : null;
     }
 
     @Override
-    public void beforeVariableChanged(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        // Do nothing
+    protected Customer getNextEntity(Customer customer) {
+        return customer.getNextCustomer();
     }
 
     @Override
-    public void afterVariableChanged(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        if (customer instanceof TimeWindowedCustomer) {
-            updateArrivalTime(scoreDirector, (TimeWindowedCustomer) customer);
+    protected Long calculateShadowValue(Customer customer) {
+        if (!(customer instanceof TimeWindowedCustomer)) {
+            return null;
+        }
+        TimeWindowedCustomer timeWindowedCustomer = (TimeWindowedCustomer) customer;
+        Standstill previousStandstill = timeWindowedCustomer.getPreviousStandstill();
+        if (previousStandstill == null) {
+            return null;
+        }
+        if (previousStandstill instanceof Vehicle) {
+            // PreviousStandstill is the Vehicle, so we leave from the Depot at the best suitable time
+            long depotReadyTime = ((TimeWindowedDepot) ((Vehicle) previousStandstill).getDepot()).getReadyTime();
+            return Math.max(timeWindowedCustomer.getReadyTime(),
+                    depotReadyTime + timeWindowedCustomer.getDistanceFromPreviousStandstill());
+        }
+        Long previousDepartureTime = ((TimeWindowedCustomer) previousStandstill).getDepartureTime();
+        if (previousDepartureTime == null) {
+            return null;
         }
+        return previousDepartureTime + timeWindowedCustomer.getDistanceFromPreviousStandstill();
     }
 
     @Override
-    public void beforeEntityRemoved(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        // Do nothing
+    protected Long getShadowValue(Customer customer) {
+        return customer instanceof TimeWindowedCustomer ? ((TimeWindowedCustomer) customer).getArrivalTime() : null;
     }
 
     @Override
-    public void afterEntityRemoved(ScoreDirector<VehicleRoutingSolution> scoreDirector, Customer customer) {
-        // Do nothing
-    }
-
-    protected void updateArrivalTime(ScoreDirector<VehicleRoutingSolution> scoreDirector,
-            TimeWindowedCustomer sourceCustomer) {
-        Standstill previousStandstill = sourceCustomer.getPreviousStandstill();
-        Long departureTime = previousStandstill == null ? null
-                : (previousStandstill instanceof TimeWindowedCustomer)
-                        ? ((TimeWindowedCustomer) previousStandstill).getDepartureTime()
-                        : ((TimeWindowedDepot) ((Vehicle) previousStandstill).getDepot()).getReadyTime();
-        TimeWindowedCustomer shadowCustomer = sourceCustomer;
-        Long arrivalTime = calculateArrivalTime(shadowCustomer, departureTime);
-        while (shadowCustomer != null && !Objects.equals(shadowCustomer.getArrivalTime(), arrivalTime)) {
-            scoreDirector.beforeVariableChanged(shadowCustomer, "arrivalTime");
-            shadowCustomer.setArrivalTime(arrivalTime);
-            scoreDirector.afterVariableChanged(shadowCustomer, "arrivalTime");
-            departureTime = shadowCustomer.getDepartureTime();
-            shadowCustomer = shadowCustomer.getNextCustomer();
-            arrivalTime = calculateArrivalTime(shadowCustomer, departureTime);
-        }
-    }
-
-    private Long calculateArrivalTime(TimeWindowedCustomer customer, Long previousDepartureTime) {
-        if (customer == null || customer.getPreviousStandstill() == null) {
-            return null;
-        }
-        if (customer.getPreviousStandstill() instanceof Vehicle) {
-            // PreviousStandstill is the Vehicle, so we leave from the Depot at the best suitable time
-            return Math.max(customer.getReadyTime(),
-                    previousDepartureTime + customer.getDistanceFromPreviousStandstill());
-        }
-        return previousDepartureTime + customer.getDistanceFromPreviousStandstill();
+    protected void setShadowValue(Customer customer, Long arrivalTime) {
+        ((TimeWindowedCustomer) customer).setArrivalTime(arrivalTime);
     }
 
 }
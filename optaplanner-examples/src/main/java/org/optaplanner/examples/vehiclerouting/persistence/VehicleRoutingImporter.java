@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.examples.common.business.SolutionBusiness;
+import org.optaplanner.examples.common.domain.DistanceMatrix;
 import org.optaplanner.examples.common.persistence.AbstractTxtSolutionImporter;
 import org.optaplanner.examples.common.persistence.SolutionConverter;
 import org.optaplanner.examples.vehiclerouting.app.VehicleRoutingApp;
@@ -58,6 +59,7 @@ public class VehicleRoutingImporter extends AbstractTxtSolutionImporter<VehicleR
         private int customerListSize;
         private int vehicleListSize;
         private int capacity;
+        private String distanceMatrixFileName;
         private Map<Long, Location> locationMap;
         private List<Depot> depotList;
 
@@ -137,7 +139,9 @@ public class VehicleRoutingImporter extends AbstractTxtSolutionImporter<VehicleR
             } else if (edgeWeightType.equalsIgnoreCase("EXPLICIT")) {
                 solution.setDistanceType(DistanceType.ROAD_DISTANCE);
                 String edgeWeightFormat = readStringValue("EDGE_WEIGHT_FORMAT *:");
-                if (!edgeWeightFormat.equalsIgnoreCase("FULL_MATRIX")) {
+                if (edgeWeightFormat.equalsIgnoreCase("BINARY_MATRIX")) {
+                    distanceMatrixFileName = readStringValue("EDGE_WEIGHT_FILE *:");
+                } else if (!edgeWeightFormat.equalsIgnoreCase("FULL_MATRIX")) {
                     throw new IllegalArgumentException("The edgeWeightFormat (" + edgeWeightFormat + ") is not supported.");
                 }
             } else if (edgeWeightType.equalsIgnoreCase("SEGMENTED_EXPLICIT")) {
@@ -206,25 +210,17 @@ public class VehicleRoutingImporter extends AbstractTxtSolutionImporter<VehicleR
                 locationMap.put(location.getId(), location);
             }
             if (distanceType == DistanceType.ROAD_DISTANCE) {
-                readConstantLine("EDGE_WEIGHT_SECTION");
+                DistanceMatrix distanceMatrix;
+                if (distanceMatrixFileName != null) {
+                    distanceMatrix = mapDistanceMatrixFile(distanceMatrixFileName, customerListSize);
+                } else {
+                    readConstantLine("EDGE_WEIGHT_SECTION");
+                    distanceMatrix = readFullDistanceMatrix(customerListSize);
+                }
                 for (int i = 0; i < customerListSize; i++) {
                     RoadLocation location = (RoadLocation) customerLocationList.get(i);
-                    Map<RoadLocation, Double> travelDistanceMap = new LinkedHashMap<>(customerListSize);
-                    String line = bufferedReader.readLine();
-                    String[] lineTokens = splitBySpacesOrTabs(line.trim(), customerListSize);
-                    for (int j = 0; j < customerListSize; j++) {
-                        double travelDistance = Double.parseDouble(lineTokens[j]);
-                        if (i == j) {
-                            if (travelDistance != 0.0) {
-                                throw new IllegalStateException("The travelDistance (" + travelDistance
-                                        + ") should be zero.");
-                            }
-                        } else {
-                            RoadLocation otherLocation = (RoadLocation) customerLocationList.get(j);
-                            travelDistanceMap.put(otherLocation, travelDistance);
-                        }
-                    }
-                    location.setTravelDistanceMap(travelDistanceMap);
+                    location.setDistanceMatrix(distanceMatrix);
+                    location.setMatrixIndex(i);
                 }
             }
             if (distanceType == DistanceType.SEGMENTED_ROAD_DISTANCE) {
@@ -0,0 +1,77 @@
+package org.optaplanner.examples.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DistanceMatrixTest {
+
+    @Test
+    void createAndSet() {
+        DistanceMatrix distanceMatrix = buildAsymmetricMatrix(3);
+        assertThat(distanceMatrix.getSize()).isEqualTo(3);
+        assertThat(distanceMatrix.isMapped()).isFalse();
+        assertThat(distanceMatrix.getDistance(0, 0)).isEqualTo(0L);
+        assertThat(distanceMatrix.getDistance(0, 2)).isEqualTo(2L);
+        assertThat(distanceMatrix.getDistance(2, 0)).isEqualTo(20L);
+        assertThat(distanceMatrix.getDistance(1, 2)).isEqualTo(12L);
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        DistanceMatrix distanceMatrix = buildAsymmetricMatrix(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        distanceMatrix.write(out);
+        DistanceMatrix readMatrix = DistanceMatrix.read(new ByteArrayInputStream(out.toByteArray()));
+        assertSameDistances(readMatrix, distanceMatrix);
+    }
+
+    @Test
+    void writeAndMap(@TempDir File tempDir) {
+        DistanceMatrix distanceMatrix = buildAsymmetricMatrix(5);
+        File file = new File(tempDir, "test.dmx");
+        distanceMatrix.writeFile(file);
+        DistanceMatrix mappedMatrix = DistanceMatrix.mapFile(file);
+        assertThat(mappedMatrix.isMapped()).isTrue();
+        assertSameDistances(mappedMatrix, distanceMatrix);
+        assertThatExceptionOfType(ReadOnlyBufferException.class)
+                .isThrownBy(() -> mappedMatrix.setDistance(0, 1, 7L));
+        assertSameDistances(DistanceMatrix.readFile(file), distanceMatrix);
+    }
+
+    @Test
+    void readInvalidMagicNumber() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DistanceMatrix.read(new ByteArrayInputStream(new byte[] { 0, 0, 0, 1, 0, 0, 0, 0 })))
+                .withMessageContaining("magicNumber");
+    }
+
+    private static DistanceMatrix buildAsymmetricMatrix(int size) {
+        DistanceMatrix distanceMatrix = DistanceMatrix.create(size);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                distanceMatrix.setDistance(from, to, from * 10L + to);
+            }
+        }
+        return distanceMatrix;
+    }
+
+    private static void assertSameDistances(DistanceMatrix actual, DistanceMatrix expected) {
+        assertThat(actual.getSize()).isEqualTo(expected.getSize());
+        for (int from = 0; from < expected.getSize(); from++) {
+            for (int to = 0; to < expected.getSize(); to++) {
+                assertThat(actual.getDistance(from, to)).isEqualTo(expected.getDistance(from, to));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.optaplanner.jmh;
+
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.cloudbalancing.persistence.CloudBalancingGenerator;
+
+/**
+ * Generates the cloud balancing datasets shared by the benchmarks,
+ * so every benchmark measures the same problem for the same parameters.
+ */
+public final class CloudBalanceBenchmarkData {
+
+    /**
+     * Same ratio as most of the cloud balancing example datasets.
+     */
+    private static final int PROCESS_COUNT_PER_COMPUTER = 3;
+
+    /**
+     * @param processCount at least {@value #PROCESS_COUNT_PER_COMPUTER}
+     * @return never null, with every process assigned to a random computer
+     */
+    public static CloudBalance createInitializedCloudBalance(int processCount) {
+        CloudBalance cloudBalance = createUninitializedCloudBalance(processCount);
+        List<CloudComputer> computerList = cloudBalance.getComputerList();
+        Random random = new Random(37);
+        for (CloudProcess process : cloudBalance.getProcessList()) {
+            process.setComputer(computerList.get(random.nextInt(computerList.size())));
+        }
+        return cloudBalance;
+    }
+
+    /**
+     * @param processCount at least {@value #PROCESS_COUNT_PER_COMPUTER}
+     * @return never null, with no process assigned
+     */
+    public static CloudBalance createUninitializedCloudBalance(int processCount) {
+        if (processCount < PROCESS_COUNT_PER_COMPUTER) {
+            throw new IllegalArgumentException("The processCount (" + processCount
+                    + ") must be at least " + PROCESS_COUNT_PER_COMPUTER + ".");
+        }
+        return new CloudBalancingGenerator(true)
+                .createCloudBalance(processCount / PROCESS_COUNT_PER_COMPUTER, processCount);
+    }
+
+    private CloudBalanceBenchmarkData() {
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.optaplanner.jmh.domain.solution;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.jmh.CloudBalanceBenchmarkData;
+
+/**
+ * Benchmarks the default {@link SolutionCloner}, which clones the working solution on every new best solution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolutionClonerBenchmark {
+
+    @Param({ "300", "3000" })
+    public int processCount;
+
+    private SolutionCloner<CloudBalance> solutionCloner;
+    private CloudBalance cloudBalance;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SolutionDescriptor<CloudBalance> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(CloudBalance.class, CloudProcess.class);
+        solutionCloner = solutionDescriptor.getSolutionCloner();
+        cloudBalance = CloudBalanceBenchmarkData.createInitializedCloudBalance(processCount);
+    }
+
+    @Benchmark
+    public CloudBalance cloneSolution() {
+        return solutionCloner.cloneSolution(cloudBalance);
+    }
+
+}
@@ -0,0 +1,177 @@
+package org.optaplanner.jmh.heuristic.selector;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.cloudbalancing.score.CloudBalancingConstraintProvider;
+import org.optaplanner.jmh.CloudBalanceBenchmarkData;
+
+/**
+ * Benchmarks selecting and evaluating moves the way a local search step does: random selection, just in time.
+ * <p>
+ * Run it with {@code -prof gc} to compare the allocation rate ({@code gc.alloc.rate.norm}, in bytes per move)
+ * of new move instances with the flyweight moves, which reuse one move instance per iterator.
+ * The union selects from a change and a swap move selector, like the default local search move selector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveSelectorBenchmark {
+
+    public enum MoveSelectorType {
+        CHANGE,
+        SWAP,
+        UNION;
+    }
+
+    private static final int MOVE_COUNT = 1000;
+
+    @Param({ "CHANGE", "SWAP", "UNION" })
+    public MoveSelectorType moveSelectorType;
+
+    @Param({ "false", "true" })
+    public boolean flyweightMovesEnabled;
+
+    @Param({ "300", "3000" })
+    public int processCount;
+
+    private InnerScoreDirector<CloudBalance, HardSoftScore> scoreDirector;
+    private MoveSelector<CloudBalance> moveSelector;
+    private SolverScope<CloudBalance> solverScope;
+    private LocalSearchPhaseScope<CloudBalance> phaseScope;
+    private LocalSearchStepScope<CloudBalance> stepScope;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(CloudBalance.class)
+                .withEntityClasses(CloudProcess.class)
+                .withConstraintProviderClass(CloudBalancingConstraintProvider.class);
+        DefaultSolverFactory<CloudBalance> solverFactory =
+                (DefaultSolverFactory<CloudBalance>) SolverFactory.<CloudBalance> create(solverConfig);
+        InnerScoreDirectorFactory<CloudBalance, HardSoftScore> scoreDirectorFactory =
+                solverFactory.getScoreDirectorFactory();
+        HeuristicConfigPolicy<CloudBalance> configPolicy = new HeuristicConfigPolicy.Builder<>(
+                EnvironmentMode.REPRODUCIBLE, null, null, null, scoreDirectorFactory)
+                .build();
+        moveSelector = MoveSelectorFactory.<CloudBalance> create(buildMoveSelectorConfig())
+                .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        if (flyweightMovesEnabled && !moveSelector.enableFlyweightMoves()) {
+            throw new IllegalStateException("The moveSelector (" + moveSelector + ") does not support flyweight moves.");
+        }
+
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(CloudBalanceBenchmarkData.createInitializedCloudBalance(processCount));
+        solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(new Random(37));
+        moveSelector.solvingStarted(solverScope);
+        phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        stepScope = new LocalSearchStepScope<>(phaseScope);
+        moveSelector.stepStarted(stepScope);
+    }
+
+    private MoveSelectorConfig<?> buildMoveSelectorConfig() {
+        switch (moveSelectorType) {
+            case CHANGE:
+                return new ChangeMoveSelectorConfig();
+            case SWAP:
+                return new SwapMoveSelectorConfig();
+            case UNION:
+                return new UnionMoveSelectorConfig()
+                        .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig());
+            default:
+                throw new IllegalStateException("The moveSelectorType (" + moveSelectorType + ") is not implemented.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        scoreDirector.close();
+    }
+
+    /**
+     * Like the local search decider, every move is read before the next one is selected.
+     *
+     * @return the number of doable moves, so the JIT cannot eliminate the selection
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOVE_COUNT)
+    public int selectMoves() {
+        int doableMoveCount = 0;
+        Iterator<Move<CloudBalance>> moveIterator = moveSelector.iterator();
+        for (int i = 0; i < MOVE_COUNT && moveIterator.hasNext(); i++) {
+            Move<CloudBalance> move = moveIterator.next();
+            if (move.isMoveDoable(scoreDirector)) {
+                doableMoveCount++;
+            }
+        }
+        return doableMoveCount;
+    }
+
+
+    /**
+     * Like the local search decider, every doable move is done, scored and undone
+     * before the next one is selected.
+     *
+     * @return the sum of the soft scores, so the JIT cannot eliminate the evaluation
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOVE_COUNT)
+    public long evaluateMoves() {
+        long softScoreTotal = 0L;
+        Iterator<Move<CloudBalance>> moveIterator = moveSelector.iterator();
+        for (int i = 0; i < MOVE_COUNT && moveIterator.hasNext(); i++) {
+            Move<CloudBalance> move = moveIterator.next();
+            if (move.isMoveDoable(scoreDirector)) {
+                softScoreTotal += scoreDirector.doAndProcessMove(move, false).getSoftScore();
+            }
+        }
+        return softScoreTotal;
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.optaplanner.jmh.heuristic.selector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+
+/**
+ * Benchmarks building a {@link NearbyDistanceMatrix}, which nearby selection does once per phase
+ * and which sorts all destinations for every origin.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearbyDistanceMatrixBenchmark {
+
+    private static final NearbyDistanceMeter<Location, Location> DISTANCE_METER =
+            (origin, destination) -> Math.hypot(destination.x - origin.x, destination.y - origin.y);
+
+    @Param({ "100", "1000" })
+    public int locationCount;
+
+    private List<Location> locationList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(37);
+        locationList = new ArrayList<>(locationCount);
+        for (int i = 0; i < locationCount; i++) {
+            locationList.add(new Location(random.nextDouble(), random.nextDouble()));
+        }
+    }
+
+    @Benchmark
+    public NearbyDistanceMatrix<Location, Location> buildMatrix() {
+        NearbyDistanceMatrix<Location, Location> nearbyDistanceMatrix = new NearbyDistanceMatrix<>(DISTANCE_METER,
+                locationCount, origin -> locationList.iterator(), origin -> locationCount);
+        for (Location origin : locationList) {
+            nearbyDistanceMatrix.addAllDestinations(origin);
+        }
+        return nearbyDistanceMatrix;
+    }
+
+    private static final class Location {
+
+        private final double x;
+        private final double y;
+
+        private Location(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+
+    }
+
+}
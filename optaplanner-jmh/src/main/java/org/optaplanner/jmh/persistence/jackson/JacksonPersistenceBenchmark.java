@@ -0,0 +1,187 @@
+package org.optaplanner.jmh.persistence.jackson;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.jmh.persistence.jackson.domain.JacksonBenchmarkEntity;
+import org.optaplanner.jmh.persistence.jackson.domain.JacksonBenchmarkSolution;
+import org.optaplanner.jmh.persistence.jackson.domain.JacksonBenchmarkValue;
+import org.optaplanner.persistence.jackson.impl.domain.solution.JacksonPlanningVariableIO;
+import org.optaplanner.persistence.jackson.impl.domain.solution.JacksonSolutionFileIO;
+
+/**
+ * Compares loading and saving a whole solution with {@link JacksonSolutionFileIO}
+ * to loading the problem with {@link JacksonSolutionFileIO} and only its planning variables
+ * with {@link JacksonPlanningVariableIO}, and saving only those planning variables.
+ * Every load starts from files, so both ways build the entire solution.
+ * <p>
+ * The {@code PeakHeap} benchmarks report {@code peakHeapBytes}: the peak heap used during 1 load,
+ * above the heap used after a garbage collection before it.
+ * Run the others with {@code -prof gc} to also compare {@code gc.alloc.rate.norm}, the bytes allocated per load.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonPersistenceBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int entityCount;
+
+    private JacksonSolutionFileIO<JacksonBenchmarkSolution> solutionFileIO;
+    private JacksonPlanningVariableIO<JacksonBenchmarkSolution> planningVariableIO;
+    private JacksonBenchmarkSolution solution;
+    private File directory;
+    private File solutionFile;
+    private File problemFile;
+    private File planningVariableFile;
+    private File outputFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        solutionFileIO = new JacksonSolutionFileIO<>(JacksonBenchmarkSolution.class);
+        SolutionDescriptor<JacksonBenchmarkSolution> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(JacksonBenchmarkSolution.class, JacksonBenchmarkEntity.class);
+        planningVariableIO = new JacksonPlanningVariableIO<>(solutionDescriptor);
+        solution = generateSolution(entityCount);
+        Random random = new Random(37);
+        List<JacksonBenchmarkValue> valueList = solution.getValueList();
+        for (JacksonBenchmarkEntity entity : solution.getEntityList()) {
+            entity.setValue(valueList.get(random.nextInt(valueList.size())));
+        }
+        solution.setScore(SimpleScore.of(-entityCount));
+
+        directory = Files.createTempDirectory("optaplanner-jmh-jackson").toFile();
+        solutionFile = new File(directory, "solution.json");
+        solutionFileIO.write(solution, solutionFile);
+        problemFile = new File(directory, "problem.json");
+        solutionFileIO.write(generateSolution(entityCount), problemFile);
+        planningVariableFile = new File(directory, "planningVariables.json");
+        planningVariableIO.write(solution, planningVariableFile);
+        outputFile = new File(directory, "output.json");
+    }
+
+    private static JacksonBenchmarkSolution generateSolution(int entityCount) {
+        int valueCount = Math.max(1, entityCount / 10);
+        List<JacksonBenchmarkValue> valueList = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            valueList.add(new JacksonBenchmarkValue("v" + i, 100));
+        }
+        List<JacksonBenchmarkEntity> entityList = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entityList.add(new JacksonBenchmarkEntity("e" + i, "Entity number " + i + " of the benchmark", i % 10));
+        }
+        JacksonBenchmarkSolution solution = new JacksonBenchmarkSolution();
+        solution.setValueList(valueList);
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (File file : new File[] { solutionFile, problemFile, planningVariableFile, outputFile }) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public JacksonBenchmarkSolution readSolution() {
+        return solutionFileIO.read(solutionFile);
+    }
+
+    @Benchmark
+    public JacksonBenchmarkSolution readProblemAndPlanningVariables() {
+        return planningVariableIO.read(planningVariableFile, solutionFileIO.read(problemFile));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public JacksonBenchmarkSolution readSolutionPeakHeap(PeakHeap peakHeap) {
+        return readSolution();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public JacksonBenchmarkSolution readProblemAndPlanningVariablesPeakHeap(PeakHeap peakHeap) {
+        return readProblemAndPlanningVariables();
+    }
+
+    @Benchmark
+    public void writeSolution() {
+        solutionFileIO.write(solution, outputFile);
+    }
+
+    @Benchmark
+    public void writePlanningVariables() {
+        planningVariableIO.write(solution, outputFile);
+    }
+
+    /**
+     * Sums the peaks of every heap memory pool, which can overestimate the peak of the heap as a whole,
+     * the same way for both loads.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        public long peakHeapBytes;
+
+        private long usedHeapBytesBefore;
+
+        @Setup(Level.Invocation)
+        public void resetPeak() {
+            System.gc();
+            usedHeapBytesBefore = 0L;
+            for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (memoryPoolMXBean.getType() == MemoryType.HEAP) {
+                    usedHeapBytesBefore += memoryPoolMXBean.getUsage().getUsed();
+                    memoryPoolMXBean.resetPeakUsage();
+                }
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void recordPeak() {
+            long peakUsedHeapBytes = 0L;
+            for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (memoryPoolMXBean.getType() == MemoryType.HEAP) {
+                    peakUsedHeapBytes += memoryPoolMXBean.getPeakUsage().getUsed();
+                }
+            }
+            peakHeapBytes = peakUsedHeapBytes - usedHeapBytesBefore;
+        }
+
+    }
+
+}
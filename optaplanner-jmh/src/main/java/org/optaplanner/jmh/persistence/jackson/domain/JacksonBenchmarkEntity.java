@@ -0,0 +1,67 @@
+package org.optaplanner.jmh.persistence.jackson.domain;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+@PlanningEntity
+public class JacksonBenchmarkEntity {
+
+    @PlanningId
+    private String code;
+    /**
+     * Problem fact data that a full solution load reads, but a planning variable load does not.
+     */
+    private String description;
+    private int demand;
+
+    private JacksonBenchmarkValue value;
+
+    public JacksonBenchmarkEntity() {
+    }
+
+    public JacksonBenchmarkEntity(String code, String description, int demand) {
+        this.code = code;
+        this.description = description;
+        this.demand = demand;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getDemand() {
+        return demand;
+    }
+
+    public void setDemand(int demand) {
+        this.demand = demand;
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public JacksonBenchmarkValue getValue() {
+        return value;
+    }
+
+    public void setValue(JacksonBenchmarkValue value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.optaplanner.jmh.persistence.jackson.domain;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.persistence.jackson.api.score.buildin.simple.SimpleScoreJacksonDeserializer;
+import org.optaplanner.persistence.jackson.api.score.buildin.simple.SimpleScoreJacksonSerializer;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+@PlanningSolution
+public class JacksonBenchmarkSolution {
+
+    private List<JacksonBenchmarkValue> valueList;
+    private List<JacksonBenchmarkEntity> entityList;
+
+    private SimpleScore score;
+
+    @ValueRangeProvider(id = "valueRange")
+    @ProblemFactCollectionProperty
+    public List<JacksonBenchmarkValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<JacksonBenchmarkValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<JacksonBenchmarkEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<JacksonBenchmarkEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    @JsonSerialize(using = SimpleScoreJacksonSerializer.class)
+    @JsonDeserialize(using = SimpleScoreJacksonDeserializer.class)
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.optaplanner.jmh.persistence.jackson.domain;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+
+@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "code")
+public class JacksonBenchmarkValue {
+
+    @PlanningId
+    private String code;
+    private int capacity;
+
+    public JacksonBenchmarkValue() {
+    }
+
+    public JacksonBenchmarkValue(String code, int capacity) {
+        this.code = code;
+        this.capacity = capacity;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.optaplanner.jmh.score.stream;
+
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.sum;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.jmh.CloudBalanceBenchmarkData;
+
+/**
+ * Benchmarks the incremental score calculation of a single Bavet node type,
+ * by changing one planning variable and recalculating the score, like a local search move evaluation does.
+ * Every {@link NodeType} has a constraint provider with a single constraint that exercises that node type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BavetNodeBenchmark {
+
+    public enum NodeType {
+        JOIN(JoinConstraintProvider.class),
+        GROUP_BY(GroupByConstraintProvider.class),
+        IF_EXISTS(IfExistsConstraintProvider.class);
+
+        private final Class<? extends ConstraintProvider> constraintProviderClass;
+
+        NodeType(Class<? extends ConstraintProvider> constraintProviderClass) {
+            this.constraintProviderClass = constraintProviderClass;
+        }
+
+    }
+
+    @Param({ "JOIN", "GROUP_BY", "IF_EXISTS" })
+    public NodeType nodeType;
+
+    @Param({ "300", "3000" })
+    public int processCount;
+
+    private InnerScoreDirector<CloudBalance, HardSoftScore> scoreDirector;
+    private List<CloudProcess> processList;
+    private List<CloudComputer> computerList;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(CloudBalance.class)
+                .withEntityClasses(CloudProcess.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(nodeType.constraintProviderClass)
+                        .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        DefaultSolverFactory<CloudBalance> solverFactory =
+                (DefaultSolverFactory<CloudBalance>) SolverFactory.<CloudBalance> create(solverConfig);
+        scoreDirector = solverFactory.<HardSoftScore> getScoreDirectorFactory().buildScoreDirector(false, false);
+        CloudBalance cloudBalance = CloudBalanceBenchmarkData.createInitializedCloudBalance(processCount);
+        processList = cloudBalance.getProcessList();
+        computerList = cloudBalance.getComputerList();
+        random = new Random(37);
+        scoreDirector.setWorkingSolution(cloudBalance);
+        scoreDirector.calculateScore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public HardSoftScore changeVariableAndCalculateScore() {
+        CloudProcess process = processList.get(random.nextInt(processList.size()));
+        CloudComputer computer = computerList.get(random.nextInt(computerList.size()));
+        scoreDirector.beforeVariableChanged(process, "computer");
+        process.setComputer(computer);
+        scoreDirector.afterVariableChanged(process, "computer");
+        return scoreDirector.calculateScore();
+    }
+
+    public static class JoinConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(CloudProcess.class, equal(CloudProcess::getComputer))
+                            .penalize("processPair", HardSoftScore.ONE_SOFT)
+            };
+        }
+
+    }
+
+    public static class GroupByConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(CloudProcess.class)
+                            .groupBy(CloudProcess::getComputer, sum(CloudProcess::getRequiredCpuPower))
+                            .filter((computer, requiredCpuPower) -> requiredCpuPower > computer.getCpuPower())
+                            .penalize("requiredCpuPowerTotal",
+                                    HardSoftScore.ONE_HARD,
+                                    (computer, requiredCpuPower) -> requiredCpuPower - computer.getCpuPower())
+            };
+        }
+
+    }
+
+    public static class IfExistsConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(CloudComputer.class)
+                            .ifExists(CloudProcess.class, equal(Function.identity(), CloudProcess::getComputer))
+                            .penalize("computerCost",
+                                    HardSoftScore.ONE_SOFT,
+                                    CloudComputer::getCost)
+            };
+        }
+
+    }
+
+}
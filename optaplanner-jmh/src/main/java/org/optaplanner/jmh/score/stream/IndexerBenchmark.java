@@ -0,0 +1,132 @@
+package org.optaplanner.jmh.score.stream;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.constraint.streams.bavet.common.index.IndexProperties;
+import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
+import org.optaplanner.constraint.streams.bavet.common.index.IndexerFactory;
+import org.optaplanner.constraint.streams.bavet.common.index.JoinerUtils;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTupleImpl;
+import org.optaplanner.constraint.streams.common.bi.DefaultBiJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
+
+/**
+ * Benchmarks the indexers behind the indexed join and ifExists nodes:
+ * an equal joiner builds an {@code EqualsIndexer}, a comparison joiner builds a {@code ComparisonIndexer}
+ * and a combination of both nests the latter in the former.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexerBenchmark {
+
+    public enum JoinerCombination {
+        EQUAL,
+        LESS_THAN,
+        EQUAL_AND_LESS_THAN;
+    }
+
+    private static final int GROUP_COUNT = 100;
+
+    @Param({ "EQUAL", "LESS_THAN", "EQUAL_AND_LESS_THAN" })
+    public JoinerCombination joinerCombination;
+
+    @Param({ "1000", "100000" })
+    public int tupleCount;
+
+    private Indexer<UniTuple<Fact>, Fact> indexer;
+    private UniTuple<Fact>[] tuples;
+    private IndexProperties[] indexPropertiesArray;
+    private int tupleIndex;
+    private int visitedCount;
+    private final BiConsumer<UniTuple<Fact>, Fact> visitor = (tuple, fact) -> visitedCount++;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DefaultBiJoiner<Fact, Fact> joiner = buildJoiner();
+        Function<Fact, IndexProperties> indexPropertiesFunction = JoinerUtils.combineLeftMappings(joiner);
+        indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Random random = new Random(37);
+        tuples = new UniTuple[tupleCount];
+        indexPropertiesArray = new IndexProperties[tupleCount];
+        for (int i = 0; i < tupleCount; i++) {
+            Fact fact = new Fact(random.nextInt(GROUP_COUNT), random.nextInt(tupleCount));
+            tuples[i] = new UniTupleImpl<>(fact, 0);
+            indexPropertiesArray[i] = indexPropertiesFunction.apply(fact);
+            indexer.put(indexPropertiesArray[i], tuples[i], fact);
+        }
+        tupleIndex = 0;
+    }
+
+    private DefaultBiJoiner<Fact, Fact> buildJoiner() {
+        switch (joinerCombination) {
+            case EQUAL:
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.group);
+            case LESS_THAN:
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.lessThan((Fact fact) -> fact.value);
+            case EQUAL_AND_LESS_THAN:
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.group)
+                        .and(Joiners.lessThan(fact -> fact.value));
+            default:
+                throw new IllegalStateException("The joinerCombination (" + joinerCombination + ") is not implemented.");
+        }
+    }
+
+    private int nextTupleIndex() {
+        tupleIndex = (tupleIndex + 1) % tupleCount;
+        return tupleIndex;
+    }
+
+    /**
+     * Like a planning variable change, which retracts the tuple and inserts it again.
+     */
+    @Benchmark
+    public Fact removeAndPut() {
+        int i = nextTupleIndex();
+        Fact fact = indexer.remove(indexPropertiesArray[i], tuples[i]);
+        indexer.put(indexPropertiesArray[i], tuples[i], fact);
+        return fact;
+    }
+
+    /**
+     * Like the insert of a tuple on the other side of the join, which looks up all its matches.
+     */
+    @Benchmark
+    public int visit() {
+        visitedCount = 0;
+        indexer.visit(indexPropertiesArray[nextTupleIndex()], visitor);
+        return visitedCount;
+    }
+
+    private static final class Fact {
+
+        private final int group;
+        private final int value;
+
+        private Fact(int group, int value) {
+            this.group = group;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.optaplanner.jmh.score.stream;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+import org.optaplanner.constraint.streams.common.inliner.JustificationsSupplier;
+import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.impl.score.buildin.BendableScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardMediumSoftScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Benchmarks the score inliners, which every constraint stream match goes through,
+ * by impacting the score with a single match and undoing it again.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreInlinerBenchmark {
+
+    public enum ScoreType {
+        SIMPLE(SimpleScoreDefinition::new),
+        HARD_SOFT(HardSoftScoreDefinition::new),
+        HARD_SOFT_LONG(HardSoftLongScoreDefinition::new),
+        HARD_SOFT_BIG_DECIMAL(HardSoftBigDecimalScoreDefinition::new),
+        HARD_MEDIUM_SOFT(HardMediumSoftScoreDefinition::new),
+        BENDABLE(() -> new BendableScoreDefinition(1, 2));
+
+        private final Supplier<ScoreDefinition<?>> scoreDefinitionSupplier;
+
+        ScoreType(Supplier<ScoreDefinition<?>> scoreDefinitionSupplier) {
+            this.scoreDefinitionSupplier = scoreDefinitionSupplier;
+        }
+
+    }
+
+    private static final JustificationsSupplier EMPTY_JUSTIFICATIONS_SUPPLIER = Collections::emptyList;
+
+    @Param({ "SIMPLE", "HARD_SOFT", "HARD_SOFT_LONG", "HARD_SOFT_BIG_DECIMAL", "HARD_MEDIUM_SOFT", "BENDABLE" })
+    public ScoreType scoreType;
+
+    @Param({ "false", "true" })
+    public boolean constraintMatchEnabled;
+
+    private AbstractScoreInliner<?> scoreInliner;
+    private WeightedScoreImpacter weightedScoreImpacter;
+    private int matchWeight;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        setup(scoreType.scoreDefinitionSupplier.get());
+        matchWeight = 0;
+    }
+
+    private <Score_ extends Score<Score_>> void setup(ScoreDefinition<Score_> scoreDefinition) {
+        AbstractScoreInliner<Score_> scoreInliner =
+                AbstractScoreInliner.buildScoreInliner(scoreDefinition, constraintMatchEnabled);
+        this.scoreInliner = scoreInliner;
+        weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(new BenchmarkConstraint(),
+                scoreDefinition.getOneSoftestScore());
+    }
+
+    @Benchmark
+    public Score<?> impactAndUndo() {
+        // Vary the match weight so the JIT cannot fold the impact into a constant
+        matchWeight = (matchWeight + 1) & 0xFF;
+        UndoScoreImpacter undoScoreImpacter = weightedScoreImpacter.impactScore(matchWeight,
+                EMPTY_JUSTIFICATIONS_SUPPLIER);
+        Score<?> score = scoreInliner.extractScore(0);
+        undoScoreImpacter.run();
+        return score;
+    }
+
+    private static final class BenchmarkConstraint implements Constraint {
+
+        @Override
+        public ConstraintFactory getConstraintFactory() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getConstraintPackage() {
+            return ScoreInlinerBenchmark.class.getPackageName();
+        }
+
+        @Override
+        public String getConstraintName() {
+            return "benchmarkConstraint";
+        }
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.optaplanner.operator.impl.solver.model;
+
+public final class Checkpoint {
+
+    public static final String DEFAULT_MOUNT_PATH = "/var/optaplanner/checkpoint";
+
+    private String persistentVolumeClaimName;
+
+    private String mountPath = DEFAULT_MOUNT_PATH;
+
+    public Checkpoint() {
+        // Required by Jackson
+    }
+
+    public Checkpoint(String persistentVolumeClaimName) {
+        this.persistentVolumeClaimName = persistentVolumeClaimName;
+    }
+
+    public String getPersistentVolumeClaimName() {
+        return persistentVolumeClaimName;
+    }
+
+    public void setPersistentVolumeClaimName(String persistentVolumeClaimName) {
+        this.persistentVolumeClaimName = persistentVolumeClaimName;
+    }
+
+    public String getMountPath() {
+        return mountPath;
+    }
+
+    public void setMountPath(String mountPath) {
+        this.mountPath = mountPath;
+    }
+}
@@ -1,5 +1,6 @@
 package org.optaplanner.operator.impl.solver.model;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -8,6 +9,10 @@ import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.api.model.apps.DeploymentSpecBuilder;
@@ -25,6 +30,9 @@ public final class DeploymentDependentResource extends CRUDKubernetesDependentRe
     private static final String ENV_AMQ_PORT = "SOLVER_MESSAGE_AMQ_PORT";
     private static final String ENV_AMQ_USERNAME = "SOLVER_MESSAGE_AMQ_USERNAME";
     private static final String ENV_AMQ_PASSWORD = "SOLVER_MESSAGE_AMQ_PASSWORD";
+    private static final String ENV_CHECKPOINT_DIRECTORY = "SOLVER_CHECKPOINT_DIRECTORY";
+
+    private static final String CHECKPOINT_VOLUME_NAME = "checkpoint";
 
     public DeploymentDependentResource(KubernetesClient k8s) {
         super(Deployment.class);
@@ -35,11 +43,16 @@ public final class DeploymentDependentResource extends CRUDKubernetesDependentRe
     protected Deployment desired(OptaPlannerSolver solver, Context<OptaPlannerSolver> context) {
         String deploymentName = solver.getDeploymentName();
 
-        Container container = new ContainerBuilder()
+        Checkpoint checkpoint = solver.getSpec().getCheckpoint();
+        ContainerBuilder containerBuilder = new ContainerBuilder()
                 .withName(deploymentName)
                 .withImage(solver.getSpec().getSolverImage())
-                .withEnv(buildEnvironmentVariablesMapping(solver))
-                .build();
+                .withEnv(buildEnvironmentVariablesMapping(solver));
+        if (checkpoint != null) {
+            // The solver writes its checkpoints to a persistent volume, so a restarted pod can resume from them.
+            containerBuilder.withVolumeMounts(buildCheckpointVolumeMount(checkpoint));
+        }
+        Container container = containerBuilder.build();
 
         DeploymentSpecBuilder deploymentSpecBuilder = new DeploymentSpecBuilder()
                 .withNewSelector().withMatchLabels(Map.of("app", deploymentName))
@@ -48,10 +61,12 @@ public final class DeploymentDependentResource extends CRUDKubernetesDependentRe
             // Set deployment replicas only for static scaling, otherwise the operator would interfere with KEDA.
             deploymentSpecBuilder.withReplicas(solver.getSpec().getScaling().getReplicas());
         }
+        List<Volume> volumes = checkpoint == null ? List.of() : List.of(buildCheckpointVolume(checkpoint));
         deploymentSpecBuilder.withNewTemplate()
                 .withNewMetadata().withLabels(Map.of("app", deploymentName)).endMetadata()
                 .withNewSpec()
                 .withContainers(container)
+                .withVolumes(volumes)
                 .endSpec()
                 .endTemplate();
 
@@ -84,8 +99,30 @@ public final class DeploymentDependentResource extends CRUDKubernetesDependentRe
         EnvVar envVarAmqPassword = buildEnvVarFromSecretKeySelector(ENV_AMQ_PASSWORD,
                 solver.getSpec().getAmqBroker().getPasswordSecretRef());
 
-        return List.of(envVarMessageInput, envVarMessageOutput, envVarAmqHost, envVarAmqPort, envVarAmqUsername,
-                envVarAmqPassword);
+        List<EnvVar> envVars = new ArrayList<>(List.of(envVarMessageInput, envVarMessageOutput, envVarAmqHost,
+                envVarAmqPort, envVarAmqUsername, envVarAmqPassword));
+        Checkpoint checkpoint = solver.getSpec().getCheckpoint();
+        if (checkpoint != null) {
+            envVars.add(new EnvVarBuilder()
+                    .withName(ENV_CHECKPOINT_DIRECTORY)
+                    .withValue(checkpoint.getMountPath())
+                    .build());
+        }
+        return envVars;
+    }
+
+    private VolumeMount buildCheckpointVolumeMount(Checkpoint checkpoint) {
+        return new VolumeMountBuilder()
+                .withName(CHECKPOINT_VOLUME_NAME)
+                .withMountPath(checkpoint.getMountPath())
+                .build();
+    }
+
+    private Volume buildCheckpointVolume(Checkpoint checkpoint) {
+        return new VolumeBuilder()
+                .withName(CHECKPOINT_VOLUME_NAME)
+                .withNewPersistentVolumeClaim(checkpoint.getPersistentVolumeClaimName(), false)
+                .build();
     }
 
     private EnvVar buildEnvVarFromConfigMap(String envVariable, String configMapName, String configMapKey) {
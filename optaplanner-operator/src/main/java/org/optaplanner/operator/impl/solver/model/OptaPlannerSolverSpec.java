@@ -6,6 +6,8 @@ public final class OptaPlannerSolverSpec {
 
     private Scaling scaling;
 
+    private Checkpoint checkpoint;
+
     public String getSolverImage() {
         return solverImage;
     }
@@ -22,6 +24,14 @@ public final class OptaPlannerSolverSpec {
         this.scaling = scaling;
     }
 
+    public Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
     public AmqBroker getAmqBroker() {
         return amqBroker;
     }
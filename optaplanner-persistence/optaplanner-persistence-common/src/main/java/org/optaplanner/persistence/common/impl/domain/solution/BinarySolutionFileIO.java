@@ -0,0 +1,130 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Reads and writes a solution in a compact binary format, which is far faster to load than XML or JSON.
+ * Use it for benchmark datasets and checkpoints, not for long-term storage or for files from an untrusted source.
+ * <p>
+ * The format is derived from the {@link SolutionDescriptor}:
+ * the solution class is written through its problem fact, planning entity and score members,
+ * each planning entity class through its planning variables and shadow variables,
+ * with the same accessors as the solver uses.
+ * The remaining persistent (non-static, non-transient) fields, such as the fields of the problem facts,
+ * are written through reflection.
+ * Every class is defined once per file with the names of its properties,
+ * so a file remains readable after a property is removed from a class.
+ * Each object is written once and referenced by index afterwards,
+ * so the planning entities keep referring to the same problem fact instances.
+ * The score is parsed with the {@link SolutionDescriptor#getScoreDefinition() score definition}.
+ * <p>
+ * Every class of the solution graph needs a no-arg constructor (which may be private).
+ * {@link List}s are read as an {@link java.util.ArrayList}, sets as a {@link java.util.LinkedHashSet}
+ * (or a {@link java.util.TreeSet} with natural ordering) and maps likewise.
+ * <p>
+ * {@link #read(File)} maps the input file in memory and decodes directly from the mapped buffer,
+ * so the input is never copied into the heap.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BinarySolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final BinarySolutionSchema schema;
+
+    public BinarySolutionFileIO(Class<Solution_> solutionClass, Class<?>... entityClasses) {
+        this(SolutionDescriptor.buildSolutionDescriptor(solutionClass, entityClasses));
+    }
+
+    public BinarySolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.schema = new BinarySolutionSchema(solutionDescriptor);
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "dat";
+    }
+
+    // ************************************************************************
+    // Read methods
+    // ************************************************************************
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (FileChannel channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            // The mapping remains valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            return read(buffer);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param inputSolutionStream never null, not closed by this method
+     * @return never null
+     */
+    public Solution_ read(InputStream inputSolutionStream) {
+        try {
+            return read(ByteBuffer.wrap(inputSolutionStream.readAllBytes()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
+        }
+    }
+
+    /**
+     * @param buffer never null, positioned at the start of the solution, for example a memory-mapped file
+     * @return never null
+     */
+    public Solution_ read(ByteBuffer buffer) {
+        Object solution = new BinarySolutionReader(buffer, solutionDescriptor.getScoreDefinition(),
+                solutionDescriptor.getSolutionClass().getClassLoader(), schema).readSolution();
+        if (!solutionDescriptor.getSolutionClass().isInstance(solution)) {
+            throw new IllegalArgumentException("The read solution (" + solution
+                    + ") is not an instance of the solutionClass (" + solutionDescriptor.getSolutionClass() + ").");
+        }
+        return (Solution_) solution;
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (OutputStream out = Files.newOutputStream(outputSolutionFile.toPath())) {
+            write(solution, out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param solution never null
+     * @param outputSolutionStream never null, not closed by this method
+     */
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputSolutionStream, 64 * 1024));
+            new BinarySolutionWriter(out, schema).writeSolution(solution);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The tags and the value types of the binary format of {@link BinarySolutionFileIO}.
+ * <p>
+ * Every value starts with a tag byte.
+ * Immutable values (primitives, {@link String}s, enums, {@link BigDecimal}s, {@link java.time} types, scores, ...)
+ * are written inline.
+ * Every other object is written once, the first time it's referenced, and referenced by its object index afterwards.
+ * The fields of a new object are deferred until the current object is finished,
+ * so a long chain of references doesn't cause a deep recursion.
+ * A class is referenced by its class index, and defined (name and property names) the first time it's referenced.
+ * The properties of a class are defined by the {@link BinarySolutionSchema}.
+ */
+final class BinarySolutionFormat {
+
+    static final int MAGIC_NUMBER = 0x4F505342; // "OPSB"
+    static final int VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte CHAR = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    static final byte STRING = 10;
+    static final byte ENUM = 11;
+    static final byte TEXT_VALUE = 12;
+    static final byte SCORE = 13;
+    static final byte REFERENCE = 14;
+    static final byte NEW_OBJECT = 15;
+    static final byte NEW_LIST = 16;
+    static final byte NEW_SET = 17;
+    static final byte NEW_SORTED_SET = 18;
+    static final byte NEW_MAP = 19;
+    static final byte NEW_SORTED_MAP = 20;
+    static final byte NEW_ARRAY = 21;
+
+    /**
+     * Immutable types that are written as their {@link Object#toString()} and read with their parse method.
+     */
+    static final Map<Class<?>, Function<String, Object>> TEXT_VALUE_PARSER_MAP;
+
+    static {
+        Map<Class<?>, Function<String, Object>> parserMap = new HashMap<>();
+        parserMap.put(BigDecimal.class, BigDecimal::new);
+        parserMap.put(BigInteger.class, BigInteger::new);
+        parserMap.put(UUID.class, UUID::fromString);
+        parserMap.put(LocalDate.class, LocalDate::parse);
+        parserMap.put(LocalTime.class, LocalTime::parse);
+        parserMap.put(LocalDateTime.class, LocalDateTime::parse);
+        parserMap.put(OffsetTime.class, OffsetTime::parse);
+        parserMap.put(OffsetDateTime.class, OffsetDateTime::parse);
+        parserMap.put(ZonedDateTime.class, ZonedDateTime::parse);
+        parserMap.put(Instant.class, Instant::parse);
+        parserMap.put(Duration.class, Duration::parse);
+        parserMap.put(Period.class, Period::parse);
+        parserMap.put(Year.class, Year::parse);
+        parserMap.put(YearMonth.class, YearMonth::parse);
+        parserMap.put(MonthDay.class, MonthDay::parse);
+        parserMap.put(ZoneId.class, ZoneId::of);
+        TEXT_VALUE_PARSER_MAP = Collections.unmodifiableMap(parserMap);
+    }
+
+    /**
+     * @param clazz never null
+     * @return the key in {@link #TEXT_VALUE_PARSER_MAP}, or null if it is not a text value
+     */
+    static Class<?> findTextValueClass(Class<?> clazz) {
+        if (TEXT_VALUE_PARSER_MAP.containsKey(clazz)) {
+            return clazz;
+        }
+        // ZoneId.of() returns a ZoneRegion or a ZoneOffset
+        return ZoneId.class.isAssignableFrom(clazz) ? ZoneId.class : null;
+    }
+
+    /**
+     * @param clazz never null
+     * @return true if the class definition includes its field names
+     */
+    static boolean hasFieldSchema(Class<?> clazz) {
+        return !clazz.isPrimitive() && !clazz.isEnum() && !clazz.isArray() && !clazz.getName().startsWith("java.");
+    }
+
+    /**
+     * @param clazz never null
+     * @return never null, all non-static, non-transient fields, including those of the superclasses,
+     *         superclass fields first
+     */
+    static List<Field> findPersistentFields(Class<?> clazz) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        List<Field> fieldList = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                }
+            }
+        }
+        return fieldList;
+    }
+
+    /**
+     * A field name is qualified with its declaring class only if a superclass declares a field with the same name.
+     *
+     * @param fieldList never null
+     * @return never null, in the same order as the fieldList
+     */
+    static List<String> buildFieldNameList(List<Field> fieldList) {
+        Set<String> nameSet = new HashSet<>(fieldList.size());
+        Set<String> duplicateNameSet = new HashSet<>();
+        for (Field field : fieldList) {
+            if (!nameSet.add(field.getName())) {
+                duplicateNameSet.add(field.getName());
+            }
+        }
+        List<String> fieldNameList = new ArrayList<>(fieldList.size());
+        for (Field field : fieldList) {
+            fieldNameList.add(duplicateNameSet.contains(field.getName())
+                    ? field.getDeclaringClass().getName() + "." + field.getName()
+                    : field.getName());
+        }
+        return fieldNameList;
+    }
+
+    private BinarySolutionFormat() {
+    }
+
+}
@@ -0,0 +1,430 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.BYTE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.CHAR;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.DOUBLE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.ENUM;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.FALSE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.FLOAT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.INT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.LONG;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.MAGIC_NUMBER;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_ARRAY;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_LIST;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_MAP;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_OBJECT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SET;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SORTED_MAP;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SORTED_SET;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NULL;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.REFERENCE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.SCORE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.SHORT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.STRING;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.TEXT_VALUE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.TEXT_VALUE_PARSER_MAP;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.TRUE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.VERSION;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.hasFieldSchema;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionSchema.ClassSchema;
+import org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionSchema.PropertyAccessor;
+
+/**
+ * Decodes directly from a {@link ByteBuffer}, typically a memory-mapped file,
+ * without copying the input in a byte array first.
+ * <p>
+ * Sets and maps are filled in after all objects are filled in,
+ * because the hashCode or compareTo of an element usually depends on its fields.
+ * <p>
+ * Not thread-safe: create 1 instance per read solution.
+ */
+final class BinarySolutionReader {
+
+    private final ByteBuffer buffer;
+    private final ScoreDefinition<?> scoreDefinition;
+    private final ClassLoader classLoader;
+    private final BinarySolutionSchema schema;
+
+    private final List<ClassDefinition> classDefinitionList = new ArrayList<>();
+    private final Map<Class<?>, ClassDefinition> classDefinitionMap = new HashMap<>();
+    private final List<Object> objectList = new ArrayList<>();
+    private final Queue<Object> unfilledObjectQueue = new ArrayDeque<>();
+    private final List<Runnable> deferredCollectionFillerList = new ArrayList<>();
+
+    BinarySolutionReader(ByteBuffer buffer, ScoreDefinition<?> scoreDefinition, ClassLoader classLoader,
+            BinarySolutionSchema schema) {
+        this.buffer = buffer;
+        this.scoreDefinition = scoreDefinition;
+        this.classLoader = classLoader;
+        this.schema = schema;
+    }
+
+    Object readSolution() {
+        int magicNumber = buffer.getInt();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The input has a magicNumber (" + Integer.toHexString(magicNumber)
+                    + ") which differs from the expected magicNumber ("
+                    + Integer.toHexString(MAGIC_NUMBER) + ").");
+        }
+        int version = readVarInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("The input has a version (" + version
+                    + ") which is not supported. Only version (" + VERSION + ") is supported.");
+        }
+        Object solution = readValue();
+        Object object;
+        while ((object = unfilledObjectQueue.poll()) != null) {
+            fillObject(object);
+        }
+        deferredCollectionFillerList.forEach(Runnable::run);
+        return solution;
+    }
+
+    private Object readValue() {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BYTE:
+                return buffer.get();
+            case SHORT:
+                return buffer.getShort();
+            case CHAR:
+                return buffer.getChar();
+            case INT:
+                return unZigZag(readVarInt());
+            case LONG:
+                return unZigZag(readVarLong());
+            case FLOAT:
+                return buffer.getFloat();
+            case DOUBLE:
+                return buffer.getDouble();
+            case STRING:
+                return readString();
+            case ENUM:
+                return readEnum();
+            case TEXT_VALUE: {
+                Class<?> clazz = readClassDefinition().clazz;
+                return TEXT_VALUE_PARSER_MAP.get(clazz).apply(readString());
+            }
+            case SCORE:
+                return readScore();
+            case REFERENCE:
+                return objectList.get(readVarInt());
+            case NEW_OBJECT:
+                return readNewObject();
+            case NEW_LIST:
+                return readNewList();
+            case NEW_SET:
+                return readNewSet(new LinkedHashSet<>());
+            case NEW_SORTED_SET:
+                return readNewSet(new TreeSet<>());
+            case NEW_MAP:
+                return readNewMap(new LinkedHashMap<>());
+            case NEW_SORTED_MAP:
+                return readNewMap(new TreeMap<>());
+            case NEW_ARRAY:
+                return readNewArray();
+            default:
+                throw new IllegalArgumentException("The tag (" + tag + ") at position (" + (buffer.position() - 1)
+                        + ") is not supported.");
+        }
+    }
+
+    private Object readEnum() {
+        Class<?> enumClass = readClassDefinition().clazz;
+        String name = readString();
+        for (Object constant : enumClass.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("The enum class (" + enumClass + ") has no constant (" + name + ").");
+    }
+
+    private Score<?> readScore() {
+        String scoreString = readString();
+        if (scoreDefinition == null) {
+            throw new IllegalStateException("The score (" + scoreString + ") cannot be parsed without a scoreDefinition.");
+        }
+        return scoreDefinition.parseScore(scoreString);
+    }
+
+    private Object readNewObject() {
+        ClassDefinition classDefinition = readClassDefinition();
+        Object object = classDefinition.newInstance();
+        objectList.add(object);
+        // Deferred to avoid a deep recursion
+        unfilledObjectQueue.add(object);
+        return object;
+    }
+
+    private void fillObject(Object object) {
+        ClassDefinition classDefinition = classDefinitionMap.get(object.getClass());
+        for (int i = 0; i < classDefinition.propertyAccessors.length; i++) {
+            Object value = readValue();
+            PropertyAccessor propertyAccessor = classDefinition.propertyAccessors[i];
+            if (propertyAccessor != null) {
+                try {
+                    propertyAccessor.set(object, value);
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Cannot set the property (" + classDefinition.propertyNames[i]
+                            + ") of object (" + object + ") to value (" + value + ").", e);
+                }
+            }
+        }
+    }
+
+    private List<Object> readNewList() {
+        int size = readVarInt();
+        List<Object> list = new ArrayList<>(size);
+        objectList.add(list);
+        for (int i = 0; i < size; i++) {
+            list.add(readValue());
+        }
+        return list;
+    }
+
+    private Collection<Object> readNewSet(Collection<Object> set) {
+        objectList.add(set);
+        int size = readVarInt();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = readValue();
+        }
+        deferredCollectionFillerList.add(() -> {
+            for (Object element : elements) {
+                set.add(element);
+            }
+        });
+        return set;
+    }
+
+    private Map<Object, Object> readNewMap(Map<Object, Object> map) {
+        objectList.add(map);
+        int size = readVarInt();
+        Object[] keysAndValues = new Object[size * 2];
+        for (int i = 0; i < keysAndValues.length; i++) {
+            keysAndValues[i] = readValue();
+        }
+        deferredCollectionFillerList.add(() -> {
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                map.put(keysAndValues[i], keysAndValues[i + 1]);
+            }
+        });
+        return map;
+    }
+
+    private Object readNewArray() {
+        Class<?> componentType = readClassDefinition().clazz;
+        int length = readVarInt();
+        Object array = Array.newInstance(componentType, length);
+        objectList.add(array);
+        if (componentType == int.class) {
+            int[] intArray = (int[]) array;
+            for (int i = 0; i < length; i++) {
+                intArray[i] = unZigZag(readVarInt());
+            }
+        } else if (componentType == long.class) {
+            long[] longArray = (long[]) array;
+            for (int i = 0; i < length; i++) {
+                longArray[i] = unZigZag(readVarLong());
+            }
+        } else if (componentType == double.class) {
+            buffer.asDoubleBuffer().get((double[]) array);
+            buffer.position(buffer.position() + length * Double.BYTES);
+        } else if (componentType == float.class) {
+            buffer.asFloatBuffer().get((float[]) array);
+            buffer.position(buffer.position() + length * Float.BYTES);
+        } else if (componentType == boolean.class) {
+            boolean[] booleanArray = (boolean[]) array;
+            for (int i = 0; i < length; i++) {
+                booleanArray[i] = buffer.get() != 0;
+            }
+        } else if (componentType == byte.class) {
+            buffer.get((byte[]) array);
+        } else if (componentType == short.class) {
+            buffer.asShortBuffer().get((short[]) array);
+            buffer.position(buffer.position() + length * Short.BYTES);
+        } else if (componentType == char.class) {
+            buffer.asCharBuffer().get((char[]) array);
+            buffer.position(buffer.position() + length * Character.BYTES);
+        } else {
+            Object[] objectArray = (Object[]) array;
+            for (int i = 0; i < length; i++) {
+                objectArray[i] = readValue();
+            }
+        }
+        return array;
+    }
+
+    // ************************************************************************
+    // Class definition methods
+    // ************************************************************************
+
+    private ClassDefinition readClassDefinition() {
+        int classIndex = readVarInt();
+        if (classIndex < classDefinitionList.size()) {
+            return classDefinitionList.get(classIndex);
+        }
+        if (classIndex != classDefinitionList.size()) {
+            throw new IllegalArgumentException("The classIndex (" + classIndex + ") at position ("
+                    + buffer.position() + ") is not the next classIndex (" + classDefinitionList.size() + ").");
+        }
+        Class<?> clazz = loadClass(readString());
+        String[] propertyNames = null;
+        PropertyAccessor[] propertyAccessors = null;
+        if (hasFieldSchema(clazz)) {
+            ClassSchema classSchema = schema.getClassSchema(clazz);
+            int propertyCount = readVarInt();
+            propertyNames = new String[propertyCount];
+            propertyAccessors = new PropertyAccessor[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                propertyNames[i] = readString();
+                // A property that no longer exists is read and ignored
+                propertyAccessors[i] = classSchema.findPropertyAccessor(propertyNames[i]);
+            }
+        }
+        ClassDefinition classDefinition = new ClassDefinition(clazz, propertyNames, propertyAccessors);
+        classDefinitionList.add(classDefinition);
+        classDefinitionMap.put(clazz, classDefinition);
+        return classDefinition;
+    }
+
+    private Class<?> loadClass(String className) {
+        switch (className) {
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "double":
+                return double.class;
+            case "float":
+                return float.class;
+            case "boolean":
+                return boolean.class;
+            case "byte":
+                return byte.class;
+            case "short":
+                return short.class;
+            case "char":
+                return char.class;
+            default:
+                try {
+                    return Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalArgumentException("The class (" + className + ") cannot be found.", e);
+                }
+        }
+    }
+
+    private static final class ClassDefinition {
+
+        private final Class<?> clazz;
+        /**
+         * Null for a class without a field schema, such as an enum or a primitive array component type.
+         */
+        private final String[] propertyNames;
+        /**
+         * Null for a class without a field schema.
+         * An element is null for a property that no longer exists.
+         */
+        private final PropertyAccessor[] propertyAccessors;
+        private Constructor<?> constructor;
+
+        private ClassDefinition(Class<?> clazz, String[] propertyNames, PropertyAccessor[] propertyAccessors) {
+            this.clazz = clazz;
+            this.propertyNames = propertyNames;
+            this.propertyAccessors = propertyAccessors;
+        }
+
+        private Object newInstance() {
+            try {
+                if (constructor == null) {
+                    constructor = clazz.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                }
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("The class (" + clazz
+                        + ") needs a no-arg constructor to be read from the binary solution format.", e);
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // Primitive methods
+    // ************************************************************************
+
+    private String readString() {
+        int length = readVarInt();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes, 0, length);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private long readVarLong() {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+}
@@ -0,0 +1,199 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.buildFieldNameList;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.findPersistentFields;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * The persistent properties of every class in the binary format of {@link BinarySolutionFileIO},
+ * derived from the {@link SolutionDescriptor}.
+ * <p>
+ * The properties of the solution class are its problem facts, planning entities, constraint configuration and score,
+ * accessed through the same {@link MemberAccessor}s as the solver uses.
+ * The properties of a planning entity class are its genuine and shadow variables,
+ * accessed through their {@link VariableDescriptor}s.
+ * Any other non-static, non-transient field of those classes (such as an id or a name)
+ * and every field of the other classes (such as the problem facts), which the descriptors don't describe,
+ * are accessed through reflection.
+ * <p>
+ * Thread-safe.
+ */
+final class BinarySolutionSchema {
+
+    private final SolutionDescriptor<?> solutionDescriptor;
+    private final Map<Class<?>, ClassSchema> classSchemaMap = new ConcurrentHashMap<>();
+
+    BinarySolutionSchema(SolutionDescriptor<?> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    /**
+     * @param clazz never null, a class with a field schema
+     * @return never null
+     */
+    ClassSchema getClassSchema(Class<?> clazz) {
+        return classSchemaMap.computeIfAbsent(clazz, this::buildClassSchema);
+    }
+
+    private ClassSchema buildClassSchema(Class<?> clazz) {
+        List<String> propertyNameList = new ArrayList<>();
+        List<PropertyAccessor> propertyAccessorList = new ArrayList<>();
+        if (solutionDescriptor.getSolutionClass().isAssignableFrom(clazz)) {
+            addMemberAccessors(propertyNameList, propertyAccessorList,
+                    solutionDescriptor.getProblemFactMemberAccessorMap().values());
+            addMemberAccessors(propertyNameList, propertyAccessorList,
+                    solutionDescriptor.getProblemFactCollectionMemberAccessorMap().values());
+            addMemberAccessors(propertyNameList, propertyAccessorList,
+                    solutionDescriptor.getEntityMemberAccessorMap().values());
+            addMemberAccessors(propertyNameList, propertyAccessorList,
+                    solutionDescriptor.getEntityCollectionMemberAccessorMap().values());
+            MemberAccessor constraintConfigurationMemberAccessor =
+                    solutionDescriptor.getConstraintConfigurationMemberAccessor();
+            if (constraintConfigurationMemberAccessor != null) {
+                addMemberAccessors(propertyNameList, propertyAccessorList,
+                        Collections.singletonList(constraintConfigurationMemberAccessor));
+            }
+            addMemberAccessors(propertyNameList, propertyAccessorList,
+                    Collections.singletonList(solutionDescriptor.getScoreMemberAccessor()));
+        } else {
+            EntityDescriptor<?> entityDescriptor = solutionDescriptor.findEntityDescriptor(clazz);
+            if (entityDescriptor != null) {
+                for (VariableDescriptor<?> variableDescriptor : entityDescriptor.getVariableDescriptorMap().values()) {
+                    propertyNameList.add(variableDescriptor.getVariableName());
+                    propertyAccessorList.add(new PropertyAccessor() {
+                        @Override
+                        public Object get(Object bean) {
+                            return variableDescriptor.getValue(bean);
+                        }
+
+                        @Override
+                        public void set(Object bean, Object value) {
+                            variableDescriptor.setValue(bean, value);
+                        }
+                    });
+                }
+            }
+        }
+        // The fields that back a described property are not persisted twice
+        Set<String> describedNameSet = new HashSet<>(propertyNameList);
+        List<Field> fieldList = new ArrayList<>();
+        for (Field field : findPersistentFields(clazz)) {
+            if (!describedNameSet.contains(field.getName())) {
+                fieldList.add(field);
+            }
+        }
+        propertyNameList.addAll(buildFieldNameList(fieldList));
+        for (Field field : fieldList) {
+            propertyAccessorList.add(new FieldPropertyAccessor(field));
+        }
+        return new ClassSchema(propertyNameList, propertyAccessorList);
+    }
+
+    private static void addMemberAccessors(List<String> propertyNameList, List<PropertyAccessor> propertyAccessorList,
+            Collection<MemberAccessor> memberAccessors) {
+        for (MemberAccessor memberAccessor : memberAccessors) {
+            // A read-only property is persisted through its field, if it has one
+            if (memberAccessor.supportSetter()) {
+                propertyNameList.add(memberAccessor.getName());
+                propertyAccessorList.add(new PropertyAccessor() {
+                    @Override
+                    public Object get(Object bean) {
+                        return memberAccessor.executeGetter(bean);
+                    }
+
+                    @Override
+                    public void set(Object bean, Object value) {
+                        memberAccessor.executeSetter(bean, value);
+                    }
+                });
+            }
+        }
+    }
+
+    static final class ClassSchema {
+
+        private final List<String> propertyNameList;
+        private final List<PropertyAccessor> propertyAccessorList;
+
+        private ClassSchema(List<String> propertyNameList, List<PropertyAccessor> propertyAccessorList) {
+            this.propertyNameList = propertyNameList;
+            this.propertyAccessorList = propertyAccessorList;
+        }
+
+        /**
+         * @return never null, unique names, in the order in which the property values are written
+         */
+        List<String> getPropertyNameList() {
+            return propertyNameList;
+        }
+
+        /**
+         * @return never null, in the same order as {@link #getPropertyNameList()}
+         */
+        List<PropertyAccessor> getPropertyAccessorList() {
+            return propertyAccessorList;
+        }
+
+        /**
+         * @param propertyName never null
+         * @return null if the class no longer has that property
+         */
+        PropertyAccessor findPropertyAccessor(String propertyName) {
+            int index = propertyNameList.indexOf(propertyName);
+            return index < 0 ? null : propertyAccessorList.get(index);
+        }
+
+    }
+
+    interface PropertyAccessor {
+
+        Object get(Object bean);
+
+        void set(Object bean, Object value);
+
+    }
+
+    private static final class FieldPropertyAccessor implements PropertyAccessor {
+
+        private final Field field;
+
+        private FieldPropertyAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object get(Object bean) {
+            try {
+                return field.get(bean);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot get the field (" + field + ") of object (" + bean + ").", e);
+            }
+        }
+
+        @Override
+        public void set(Object bean, Object value) {
+            try {
+                field.set(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot set the field (" + field + ") of object (" + bean
+                        + ") to value (" + value + ").", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,261 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.BYTE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.CHAR;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.DOUBLE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.ENUM;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.FALSE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.FLOAT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.INT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.LONG;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.MAGIC_NUMBER;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_ARRAY;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_LIST;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_MAP;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_OBJECT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SET;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SORTED_MAP;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NEW_SORTED_SET;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.NULL;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.REFERENCE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.SCORE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.SHORT;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.STRING;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.TEXT_VALUE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.TRUE;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.VERSION;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.findTextValueClass;
+import static org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFormat.hasFieldSchema;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionSchema.PropertyAccessor;
+
+/**
+ * Not thread-safe: create 1 instance per written solution.
+ */
+final class BinarySolutionWriter {
+
+    private final DataOutputStream out;
+    private final BinarySolutionSchema schema;
+
+    private final Map<Class<?>, Integer> classIndexMap = new HashMap<>();
+    private final Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+    private final Queue<Object> unwrittenObjectQueue = new ArrayDeque<>();
+
+    BinarySolutionWriter(DataOutputStream out, BinarySolutionSchema schema) {
+        this.out = out;
+        this.schema = schema;
+    }
+
+    void writeSolution(Object solution) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        writeVarInt(VERSION);
+        writeValue(solution);
+        Object object;
+        while ((object = unwrittenObjectQueue.poll()) != null) {
+            for (PropertyAccessor propertyAccessor : schema.getClassSchema(object.getClass())
+                    .getPropertyAccessorList()) {
+                writeValue(propertyAccessor.get(object));
+            }
+        }
+        out.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (valueClass == Integer.class) {
+            out.writeByte(INT);
+            writeVarInt(zigZag((Integer) value));
+        } else if (valueClass == Long.class) {
+            out.writeByte(LONG);
+            writeVarLong(zigZag((Long) value));
+        } else if (valueClass == String.class) {
+            out.writeByte(STRING);
+            writeString((String) value);
+        } else if (valueClass == Boolean.class) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (valueClass == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (valueClass == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (valueClass == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (valueClass == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (valueClass == Character.class) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof Enum) {
+            out.writeByte(ENUM);
+            writeClassIndex(((Enum<?>) value).getDeclaringClass());
+            writeString(((Enum<?>) value).name());
+        } else if (value instanceof Score) {
+            out.writeByte(SCORE);
+            writeString(value.toString());
+        } else if (findTextValueClass(valueClass) != null) {
+            out.writeByte(TEXT_VALUE);
+            writeClassIndex(findTextValueClass(valueClass));
+            writeString(value.toString());
+        } else {
+            Integer objectIndex = objectIndexMap.get(value);
+            if (objectIndex != null) {
+                out.writeByte(REFERENCE);
+                writeVarInt(objectIndex);
+                return;
+            }
+            objectIndexMap.put(value, objectIndexMap.size());
+            writeNewObject(value, valueClass);
+        }
+    }
+
+    private void writeNewObject(Object value, Class<?> valueClass) throws IOException {
+        if (value instanceof List) {
+            out.writeByte(NEW_LIST);
+            writeElements((List<?>) value);
+        } else if (value instanceof Collection) {
+            out.writeByte(value instanceof SortedSet ? NEW_SORTED_SET : NEW_SET);
+            writeElements((Collection<?>) value);
+        } else if (value instanceof Map) {
+            out.writeByte(value instanceof SortedMap ? NEW_SORTED_MAP : NEW_MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        } else if (valueClass.isArray()) {
+            out.writeByte(NEW_ARRAY);
+            writeArray(value, valueClass.getComponentType());
+        } else {
+            if (valueClass.getName().startsWith("java.")) {
+                throw new IllegalArgumentException("The value (" + value + ") of class (" + valueClass
+                        + ") is not supported by the binary solution format.");
+            }
+            out.writeByte(NEW_OBJECT);
+            writeClassIndex(valueClass);
+            // Deferred to avoid a deep recursion
+            unwrittenObjectQueue.add(value);
+        }
+    }
+
+    private void writeElements(Collection<?> collection) throws IOException {
+        writeVarInt(collection.size());
+        for (Object element : collection) {
+            writeValue(element);
+        }
+    }
+
+    private void writeArray(Object array, Class<?> componentType) throws IOException {
+        int length = Array.getLength(array);
+        writeClassIndex(componentType);
+        writeVarInt(length);
+        if (componentType == int.class) {
+            for (int element : (int[]) array) {
+                writeVarInt(zigZag(element));
+            }
+        } else if (componentType == long.class) {
+            for (long element : (long[]) array) {
+                writeVarLong(zigZag(element));
+            }
+        } else if (componentType == double.class) {
+            for (double element : (double[]) array) {
+                out.writeDouble(element);
+            }
+        } else if (componentType == float.class) {
+            for (float element : (float[]) array) {
+                out.writeFloat(element);
+            }
+        } else if (componentType == boolean.class) {
+            for (boolean element : (boolean[]) array) {
+                out.writeBoolean(element);
+            }
+        } else if (componentType == byte.class) {
+            out.write((byte[]) array);
+        } else if (componentType == short.class) {
+            for (short element : (short[]) array) {
+                out.writeShort(element);
+            }
+        } else if (componentType == char.class) {
+            for (char element : (char[]) array) {
+                out.writeChar(element);
+            }
+        } else {
+            for (Object element : (Object[]) array) {
+                writeValue(element);
+            }
+        }
+    }
+
+    private void writeClassIndex(Class<?> clazz) throws IOException {
+        Integer classIndex = classIndexMap.get(clazz);
+        if (classIndex != null) {
+            writeVarInt(classIndex);
+            return;
+        }
+        // The next class index defines the class
+        classIndex = classIndexMap.size();
+        classIndexMap.put(clazz, classIndex);
+        writeVarInt(classIndex);
+        writeString(clazz.getName());
+        if (hasFieldSchema(clazz)) {
+            List<String> propertyNameList = schema.getClassSchema(clazz).getPropertyNameList();
+            writeVarInt(propertyNameList.size());
+            for (String propertyName : propertyNameList) {
+                writeString(propertyName);
+            }
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+}
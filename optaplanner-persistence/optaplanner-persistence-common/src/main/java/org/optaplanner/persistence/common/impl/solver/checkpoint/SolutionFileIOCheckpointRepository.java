@@ -0,0 +1,205 @@
+package org.optaplanner.persistence.common.impl.solver.checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Properties;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpoint;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpointRepository;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+import org.optaplanner.persistence.common.impl.domain.solution.BinarySolutionFileIO;
+
+/**
+ * Saves the {@link SolverCheckpoint} in a directory, typically on a persistent volume.
+ * The best solution is written with a {@link SolutionFileIO}, the progress in a {@code checkpoint.properties} file.
+ * <p>
+ * Custom properties:
+ * <ul>
+ * <li>{@code directory}: required, the directory of the checkpoint files, created if it doesn't exist.
+ * Use a different directory for every solver that runs at the same time.</li>
+ * <li>{@code solutionFileIOClass}: optional, the fully qualified class name of a {@link SolutionFileIO}
+ * with a public no-arg constructor, defaults to {@link BinarySolutionFileIO}.</li>
+ * </ul>
+ * <p>
+ * Every checkpoint writes a new solution file first and then replaces the properties file atomically,
+ * so a crash while saving leaves the previous checkpoint intact.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SolutionFileIOCheckpointRepository<Solution_> implements SolverCheckpointRepository<Solution_> {
+
+    public static final String PROPERTIES_FILE_NAME = "checkpoint.properties";
+
+    private static final String SOLUTION_FILE_KEY = "solutionFile";
+    private static final String PHASE_INDEX_KEY = "phaseIndex";
+    private static final String STEP_INDEX_KEY = "stepIndex";
+    private static final String TIME_MILLIS_SPENT_KEY = "timeMillisSpent";
+    private static final String RANDOM_STATE_KEY = "randomState";
+    private static final String PHASE_STATE_KEY = "phaseState";
+
+    private File directory = null;
+    private String solutionFileIOClass = null;
+    private SolutionFileIO<Solution_> solutionFileIO = null;
+
+    private long checkpointCount = 0L;
+
+    public SolutionFileIOCheckpointRepository() {
+    }
+
+    public SolutionFileIOCheckpointRepository(File directory, SolutionFileIO<Solution_> solutionFileIO) {
+        this.directory = directory;
+        this.solutionFileIO = solutionFileIO;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = new File(directory);
+    }
+
+    public void setSolutionFileIOClass(String solutionFileIOClass) {
+        this.solutionFileIOClass = solutionFileIOClass;
+    }
+
+    @Override
+    public void initialize(SolutionDescriptor<Solution_> solutionDescriptor) {
+        if (directory == null) {
+            throw new IllegalArgumentException("The " + getClass().getSimpleName()
+                    + " must have a directory custom property (" + directory + ").");
+        }
+        if (solutionFileIO == null) {
+            solutionFileIO = buildSolutionFileIO(solutionDescriptor);
+        }
+        try {
+            Files.createDirectories(directory.toPath());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not create the checkpoint directory (" + directory + ").", e);
+        }
+    }
+
+    private SolutionFileIO<Solution_> buildSolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        if (solutionFileIOClass == null || solutionFileIOClass.equals(BinarySolutionFileIO.class.getName())) {
+            return new BinarySolutionFileIO<>(solutionDescriptor);
+        }
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(solutionFileIOClass, true, solutionDescriptor.getSolutionClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("The solutionFileIOClass (" + solutionFileIOClass
+                    + ") cannot be found.", e);
+        }
+        if (!SolutionFileIO.class.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("The solutionFileIOClass (" + solutionFileIOClass
+                    + ") does not implement " + SolutionFileIO.class.getSimpleName() + ".");
+        }
+        return (SolutionFileIO<Solution_>) ConfigUtils.newInstance(this, "solutionFileIOClass", clazz);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public SolverCheckpoint<Solution_> load() {
+        Properties properties = readProperties();
+        if (properties == null) {
+            return null;
+        }
+        File solutionFile = new File(directory, properties.getProperty(SOLUTION_FILE_KEY));
+        Solution_ bestSolution = solutionFileIO.read(solutionFile);
+        String randomState = properties.getProperty(RANDOM_STATE_KEY);
+        String phaseState = properties.getProperty(PHASE_STATE_KEY);
+        return new SolverCheckpoint<>(bestSolution,
+                Integer.parseInt(properties.getProperty(PHASE_INDEX_KEY)),
+                Integer.parseInt(properties.getProperty(STEP_INDEX_KEY)),
+                Long.parseLong(properties.getProperty(TIME_MILLIS_SPENT_KEY)),
+                randomState == null ? null : Base64.getDecoder().decode(randomState),
+                phaseState == null ? null : Base64.getDecoder().decode(phaseState));
+    }
+
+    @Override
+    public void save(SolverCheckpoint<Solution_> checkpoint) {
+        String previousSolutionFileName = readSolutionFileName();
+        String solutionFileName = "checkpoint-" + System.currentTimeMillis() + "-" + checkpointCount++
+                + "." + solutionFileIO.getOutputFileExtension();
+        solutionFileIO.write(checkpoint.getBestSolution(), new File(directory, solutionFileName));
+        Properties properties = new Properties();
+        properties.setProperty(SOLUTION_FILE_KEY, solutionFileName);
+        properties.setProperty(PHASE_INDEX_KEY, Integer.toString(checkpoint.getPhaseIndex()));
+        properties.setProperty(STEP_INDEX_KEY, Integer.toString(checkpoint.getStepIndex()));
+        properties.setProperty(TIME_MILLIS_SPENT_KEY, Long.toString(checkpoint.getTimeMillisSpent()));
+        if (checkpoint.getRandomState() != null) {
+            properties.setProperty(RANDOM_STATE_KEY, Base64.getEncoder().encodeToString(checkpoint.getRandomState()));
+        }
+        if (checkpoint.getPhaseState() != null) {
+            properties.setProperty(PHASE_STATE_KEY, Base64.getEncoder().encodeToString(checkpoint.getPhaseState()));
+        }
+        Path propertiesPath = new File(directory, PROPERTIES_FILE_NAME).toPath();
+        Path temporaryPropertiesPath = new File(directory, PROPERTIES_FILE_NAME + ".tmp").toPath();
+        try {
+            try (OutputStream out = Files.newOutputStream(temporaryPropertiesPath)) {
+                properties.store(out, "OptaPlanner solver checkpoint");
+            }
+            try {
+                Files.move(temporaryPropertiesPath, propertiesPath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPropertiesPath, propertiesPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed writing the checkpoint file (" + propertiesPath + ").", e);
+        }
+        if (previousSolutionFileName != null && !previousSolutionFileName.equals(solutionFileName)) {
+            deleteFile(new File(directory, previousSolutionFileName));
+        }
+    }
+
+    @Override
+    public void delete() {
+        String solutionFileName = readSolutionFileName();
+        deleteFile(new File(directory, PROPERTIES_FILE_NAME));
+        if (solutionFileName != null) {
+            deleteFile(new File(directory, solutionFileName));
+        }
+    }
+
+    private String readSolutionFileName() {
+        Properties properties = readProperties();
+        return properties == null ? null : properties.getProperty(SOLUTION_FILE_KEY);
+    }
+
+    private Properties readProperties() {
+        File propertiesFile = new File(directory, PROPERTIES_FILE_NAME);
+        if (!propertiesFile.exists()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(propertiesFile.toPath())) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed reading the checkpoint file (" + propertiesFile + ").", e);
+        }
+        return properties;
+    }
+
+    private static void deleteFile(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed deleting the checkpoint file (" + file + ").", e);
+        }
+    }
+
+}
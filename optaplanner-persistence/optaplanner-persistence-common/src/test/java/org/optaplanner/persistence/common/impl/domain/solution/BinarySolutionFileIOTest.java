@@ -0,0 +1,105 @@
+package org.optaplanner.persistence.common.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+class BinarySolutionFileIOTest {
+
+    @Test
+    void writeAndReadFile(@TempDir File tempDir) {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThat(solutionFileIO.getInputFileExtension()).isEqualTo("dat");
+        TestdataSolution original = TestdataSolution.generateSolution(3, 5);
+        original.getEntityList().get(0).setValue(original.getValueList().get(1));
+        original.getEntityList().get(1).setValue(original.getValueList().get(1));
+        original.getEntityList().get(2).setValue(null);
+        original.setScore(SimpleScore.ofUninitialized(-1, -7));
+        File file = new File(tempDir, "solution.dat");
+        solutionFileIO.write(original, file);
+
+        TestdataSolution read = solutionFileIO.read(file);
+        assertThat(read.getCode()).isEqualTo(original.getCode());
+        assertThat(read.getScore()).isEqualTo(original.getScore());
+        assertThat(read.getValueList()).extracting(TestdataValue::getCode)
+                .containsExactly("Generated Value 0", "Generated Value 1", "Generated Value 2");
+        assertThat(read.getEntityList()).hasSize(5);
+        assertThat(read.getEntityList().get(0).getValue()).isSameAs(read.getValueList().get(1));
+        assertThat(read.getEntityList().get(1).getValue()).isSameAs(read.getValueList().get(1));
+        assertThat(read.getEntityList().get(2).getValue()).isNull();
+        assertThat(read.getEntityList().get(3).getValue()).isSameAs(read.getValueList().get(0));
+    }
+
+    @Test
+    void writeAndReadLongChain() {
+        BinarySolutionFileIO<TestdataChainedSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedSolution original = new TestdataChainedSolution("s1");
+        TestdataChainedAnchor anchor = new TestdataChainedAnchor("a1");
+        original.setChainedAnchorList(Arrays.asList(anchor));
+        original.setUnchainedValueList(Arrays.asList(new TestdataValue("v1")));
+        // Long enough to overflow the stack if the entities were written recursively
+        int chainLength = 100_000;
+        List<TestdataChainedEntity> entityList = new ArrayList<>(chainLength);
+        TestdataChainedEntity previous = null;
+        for (int i = 0; i < chainLength; i++) {
+            TestdataChainedEntity entity = new TestdataChainedEntity("e" + i, previous == null ? anchor : previous);
+            entityList.add(entity);
+            previous = entity;
+        }
+        // Reverse so the first written entity references the rest of the chain
+        List<TestdataChainedEntity> reversedEntityList = new ArrayList<>(entityList);
+        Collections.reverse(reversedEntityList);
+        original.setChainedEntityList(reversedEntityList);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        solutionFileIO.write(original, out);
+
+        TestdataChainedSolution read = solutionFileIO.read(new ByteArrayInputStream(out.toByteArray()));
+        List<TestdataChainedEntity> readEntityList = read.getChainedEntityList();
+        assertThat(readEntityList).hasSize(chainLength);
+        assertThat(readEntityList.get(chainLength - 1).getChainedObject()).isSameAs(read.getChainedAnchorList().get(0));
+        for (int i = 0; i < chainLength - 1; i++) {
+            assertThat(readEntityList.get(i).getChainedObject()).isSameAs(readEntityList.get(i + 1));
+        }
+    }
+
+    @Test
+    void schemaFromSolutionDescriptor() {
+        BinarySolutionSchema schema = new BinarySolutionSchema(TestdataSolution.buildSolutionDescriptor());
+        // Described properties first, then the remaining fields
+        assertThat(schema.getClassSchema(TestdataSolution.class).getPropertyNameList())
+                .containsExactly("valueList", "entityList", "score", "code");
+        assertThat(schema.getClassSchema(TestdataEntity.class).getPropertyNameList())
+                .containsExactly("value", "code");
+        assertThat(schema.getClassSchema(TestdataValue.class).getPropertyNameList())
+                .containsExactly("code");
+    }
+
+    @Test
+    void readInvalidMagicNumber() {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataSolution.buildSolutionDescriptor());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(new ByteArrayInputStream(new byte[] { 0, 0, 0, 1, 0 })))
+                .withMessageContaining("magicNumber");
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.optaplanner.persistence.common.impl.solver.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.core.impl.solver.checkpoint.SolverCheckpoint;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class SolutionFileIOCheckpointRepositoryTest {
+
+    @Test
+    void saveLoadAndDelete(@TempDir File tempDir) {
+        SolutionFileIOCheckpointRepository<TestdataSolution> repository = new SolutionFileIOCheckpointRepository<>();
+        repository.setDirectory(new File(tempDir, "checkpoint").getPath());
+        repository.initialize(TestdataSolution.buildSolutionDescriptor());
+        assertThat(repository.load()).isNull();
+
+        Random random = new Random(37L);
+        repository.save(new SolverCheckpoint<>(TestdataSolution.generateSolution(2, 3), 0, 5, 1200L,
+                SolverCheckpoint.serializeRandom(random)));
+        repository.save(new SolverCheckpoint<>(TestdataSolution.generateSolution(2, 4), 1, -1, 3400L,
+                SolverCheckpoint.serializeRandom(random)));
+        // The solution file of the first checkpoint is replaced
+        assertThat(repository.getDirectory().list()).hasSize(2);
+
+        SolverCheckpoint<TestdataSolution> checkpoint = repository.load();
+        assertThat(checkpoint.getBestSolution().getEntityList()).hasSize(4);
+        assertThat(checkpoint.getPhaseIndex()).isEqualTo(1);
+        assertThat(checkpoint.getStepIndex()).isEqualTo(-1);
+        assertThat(checkpoint.getTimeMillisSpent()).isEqualTo(3400L);
+        assertThat(checkpoint.deserializeRandom().nextLong()).isEqualTo(random.nextLong());
+
+        repository.delete();
+        assertThat(repository.load()).isNull();
+        assertThat(repository.getDirectory().list()).isEmpty();
+    }
+
+    @Test
+    void initializeWithoutDirectory() {
+        SolutionFileIOCheckpointRepository<TestdataSolution> repository = new SolutionFileIOCheckpointRepository<>();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> repository.initialize(TestdataSolution.buildSolutionDescriptor()))
+                .withMessageContaining("directory");
+    }
+
+}
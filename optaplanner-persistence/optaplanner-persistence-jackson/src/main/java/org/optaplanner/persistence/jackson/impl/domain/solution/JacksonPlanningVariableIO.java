@@ -0,0 +1,340 @@
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes and reads only the genuine planning variables of a solution, as a stream of JSON records,
+ * one per planning entity, each referencing the entity and its planning values by {@link PlanningId}:
+ * <pre>
+ * [
+ *   {"@class" : "org.acme.Lesson", "@id" : 1, "timeslot" : 7, "room" : "R2"},
+ *   ...
+ * ]
+ * </pre>
+ * This is far smaller than the entire output solution, because it doesn't repeat the problem facts.
+ * Neither the writer nor the reader builds an intermediate tree: the writer streams the entities
+ * and the reader resolves every {@link PlanningId} reference as soon as it reads it,
+ * so only 1 record is in memory at a time.
+ * <p>
+ * Reading applies the planning variables on top of the input solution, which must contain the same entities and values.
+ * Shadow variables are not written, nor read: they are recalculated when the solution is given to a score director.
+ * A planning value without a {@link PlanningId}, such as an {@link Integer}, is written as a plain JSON value.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonPlanningVariableIO<Solution_> {
+
+    private static final String CLASS_FIELD_NAME = "@class";
+    private static final String ID_FIELD_NAME = "@id";
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ObjectMapper mapper;
+
+    public JacksonPlanningVariableIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this(solutionDescriptor, new ObjectMapper());
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param mapper never null, used for planning values without a {@link PlanningId}
+     */
+    public JacksonPlanningVariableIO(SolutionDescriptor<Solution_> solutionDescriptor, ObjectMapper mapper) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.mapper = mapper;
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    public void write(Solution_ solution, File outputFile) {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8)) {
+            write(solution, generator);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing the planning variables to outputFile ("
+                    + outputFile + ").", e);
+        }
+    }
+
+    /**
+     * @param solution never null
+     * @param outputStream never null, not closed by this method
+     */
+    public void write(Solution_ solution, OutputStream outputStream) {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(solution, generator);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing the planning variables to outputStream.", e);
+        }
+    }
+
+    protected void write(Solution_ solution, JsonGenerator generator) throws IOException {
+        Map<Class<?>, MemberAccessor> idAccessorMap = new HashMap<>();
+        List<Object> entityList = new ArrayList<>(solutionDescriptor.getEntityCount(solution));
+        solutionDescriptor.visitAllEntities(solution, entityList::add);
+        generator.writeStartArray();
+        for (Object entity : entityList) {
+            writeEntity(generator, idAccessorMap, entity);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeEntity(JsonGenerator generator, Map<Class<?>, MemberAccessor> idAccessorMap, Object entity)
+            throws IOException {
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+        if (entityDescriptor.getGenuineVariableDescriptorList().isEmpty()) {
+            // Only shadow variables
+            return;
+        }
+        MemberAccessor entityIdAccessor = findIdAccessor(idAccessorMap, entity.getClass());
+        if (entityIdAccessor == null) {
+            throw new IllegalArgumentException("The entity class (" + entity.getClass()
+                    + ") needs a @" + PlanningId.class.getSimpleName() + " to write its planning variables.");
+        }
+        generator.writeStartObject();
+        generator.writeStringField(CLASS_FIELD_NAME, entity.getClass().getName());
+        generator.writeFieldName(ID_FIELD_NAME);
+        generator.writeObject(entityIdAccessor.executeGetter(entity));
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+            generator.writeFieldName(variableDescriptor.getVariableName());
+            if (variableDescriptor.isListVariable()) {
+                generator.writeStartArray();
+                for (Object value : ((ListVariableDescriptor<Solution_>) variableDescriptor).getListVariable(entity)) {
+                    writeValue(generator, idAccessorMap, value);
+                }
+                generator.writeEndArray();
+            } else {
+                writeValue(generator, idAccessorMap, variableDescriptor.getValue(entity));
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator generator, Map<Class<?>, MemberAccessor> idAccessorMap, Object value)
+            throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        MemberAccessor idAccessor = findIdAccessor(idAccessorMap, value.getClass());
+        generator.writeObject(idAccessor == null ? value : idAccessor.executeGetter(value));
+    }
+
+    private MemberAccessor findIdAccessor(Map<Class<?>, MemberAccessor> idAccessorMap, Class<?> clazz) {
+        if (idAccessorMap.containsKey(clazz)) {
+            return idAccessorMap.get(clazz);
+        }
+        MemberAccessor idAccessor = ConfigUtils.findPlanningIdMemberAccessor(clazz,
+                solutionDescriptor.getMemberAccessorFactory(), solutionDescriptor.getDomainAccessType());
+        idAccessorMap.put(clazz, idAccessor);
+        return idAccessor;
+    }
+
+    // ************************************************************************
+    // Read methods
+    // ************************************************************************
+
+    /**
+     * @param inputFile never null, written by {@link #write(Object, File)}
+     * @param solution never null, the input solution, changed by this method
+     * @return the solution parameter
+     */
+    public Solution_ read(File inputFile, Solution_ solution) {
+        try (JsonParser parser = mapper.getFactory().createParser(inputFile)) {
+            read(parser, solution);
+            return solution;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading the planning variables of inputFile ("
+                    + inputFile + ").", e);
+        }
+    }
+
+    /**
+     * @param inputStream never null, not closed by this method
+     * @param solution never null, the input solution, changed by this method
+     * @return the solution parameter
+     */
+    public Solution_ read(InputStream inputStream, Solution_ solution) {
+        try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            read(parser, solution);
+            return solution;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading the planning variables of inputStream.", e);
+        }
+    }
+
+    protected void read(JsonParser parser, Solution_ solution) throws IOException {
+        PlanningIdIndex index = new PlanningIdIndex(solution);
+        expectToken(parser, parser.nextToken(), JsonToken.START_ARRAY);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expectToken(parser, token, JsonToken.START_OBJECT);
+            readEntity(parser, index);
+        }
+    }
+
+    private void readEntity(JsonParser parser, PlanningIdIndex index) throws IOException {
+        expectFieldName(parser, CLASS_FIELD_NAME);
+        String className = parser.nextTextValue();
+        Class<?> entityClass = index.findClass(className);
+        if (entityClass == null) {
+            throw new IllegalArgumentException("The entity class (" + className + ") at "
+                    + parser.getCurrentLocation() + " has no instances in the solution.");
+        }
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entityClass);
+        expectFieldName(parser, ID_FIELD_NAME);
+        parser.nextToken();
+        String entityId = parser.getValueAsString();
+        Object entity = index.findObject(entityClass, entityId);
+        if (entity == null) {
+            throw new IllegalArgumentException("The entity class (" + className + ") has no instance with id ("
+                    + entityId + ") at " + parser.getCurrentLocation() + ".");
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+            expectToken(parser, token, JsonToken.FIELD_NAME);
+            String variableName = parser.getCurrentName();
+            GenuineVariableDescriptor<Solution_> variableDescriptor =
+                    entityDescriptor.getGenuineVariableDescriptor(variableName);
+            if (variableDescriptor == null) {
+                throw new IllegalArgumentException("The entity class (" + className
+                        + ") has no genuine planning variable (" + variableName + ") at "
+                        + parser.getCurrentLocation() + ".");
+            }
+            parser.nextToken();
+            if (variableDescriptor.isListVariable()) {
+                expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+                List<Object> valueList = ((ListVariableDescriptor<Solution_>) variableDescriptor).getListVariable(entity);
+                valueList.clear();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    valueList.add(readValue(parser, index, variableDescriptor));
+                }
+            } else {
+                variableDescriptor.setValue(entity, readValue(parser, index, variableDescriptor));
+            }
+        }
+    }
+
+    private Object readValue(JsonParser parser, PlanningIdIndex index,
+            GenuineVariableDescriptor<Solution_> variableDescriptor) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        List<Map<String, Object>> candidateMapList = index.findCandidateMapList(variableDescriptor);
+        if (candidateMapList.isEmpty()) {
+            // Not referenced by planning id
+            return parser.readValueAs(variableDescriptor.getVariablePropertyType());
+        }
+        String id = parser.getValueAsString();
+        Object value = null;
+        for (Map<String, Object> candidateMap : candidateMapList) {
+            Object candidate = candidateMap.get(id);
+            if (candidate != null) {
+                if (value != null) {
+                    throw new IllegalArgumentException("The planning variable ("
+                            + variableDescriptor.getSimpleEntityAndVariableName() + ") has multiple values ("
+                            + value + ", " + candidate + ") with the same id (" + id + ").");
+                }
+                value = candidate;
+            }
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The planning variable ("
+                    + variableDescriptor.getSimpleEntityAndVariableName() + ") has no value with id (" + id
+                    + ") at " + parser.getCurrentLocation() + ".");
+        }
+        return value;
+    }
+
+    private static void expectFieldName(JsonParser parser, String expectedFieldName) throws IOException {
+        expectToken(parser, parser.nextToken(), JsonToken.FIELD_NAME);
+        if (!expectedFieldName.equals(parser.getCurrentName())) {
+            throw new IllegalArgumentException("Expected the field (" + expectedFieldName + ") instead of ("
+                    + parser.getCurrentName() + ") at " + parser.getCurrentLocation() + ".");
+        }
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken token, JsonToken expectedToken) {
+        if (token != expectedToken) {
+            throw new IllegalArgumentException("Expected a token (" + expectedToken + ") instead of (" + token
+                    + ") at " + parser.getCurrentLocation() + ".");
+        }
+    }
+
+    /**
+     * Indexes the entities and problem facts of the input solution by class and by planning id.
+     * The planning ids are indexed as {@link String}, because JSON doesn't distinguish an int from a long.
+     */
+    private final class PlanningIdIndex {
+
+        private final Map<String, Class<?>> classMap = new HashMap<>();
+        private final Map<Class<?>, Map<String, Object>> idToObjectMapMap = new HashMap<>();
+        private final Map<GenuineVariableDescriptor<Solution_>, List<Map<String, Object>>> candidateMapListMap =
+                new HashMap<>();
+
+        private PlanningIdIndex(Solution_ solution) {
+            Map<Class<?>, MemberAccessor> idAccessorMap = new HashMap<>();
+            solutionDescriptor.visitAllFacts(solution, object -> {
+                Class<?> clazz = object.getClass();
+                MemberAccessor idAccessor = findIdAccessor(idAccessorMap, clazz);
+                if (idAccessor == null) {
+                    return;
+                }
+                Object id = idAccessor.executeGetter(object);
+                if (id == null) {
+                    throw new IllegalArgumentException("The object (" + object + ") of class (" + clazz
+                            + ") has a null @" + PlanningId.class.getSimpleName() + ".");
+                }
+                classMap.putIfAbsent(clazz.getName(), clazz);
+                idToObjectMapMap.computeIfAbsent(clazz, k -> new HashMap<>()).putIfAbsent(id.toString(), object);
+            });
+        }
+
+        private Class<?> findClass(String className) {
+            return classMap.get(className);
+        }
+
+        private Object findObject(Class<?> clazz, String id) {
+            Map<String, Object> idToObjectMap = idToObjectMapMap.get(clazz);
+            return idToObjectMap == null ? null : idToObjectMap.get(id);
+        }
+
+        private List<Map<String, Object>> findCandidateMapList(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+            return candidateMapListMap.computeIfAbsent(variableDescriptor, k -> {
+                List<Map<String, Object>> candidateMapList = new ArrayList<>();
+                idToObjectMapMap.forEach((clazz, idToObjectMap) -> {
+                    if (variableDescriptor.acceptsValueType(clazz)) {
+                        candidateMapList.add(idToObjectMap);
+                    }
+                });
+                return candidateMapList;
+            });
+        }
+
+    }
+
+}
@@ -9,6 +9,10 @@ import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
+ * Reads and writes the entire solution.
+ * To make the output smaller, write only the planning variables of an output solution
+ * with {@link JacksonPlanningVariableIO} instead.
+ * Reading those planning variables still requires the input problem, read by this class or otherwise.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -0,0 +1,56 @@
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataEntity;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
+
+class JacksonPlanningVariableIOTest {
+
+    private final JacksonPlanningVariableIO<JacksonTestdataSolution> planningVariableIO =
+            new JacksonPlanningVariableIO<>(JacksonTestdataSolution.buildSolutionDescriptor());
+
+    @Test
+    void writeAndRead() {
+        JacksonTestdataSolution output = buildSolution();
+        output.getEntityList().get(0).setValue(output.getValueList().get(1));
+        output.getEntityList().get(1).setValue(output.getValueList().get(0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        planningVariableIO.write(output, out);
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertThat(json).contains("\"@id\":\"e1\"").contains("\"value\":\"v2\"").doesNotContain("valueList");
+
+        JacksonTestdataSolution input = buildSolution();
+        JacksonTestdataSolution read = planningVariableIO.read(new ByteArrayInputStream(out.toByteArray()), input);
+        assertThat(read).isSameAs(input);
+        assertThat(input.getEntityList().get(0).getValue()).isSameAs(input.getValueList().get(1));
+        assertThat(input.getEntityList().get(1).getValue()).isSameAs(input.getValueList().get(0));
+        assertThat(input.getEntityList().get(2).getValue()).isNull();
+    }
+
+    @Test
+    void readUnknownValue() {
+        String json = "[{\"@class\":\"" + JacksonTestdataEntity.class.getName() + "\",\"@id\":\"e1\",\"value\":\"v9\"}]";
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> planningVariableIO.read(
+                        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), buildSolution()))
+                .withMessageContaining("v9");
+    }
+
+    private static JacksonTestdataSolution buildSolution() {
+        JacksonTestdataSolution solution = new JacksonTestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new JacksonTestdataValue("v1"), new JacksonTestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2"), new JacksonTestdataEntity("e3")));
+        return solution;
+    }
+
+}
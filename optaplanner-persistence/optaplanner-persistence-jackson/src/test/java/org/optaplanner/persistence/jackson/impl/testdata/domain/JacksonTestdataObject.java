@@ -1,9 +1,11 @@
 package org.optaplanner.persistence.jackson.impl.testdata.domain;
 
+import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.impl.testdata.util.CodeAssertable;
 
 public abstract class JacksonTestdataObject implements CodeAssertable {
 
+    @PlanningId
     protected String code;
 
     public JacksonTestdataObject() {
@@ -0,0 +1,151 @@
+package org.optaplanner.persistence.jpa.impl.domain.solution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.mutation.PlanningVariableChange;
+import org.optaplanner.core.impl.domain.solution.mutation.PlanningVariableDiff;
+import org.optaplanner.core.impl.domain.solution.mutation.PlanningVariableDiffer;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+
+/**
+ * Writes a {@link PlanningVariableDiff} to the database,
+ * so only the rows of the planning entities that actually changed are updated,
+ * instead of merging the entire best solution.
+ * <p>
+ * The changes of a basic or chained planning variable are flushed as bulk JPQL updates,
+ * one {@code UPDATE ... SET e.variable = :value WHERE e.id IN :ids} per distinct new value
+ * (and per batch of {@link #getBatchSize()} ids).
+ * This requires that the planning variable name equals the name of the JPA attribute
+ * and that the planning entity class is a JPA entity with a single id attribute.
+ * Like every bulk update, it bypasses the persistence context, optimistic locking ({@code @Version})
+ * and entity listeners of the affected entities.
+ * A planning list variable is typically mapped as a collection, which a bulk update can not set,
+ * so each entity with a changed list variable is {@link EntityManager#merge(Object) merged} instead.
+ * <p>
+ * Call {@link #write(PlanningVariableDiff)} in an active transaction.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see PlanningVariableDiffer
+ */
+public class JpaPlanningVariableDiffWriter<Solution_> {
+
+    /**
+     * Stays below the maximum number of expressions in an {@code IN} list of the common databases.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public JpaPlanningVariableDiffWriter(EntityManager entityManager) {
+        this(entityManager, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param entityManager never null, joined to the transaction in which {@link #write(PlanningVariableDiff)} is called
+     * @param batchSize {@code > 0}, the maximum number of entity ids per update statement
+     */
+    public JpaPlanningVariableDiffWriter(EntityManager entityManager, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batchSize (" + batchSize + ") must be positive.");
+        }
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param diff never null, typically calculated between the solution as it was loaded and the best solution
+     * @return {@code >= 0}, the number of updated rows, including the merged entities
+     */
+    public int write(PlanningVariableDiff<Solution_> diff) {
+        if (diff.isEmpty()) {
+            return 0;
+        }
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        int updateCount = 0;
+        Set<Object> mergeEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<PlanningVariableChange<Solution_>>> entry : diff
+                .getChangeListByVariable().entrySet()) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = entry.getKey();
+            List<PlanningVariableChange<Solution_>> changeList = entry.getValue();
+            if (variableDescriptor.isListVariable()) {
+                for (PlanningVariableChange<Solution_> change : changeList) {
+                    mergeEntitySet.add(change.getEntity());
+                }
+                continue;
+            }
+            // The new values are compared by identity, just like the differ does
+            Map<Object, List<Object>> idListByNewValueMap = new IdentityHashMap<>();
+            for (PlanningVariableChange<Solution_> change : changeList) {
+                idListByNewValueMap.computeIfAbsent(change.getNewValue(), k -> new ArrayList<>())
+                        .add(persistenceUnitUtil.getIdentifier(change.getEntity()));
+            }
+            updateCount += updateVariable(variableDescriptor, idListByNewValueMap);
+        }
+        for (Object entity : mergeEntitySet) {
+            entityManager.merge(entity);
+            updateCount++;
+        }
+        return updateCount;
+    }
+
+    private int updateVariable(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            Map<Object, List<Object>> idListByNewValueMap) {
+        EntityType<?> entityType = findEntityType(variableDescriptor);
+        String variableName = variableDescriptor.getVariableName();
+        String idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        String updatePrefix = "UPDATE " + entityType.getName() + " e SET e." + variableName;
+        String idCondition = " WHERE e." + idAttributeName + " IN :ids";
+        int updateCount = 0;
+        for (Map.Entry<Object, List<Object>> entry : idListByNewValueMap.entrySet()) {
+            Object newValue = entry.getKey();
+            List<Object> idList = entry.getValue();
+            Query query = newValue == null
+                    ? entityManager.createQuery(updatePrefix + " = NULL" + idCondition)
+                    : entityManager.createQuery(updatePrefix + " = :value" + idCondition)
+                            .setParameter("value", newValue);
+            for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += batchSize) {
+                int toIndex = Math.min(fromIndex + batchSize, idList.size());
+                updateCount += query.setParameter("ids", idList.subList(fromIndex, toIndex)).executeUpdate();
+            }
+        }
+        return updateCount;
+    }
+
+    private EntityType<?> findEntityType(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        Class<?> entityClass = variableDescriptor.getEntityDescriptor().getEntityClass();
+        EntityType<?> entityType;
+        try {
+            entityType = entityManager.getMetamodel().entity(entityClass);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The planning entity class (" + entityClass
+                    + ") of the planning variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                    + ") is not a JPA entity.\n"
+                    + "Maybe add a JPA @Entity annotation on that class.", e);
+        }
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException("The JPA entity (" + entityType.getName()
+                    + ") of the planning variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                    + ") has a composite id, which is not supported.\n"
+                    + "Maybe merge the changed entities (" + PlanningVariableDiff.class.getSimpleName()
+                    + ".getChangedEntityList()) instead.");
+        }
+        return entityType;
+    }
+
+}
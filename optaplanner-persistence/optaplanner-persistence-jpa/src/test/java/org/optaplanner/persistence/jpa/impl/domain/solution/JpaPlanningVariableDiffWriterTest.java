@@ -0,0 +1,155 @@
+package org.optaplanner.persistence.jpa.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.solution.mutation.PlanningVariableDiff;
+import org.optaplanner.core.impl.domain.solution.mutation.PlanningVariableDiffer;
+import org.optaplanner.persistence.jpa.impl.AbstractScoreJpaTest;
+
+class JpaPlanningVariableDiffWriterTest extends AbstractScoreJpaTest {
+
+    @Test
+    void writeOnlyChangedVariables() {
+        TestJpaValue v1 = new TestJpaValue("v1");
+        TestJpaValue v2 = new TestJpaValue("v2");
+        TestJpaPlanningEntity e1 = new TestJpaPlanningEntity(v1);
+        TestJpaPlanningEntity e2 = new TestJpaPlanningEntity(v1);
+        TestJpaPlanningEntity e3 = new TestJpaPlanningEntity(v1);
+        TestJpaPlanningEntity e4 = new TestJpaPlanningEntity(v1);
+        inTransaction(em -> Arrays.asList(v1, v2, e1, e2, e3, e4).forEach(em::persist));
+        TestJpaSolution oldSolution = new TestJpaSolution(Arrays.asList(v1, v2), Arrays.asList(e1, e2, e3, e4));
+
+        TestJpaSolution newSolution = new TestJpaSolution(Arrays.asList(v1, v2), Arrays.asList(
+                new TestJpaPlanningEntity(e1.getId(), v1),
+                new TestJpaPlanningEntity(e2.getId(), v2),
+                new TestJpaPlanningEntity(e3.getId(), v2),
+                new TestJpaPlanningEntity(e4.getId(), null)));
+        SolutionDescriptor<TestJpaSolution> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(TestJpaSolution.class, TestJpaPlanningEntity.class);
+        PlanningVariableDiff<TestJpaSolution> diff =
+                new PlanningVariableDiffer<>(solutionDescriptor).diff(oldSolution, newSolution);
+        assertThat(diff.getChangeCount()).isEqualTo(3);
+
+        // A batch size of 1 forces a separate update statement per entity
+        inTransaction(em -> assertThat(new JpaPlanningVariableDiffWriter<TestJpaSolution>(em, 1).write(diff))
+                .isEqualTo(3));
+
+        inTransaction(em -> {
+            assertThat(em.find(TestJpaPlanningEntity.class, e1.getId()).getValue().getId()).isEqualTo(v1.getId());
+            assertThat(em.find(TestJpaPlanningEntity.class, e2.getId()).getValue().getId()).isEqualTo(v2.getId());
+            assertThat(em.find(TestJpaPlanningEntity.class, e3.getId()).getValue().getId()).isEqualTo(v2.getId());
+            assertThat(em.find(TestJpaPlanningEntity.class, e4.getId()).getValue()).isNull();
+        });
+    }
+
+    private void inTransaction(Consumer<EntityManager> consumer) {
+        try {
+            transactionManager.begin();
+            EntityManager em = entityManagerFactory.createEntityManager();
+            consumer.accept(em);
+            transactionManager.commit();
+        } catch (Exception e) {
+            throw new RuntimeException("Transaction failed.", e);
+        }
+    }
+
+    @Entity
+    public static class TestJpaValue {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.AUTO)
+        private Long id;
+        private String code;
+
+        private TestJpaValue() {
+        }
+
+        public TestJpaValue(String code) {
+            this.code = code;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+    }
+
+    @PlanningEntity
+    @Entity
+    public static class TestJpaPlanningEntity {
+
+        @PlanningId
+        @Id
+        @GeneratedValue(strategy = GenerationType.AUTO)
+        private Long id;
+        @PlanningVariable(valueRangeProviderRefs = "valueRange")
+        @ManyToOne
+        private TestJpaValue value;
+
+        private TestJpaPlanningEntity() {
+        }
+
+        public TestJpaPlanningEntity(TestJpaValue value) {
+            this.value = value;
+        }
+
+        public TestJpaPlanningEntity(Long id, TestJpaValue value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public TestJpaValue getValue() {
+            return value;
+        }
+    }
+
+    @PlanningSolution
+    public static class TestJpaSolution {
+
+        @ProblemFactCollectionProperty
+        @ValueRangeProvider(id = "valueRange")
+        private List<TestJpaValue> valueList;
+        @PlanningEntityCollectionProperty
+        private List<TestJpaPlanningEntity> entityList;
+        @PlanningScore
+        private SimpleScore score;
+
+        private TestJpaSolution() {
+        }
+
+        public TestJpaSolution(List<TestJpaValue> valueList, List<TestJpaPlanningEntity> entityList) {
+            this.valueList = valueList;
+            this.entityList = entityList;
+        }
+    }
+}